@@ -0,0 +1,71 @@
+package io.github.ruedigerk.contractfirst.generator.benchmarks;
+
+import io.github.ruedigerk.contractfirst.generator.benchmarks.generated.model.Item;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the equals, hashCode and toString methods of generated model classes. Run with "-prof gc" to compare the allocation rates of the generated code
+ * of two versions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelMethodsBenchmark {
+
+  private Item item;
+  private Item equalItem;
+  private Item unequalItem;
+  private List<Item> items;
+
+  @Setup
+  public void setUp() {
+    item = Payloads.item(42);
+    equalItem = Payloads.item(42);
+    unequalItem = Payloads.item(43);
+    items = Payloads.items(Payloads.Size.MEDIUM);
+  }
+
+  @Benchmark
+  public int hashCodeOfItem() {
+    return item.hashCode();
+  }
+
+  @Benchmark
+  public boolean equalsOfEqualItems() {
+    return item.equals(equalItem);
+  }
+
+  @Benchmark
+  public boolean equalsOfUnequalItems() {
+    return item.equals(unequalItem);
+  }
+
+  @Benchmark
+  public String toStringOfItem() {
+    return item.toString();
+  }
+
+  /**
+   * Adding items to a HashSet, which uses both hashCode and equals.
+   */
+  @Benchmark
+  public Set<Item> addItemsToHashSet() {
+    return new HashSet<>(items);
+  }
+}
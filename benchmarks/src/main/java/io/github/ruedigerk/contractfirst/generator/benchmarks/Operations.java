@@ -0,0 +1,44 @@
+package io.github.ruedigerk.contractfirst.generator.benchmarks;
+
+import io.github.ruedigerk.contractfirst.generator.benchmarks.generated.api.ItemsApiClient;
+import io.github.ruedigerk.contractfirst.generator.benchmarks.generated.model.Failure;
+import io.github.ruedigerk.contractfirst.generator.client.internal.BodyPart;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
+import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
+
+/**
+ * The operation descriptors of the benchmark contract, defined the same way as in the generated {@link ItemsApiClient}, for benchmarking parts of the request
+ * execution in isolation.
+ */
+final class Operations {
+
+  static final OperationDescriptor LIST_ITEMS = new OperationDescriptor.Builder("/stores/{storeId}/items", "GET")
+      .parameter("storeId", ParameterLocation.PATH, true)
+      .parameter("size", ParameterLocation.QUERY, true)
+      .parameter("tags", ParameterLocation.QUERY, false)
+      .parameter("X-Request-Id", ParameterLocation.HEADER, false)
+      .response(StatusCode.of(200), "application/json", ItemsApiClient.LIST_OF_ITEM)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
+  static final OperationDescriptor CREATE_ITEMS = new OperationDescriptor.Builder("/stores/{storeId}/items", "POST")
+      .parameter("storeId", ParameterLocation.PATH, true)
+      .requestBody("application/json", true)
+      .response(StatusCode.of(204))
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
+  static final OperationDescriptor UPLOAD_IMAGE = new OperationDescriptor.Builder("/stores/{storeId}/images", "POST")
+      .parameter("storeId", ParameterLocation.PATH, true)
+      .requestBodyPart(BodyPart.Type.PRIMITIVE, "description")
+      .requestBodyPart(BodyPart.Type.COMPLEX, "item")
+      .requestBodyPart(BodyPart.Type.ATTACHMENT, "image")
+      .multipartRequestBody("multipart/form-data")
+      .response(StatusCode.of(204))
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
+  private Operations() {
+  }
+}
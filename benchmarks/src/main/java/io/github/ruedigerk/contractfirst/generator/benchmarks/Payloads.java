@@ -0,0 +1,65 @@
+package io.github.ruedigerk.contractfirst.generator.benchmarks;
+
+import io.github.ruedigerk.contractfirst.generator.benchmarks.generated.model.Dimensions;
+import io.github.ruedigerk.contractfirst.generator.benchmarks.generated.model.Item;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the entities used as payloads in the benchmarks.
+ */
+public final class Payloads {
+
+  /**
+   * The sizes of payloads, by number of items. A single item is about 250 bytes of JSON. Public, as it is used as a benchmark parameter.
+   */
+  public enum Size {
+    SMALL(1),
+    MEDIUM(100),
+    LARGE(10_000);
+
+    final int itemCount;
+
+    Size(int itemCount) {
+      this.itemCount = itemCount;
+    }
+  }
+
+  private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2024, 3, 1, 12, 30, 0, 0, ZoneOffset.UTC);
+
+  private Payloads() {
+  }
+
+  static List<Item> items(Size size) {
+    List<Item> items = new ArrayList<>(size.itemCount);
+
+    for (int i = 0; i < size.itemCount; i++) {
+      items.add(item(i));
+    }
+
+    return items;
+  }
+
+  static Item item(long id) {
+    return new Item()
+        .id(id)
+        .name("Item " + id)
+        .description("A description of item " + id + ", long enough to be representative of typical free text fields.")
+        .price(19.99 + id)
+        .tags(List.of("tag-a", "tag-b", "tag-" + id))
+        .createdAt(CREATED_AT)
+        .dimensions(new Dimensions().width(10.5).height(20.25).depth(3.0));
+  }
+
+  static byte[] bytes(int size) {
+    byte[] bytes = new byte[size];
+
+    for (int i = 0; i < size; i++) {
+      bytes[i] = (byte) i;
+    }
+
+    return bytes;
+  }
+}
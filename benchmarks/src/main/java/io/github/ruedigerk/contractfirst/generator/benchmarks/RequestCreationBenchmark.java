@@ -0,0 +1,83 @@
+package io.github.ruedigerk.contractfirst.generator.benchmarks;
+
+import io.github.ruedigerk.contractfirst.generator.benchmarks.generated.model.Item;
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
+import io.github.ruedigerk.contractfirst.generator.client.Attachment;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks creating OkHttp requests from operations, i.e., serializing parameters into the URL and headers, and serializing request bodies. No requests are
+ * sent.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestCreationBenchmark {
+
+  private static final List<String> TAGS = List.of("new", "discounted", "with spaces & special/characters");
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  public Payloads.Size payloadSize;
+
+  private ApiRequestExecutor executor;
+  private List<Item> items;
+  private Item item;
+  private byte[] image;
+
+  @Setup
+  public void setUp() {
+    // The executor only uses the base URL, no connection is made.
+    executor = new ApiRequestExecutor(new OkHttpClient(), "http://localhost:8080/api/v1");
+    items = Payloads.items(payloadSize);
+    item = Payloads.item(42);
+    image = Payloads.bytes(payloadSize.itemCount * 256);
+  }
+
+  /**
+   * Path, query and header parameters, independent of the payload size.
+   */
+  @Benchmark
+  public Request createRequestWithParameters() {
+    return executor.createRequest(Operations.LIST_ITEMS.bind("store-42", "medium", TAGS, "c0ffee-4711"));
+  }
+
+  /**
+   * JSON serialization of the request entity.
+   */
+  @Benchmark
+  public Request createRequestWithJsonBody() {
+    return executor.createRequest(Operations.CREATE_ITEMS.bind("store-42", items));
+  }
+
+  /**
+   * Building a multipart body consisting of a text part, a JSON part and a binary attachment, and writing it, as it is written to the connection.
+   */
+  @Benchmark
+  public Buffer createAndWriteMultipartRequest() throws IOException {
+    Attachment attachment = Attachment.of(image, "image.png", "image/png");
+    Request request = executor.createRequest(Operations.UPLOAD_IMAGE.bind("store-42", "An image of an item", item, attachment));
+
+    Buffer buffer = new Buffer();
+    request.body().writeTo(buffer);
+    return buffer;
+  }
+}
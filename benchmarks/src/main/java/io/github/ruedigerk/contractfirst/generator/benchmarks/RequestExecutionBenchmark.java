@@ -0,0 +1,115 @@
+package io.github.ruedigerk.contractfirst.generator.benchmarks;
+
+import io.github.ruedigerk.contractfirst.generator.benchmarks.generated.api.ItemsApiClient;
+import io.github.ruedigerk.contractfirst.generator.benchmarks.generated.model.Item;
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import okhttp3.OkHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks executing requests with a generated API client against a local MockWebServer, including request serialization and response deserialization. The
+ * server responds with precomputed responses, so that the server side contributes as little as possible to the measured time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestExecutionBenchmark {
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  public Payloads.Size payloadSize;
+
+  private MockWebServer server;
+  private ItemsApiClient apiClient;
+  private List<Item> items;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    OkHttpClient httpClient = new OkHttpClient();
+    ApiRequestExecutor executor = new ApiRequestExecutor(httpClient, "http://localhost/");
+
+    server = new MockWebServer();
+    server.setDispatcher(new BenchmarkDispatcher(executor));
+    server.start();
+
+    executor = new ApiRequestExecutor(httpClient, server.url("/api").toString());
+    apiClient = new ItemsApiClient(executor);
+    items = Payloads.items(payloadSize);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    server.close();
+  }
+
+  /**
+   * Receiving and deserializing a JSON response entity.
+   */
+  @Benchmark
+  public List<Item> listItems() {
+    return apiClient.listItems("store-42", payloadSize.name().toLowerCase(Locale.ROOT), null, null);
+  }
+
+  /**
+   * Serializing and sending a JSON request entity.
+   */
+  @Benchmark
+  public void createItems() {
+    apiClient.createItems("store-42", items);
+  }
+
+  /**
+   * Responds to listItems with a precomputed list of items of the requested size, and to all other requests with 204.
+   */
+  private static class BenchmarkDispatcher extends Dispatcher {
+
+    private final Map<Payloads.Size, MockResponse> listItemsResponses = new EnumMap<>(Payloads.Size.class);
+    private final MockResponse noContentResponse = new MockResponse.Builder().code(204).build();
+
+    BenchmarkDispatcher(ApiRequestExecutor executor) {
+      for (Payloads.Size size : Payloads.Size.values()) {
+        MockResponse response = new MockResponse.Builder()
+            .code(200)
+            .addHeader("Content-Type", "application/json")
+            .body(executor.getGson().toJson(Payloads.items(size)))
+            .build();
+
+        listItemsResponses.put(size, response);
+      }
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+      if (request.getMethod().equals("GET")) {
+        String size = request.getUrl().queryParameter("size");
+        return listItemsResponses.get(Payloads.Size.valueOf(size.toUpperCase(Locale.ROOT)));
+      }
+
+      return noContentResponse;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package io.github.ruedigerk.contractfirst.generator.benchmarks;
+
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
+import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks selecting the response definition matching the status code and content type of a response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseTypeMatchingBenchmark {
+
+  private final OperationDescriptor operation = new OperationDescriptor.Builder("/documents/{id}", "GET")
+      .response(StatusCode.of(200), "application/json", Object.class)
+      .response(StatusCode.of(200), "application/pdf", InputStream.class)
+      .response(StatusCode.of(200), "text/*", String.class)
+      .response(StatusCode.of(304))
+      .response(StatusCode.of(400), "application/problem+json", Object.class)
+      .response(StatusCode.of(404), "application/problem+json", Object.class)
+      .response(StatusCode.DEFAULT, "application/json", Object.class)
+      .build();
+
+  @Benchmark
+  public Type firstDefinitionMatches() {
+    return operation.determineMatchingResponseType(200, "application/json; charset=utf-8");
+  }
+
+  @Benchmark
+  public Type laterDefinitionMatches() {
+    return operation.determineMatchingResponseType(200, "text/plain");
+  }
+
+  @Benchmark
+  public Type responseWithoutContent() {
+    return operation.determineMatchingResponseType(304, null);
+  }
+
+  @Benchmark
+  public Type defaultDefinitionMatches() {
+    return operation.determineMatchingResponseType(503, "application/json");
+  }
+
+  @Benchmark
+  public Type noDefinitionMatches() {
+    return operation.determineMatchingResponseType(404, "text/html");
+  }
+}
@@ -0,0 +1,81 @@
+package io.github.ruedigerk.contractfirst.generator.client
+
+/**
+ * Receives timings and sizes of the requests executed by an [ApiRequestExecutor]. Operations are identified by their HTTP method and their path template as
+ * defined in the contract, e.g., "GET" and "/items/{itemId}".
+ *
+ * Listeners are called synchronously on the thread executing the request, so implementations must be thread-safe and should return quickly. All methods have
+ * an empty default implementation.
+ */
+interface ApiClientMetricsListener {
+
+  /**
+   * Called when a phase of executing a request has completed. The phases of a request are reported in the order of [Phase]. Phases that do not apply to a
+   * request are not reported, e.g., [Phase.QUEUE_WAIT] for executors without a [ConcurrencyLimit]. When a request fails, the failing phase and all following
+   * phases are not reported, except for [Phase.DESERIALIZATION], which is reported whenever a response has been received.
+   *
+   * @param method        the HTTP method of the operation.
+   * @param pathTemplate  the path template of the operation.
+   * @param phase         the completed phase.
+   * @param durationNanos the duration of the phase in nanoseconds.
+   */
+  fun phaseCompleted(method: String, pathTemplate: String, phase: Phase, durationNanos: Long) {
+  }
+
+  /**
+   * Called when executing a request has completed, successfully or not.
+   *
+   * @param method           the HTTP method of the operation.
+   * @param pathTemplate     the path template of the operation.
+   * @param statusCode       the status code of the response, or -1 if no response was received.
+   * @param requestBodySize  the size of the request body in bytes, or -1 if it is not known in advance, e.g., for streamed request bodies, or the request
+   *                         failed before its body was serialized.
+   * @param responseBodySize the number of response body bytes read by the executor, or -1 if no response was received, or the body is left to the
+   *                         application, i.e., returned as an InputStream.
+   * @param durationNanos    the duration of executing the request in nanoseconds, from the start of validation until the response has been interpreted.
+   * @param failure          the exception the request failed with, or null if it completed successfully.
+   */
+  fun requestCompleted(
+    method: String,
+    pathTemplate: String,
+    statusCode: Int,
+    requestBodySize: Long,
+    responseBodySize: Long,
+    durationNanos: Long,
+    failure: Throwable?,
+  ) {
+  }
+
+  /**
+   * The phases of executing a request, in the order they are executed.
+   */
+  enum class Phase {
+
+    /** Validating the arguments of the operation. */
+    VALIDATION,
+
+    /** Building the URL and the headers of the request. */
+    REQUEST_BUILDING,
+
+    /** Serializing the request body. For streamed request bodies, serializing happens during [NETWORK] instead. */
+    SERIALIZATION,
+
+    /** Waiting for admission by the executor's [ConcurrencyLimit]. */
+    QUEUE_WAIT,
+
+    /** Sending the request and receiving the status line and headers of the response. */
+    NETWORK,
+
+    /** Reading the response body and deserializing the response entity. */
+    DESERIALIZATION,
+  }
+
+  companion object {
+
+    /**
+     * A listener that ignores all calls. Executors using it do not measure anything.
+     */
+    @JvmField
+    val NO_OP: ApiClientMetricsListener = object : ApiClientMetricsListener {}
+  }
+}
@@ -3,17 +3,31 @@ package io.github.ruedigerk.contractfirst.generator.client
 import com.google.gson.Gson
 import com.google.gson.GsonBuilder
 import com.google.gson.JsonParseException
+import com.google.gson.JsonSyntaxException
+import com.google.gson.TypeAdapterFactory
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.MalformedJsonException
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientMetricsListener.Phase
 import io.github.ruedigerk.contractfirst.generator.client.internal.BodyPart
+import io.github.ruedigerk.contractfirst.generator.client.internal.ByteCountingSource
+import io.github.ruedigerk.contractfirst.generator.client.internal.FileRequestBody
+import io.github.ruedigerk.contractfirst.generator.client.internal.InputStreamRequestBody
+import io.github.ruedigerk.contractfirst.generator.client.internal.JsonRequestBody
 import io.github.ruedigerk.contractfirst.generator.client.internal.MediaTypes
 import io.github.ruedigerk.contractfirst.generator.client.internal.MultipartRequestBody
 import io.github.ruedigerk.contractfirst.generator.client.internal.Operation
 import io.github.ruedigerk.contractfirst.generator.client.internal.OperationRequestBody
-import io.github.ruedigerk.contractfirst.generator.client.internal.Parameter
+import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterSerialization
+import io.github.ruedigerk.contractfirst.generator.client.internal.PrefixRecordingSource
+import io.github.ruedigerk.contractfirst.generator.client.internal.RequestMetrics
+import io.github.ruedigerk.contractfirst.generator.client.internal.StreamingFormBody
 import io.github.ruedigerk.contractfirst.generator.client.internal.traverse
 import io.github.ruedigerk.contractfirst.generator.support.gson.LocalDateGsonTypeAdapter
 import io.github.ruedigerk.contractfirst.generator.support.gson.OffsetDateTimeGsonTypeAdapter
-import okhttp3.FormBody
+import okhttp3.Call
+import okhttp3.Callback
 import okhttp3.Headers
 import okhttp3.HttpUrl
 import okhttp3.HttpUrl.Companion.toHttpUrl
@@ -25,29 +39,64 @@ import okhttp3.MultipartBody
 import okhttp3.OkHttpClient
 import okhttp3.Request
 import okhttp3.RequestBody
-import okhttp3.RequestBody.Companion.asRequestBody
 import okhttp3.RequestBody.Companion.toRequestBody
 import okhttp3.Response
 import okhttp3.ResponseBody
+import okhttp3.ResponseBody.Companion.asResponseBody
 import okhttp3.internal.http.HttpMethod.requiresRequestBody
+import okio.Buffer
+import okio.BufferedSource
+import okio.ByteString.Companion.decodeHex
+import okio.buffer
+import okio.sink
+import java.io.EOFException
 import java.io.File
 import java.io.IOException
 import java.io.InputStream
+import java.io.InputStreamReader
+import java.io.InterruptedIOException
 import java.lang.reflect.Type
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
+import java.nio.channels.WritableByteChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
 import java.time.LocalDate
 import java.time.OffsetDateTime
-import java.util.*
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeoutException
 
 /**
  * Performs HTTP requests as defined by generated client code. Instances are thread-safe and can be shared across multiple instances of generated ApiClients.
+ * Instances are created either with the constructor, using default settings, or with a [Builder].
  *
- * @param httpClient the OkHttp-Client instance to use for sending HTTP requests.
- * @param baseUrl    the base URL to send requests to.
+ * JSON response entities are always deserialized while the response body is read, without buffering the body as a whole. For JSON request entities, the
+ * default is to serialize them completely before sending the request, so that a Content-Length header can be sent. Enabling
+ * [Builder.streamingRequestBodies] makes JSON request entities be serialized while they are written to the connection instead, which is sent with chunked
+ * transfer encoding.
+ *
+ * By default, the number of concurrently executed requests is only limited by the OkHttpClient's connection pool and dispatcher. A [ConcurrencyLimit] can be
+ * configured with [Builder.concurrencyLimit], to keep a slow server from taking up all connections of a shared OkHttpClient.
+ *
+ * Timings and sizes of executed requests can be observed with an [ApiClientMetricsListener], see [Builder.metricsListener].
+ *
+ * By default, Gson serializes and deserializes the model classes using reflection. When the model is generated with reflection-free serialization, the
+ * generated ModelTypeAdapterFactory should be registered with [Builder.typeAdapterFactory].
+ *
+ * Binary response bodies are returned as an InputStream by [executeRequest]. Alternatively, they can be written to a file or a channel by [executeDownload],
+ * which also supports resuming interrupted downloads with Range requests.
  */
-class ApiRequestExecutor(
-  httpClient: OkHttpClient,
-  baseUrl: String,
-) {
+class ApiRequestExecutor private constructor(builder: Builder) {
+
+  /**
+   * Creates an executor with default settings.
+   *
+   * @param httpClient the OkHttp-Client instance to use for sending HTTP requests.
+   * @param baseUrl    the base URL to send requests to.
+   */
+  constructor(httpClient: OkHttpClient, baseUrl: String) : this(Builder(httpClient, baseUrl))
 
   /**
    * Returns the Gson instance used to serialize and deserialize JSON entities.
@@ -66,11 +115,24 @@ class ApiRequestExecutor(
   @Suppress("MemberVisibilityCanBePrivate")
   val baseUrl: String
 
+  /**
+   * Returns the limit of concurrently executed requests, or null if there is none.
+   */
+  @Suppress("MemberVisibilityCanBePrivate")
+  val concurrencyLimit: ConcurrencyLimit? = builder.concurrencyLimit
+
+  // The base URL is parsed only once, invalid URLs are rejected on construction.
+  private val parsedBaseUrl: HttpUrl
+
+  private val streamingRequestBodies: Boolean = builder.streamingRequestBodies
+  private val metricsListener: ApiClientMetricsListener = builder.metricsListener
+
   init {
-    this.httpClient = addInternalInterceptors(httpClient)
-    this.baseUrl = removeTrailingSlash(baseUrl)
+    this.httpClient = addInternalInterceptors(builder.httpClient)
+    this.baseUrl = removeTrailingSlash(builder.baseUrl)
+    this.parsedBaseUrl = this.baseUrl.toHttpUrl()
 
-    gson = createGson()
+    gson = createGson(builder.typeAdapterFactories)
   }
 
   private fun addInternalInterceptors(httpClient: OkHttpClient): OkHttpClient {
@@ -83,21 +145,222 @@ class ApiRequestExecutor(
     return if (baseUrl.endsWith("/")) baseUrl.substring(0, baseUrl.length - 1) else baseUrl
   }
 
-  private fun createGson(): Gson {
-    return GsonBuilder()
+  private fun createGson(typeAdapterFactories: List<TypeAdapterFactory>): Gson {
+    val gsonBuilder = GsonBuilder()
       .registerTypeAdapter(LocalDate::class.java, LocalDateGsonTypeAdapter())
       .registerTypeAdapter(OffsetDateTime::class.java, OffsetDateTimeGsonTypeAdapter())
-      .create()
+
+    typeAdapterFactories.forEach(gsonBuilder::registerTypeAdapterFactory)
+
+    return gsonBuilder.create()
   }
 
   @Throws(ApiClientIoException::class, ApiClientValidationException::class, ApiClientIncompatibleResponseException::class)
   fun executeRequest(operation: Operation): ApiResponse {
+    val metrics = startMetrics(operation)
+
+    try {
+      val response = executeRequest(operation, metrics, null)
+      metrics?.requestCompleted(null)
+      return response
+    } catch (e: Throwable) {
+      metrics?.requestCompleted(e)
+      throw e
+    }
+  }
+
+  private fun executeRequest(operation: Operation, metrics: RequestMetrics?, download: Download?): ApiResponse {
     validateOperation(operation)
+    metrics?.phaseCompleted(Phase.VALIDATION)
+
+    val finalRequest = FinalRequest()
+    val request = createRequest(operation, finalRequest, metrics, download?.offset ?: 0)
+
+    if (concurrencyLimit == null) {
+      return executeAndInterpret(request, finalRequest, operation, metrics, download)
+    }
+
+    awaitAdmission(concurrencyLimit, request)
+    metrics?.phaseCompleted(Phase.QUEUE_WAIT)
+
+    try {
+      return executeAndInterpret(request, finalRequest, operation, metrics, download)
+    } finally {
+      concurrencyLimit.release()
+    }
+  }
+
+  private fun executeAndInterpret(
+    request: Request,
+    finalRequest: FinalRequest,
+    operation: Operation,
+    metrics: RequestMetrics?,
+    download: Download?,
+  ): ApiResponse {
+    val requestAndResponse = executeHttpRequest(request, finalRequest)
+    networkCompleted(metrics, requestAndResponse.response)
+
+    return interpretResponse(requestAndResponse, operation, metrics, download)
+  }
+
+  /**
+   * Executes the request like [executeRequest], but writes a successful binary response body, i.e., one that [executeRequest] returns as an InputStream, to
+   * the file instead. The file is created if it does not exist. The returned response has no entity then, as the body has already been consumed. All other
+   * responses are returned as by [executeRequest].
+   *
+   * When resuming, only the bytes missing from an existing file are requested, using a Range header, and appended to the file. A response with status code 206
+   * (Partial Content) is interpreted like one with status 200, unless the contract defines status 206. If the server ignores the Range header and sends the
+   * whole body, the file is overwritten with it. Without resuming, an existing file is overwritten.
+   *
+   * An IOException while transferring the body results in an [ApiClientIoException], leaving the file with the bytes received so far, so that the download
+   * can be resumed.
+   *
+   * @param operation the operation to execute.
+   * @param file      the file to write the response body to.
+   * @param resume    whether to resume the download to an existing file.
+   */
+  @Throws(ApiClientIoException::class, ApiClientValidationException::class, ApiClientIncompatibleResponseException::class)
+  fun executeDownload(operation: Operation, file: Path, resume: Boolean): ApiResponse {
+    val offset = if (resume) determineLengthOfExistingFile(operation, file) else 0
+    return executeDownload(operation, FileDownload(file, offset))
+  }
+
+  /**
+   * Executes the request like [executeRequest], but writes a successful binary response body, i.e., one that [executeRequest] returns as an InputStream, to
+   * the channel instead. The channel is not closed. The returned response has no entity then, as the body has already been consumed. All other responses are
+   * returned as by [executeRequest].
+   *
+   * If the offset is positive, only the bytes of the body starting at the offset are requested, using a Range header, and written to the channel. A response
+   * with status code 206 (Partial Content) is interpreted like one with status 200, unless the contract defines status 206. If the server ignores the Range
+   * header and sends the whole body, the bytes before the offset are skipped.
+   *
+   * @param operation the operation to execute.
+   * @param channel   the channel to write the response body to.
+   * @param offset    the position within the response body, from which on to write it to the channel.
+   */
+  @Throws(ApiClientIoException::class, ApiClientValidationException::class, ApiClientIncompatibleResponseException::class)
+  fun executeDownload(operation: Operation, channel: WritableByteChannel, offset: Long): ApiResponse {
+    require(offset >= 0) { "offset must not be negative: $offset" }
+
+    return executeDownload(operation, ChannelDownload(channel, offset))
+  }
+
+  private fun executeDownload(operation: Operation, download: Download): ApiResponse {
+    val metrics = startMetrics(operation)
+
+    try {
+      val response = executeRequest(operation, metrics, download)
+      metrics?.requestCompleted(null)
+      return response
+    } catch (e: Throwable) {
+      metrics?.requestCompleted(e)
+      throw e
+    }
+  }
+
+  @Throws(ApiClientIoException::class)
+  private fun determineLengthOfExistingFile(operation: Operation, file: Path): Long {
+    try {
+      return if (Files.exists(file)) Files.size(file) else 0
+    } catch (e: IOException) {
+      throw ApiClientIoException("Error determining length of file $file: $e", toApiRequest(createRequest(operation)), e)
+    }
+  }
+
+  /**
+   * Returns the metrics for measuring the execution of the operation, or null if there is no metrics listener, in which case nothing is measured.
+   */
+  private fun startMetrics(operation: Operation): RequestMetrics? {
+    if (metricsListener === ApiClientMetricsListener.NO_OP) {
+      return null
+    }
+
+    return RequestMetrics(metricsListener, operation.method, operation.path)
+  }
+
+  private fun networkCompleted(metrics: RequestMetrics?, response: Response) {
+    if (metrics != null) {
+      metrics.statusCode = response.code
+      metrics.phaseCompleted(Phase.NETWORK)
+    }
+  }
+
+  /**
+   * Blocks the calling thread until the request is admitted by the concurrency limit. The thread is parked without holding any monitor, so a virtual thread
+   * waiting for admission does not pin its carrier thread.
+   */
+  @Throws(ApiClientIoException::class)
+  private fun awaitAdmission(concurrencyLimit: ConcurrencyLimit, request: Request) {
+    val admission = concurrencyLimit.acquire()
+
+    try {
+      admission.get()
+    } catch (e: ExecutionException) {
+      throw toRejectedException(request, e.cause ?: e)
+    } catch (e: InterruptedException) {
+      // If the request has been admitted in the meantime, the admission must be given back.
+      if (!admission.cancel(false) && !admission.isCompletedExceptionally) {
+        concurrencyLimit.release()
+      }
+
+      Thread.currentThread().interrupt()
+      throw ApiClientIoException("Interrupted while waiting for admission of request", toApiRequest(request), InterruptedIOException(e.toString()))
+    }
+  }
+
+  private fun toRejectedException(request: Request, cause: Throwable): ApiClientIoException {
+    val reason = if (cause is TimeoutException) "not admitted within ${concurrencyLimit?.maxQueueWait}" else cause.message
+    return ApiClientIoException("Request rejected by concurrency limit: $reason", toApiRequest(request), null)
+  }
+
+  /**
+   * Executes the request asynchronously using OkHttp's dispatcher, without blocking the calling thread. The returned future is completed on a thread of the
+   * dispatcher, either with the response or exceptionally with one of the exceptions that [executeRequest] throws. Cancelling the future cancels the HTTP call.
+   *
+   * If a [ConcurrencyLimit] is configured, the HTTP call is only enqueued once the request is admitted. Waiting for admission does not block any thread.
+   */
+  fun executeRequestAsync(operation: Operation): CompletableFuture<ApiResponse> {
+    val future = CompletableFuture<ApiResponse>()
+    val metrics = startMetrics(operation)
+
+    if (metrics != null) {
+      future.whenComplete { _, failure -> metrics.requestCompleted(failure) }
+    }
+
+    try {
+      validateOperation(operation)
+      metrics?.phaseCompleted(Phase.VALIDATION)
+
+      val finalRequest = FinalRequest()
+      val request = createRequest(operation, finalRequest, metrics, 0)
+
+      if (concurrencyLimit == null) {
+        enqueueHttpRequest(request, ResponseCallback(future, operation, finalRequest, null, metrics))
+      } else {
+        val admission = concurrencyLimit.acquire()
+        future.whenComplete { _, _ -> if (future.isCancelled) admission.cancel(false) }
+
+        admission.whenComplete { _, failure ->
+          if (failure == null) {
+            metrics?.phaseCompleted(Phase.QUEUE_WAIT)
+            enqueueHttpRequest(request, ResponseCallback(future, operation, finalRequest, concurrencyLimit, metrics))
+          } else {
+            future.completeExceptionally(toRejectedException(request, failure))
+          }
+        }
+      }
+    } catch (e: ApiClientException) {
+      future.completeExceptionally(e)
+    }
+
+    return future
+  }
 
-    val request = createRequest(operation)
-    val requestAndResponse = executeHttpRequest(request)
+  private fun enqueueHttpRequest(request: Request, callback: ResponseCallback) {
+    val call = httpClient.newCall(request)
 
-    return interpretResponse(requestAndResponse, operation)
+    call.enqueue(callback)
+    callback.future.whenComplete { _, _ -> if (callback.future.isCancelled) call.cancel() }
   }
 
   @Throws(ApiClientValidationException::class)
@@ -113,40 +376,58 @@ class ApiRequestExecutor(
     }
   }
 
-  private fun executeHttpRequest(request: Request): RequestAndResponse {
+  private fun executeHttpRequest(request: Request, finalRequest: FinalRequest): RequestAndResponse {
     try {
       val response = httpClient.newCall(request).execute()
-      // RequestAccessInterceptor.getLastRequest() is used instead of response.request() because the latter is missing all headers that OkHttp is adding
-      // late in the request processing, like Content-Type, Content-Size, etc.
-      // In case the call is executed successfully, RequestAccessInterceptor.lastRequest cannot be null.
-      return RequestAndResponse(RequestAccessInterceptor.lastRequest!!, response)
+      return toRequestAndResponse(finalRequest, response)
     } catch (e: IOException) {
-      // Special case for extremely short request timeouts, where the request times out even before the RequestAccessInterceptor was called. In this case
-      // RequestAccessInterceptor.lastRequest can be null.
-      val detailedRequest = RequestAccessInterceptor.lastRequest ?: request
-      val apiRequest = toApiRequest(detailedRequest)
-      throw ApiClientIoException("Error executing request: $e", apiRequest, e)
-    } finally {
-      RequestAccessInterceptor.clearThreadLocal()
+      throw toApiClientIoException(request, finalRequest, e)
     }
   }
 
+  private fun toRequestAndResponse(finalRequest: FinalRequest, response: Response): RequestAndResponse {
+    // The request captured by the RequestAccessInterceptor is used instead of response.request() because the latter is missing all headers that OkHttp is
+    // adding late in the request processing, like Content-Type, Content-Size, etc.
+    // In case the call is executed successfully, the captured request cannot be null.
+    return RequestAndResponse(finalRequest.request!!, response)
+  }
+
+  private fun toApiClientIoException(request: Request, finalRequest: FinalRequest, e: IOException): ApiClientIoException {
+    // Special case for extremely short request timeouts, where the request times out even before the RequestAccessInterceptor was called. In this case
+    // the captured request can be null.
+    val detailedRequest = finalRequest.request ?: request
+    val apiRequest = toApiRequest(detailedRequest)
+    return ApiClientIoException("Error executing request: $e", apiRequest, e)
+  }
+
   private fun toApiRequest(request: Request): ApiRequest {
     return ApiRequest(request.url.toString(), request.method, request.headers.toList())
   }
 
   @Throws(ApiClientIoException::class)
   fun createRequest(operation: Operation): Request {
+    return createRequest(operation, null, null, 0)
+  }
+
+  @Throws(ApiClientIoException::class)
+  private fun createRequest(operation: Operation, finalRequest: FinalRequest?, metrics: RequestMetrics?, rangeStart: Long): Request {
     val url = determineRequestUrl(operation)
-    val headers = determineRequestHeaders(operation)
+    val headers = determineRequestHeaders(operation, rangeStart)
+    metrics?.phaseCompleted(Phase.REQUEST_BUILDING)
 
     try {
       val requestBody = serializeRequestBody(operation)
 
+      if (metrics != null) {
+        metrics.requestBodySize = requestBody?.contentLength() ?: 0
+        metrics.phaseCompleted(Phase.SERIALIZATION)
+      }
+
       return Request.Builder()
         .url(url)
         .method(operation.method, requestBody)
         .headers(headers)
+        .tag(FinalRequest::class.java, finalRequest)
         .build()
     } catch (e: IOException) {
       val apiRequest = ApiRequest(url.toString(), operation.method, headers.toList())
@@ -155,50 +436,39 @@ class ApiRequestExecutor(
   }
 
   private fun determineRequestUrl(operation: Operation): HttpUrl {
-    val urlBuilder = baseUrl.toHttpUrl().newBuilder()
+    val urlBuilder = parsedBaseUrl.newBuilder()
 
     addRequestPath(urlBuilder, operation)
-    addQueryParameters(urlBuilder, operation.queryParameters)
+    addQueryParameters(urlBuilder, operation)
 
     return urlBuilder.build()
   }
 
   private fun addRequestPath(urlBuilder: HttpUrl.Builder, operation: Operation) {
-    val path = operation.path
-    val pathSegments = path.split("/".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    for (segment in pathSegments) {
-      var resolvedSegment = segment
-
-      if (segment.startsWith("{") && segment.endsWith("}")) {
-        val parameterName = segment.substring(1, segment.length - 1)
-        val parameter = operation.pathParameters[parameterName]
-
-        if (parameter != null) {
-          resolvedSegment = ParameterSerialization.serializeSimpleStyleParameter(parameter.value)
-        }
-      }
-
-      urlBuilder.addPathSegment(resolvedSegment)
-    }
+    operation.descriptor.pathTemplate.appendTo(urlBuilder, operation)
   }
 
-  private fun addQueryParameters(urlBuilder: HttpUrl.Builder, queryParameters: Map<String, Parameter>) {
-    ParameterSerialization.serializeFormStyleParameters(queryParameters) { name, value -> urlBuilder.addQueryParameter(name, value) }
+  private fun addQueryParameters(urlBuilder: HttpUrl.Builder, operation: Operation) {
+    ParameterSerialization.serializeFormStyleParameters(operation.parameters, ParameterLocation.QUERY) { name, value -> urlBuilder.addQueryParameter(name, value) }
   }
 
   // This method does not need to set a Content-Type header, as that is done by OkHttp when we set the media-type on the request body.
-  private fun determineRequestHeaders(operation: Operation): Headers {
+  private fun determineRequestHeaders(operation: Operation, rangeStart: Long): Headers {
     val builder = Headers.Builder()
 
     // Split array-valued parameters to separate headers. This is not by the OpenAPI spec but works with JAX-RS out of the box.
-    ParameterSerialization.serializeFormStyleParameters(operation.headerParameters) { name, value -> builder.add(name, value) }
+    ParameterSerialization.serializeFormStyleParameters(operation.parameters, ParameterLocation.HEADER) { name, value -> builder.add(name, value) }
 
-    val acceptHeaderValue = operation.determineAcceptHeaderValue()
+    val acceptHeaderValue = operation.descriptor.acceptHeaderValue
     if (acceptHeaderValue.isNotEmpty()) {
       builder.add("Accept", acceptHeaderValue)
     }
 
+    // Requests the rest of the body, when resuming a download.
+    if (rangeStart > 0) {
+      builder.set(RANGE_HEADER, "bytes=$rangeStart-")
+    }
+
     return builder.build()
   }
 
@@ -230,9 +500,11 @@ class ApiRequestExecutor(
   /**
    * Support for x-www-form-urlencoded request bodies is limited. Array-valued and complex form fields are not serialized as per the specification. See:
    * https://spec.openapis.org/oas/v3.0.3#support-for-x-www-form-urlencoded-request-bodies See: https://www.rfc-editor.org/rfc/rfc1866#section-8.2.1
+   *
+   * Attachments are Base64-encoded while the body is written, see [StreamingFormBody].
    */
   private fun createFormRequestBody(bodyParts: List<BodyPart>): RequestBody {
-    val builder = FormBody.Builder()
+    val builder = StreamingFormBody.Builder()
 
     for (part in bodyParts) {
       when (part.type) {
@@ -243,14 +515,7 @@ class ApiRequestExecutor(
 
         BodyPart.Type.ATTACHMENT -> traverse(part.value) { attachment ->
           check(attachment is Attachment) { "Body part ${part.name} not of type Attachment or Collection<Attachment>: ${attachment.javaClass.name}" }
-
-          val bytes = when (val content = attachment.content) {
-            is ByteArray -> content
-            is InputStream -> content.use { it.readBytes() }
-            is File -> content.readBytes()
-            else -> error("Unsupported attachment content type: ${content.javaClass.name}")
-          }
-          builder.add(part.name, Base64.getEncoder().encodeToString(bytes))
+          builder.addAttachment(part.name, attachment)
         }
 
         BodyPart.Type.COMPLEX -> builder.add(part.name, gson.toJson(part.value))
@@ -284,8 +549,7 @@ class ApiRequestExecutor(
         }
 
         BodyPart.Type.COMPLEX -> {
-          val content = gson.toJson(part.value)
-          val body: RequestBody = content.toRequestBody("application/json".toMediaType())
+          val body = createJsonRequestBody(part.value, "application/json".toMediaType())
           builder.addFormDataPart(part.name, null, body)
         }
 
@@ -330,8 +594,8 @@ class ApiRequestExecutor(
 
     val body = when (val content = attachment.content) {
       is ByteArray -> content.toRequestBody(contentType)
-      is InputStream -> content.use { it.readBytes() }.toRequestBody(contentType)
-      is File -> content.asRequestBody(contentType)
+      is InputStream -> InputStreamRequestBody(content, contentType, attachment.contentLength)
+      is File -> FileRequestBody(content, contentType)
       else -> error("Unsupported attachment content type: ${attachment.content.javaClass.name}")
     }
 
@@ -345,8 +609,7 @@ class ApiRequestExecutor(
 
     when {
       MediaTypes.isJsonMediaType(mediaType) -> {
-        val content = gson.toJson(entity)
-        return content.toRequestBody(mediaType)
+        return createJsonRequestBody(entity, mediaType)
       }
 
       entity is ByteArray -> {
@@ -354,8 +617,8 @@ class ApiRequestExecutor(
       }
 
       entity is InputStream -> {
-        val bytes = entity.use { it.readBytes() }
-        return bytes.toRequestBody(mediaType)
+        // Streamed with chunked transfer encoding, as the length of the InputStream is unknown.
+        return InputStreamRequestBody(entity, mediaType, -1)
       }
 
       else -> {
@@ -366,6 +629,22 @@ class ApiRequestExecutor(
     }
   }
 
+  /**
+   * Creates a request body for a JSON entity. Unless streaming request bodies is enabled, the entity is serialized into a byte buffer immediately.
+   */
+  @Throws(IOException::class)
+  private fun createJsonRequestBody(entity: Any?, mediaType: MediaType?): RequestBody {
+    val streamingBody = JsonRequestBody(gson, entity, mediaType)
+
+    if (streamingRequestBodies) {
+      return streamingBody
+    }
+
+    val buffer = Buffer()
+    streamingBody.writeTo(buffer)
+    return buffer.readByteString().toRequestBody(streamingBody.contentType())
+  }
+
   /**
    * Interprets the response from the server and returns the appropriate Response or throws an ApiClientIoException in case of an IOException.
    *
@@ -375,10 +654,36 @@ class ApiRequestExecutor(
    * @throws ApiClientIncompatibleResponseException when the response is not conforming to the specification of the API.
    */
   @Throws(ApiClientIoException::class, ApiClientIncompatibleResponseException::class)
-  private fun interpretResponse(requestAndResponse: RequestAndResponse, operation: Operation): ApiResponse {
+  private fun interpretResponse(requestAndResponse: RequestAndResponse, operation: Operation, metrics: RequestMetrics?, download: Download?): ApiResponse {
+    if (metrics == null) {
+      return interpretResponse(requestAndResponse, operation, checkNotNull(requestAndResponse.response.body), download)
+    }
+
+    // Count the bytes of the response body read while interpreting the response.
+    val originalBody = checkNotNull(requestAndResponse.response.body)
+    val countingSource = ByteCountingSource(originalBody.source())
+    val countingBody = countingSource.buffer().asResponseBody(originalBody.contentType(), originalBody.contentLength())
+    var returnsBodyAsStream = false
+
+    try {
+      val apiResponse = interpretResponse(requestAndResponse, operation, countingBody, download)
+      returnsBodyAsStream = apiResponse.entity is InputStream
+      return apiResponse
+    } finally {
+      metrics.responseBodySize = if (returnsBodyAsStream) -1 else countingSource.bytesRead
+      metrics.phaseCompleted(Phase.DESERIALIZATION)
+    }
+  }
+
+  @Throws(ApiClientIoException::class, ApiClientIncompatibleResponseException::class)
+  private fun interpretResponse(
+    requestAndResponse: RequestAndResponse,
+    operation: Operation,
+    responseBody: ResponseBody,
+    download: Download?,
+  ): ApiResponse {
     val request = requestAndResponse.request
     val response = requestAndResponse.response
-    val responseBody = checkNotNull(response.body)
 
     val statusCode = response.code
     val mediaType = response.header(CONTENT_TYPE_HEADER)
@@ -386,14 +691,17 @@ class ApiRequestExecutor(
     val apiRequest = toApiRequest(request)
     val responseBuilder = ResponseBuilder(apiRequest, statusCode, response.message, mediaType, response.headers)
 
+    // The partial content of a resumed download is the rest of the content the contract defines for status 200.
+    val isPartialContent = download != null && download.offset > 0 && statusCode == HTTP_PARTIAL_CONTENT
+    val matchedStatusCode = if (isPartialContent && !operation.descriptor.definesStatusCode(statusCode)) HTTP_OK else statusCode
+
     try {
-      val javaType = operation.determineMatchingResponseType(statusCode, mediaType)
+      val javaType = operation.descriptor.determineMatchingResponseType(matchedStatusCode, mediaType)
 
       when {
         javaType == null -> {
           // The response is not described in the contract, return an unexpected response.
-          val bodyContent = responseBody.string()
-          response.close()
+          val bodyContent = readBodyPrefix(responseBody)
           val incompatibleResponse = responseBuilder.incompatibleResponse(bodyContent)
           throw ApiClientIncompatibleResponseException("The combination of the response's status code and content type is unknown", incompatibleResponse)
         }
@@ -404,6 +712,12 @@ class ApiRequestExecutor(
           return responseBuilder.apiResponse(javaType, null)
         }
 
+        javaType == InputStream::class.java && download != null && response.isSuccessful -> {
+          // The body is transferred to the target of the download, instead of being returned.
+          // Note: transferBody closes the response body.
+          return transferBody(responseBuilder, responseBody, javaType, download, isPartialContent)
+        }
+
         javaType == InputStream::class.java -> {
           // The contract says to return the body unprocessed, i.e., as type InputStream.
           // In this case, the application is responsible for closing the InputStream!
@@ -423,7 +737,7 @@ class ApiRequestExecutor(
 
         else -> {
           // In this case, the contract defines a schema for the response, but the server sends it in an unsupported format, i.e., a non-JSON format.
-          val bodyContent = responseBody.string()
+          val bodyContent = readBodyPrefix(responseBody)
           val incompatibleResponse = responseBuilder.incompatibleResponse(bodyContent)
           throw ApiClientIncompatibleResponseException("Content-Type not supported by API client: $mediaType", incompatibleResponse)
         }
@@ -437,18 +751,107 @@ class ApiRequestExecutor(
   }
 
   /**
-   * Deserializes the response entity and closes the response body.
+   * Transfers the response body to the target of the download and closes the response body. Partial content is only accepted if it starts at the requested
+   * offset.
+   */
+  @Throws(IOException::class, ApiClientIncompatibleResponseException::class)
+  private fun transferBody(
+    responseBuilder: ResponseBuilder,
+    responseBody: ResponseBody,
+    javaType: Type,
+    download: Download,
+    isPartialContent: Boolean,
+  ): ApiResponse {
+    if (isPartialContent) {
+      val contentRange = responseBuilder.header(CONTENT_RANGE_HEADER)
+      val rangeStart = contentRange?.let { CONTENT_RANGE_START.find(it) }?.groupValues?.get(1)?.toLongOrNull()
+
+      if (rangeStart != download.offset) {
+        val incompatibleResponse = responseBuilder.incompatibleResponse(readBodyPrefix(responseBody))
+        throw ApiClientIncompatibleResponseException(
+          "Partial content does not start at the requested offset ${download.offset}: Content-Range=$contentRange",
+          incompatibleResponse,
+        )
+      }
+    }
+
+    responseBody.use {
+      download.write(responseBody.source(), isPartialContent)
+    }
+
+    return responseBuilder.apiResponse(javaType, null)
+  }
+
+  /**
+   * Deserializes the response entity while reading the response body and closes the response body. Only a bounded prefix of the body is retained for
+   * reporting, in case the body cannot be deserialized.
    */
   @Throws(IOException::class, ApiClientIncompatibleResponseException::class)
   private fun deserializeFromJson(responseBuilder: ResponseBuilder, responseBody: ResponseBody, expectedType: Type): ApiResponse {
-    val stringContent = responseBody.string()
+    responseBody.use {
+      val charset = responseBody.contentType()?.charset() ?: Charsets.UTF_8
+      val recordingSource = PrefixRecordingSource(responseBody.source(), MAX_RETAINED_BODY_SIZE)
+      val bufferedSource = recordingSource.buffer()
+
+      try {
+        skipUtf8ByteOrderMark(bufferedSource)
+        val reader = gson.newJsonReader(InputStreamReader(bufferedSource.inputStream(), charset))
+        val entity = gson.fromJson<Any>(reader, expectedType)
+        checkFullyConsumed(entity, reader)
+
+        return responseBuilder.apiResponse(expectedType, entity)
+      } catch (e: JsonParseException) {
+        throwIfReadingFailed(e)
+
+        val incompatibleResponse = responseBuilder.incompatibleResponse(recordingSource.readPrefix(charset))
+        throw ApiClientIncompatibleResponseException("JSON response from server cannot be parsed to $expectedType: $e", incompatibleResponse, e)
+      }
+    }
+  }
 
+  /**
+   * Gson wraps IOExceptions thrown while reading in JsonParseExceptions. Those that do not signal malformed or truncated JSON indicate that the body could not
+   * be read, and are rethrown.
+   */
+  @Throws(IOException::class)
+  private fun throwIfReadingFailed(e: JsonParseException) {
+    val cause = e.cause
+
+    if (cause is IOException && cause !is MalformedJsonException && cause !is EOFException) {
+      throw cause
+    }
+  }
+
+  @Throws(IOException::class)
+  private fun skipUtf8ByteOrderMark(source: BufferedSource) {
+    if (source.rangeEquals(0, UTF_8_BOM)) {
+      source.skip(UTF_8_BOM.size.toLong())
+    }
+  }
+
+  /**
+   * Like Gson does when deserializing from a String or a Reader, treat trailing content after the JSON document as an error. An empty body is deserialized to
+   * a null entity, and the reader must not be peeked again, as it has already reached the end of its input.
+   */
+  @Throws(IOException::class)
+  private fun checkFullyConsumed(entity: Any?, reader: JsonReader) {
     try {
-      val entity = gson.fromJson<Any>(stringContent, expectedType)
-      return responseBuilder.apiResponse(expectedType, entity)
-    } catch (e: JsonParseException) {
-      val incompatibleResponse = responseBuilder.incompatibleResponse(stringContent)
-      throw ApiClientIncompatibleResponseException("JSON response from server cannot be parsed to $expectedType: $e", incompatibleResponse, e)
+      if (entity != null && reader.peek() != JsonToken.END_DOCUMENT) {
+        throw JsonSyntaxException("JSON document was not fully consumed.")
+      }
+    } catch (e: MalformedJsonException) {
+      throw JsonSyntaxException(e)
+    }
+  }
+
+  /**
+   * Reads a bounded prefix of the response body for reporting it in an IncompatibleResponse, and closes the response body.
+   */
+  @Throws(IOException::class)
+  private fun readBodyPrefix(responseBody: ResponseBody): String {
+    responseBody.use {
+      val charset = responseBody.contentType()?.charset() ?: Charsets.UTF_8
+      return PrefixRecordingSource(responseBody.source(), MAX_RETAINED_BODY_SIZE).readPrefix(charset)
     }
   }
 
@@ -470,6 +873,8 @@ class ApiRequestExecutor(
 
     private val headers = headers.toList()
 
+    fun header(name: String): String? = headers.firstOrNull { it.name.equals(name, ignoreCase = true) }?.value
+
     fun apiResponse(javaType: Type, entity: Any?): ApiResponse {
       return ApiResponse(request, statusCode, httpStatusMessage, contentType, headers, entity, javaType)
     }
@@ -483,6 +888,108 @@ class ApiRequestExecutor(
     }
   }
 
+  /**
+   * OkHttp callback completing the future of an asynchronously executed request. If the request was admitted by a concurrency limit, the admission is released
+   * once the response has been interpreted.
+   */
+  private inner class ResponseCallback(
+    val future: CompletableFuture<ApiResponse>,
+    private val operation: Operation,
+    private val finalRequest: FinalRequest,
+    private val admittingLimit: ConcurrencyLimit?,
+    private val metrics: RequestMetrics?,
+  ) : Callback {
+
+    override fun onFailure(call: Call, e: IOException) {
+      admittingLimit?.release()
+      future.completeExceptionally(toApiClientIoException(call.request(), finalRequest, e))
+    }
+
+    override fun onResponse(call: Call, response: Response) {
+      val result = try {
+        networkCompleted(metrics, response)
+        interpretResponse(toRequestAndResponse(finalRequest, response), operation, metrics, null)
+      } catch (e: Throwable) {
+        response.close()
+        admittingLimit?.release()
+        future.completeExceptionally(e)
+        return
+      }
+
+      admittingLimit?.release()
+      future.complete(result)
+    }
+  }
+
+  /**
+   * The target of a download, which a successful binary response body is written to, instead of being returned as an InputStream.
+   *
+   * @param offset the number of bytes of the body to skip, which are requested with a Range header, when positive.
+   */
+  private abstract class Download(val offset: Long) {
+
+    /**
+     * Writes the response body to the target. If the body is not partial content, it starts at position 0 instead of the offset.
+     */
+    @Throws(IOException::class)
+    abstract fun write(source: BufferedSource, isPartialContent: Boolean)
+  }
+
+  /**
+   * Writes the body to a file, using NIO to transfer it from the response body into the file.
+   */
+  private class FileDownload(private val file: Path, offset: Long) : Download(offset) {
+
+    override fun write(source: BufferedSource, isPartialContent: Boolean) {
+      val position = if (isPartialContent) offset else 0
+
+      FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE).use { channel ->
+        // Drops anything beyond the position, e.g., an incomplete file when not resuming.
+        channel.truncate(position)
+        channel.transferFrom(source, position, Long.MAX_VALUE)
+      }
+    }
+  }
+
+  /**
+   * Writes the body to a channel, which is left open.
+   */
+  private class ChannelDownload(private val channel: WritableByteChannel, offset: Long) : Download(offset) {
+
+    override fun write(source: BufferedSource, isPartialContent: Boolean) {
+      if (!isPartialContent) {
+        skipOffset(source)
+      }
+
+      val sink = Channels.newOutputStream(channel).sink()
+      source.readAll(sink)
+      sink.flush()
+    }
+
+    /**
+     * Skips the bytes before the offset, without buffering them all at once. The body might be shorter than the offset, leaving nothing to write.
+     */
+    private fun skipOffset(source: BufferedSource) {
+      var remaining = offset
+
+      while (remaining > 0 && source.request(1)) {
+        val skipped = minOf(remaining, source.buffer.size)
+        source.skip(skipped)
+        remaining -= skipped
+      }
+    }
+  }
+
+  /**
+   * Holds the final request as seen by the network, captured by the [RequestAccessInterceptor]. An instance is attached to each request as a tag, which works
+   * for synchronous and asynchronous calls alike.
+   */
+  private class FinalRequest {
+
+    @Volatile
+    var request: Request? = null
+  }
+
   /**
    * OkHttp interceptor for accessing the final request. This is necessary, because the application can use interceptors that add or modify headers, and we want
    * to report the final set of headers used.
@@ -492,27 +999,82 @@ class ApiRequestExecutor(
     @Throws(IOException::class)
     override fun intercept(chain: Interceptor.Chain): Response {
       val request: Request = chain.request()
-      THREAD_LOCAL.set(request)
+      request.tag(FinalRequest::class.java)?.request = request
 
       return chain.proceed(request)
     }
+  }
+
+  /**
+   * Builder for instances of class ApiRequestExecutor.
+   *
+   * @param httpClient the OkHttp-Client instance to use for sending HTTP requests.
+   * @param baseUrl    the base URL to send requests to.
+   */
+  class Builder(
+    internal val httpClient: OkHttpClient,
+    internal val baseUrl: String,
+  ) {
+
+    internal var streamingRequestBodies: Boolean = false
+    internal var concurrencyLimit: ConcurrencyLimit? = null
+    internal var metricsListener: ApiClientMetricsListener = ApiClientMetricsListener.NO_OP
+    internal val typeAdapterFactories: MutableList<TypeAdapterFactory> = ArrayList()
+
+    /**
+     * Sets whether to serialize JSON request entities directly to the connection. Defaults to false.
+     */
+    fun streamingRequestBodies(streamingRequestBodies: Boolean): Builder = apply {
+      this.streamingRequestBodies = streamingRequestBodies
+    }
 
-    companion object {
+    /**
+     * Sets the limit of concurrently executed requests. Defaults to null, i.e., no limit.
+     */
+    fun concurrencyLimit(concurrencyLimit: ConcurrencyLimit?): Builder = apply {
+      this.concurrencyLimit = concurrencyLimit
+    }
 
-      private val THREAD_LOCAL = ThreadLocal<Request?>()
+    /**
+     * Sets the listener that receives timings and sizes of executed requests. Defaults to [ApiClientMetricsListener.NO_OP].
+     */
+    fun metricsListener(metricsListener: ApiClientMetricsListener): Builder = apply {
+      this.metricsListener = metricsListener
+    }
 
-      val lastRequest: Request?
-        get() = THREAD_LOCAL.get()
+    /**
+     * Adds a Gson TypeAdapterFactory, e.g., the ModelTypeAdapterFactory generated for reflection-free serialization of the model. Factories are consulted in
+     * the order they are added.
+     */
+    fun typeAdapterFactory(typeAdapterFactory: TypeAdapterFactory): Builder = apply {
+      typeAdapterFactories.add(typeAdapterFactory)
+    }
 
-      fun clearThreadLocal() {
-        THREAD_LOCAL.remove()
-      }
+    /**
+     * Build an ApiRequestExecutor from this builder.
+     */
+    fun build(): ApiRequestExecutor {
+      return ApiRequestExecutor(this)
     }
   }
 
   private companion object {
 
     private const val CONTENT_TYPE_HEADER = "Content-Type"
+    private const val CONTENT_RANGE_HEADER = "Content-Range"
+    private const val RANGE_HEADER = "Range"
+
+    private const val HTTP_OK = 200
+    private const val HTTP_PARTIAL_CONTENT = 206
+
+    private val CONTENT_RANGE_START = Regex("""^\s*bytes\s+(\d+)-""")
+
+    /**
+     * The maximum number of bytes of a response body that is retained for an IncompatibleResponse.
+     */
+    private const val MAX_RETAINED_BODY_SIZE = 64 * 1024L
+
+    private val UTF_8_BOM = "efbbbf".decodeHex()
 
     private fun Headers.toList(): List<Header> = this.map { (name, value) -> Header(name, value) }
   }
@@ -17,8 +17,21 @@ class Attachment private constructor(
 
   val fileName: String,
   val mediaType: String,
+
+  private val inputStreamLength: Long = -1,
 ) {
 
+  /**
+   * The length of the content in bytes, or -1 if it is unknown. It is known for byte arrays and files, and for InputStreams only if it was specified on
+   * creation. If the lengths of all attachments of a multipart request body are known, the request is sent with a Content-Length header.
+   */
+  val contentLength: Long
+    get() = when (content) {
+      is ByteArray -> content.size.toLong()
+      is File -> content.length()
+      else -> inputStreamLength
+    }
+
   override fun equals(other: Any?): Boolean {
     if (this === other) return true
     if (javaClass != other?.javaClass) return false
@@ -28,12 +41,13 @@ class Attachment private constructor(
     if (content != other.content) return false
     if (fileName != other.fileName) return false
     if (mediaType != other.mediaType) return false
+    if (inputStreamLength != other.inputStreamLength) return false
 
     return true
   }
 
   override fun hashCode(): Int {
-    return Objects.hash(content, fileName, mediaType)
+    return Objects.hash(content, fileName, mediaType, inputStreamLength)
   }
 
   companion object {
@@ -62,6 +76,16 @@ class Attachment private constructor(
       return Attachment(content, fileName, mediaType)
     }
 
+    /**
+     * Creates an attachment by using the specified InputStream as content, the specified file name and the specified media type. The InputStream must provide
+     * exactly the specified number of bytes.
+     */
+    @JvmStatic
+    fun of(content: InputStream, fileName: String, mediaType: String, contentLength: Long): Attachment {
+      require(contentLength >= 0) { "contentLength must not be negative: $contentLength" }
+      return Attachment(content, fileName, mediaType, contentLength)
+    }
+
     /**
      * Creates an attachment by using the specified byte array as content, the specified file name and the specified media type.
      */
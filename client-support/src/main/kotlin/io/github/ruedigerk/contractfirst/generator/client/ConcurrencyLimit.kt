@@ -0,0 +1,152 @@
+package io.github.ruedigerk.contractfirst.generator.client
+
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * Limits the number of requests an [ApiRequestExecutor] executes concurrently. Requests exceeding the limit wait for admission in FIFO order. The number of
+ * waiting requests and the time a request waits can be limited. Requests that are not admitted fail with an [ApiClientIoException].
+ *
+ * Waiting for admission does not block any thread holding a monitor, so it is safe to use with virtual threads: waiting virtual threads do not pin their
+ * carrier threads. An instance can be shared by multiple executors to limit their combined concurrency.
+ *
+ * @param maxConcurrentRequests the maximum number of requests executed concurrently.
+ * @param maxQueuedRequests     the maximum number of requests waiting for admission; 0 rejects requests exceeding the limit immediately. Defaults to no limit.
+ * @param maxQueueWait          the maximum time a request waits for admission. Defaults to no limit.
+ */
+class ConcurrencyLimit @JvmOverloads constructor(
+  val maxConcurrentRequests: Int,
+  val maxQueuedRequests: Int = Int.MAX_VALUE,
+  val maxQueueWait: Duration? = null,
+) {
+
+  private val lock = ReentrantLock()
+  private val waiters = ArrayDeque<CompletableFuture<Void?>>()
+  private var inFlight = 0
+
+  private val admittedCount = LongAdder()
+  private val rejectedCount = LongAdder()
+  private val totalQueueWaitNanos = LongAdder()
+  private val maxQueueWaitNanos = AtomicLong()
+
+  init {
+    require(maxConcurrentRequests > 0) { "maxConcurrentRequests must be positive: $maxConcurrentRequests" }
+    require(maxQueuedRequests >= 0) { "maxQueuedRequests must not be negative: $maxQueuedRequests" }
+    require(maxQueueWait == null || !maxQueueWait.isNegative) { "maxQueueWait must not be negative: $maxQueueWait" }
+  }
+
+  /**
+   * Returns the number of requests currently admitted.
+   */
+  val inFlightRequests: Int
+    get() = lock.withLock { inFlight }
+
+  /**
+   * Returns the number of requests currently waiting for admission.
+   */
+  val queuedRequests: Int
+    get() = lock.withLock { waiters.size }
+
+  /**
+   * Returns the total number of requests admitted so far.
+   */
+  val admittedRequests: Long
+    get() = admittedCount.sum()
+
+  /**
+   * Returns the total number of requests rejected so far, because the queue was full or the request waited too long.
+   */
+  val rejectedRequests: Long
+    get() = rejectedCount.sum()
+
+  /**
+   * Returns the total time in nanoseconds that admitted requests have waited for admission.
+   */
+  val totalQueueWaitTimeNanos: Long
+    get() = totalQueueWaitNanos.sum()
+
+  /**
+   * Returns the longest time in nanoseconds that an admitted request has waited for admission.
+   */
+  val maxQueueWaitTimeNanos: Long
+    get() = maxQueueWaitNanos.get()
+
+  /**
+   * Requests admission. The returned future is completed when the request is admitted, or completed exceptionally when it is rejected. Cancelling the returned
+   * future withdraws the request from the queue. Every successful admission must be followed by a call to [release].
+   */
+  internal fun acquire(): CompletableFuture<Void?> {
+    val waiter = CompletableFuture<Void?>()
+
+    lock.withLock {
+      when {
+        inFlight < maxConcurrentRequests -> {
+          inFlight++
+          admittedCount.increment()
+          return ADMITTED
+        }
+
+        waiters.size >= maxQueuedRequests -> {
+          rejectedCount.increment()
+          return CompletableFuture.failedFuture(RejectedExecutionException("maximum of $maxConcurrentRequests concurrent requests reached"))
+        }
+
+        else -> waiters.addLast(waiter)
+      }
+    }
+
+    val queuedAt = System.nanoTime()
+    waiter.whenComplete { _, failure -> onWaiterCompleted(waiter, queuedAt, failure) }
+
+    if (maxQueueWait != null) {
+      waiter.orTimeout(maxQueueWait.toNanos(), TimeUnit.NANOSECONDS)
+    }
+
+    return waiter
+  }
+
+  private fun onWaiterCompleted(waiter: CompletableFuture<Void?>, queuedAt: Long, failure: Throwable?) {
+    if (failure == null) {
+      val waitNanos = System.nanoTime() - queuedAt
+      admittedCount.increment()
+      totalQueueWaitNanos.add(waitNanos)
+      maxQueueWaitNanos.accumulateAndGet(waitNanos, ::maxOf)
+    } else {
+      lock.withLock { waiters.remove(waiter) }
+      rejectedCount.increment()
+    }
+  }
+
+  /**
+   * Releases an admission, handing it over to the longest waiting request, if there is one.
+   */
+  internal fun release() {
+    while (true) {
+      val next = lock.withLock {
+        val waiter = waiters.pollFirst()
+        if (waiter == null) {
+          inFlight--
+        }
+        waiter
+      } ?: return
+
+      // Complete outside the lock, as completing runs dependent actions, like starting the request. If the waiter has timed out or was cancelled in the
+      // meantime, the admission is handed over to the next waiter.
+      if (next.complete(null)) {
+        return
+      }
+    }
+  }
+
+  private companion object {
+
+    private val ADMITTED: CompletableFuture<Void?> = CompletableFuture.completedFuture(null)
+  }
+}
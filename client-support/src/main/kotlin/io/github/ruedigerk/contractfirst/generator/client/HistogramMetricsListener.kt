@@ -0,0 +1,213 @@
+package io.github.ruedigerk.contractfirst.generator.client
+
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientMetricsListener.Phase
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * An [ApiClientMetricsListener] that records everything it receives in memory, as histograms per operation. It is meant for tests, and for finding the
+ * operations that take the most time, e.g., by periodically logging [operations] and calling [reset].
+ *
+ * Histograms use buckets with power-of-two boundaries, so percentiles are approximated by the upper bound of their bucket.
+ */
+class HistogramMetricsListener : ApiClientMetricsListener {
+
+  private val metricsByOperation = ConcurrentHashMap<OperationKey, OperationMetrics>()
+
+  /**
+   * Returns the metrics of all operations executed since creation or the last [reset].
+   */
+  val operations: Collection<OperationMetrics>
+    get() = metricsByOperation.values.toList()
+
+  /**
+   * Returns the metrics of the specified operation, or null if it has not been executed since creation or the last [reset].
+   */
+  fun operation(method: String, pathTemplate: String): OperationMetrics? = metricsByOperation[OperationKey(method, pathTemplate)]
+
+  /**
+   * Discards all recorded metrics.
+   */
+  fun reset() {
+    metricsByOperation.clear()
+  }
+
+  override fun phaseCompleted(method: String, pathTemplate: String, phase: Phase, durationNanos: Long) {
+    metricsOf(method, pathTemplate).phaseDuration(phase).record(durationNanos)
+  }
+
+  override fun requestCompleted(
+    method: String,
+    pathTemplate: String,
+    statusCode: Int,
+    requestBodySize: Long,
+    responseBodySize: Long,
+    durationNanos: Long,
+    failure: Throwable?,
+  ) {
+    metricsOf(method, pathTemplate).record(statusCode, requestBodySize, responseBodySize, durationNanos, failure)
+  }
+
+  private fun metricsOf(method: String, pathTemplate: String): OperationMetrics {
+    return metricsByOperation.computeIfAbsent(OperationKey(method, pathTemplate)) { OperationMetrics(it.method, it.pathTemplate) }
+  }
+
+  private data class OperationKey(
+    val method: String,
+    val pathTemplate: String,
+  )
+
+  /**
+   * The metrics recorded for a single operation.
+   */
+  class OperationMetrics internal constructor(
+    val method: String,
+    val pathTemplate: String,
+  ) {
+
+    private val phaseDurations = Array(Phase.entries.size) { Histogram() }
+    private val failureCount = LongAdder()
+    private val statusCodeCounts = ConcurrentHashMap<Int, LongAdder>()
+
+    /**
+     * The durations of executing requests in nanoseconds.
+     */
+    val requestDuration = Histogram()
+
+    /**
+     * The sizes of request bodies in bytes, excluding those of unknown size.
+     */
+    val requestBodySize = Histogram()
+
+    /**
+     * The sizes of response bodies in bytes, excluding those of unknown size.
+     */
+    val responseBodySize = Histogram()
+
+    /**
+     * Returns the durations of the specified phase in nanoseconds.
+     */
+    fun phaseDuration(phase: Phase): Histogram = phaseDurations[phase.ordinal]
+
+    /**
+     * Returns the number of requests that failed with an exception.
+     */
+    val failures: Long
+      get() = failureCount.sum()
+
+    /**
+     * Returns the number of received responses by status code.
+     */
+    val statusCodes: Map<Int, Long>
+      get() = statusCodeCounts.mapValues { it.value.sum() }
+
+    internal fun record(statusCode: Int, requestBodySize: Long, responseBodySize: Long, durationNanos: Long, failure: Throwable?) {
+      requestDuration.record(durationNanos)
+
+      if (requestBodySize >= 0) {
+        this.requestBodySize.record(requestBodySize)
+      }
+      if (responseBodySize >= 0) {
+        this.responseBodySize.record(responseBodySize)
+      }
+      if (statusCode >= 0) {
+        statusCodeCounts.computeIfAbsent(statusCode) { LongAdder() }.increment()
+      }
+      if (failure != null) {
+        failureCount.increment()
+      }
+    }
+
+    override fun toString(): String {
+      return "$method $pathTemplate: requests=${requestDuration.count}, failures=$failures, statusCodes=$statusCodes, duration=$requestDuration"
+    }
+  }
+
+  /**
+   * A histogram of non-negative values, with buckets bounded by powers of two.
+   */
+  class Histogram internal constructor() {
+
+    private val buckets = AtomicLongArray(BUCKET_COUNT)
+    private val countAdder = LongAdder()
+    private val sumAdder = LongAdder()
+    private val maxValue = AtomicLong()
+
+    /**
+     * Returns the number of recorded values.
+     */
+    val count: Long
+      get() = countAdder.sum()
+
+    /**
+     * Returns the sum of all recorded values.
+     */
+    val sum: Long
+      get() = sumAdder.sum()
+
+    /**
+     * Returns the largest recorded value, or 0 if no value has been recorded.
+     */
+    val max: Long
+      get() = maxValue.get()
+
+    /**
+     * Returns the mean of all recorded values, or 0 if no value has been recorded.
+     */
+    val mean: Double
+      get() = count.let { if (it == 0L) 0.0 else sum.toDouble() / it }
+
+    internal fun record(value: Long) {
+      val nonNegativeValue = maxOf(value, 0L)
+
+      buckets.incrementAndGet(bucketOf(nonNegativeValue))
+      countAdder.increment()
+      sumAdder.add(nonNegativeValue)
+      maxValue.accumulateAndGet(nonNegativeValue, ::maxOf)
+    }
+
+    /**
+     * Returns an upper bound of the value at the specified percentile, e.g., 99.0, which is the upper bound of the bucket the percentile falls into, but at
+     * most the largest recorded value. Returns 0 if no value has been recorded.
+     */
+    fun valueAtPercentile(percentile: Double): Long {
+      require(percentile in 0.0..100.0) { "percentile must be between 0 and 100: $percentile" }
+
+      val counts = LongArray(BUCKET_COUNT) { buckets.get(it) }
+      val total = counts.sum()
+      if (total == 0L) {
+        return 0
+      }
+
+      val rank = maxOf(1L, Math.ceil(total * percentile / 100.0).toLong())
+      var cumulativeCount = 0L
+
+      for (bucket in counts.indices) {
+        cumulativeCount += counts[bucket]
+        if (cumulativeCount >= rank) {
+          return minOf(upperBoundOf(bucket), max)
+        }
+      }
+
+      return max
+    }
+
+    override fun toString(): String {
+      return "[count=$count, mean=${mean.toLong()}, p50=${valueAtPercentile(50.0)}, p99=${valueAtPercentile(99.0)}, max=$max]"
+    }
+
+    private companion object {
+
+      /**
+       * Bucket 0 holds the value 0, and bucket n holds the values from 2^(n-1) to 2^n - 1.
+       */
+      private const val BUCKET_COUNT = 64
+
+      private fun bucketOf(value: Long): Int = minOf(64 - java.lang.Long.numberOfLeadingZeros(value), BUCKET_COUNT - 1)
+
+      private fun upperBoundOf(bucket: Int): Long = if (bucket >= BUCKET_COUNT - 1) Long.MAX_VALUE else (1L shl bucket) - 1
+    }
+  }
+}
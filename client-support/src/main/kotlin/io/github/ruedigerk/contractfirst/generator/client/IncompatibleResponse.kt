@@ -32,7 +32,7 @@ data class IncompatibleResponse(
   val headers: List<Header>,
 
   /**
-   * The content of the response as a String.
+   * The content of the response as a String. Only the first 64 KiB of the response body are retained, longer bodies are truncated.
    */
   val body: String,
 ) {
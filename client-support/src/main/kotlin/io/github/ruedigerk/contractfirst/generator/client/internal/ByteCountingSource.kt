@@ -0,0 +1,29 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import okio.Buffer
+import okio.ForwardingSource
+import okio.Source
+import java.io.IOException
+
+/**
+ * A Source that counts the bytes read through it.
+ */
+internal class ByteCountingSource(delegate: Source) : ForwardingSource(delegate) {
+
+  /**
+   * The number of bytes read so far.
+   */
+  var bytesRead: Long = 0
+    private set
+
+  @Throws(IOException::class)
+  override fun read(sink: Buffer, byteCount: Long): Long {
+    val bytesRead = super.read(sink, byteCount)
+
+    if (bytesRead > 0) {
+      this.bytesRead += bytesRead
+    }
+
+    return bytesRead
+  }
+}
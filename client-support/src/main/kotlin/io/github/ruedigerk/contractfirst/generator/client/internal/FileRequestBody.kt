@@ -0,0 +1,43 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import okhttp3.MediaType
+import okhttp3.RequestBody
+import okio.BufferedSink
+import java.io.File
+import java.io.IOException
+import java.nio.channels.FileChannel
+import java.nio.file.StandardOpenOption
+
+/**
+ * A request body that transfers the content of a file to the connection using a FileChannel, without reading the file into memory first. The file is read
+ * anew every time the body is written, so it can be retried.
+ */
+internal class FileRequestBody(
+  private val file: File,
+  private val contentType: MediaType?,
+) : RequestBody() {
+
+  override fun contentType(): MediaType? = contentType
+
+  override fun contentLength(): Long = file.length()
+
+  @Throws(IOException::class)
+  override fun writeTo(sink: BufferedSink) {
+    FileChannel.open(file.toPath(), StandardOpenOption.READ).use { channel ->
+      val size = channel.size()
+      var position = 0L
+
+      // Okio's BufferedSink is a WritableByteChannel, so the file channel can transfer to it directly.
+      while (position < size) {
+        val transferred = channel.transferTo(position, size - position, sink)
+
+        // The file shrank while it was being transferred, so the promised content length cannot be sent anymore.
+        if (transferred == 0L && position >= channel.size()) {
+          throw IOException("File $file was truncated to ${channel.size()} bytes while sending its $size bytes")
+        }
+
+        position += transferred
+      }
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import okhttp3.MediaType
+import okhttp3.RequestBody
+import okio.BufferedSink
+import okio.source
+import java.io.IOException
+import java.io.InputStream
+
+/**
+ * A request body that streams the content of an InputStream to the connection, without reading it into memory first. The InputStream is closed after it has
+ * been written. As an InputStream can only be read once, the body is one-shot, i.e., OkHttp does not retry sending it.
+ *
+ * Without a known content length, the body is sent with chunked transfer encoding.
+ */
+internal class InputStreamRequestBody(
+  private val inputStream: InputStream,
+  private val contentType: MediaType?,
+  private val contentLength: Long,
+) : RequestBody() {
+
+  override fun contentType(): MediaType? = contentType
+
+  override fun contentLength(): Long = contentLength
+
+  override fun isOneShot(): Boolean = true
+
+  @Throws(IOException::class)
+  override fun writeTo(sink: BufferedSink) {
+    inputStream.source().use { sink.writeAll(it) }
+  }
+}
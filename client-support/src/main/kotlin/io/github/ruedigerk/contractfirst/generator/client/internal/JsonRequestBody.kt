@@ -0,0 +1,56 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import com.google.gson.Gson
+import com.google.gson.JsonNull
+import okhttp3.MediaType
+import okhttp3.MediaType.Companion.toMediaTypeOrNull
+import okhttp3.RequestBody
+import okio.BufferedSink
+import java.io.IOException
+import java.io.OutputStreamWriter
+import java.nio.charset.Charset
+
+/**
+ * A request body that serializes its entity to JSON while it is written to the connection, i.e., without materializing the JSON as a String or byte array
+ * first. As the size of the serialized entity is not known in advance, the body is sent with chunked transfer encoding.
+ *
+ * Like OkHttp does for String request bodies, a charset parameter of "utf-8" is added to the content type, if it does not specify a charset.
+ */
+internal class JsonRequestBody(
+  private val gson: Gson,
+  private val entity: Any?,
+  mediaType: MediaType?,
+) : RequestBody() {
+
+  private val contentType: MediaType?
+  private val charset: Charset
+
+  init {
+    val specifiedCharset = mediaType?.charset()
+
+    if (mediaType != null && specifiedCharset == null) {
+      contentType = "$mediaType; charset=utf-8".toMediaTypeOrNull()
+      charset = Charsets.UTF_8
+    } else {
+      contentType = mediaType
+      charset = specifiedCharset ?: Charsets.UTF_8
+    }
+  }
+
+  override fun contentType(): MediaType? = contentType
+
+  @Throws(IOException::class)
+  override fun writeTo(sink: BufferedSink) {
+    // The writer is flushed, but not closed, as the sink is owned by OkHttp.
+    val writer = OutputStreamWriter(sink.outputStream(), charset)
+    val jsonWriter = gson.newJsonWriter(writer)
+
+    if (entity == null) {
+      gson.toJson(JsonNull.INSTANCE, jsonWriter)
+    } else {
+      gson.toJson(entity, entity.javaClass, jsonWriter)
+    }
+
+    jsonWriter.flush()
+  }
+}
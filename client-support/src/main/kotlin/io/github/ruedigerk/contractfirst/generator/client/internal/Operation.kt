@@ -1,119 +1,62 @@
 package io.github.ruedigerk.contractfirst.generator.client.internal
 
-import okhttp3.MediaType
-import okhttp3.MediaType.Companion.toMediaTypeOrNull
 import java.lang.reflect.Type
 
 /**
- * Represents the definition of an API operation, and the data that is transferred within it.
+ * Represents an API operation bound to the data that is transferred within it. The definition of the operation is held by its [OperationDescriptor].
  */
-class Operation private constructor(builder: Builder) {
+class Operation internal constructor(
+  val descriptor: OperationDescriptor,
+  val parameters: List<Parameter>,
+  val requestBody: OperationRequestBody,
+) {
 
-  val path: String = builder.path
-  val method: String = builder.method
-  val parameters: List<Parameter> = builder.parameters.toList()
-  val requestBody: OperationRequestBody = builder.requestBody
+  val path: String
+    get() = descriptor.path
+
+  val method: String
+    get() = descriptor.method
 
   val pathParameters: Map<String, Parameter>
-    get() = extractParameters(ParameterLocation.PATH, parameters)
+    get() = extractParameters(ParameterLocation.PATH)
 
   val queryParameters: Map<String, Parameter>
-    get() = extractParameters(ParameterLocation.QUERY, parameters)
+    get() = extractParameters(ParameterLocation.QUERY)
 
   val headerParameters: Map<String, Parameter>
-    get() = extractParameters(ParameterLocation.HEADER, parameters)
-
-  private val responseDefinitions: Map<StatusCode, List<ResponseDefinition>> = builder.responseDefinitions.groupBy { it.statusCode }
+    get() = extractParameters(ParameterLocation.HEADER)
 
   /**
-   * Determines the accept-header value for this operation. All JSON-compatible mime types are sent with a q-factor of 1 and all other mime types with a
-   * q-factor of 0.5.
-   *
-   * See: https://developer.mozilla.org/en-US/docs/Glossary/Quality_values
-   * See: https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Accept
-   * See: https://developer.mozilla.org/en-US/docs/Web/HTTP/Content_negotiation
+   * Returns the accept-header value for this operation, see [OperationDescriptor.acceptHeaderValue].
    */
   fun determineAcceptHeaderValue(): String {
-    val (jsonMediaTypes, nonJsonMediaTypes) = allAcceptedMediaTypes.partition(MediaTypes::isJsonMediaType)
-    return (jsonMediaTypes + nonJsonMediaTypes.map { "$it; q=0.5" }).joinToString(", ")
+    return descriptor.acceptHeaderValue
   }
 
-  private val allAcceptedMediaTypes: List<String>
-    get() = responseDefinitions.values
-      .flatMap { responseDefinitions -> responseDefinitions.map { it.contentType } }
-      .filterNotNull()
-      .distinct()
-
   /**
-   * Returns the Java type of the response definition that matches the servers returned status code and content type. If no response definition is matching,
-   * null is returned. If the matching response is defined to have no content, type [Void.TYPE] is returned.
+   * Returns the Java type of the response definition that matches the servers returned status code and content type, see
+   * [OperationDescriptor.determineMatchingResponseType].
    */
   fun determineMatchingResponseType(statusCode: Int, contentType: String?): Type? {
-    val responseDefinitions = selectResponseDefinitionsForStatusCode(statusCode)
-
-    // The status code is not defined in the contract
-    if (responseDefinitions.isEmpty()) {
-      return null
-    }
-
-    if (responseDefinitions.all { it.hasNoContent() }) {
-      return Void.TYPE
-    }
-
-    if (contentType == null) {
-      return if (responseDefinitions.any { it.hasNoContent() }) {
-        Void.TYPE
-      } else {
-        null
-      }
-    }
-
-    val mediaType = contentType.toMediaTypeOrNull()
-
-    for (definition in responseDefinitions) {
-      if (definition.contentType != null && isCompatibleMediaType(mediaType, definition.contentType.toMediaTypeOrNull())) {
-        return definition.javaType
-      }
-    }
-
-    // No matching definition found. As a special case, if the server sends a JSON content type and there is only a single response definition for this status
-    // code in the contract, try to deserialize the response as a JSON entity. This quirk is added, because there seem to be a lot of contracts in the wild that
-    // erroneously declare some none-JSON content type in the contract but actually send JSON encoded response entities.
-    if (MediaTypes.isJsonMediaType(mediaType) && responseDefinitions.size == 1) {
-      return responseDefinitions.first().javaType
-    }
-
-    return null
+    return descriptor.determineMatchingResponseType(statusCode, contentType)
   }
 
-  private fun selectResponseDefinitionsForStatusCode(statusCode: Int): List<ResponseDefinition> {
-    val responses = responseDefinitions[StatusCode.of(statusCode)]
-    return responses ?: responseDefinitions[StatusCode.DEFAULT] ?: emptyList()
-  }
-
-  private fun isCompatibleMediaType(testedMediaType: MediaType?, mediaTypeToMatchAgainst: MediaType?): Boolean {
-    if (mediaTypeToMatchAgainst == null) {
-      return false
-    }
-    if (mediaTypeToMatchAgainst.type == "*") {
-      return true
-    }
-    if (testedMediaType == null) {
-      return false
-    }
-
-    val sameType = mediaTypeToMatchAgainst.type == testedMediaType.type
-    return sameType && (mediaTypeToMatchAgainst.subtype == "*" || mediaTypeToMatchAgainst.subtype == testedMediaType.subtype)
+  /**
+   * Returns the parameter with the specified location and name, or null, if there is none. Does not allocate, unlike the parameter map getters.
+   */
+  internal fun findParameter(location: ParameterLocation, name: String): Parameter? {
+    return parameters.firstOrNull { it.location == location && it.name == name }
   }
 
-  private fun extractParameters(location: ParameterLocation, parameters: List<Parameter>): Map<String, Parameter> {
+  private fun extractParameters(location: ParameterLocation): Map<String, Parameter> {
     return parameters
       .filter { it.location == location }
       .associateBy { it.name }
   }
 
   /**
-   * Builder for instances of class Operation.
+   * Builder for instances of class Operation, defining the operation and binding its data at the same time. Generated clients use [OperationDescriptor]
+   * instead, which allows defining an operation only once.
    */
   class Builder(
     val path: String,
@@ -183,7 +126,10 @@ class Operation private constructor(builder: Builder) {
      * Build an operation from this builder.
      */
     fun build(): Operation {
-      return Operation(this)
+      val descriptorBuilder = OperationDescriptor.Builder(path, method)
+      descriptorBuilder.responseDefinitions.addAll(responseDefinitions)
+
+      return Operation(descriptorBuilder.build(), parameters.toList(), requestBody)
     }
   }
 }
@@ -0,0 +1,239 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import okhttp3.MediaType
+import okhttp3.MediaType.Companion.toMediaTypeOrNull
+import java.lang.reflect.Type
+
+/**
+ * Represents the immutable definition of an API operation, i.e., everything about an operation except for the values of its arguments. Generated clients create
+ * one descriptor per operation once, and bind it to the argument values for every call, see [bind]. Everything that can be derived from the definition, like
+ * the compiled path template, the Accept header or the lookup table for response definitions, is computed once when the descriptor is built.
+ */
+class OperationDescriptor private constructor(builder: Builder) {
+
+  val path: String = builder.path
+  val method: String = builder.method
+  val responseDefinitions: List<ResponseDefinition> = builder.responseDefinitions.toList()
+
+  private val arguments: List<Argument> = builder.arguments.toList()
+  private val requestBodyContentType: String? = builder.requestBodyContentType
+  private val isRequestBodyRequired: Boolean = builder.isRequestBodyRequired
+  private val isMultipartRequestBody: Boolean = builder.isMultipartRequestBody
+  private val bodyPartCount: Int = arguments.count { it is BodyPartArgument }
+  private val parameterCount: Int = arguments.count { it is ParameterArgument }
+
+  /**
+   * The path template, compiled once.
+   */
+  internal val pathTemplate: PathTemplate = PathTemplate.of(path)
+
+  /**
+   * The value of the Accept header for this operation. All JSON-compatible mime types are sent with a q-factor of 1 and all other mime types with a q-factor
+   * of 0.5.
+   *
+   * See: https://developer.mozilla.org/en-US/docs/Glossary/Quality_values
+   * See: https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Accept
+   * See: https://developer.mozilla.org/en-US/docs/Web/HTTP/Content_negotiation
+   */
+  val acceptHeaderValue: String
+
+  // Lookup table for response definitions: the status codes, and at the same index, the response definitions for that status code.
+  private val definedStatusCodes: IntArray
+  private val responseDefinitionsByStatusCode: Array<List<ResponseDefinition>>
+  private val defaultResponseDefinitions: List<ResponseDefinition>
+
+  init {
+    val groupedDefinitions = responseDefinitions.groupBy { it.statusCode }
+    val numericGroups = groupedDefinitions.filterKeys { it != StatusCode.DEFAULT }
+
+    definedStatusCodes = numericGroups.keys.map { checkNotNull(it.code) }.toIntArray()
+    responseDefinitionsByStatusCode = numericGroups.values.toTypedArray()
+    defaultResponseDefinitions = groupedDefinitions[StatusCode.DEFAULT] ?: emptyList()
+
+    val allAcceptedMediaTypes = groupedDefinitions.values.flatten().mapNotNull { it.contentType }.distinct()
+    val (jsonMediaTypes, nonJsonMediaTypes) = allAcceptedMediaTypes.partition(MediaTypes::isJsonMediaType)
+    acceptHeaderValue = (jsonMediaTypes + nonJsonMediaTypes.map { "$it; q=0.5" }).joinToString(", ")
+  }
+
+  /**
+   * Binds this descriptor to the specified argument values, which have to be supplied in the order the parameters, request body and request body parts were
+   * defined in.
+   */
+  fun bind(vararg values: Any?): Operation {
+    require(values.size == arguments.size) { "Operation $method $path expects ${arguments.size} arguments, but got ${values.size}" }
+
+    val parameters = ArrayList<Parameter>(parameterCount)
+    val bodyParts = if (isMultipartRequestBody) ArrayList<BodyPart>(bodyPartCount) else null
+    var entity: Any? = null
+
+    for (index in arguments.indices) {
+      val value = values[index]
+
+      when (val argument = arguments[index]) {
+        is ParameterArgument -> parameters.add(Parameter(argument.name, argument.location, argument.isRequired, value))
+        is BodyPartArgument -> bodyParts?.add(BodyPart(argument.type, argument.name, value))
+        RequestBodyArgument -> entity = value
+      }
+    }
+
+    val requestBody = when {
+      bodyParts != null -> OperationRequestBody(requestBodyContentType, false, MultipartRequestBody(bodyParts))
+      else -> OperationRequestBody(requestBodyContentType, isRequestBodyRequired, entity)
+    }
+
+    return Operation(this, parameters, requestBody)
+  }
+
+  /**
+   * Returns the Java type of the response definition that matches the servers returned status code and content type. If no response definition is matching,
+   * null is returned. If the matching response is defined to have no content, type [Void.TYPE] is returned.
+   */
+  fun determineMatchingResponseType(statusCode: Int, contentType: String?): Type? {
+    val responseDefinitions = selectResponseDefinitionsForStatusCode(statusCode)
+
+    // The status code is not defined in the contract
+    if (responseDefinitions.isEmpty()) {
+      return null
+    }
+
+    if (responseDefinitions.all { it.hasNoContent() }) {
+      return Void.TYPE
+    }
+
+    if (contentType == null) {
+      return if (responseDefinitions.any { it.hasNoContent() }) {
+        Void.TYPE
+      } else {
+        null
+      }
+    }
+
+    val mediaType = contentType.toMediaTypeOrNull()
+
+    for (definition in responseDefinitions) {
+      if (isCompatibleMediaType(mediaType, definition.mediaType)) {
+        return definition.javaType
+      }
+    }
+
+    // No matching definition found. As a special case, if the server sends a JSON content type and there is only a single response definition for this status
+    // code in the contract, try to deserialize the response as a JSON entity. This quirk is added, because there seem to be a lot of contracts in the wild that
+    // erroneously declare some none-JSON content type in the contract but actually send JSON encoded response entities.
+    if (MediaTypes.isJsonMediaType(mediaType) && responseDefinitions.size == 1) {
+      return responseDefinitions.first().javaType
+    }
+
+    return null
+  }
+
+  /**
+   * Returns whether the contract explicitly defines a response for the specified status code, i.e., not just by a default response.
+   */
+  internal fun definesStatusCode(statusCode: Int): Boolean = statusCode in definedStatusCodes
+
+  private fun selectResponseDefinitionsForStatusCode(statusCode: Int): List<ResponseDefinition> {
+    for (index in definedStatusCodes.indices) {
+      if (definedStatusCodes[index] == statusCode) {
+        return responseDefinitionsByStatusCode[index]
+      }
+    }
+
+    return defaultResponseDefinitions
+  }
+
+  private fun isCompatibleMediaType(testedMediaType: MediaType?, mediaTypeToMatchAgainst: MediaType?): Boolean {
+    if (mediaTypeToMatchAgainst == null) {
+      return false
+    }
+    if (mediaTypeToMatchAgainst.type == "*") {
+      return true
+    }
+    if (testedMediaType == null) {
+      return false
+    }
+
+    val sameType = mediaTypeToMatchAgainst.type == testedMediaType.type
+    return sameType && (mediaTypeToMatchAgainst.subtype == "*" || mediaTypeToMatchAgainst.subtype == testedMediaType.subtype)
+  }
+
+  /**
+   * Defines which part of the operation an argument value supplied to [bind] is used for.
+   */
+  internal sealed class Argument
+
+  internal class ParameterArgument(val name: String, val location: ParameterLocation, val isRequired: Boolean) : Argument()
+
+  internal class BodyPartArgument(val type: BodyPart.Type, val name: String) : Argument()
+
+  internal object RequestBodyArgument : Argument()
+
+  /**
+   * Builder for instances of class OperationDescriptor. Parameters, the request body and request body parts must be defined in the order their values are
+   * supplied to [bind].
+   */
+  class Builder(
+    val path: String,
+    val method: String,
+  ) {
+
+    internal val arguments: MutableList<Argument> = ArrayList()
+    internal val responseDefinitions: MutableList<ResponseDefinition> = ArrayList()
+
+    // Default is "no body", indicated by contentType null
+    internal var requestBodyContentType: String? = null
+    internal var isRequestBodyRequired: Boolean = false
+    internal var isMultipartRequestBody: Boolean = false
+
+    /**
+     * Defines a parameter of this operation.
+     */
+    fun parameter(name: String, location: ParameterLocation, required: Boolean): Builder = apply {
+      arguments.add(ParameterArgument(name, location, required))
+    }
+
+    /**
+     * Defines the request body of this operation.
+     */
+    fun requestBody(contentType: String?, required: Boolean): Builder = apply {
+      arguments.add(RequestBodyArgument)
+      requestBodyContentType = contentType
+      isRequestBodyRequired = required
+    }
+
+    /**
+     * Defines a form field of an x-www-form-urlencoded request body, or a part of a multipart request body.
+     */
+    fun requestBodyPart(type: BodyPart.Type, name: String): Builder = apply {
+      arguments.add(BodyPartArgument(type, name))
+    }
+
+    /**
+     * Defines the request body as a multipart, or an application/x-www-form-urlencoded body, consisting of the defined request body parts.
+     */
+    fun multipartRequestBody(contentType: String?): Builder = apply {
+      requestBodyContentType = contentType
+      isMultipartRequestBody = true
+    }
+
+    /**
+     * Adds a response definition without content/body.
+     */
+    fun response(statusCode: StatusCode): Builder = apply {
+      responseDefinitions.add(ResponseDefinition(statusCode, null, Void.TYPE))
+    }
+
+    /**
+     * Adds a response definition with content of the specified content type and Java type.
+     */
+    fun response(statusCode: StatusCode, contentType: String?, javaType: Type): Builder = apply {
+      responseDefinitions.add(ResponseDefinition(statusCode, contentType, javaType))
+    }
+
+    /**
+     * Build an operation descriptor from this builder.
+     */
+    fun build(): OperationDescriptor {
+      return OperationDescriptor(this)
+    }
+  }
+}
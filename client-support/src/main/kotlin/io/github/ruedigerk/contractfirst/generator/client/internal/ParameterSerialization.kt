@@ -8,10 +8,15 @@ import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterSeri
 internal object ParameterSerialization {
 
   /**
-   * Serializes a map of "form" style parameters, like query parameters. See [serializeFormStyleParameter] for how the individual parameters are serialized.
+   * Serializes the "form" style parameters with the specified location, like query parameters. See [serializeFormStyleParameter] for how the individual
+   * parameters are serialized.
    */
-  fun serializeFormStyleParameters(parameters: Map<String, Parameter>, parameterConsumer: (String, String) -> Unit) {
-    parameters.forEach { (name, parameter) -> serializeFormStyleParameter(name, parameter.value, parameterConsumer) }
+  fun serializeFormStyleParameters(parameters: List<Parameter>, location: ParameterLocation, parameterConsumer: (String, String) -> Unit) {
+    for (parameter in parameters) {
+      if (parameter.location == location) {
+        serializeFormStyleParameter(parameter.name, parameter.value, parameterConsumer)
+      }
+    }
   }
 
   /**
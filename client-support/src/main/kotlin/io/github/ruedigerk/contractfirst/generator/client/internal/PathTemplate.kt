@@ -0,0 +1,142 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import okhttp3.HttpUrl
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * A path template of an operation, like "/files/{id}.json", compiled into its segments. A segment consists of literal text and path parameters, which can be
+ * combined, e.g., "{id}.json" or "v{major}.{minor}". Expanding a compiled template only looks up the values of its path parameters, without parsing the
+ * template again.
+ *
+ * Empty segments, e.g., of a leading or trailing slash, are dropped.
+ */
+internal class PathTemplate private constructor(
+  val template: String,
+) {
+
+  private val segments: List<Segment> = parse(template)
+
+  /**
+   * The names of the path parameters in the template, in order of appearance.
+   */
+  val parameterNames: List<String> = segments.flatMap { segment -> segment.parts.filter { it.isParameter }.map { it.text } }
+
+  /**
+   * Appends the segments of this template to the URL, substituting path parameters with their serialized values. Path parameters not defined by the
+   * operation are appended verbatim.
+   */
+  fun appendTo(urlBuilder: HttpUrl.Builder, operation: Operation) {
+    for (segment in segments) {
+      urlBuilder.addPathSegment(segment.expand(operation))
+    }
+  }
+
+  override fun toString(): String = template
+
+  /**
+   * A segment of the template, i.e., the text between two slashes.
+   */
+  private class Segment(val parts: List<Part>) {
+
+    fun expand(operation: Operation): String {
+      if (parts.size == 1) {
+        return parts[0].expand(operation)
+      }
+
+      val builder = StringBuilder()
+      for (part in parts) {
+        builder.append(part.expand(operation))
+      }
+      return builder.toString()
+    }
+  }
+
+  /**
+   * Either literal text or the name of a path parameter.
+   */
+  private class Part(val text: String, val isParameter: Boolean) {
+
+    fun expand(operation: Operation): String {
+      if (!isParameter) {
+        return text
+      }
+
+      val parameter = operation.findParameter(ParameterLocation.PATH, text) ?: return "{$text}"
+      return ParameterSerialization.serializeSimpleStyleParameter(parameter.value)
+    }
+  }
+
+  companion object {
+
+    /**
+     * The maximum number of compiled templates kept in the cache. Generated clients compile each template only once, so the cache is only relevant for
+     * operations defined with [Operation.Builder], which compiles the template for each request.
+     */
+    private const val MAX_CACHED_TEMPLATES = 512
+
+    private val cache = ConcurrentHashMap<String, PathTemplate>()
+
+    /**
+     * Returns the compiled path template. Templates are cached, until the cache is full.
+     */
+    @JvmStatic
+    fun of(template: String): PathTemplate {
+      val cached = cache[template]
+      if (cached != null) {
+        return cached
+      }
+
+      val compiled = PathTemplate(template)
+      if (cache.size < MAX_CACHED_TEMPLATES) {
+        cache.putIfAbsent(template, compiled)
+      }
+      return compiled
+    }
+
+    private fun parse(template: String): List<Segment> {
+      return template.split('/')
+        .filter { it.isNotEmpty() }
+        .map { Segment(parseParts(it)) }
+    }
+
+    /**
+     * Splits a segment into literal text and path parameters. An opening brace without a closing brace, and empty braces, are literal text.
+     */
+    private fun parseParts(segment: String): List<Part> {
+      val parts = ArrayList<Part>()
+      var literalStart = 0
+      var index = 0
+
+      while (index < segment.length) {
+        val parameterStart = segment.indexOf('{', index)
+        if (parameterStart == -1) {
+          break
+        }
+
+        val parameterEnd = segment.indexOf('}', parameterStart + 1)
+        if (parameterEnd == -1) {
+          break
+        }
+
+        if (parameterEnd == parameterStart + 1) {
+          index = parameterEnd + 1
+          continue
+        }
+
+        if (parameterStart > literalStart) {
+          parts.add(Part(segment.substring(literalStart, parameterStart), false))
+        }
+        parts.add(Part(segment.substring(parameterStart + 1, parameterEnd), true))
+
+        literalStart = parameterEnd + 1
+        index = literalStart
+      }
+
+      if (literalStart < segment.length) {
+        parts.add(Part(segment.substring(literalStart), false))
+      }
+
+      return parts
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import okio.Buffer
+import okio.ForwardingSource
+import okio.Source
+import java.io.IOException
+import java.nio.charset.Charset
+
+/**
+ * A Source that records a bounded prefix of the bytes read through it. This allows streaming a response body, while still being able to report the beginning
+ * of the body, in case it turns out to be unprocessable.
+ */
+internal class PrefixRecordingSource(
+  delegate: Source,
+  private val maxPrefixSize: Long,
+) : ForwardingSource(delegate) {
+
+  private val prefix = Buffer()
+
+  @Throws(IOException::class)
+  override fun read(sink: Buffer, byteCount: Long): Long {
+    val bytesRead = super.read(sink, byteCount)
+
+    val bytesToRecord = minOf(bytesRead, maxPrefixSize - prefix.size)
+    if (bytesToRecord > 0) {
+      sink.copyTo(prefix, sink.size - bytesRead, bytesToRecord)
+    }
+
+    return bytesRead
+  }
+
+  /**
+   * Reads further bytes from the delegate until the prefix is complete or the delegate is exhausted, and returns the prefix decoded with the specified
+   * charset. Bytes that have been read and not yet consumed by a buffer on top of this source are part of the recorded prefix, too.
+   */
+  @Throws(IOException::class)
+  fun readPrefix(charset: Charset): String {
+    val discarded = Buffer()
+
+    while (prefix.size < maxPrefixSize && read(discarded, SEGMENT_SIZE) != -1L) {
+      discarded.clear()
+    }
+
+    return prefix.clone().readString(charset)
+  }
+
+  private companion object {
+
+    private const val SEGMENT_SIZE = 8192L
+  }
+}
@@ -0,0 +1,40 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientMetricsListener
+
+/**
+ * Measures the execution of a single request and reports it to an [ApiClientMetricsListener]. Instances are only created for listeners other than
+ * [ApiClientMetricsListener.NO_OP], so that executing requests without a listener does not allocate anything for measuring.
+ *
+ * An instance is used by one thread at a time. For asynchronous requests, the threads involved hand the instance over via OkHttp's dispatcher or a future,
+ * which makes the changes of one thread visible to the next.
+ */
+internal class RequestMetrics(
+  private val listener: ApiClientMetricsListener,
+  private val method: String,
+  private val pathTemplate: String,
+) {
+
+  private val startNanos = System.nanoTime()
+  private var phaseStartNanos = startNanos
+
+  var statusCode: Int = -1
+  var requestBodySize: Long = -1
+  var responseBodySize: Long = -1
+
+  /**
+   * Reports the completion of the specified phase, which started when the previous phase completed.
+   */
+  fun phaseCompleted(phase: ApiClientMetricsListener.Phase) {
+    val now = System.nanoTime()
+    listener.phaseCompleted(method, pathTemplate, phase, now - phaseStartNanos)
+    phaseStartNanos = now
+  }
+
+  /**
+   * Reports the completion of the request.
+   */
+  fun requestCompleted(failure: Throwable?) {
+    listener.requestCompleted(method, pathTemplate, statusCode, requestBodySize, responseBodySize, System.nanoTime() - startNanos, failure)
+  }
+}
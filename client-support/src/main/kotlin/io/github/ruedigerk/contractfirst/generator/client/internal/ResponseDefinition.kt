@@ -1,5 +1,7 @@
 package io.github.ruedigerk.contractfirst.generator.client.internal
 
+import okhttp3.MediaType
+import okhttp3.MediaType.Companion.toMediaTypeOrNull
 import java.lang.reflect.Type
 
 /**
@@ -12,6 +14,11 @@ data class ResponseDefinition(
   val javaType: Type,
 ) {
 
+  /**
+   * The parsed content type, or null if there is no content or the content type cannot be parsed.
+   */
+  internal val mediaType: MediaType? = contentType?.toMediaTypeOrNull()
+
   fun hasNoContent(): Boolean {
     return contentType == null
   }
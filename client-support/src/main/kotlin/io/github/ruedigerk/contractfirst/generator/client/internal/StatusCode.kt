@@ -6,7 +6,7 @@ import java.util.*
  * Represents the status code of a response of an API operation. The status code can either be a real numeric HTTP status code or the "default" status
  * code, a placeholder for not otherwise specified status codes.
  */
-class StatusCode private constructor(private val code: Int?) {
+class StatusCode private constructor(internal val code: Int?) {
 
   override fun equals(other: Any?): Boolean {
     if (this === other) return true
@@ -0,0 +1,121 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import io.github.ruedigerk.contractfirst.generator.client.Attachment
+import okhttp3.FormBody
+import okhttp3.MediaType
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.RequestBody
+import okio.BufferedSink
+import java.io.File
+import java.io.IOException
+import java.io.InputStream
+import java.io.OutputStream
+import java.util.*
+
+/**
+ * An application/x-www-form-urlencoded request body, whose attachments are Base64-encoded while the body is written to the connection, instead of loading
+ * them into memory. The names and values of all fields are encoded by OkHttp's [FormBody], which contains an empty value for each attachment, see
+ * [Builder].
+ *
+ * As the encoded size of an attachment is not known in advance, the body is sent with chunked transfer encoding. If an attachment's content is an
+ * InputStream, the body is one-shot.
+ */
+internal class StreamingFormBody private constructor(
+  private val fields: FormBody,
+  private val attachments: List<Attachment?>,
+) : RequestBody() {
+
+  override fun contentType(): MediaType = CONTENT_TYPE
+
+  override fun contentLength(): Long = -1
+
+  override fun isOneShot(): Boolean = attachments.any { it?.content is InputStream }
+
+  @Throws(IOException::class)
+  override fun writeTo(sink: BufferedSink) {
+    for (index in 0 until fields.size) {
+      if (index > 0) {
+        sink.writeByte('&'.code)
+      }
+
+      sink.writeUtf8(fields.encodedName(index))
+      sink.writeByte('='.code)
+
+      val attachment = attachments[index]
+      if (attachment == null) {
+        sink.writeUtf8(fields.encodedValue(index))
+      } else {
+        writeBase64(attachment, sink)
+      }
+    }
+  }
+
+  @Throws(IOException::class)
+  private fun writeBase64(attachment: Attachment, sink: BufferedSink) {
+    // Closing the encoder writes the final padding, but does not close the sink.
+    Base64.getEncoder().wrap(FormEncodingOutputStream(sink)).use { encoder ->
+      when (val content = attachment.content) {
+        is ByteArray -> encoder.write(content)
+        is InputStream -> content.use { it.copyTo(encoder) }
+        is File -> content.inputStream().use { it.copyTo(encoder) }
+        else -> error("Unsupported attachment content type: ${content.javaClass.name}")
+      }
+    }
+  }
+
+  /**
+   * Percent-encodes the characters of the Base64 alphabet that are reserved in form-encoded values, and writes everything else as-is. Does not close the sink.
+   */
+  private class FormEncodingOutputStream(private val sink: BufferedSink) : OutputStream() {
+
+    @Throws(IOException::class)
+    override fun write(b: Int) {
+      when (b.toChar()) {
+        '+' -> sink.writeUtf8("%2B")
+        '/' -> sink.writeUtf8("%2F")
+        '=' -> sink.writeUtf8("%3D")
+        else -> sink.writeByte(b)
+      }
+    }
+
+    @Throws(IOException::class)
+    override fun write(bytes: ByteArray, offset: Int, length: Int) {
+      for (index in offset until offset + length) {
+        write(bytes[index].toInt())
+      }
+    }
+
+    override fun close() {
+      // The sink is owned by OkHttp.
+    }
+  }
+
+  /**
+   * Builder for form bodies, which creates a plain [FormBody] if no attachments are added.
+   */
+  class Builder {
+
+    private val fields = FormBody.Builder()
+    private val attachments = ArrayList<Attachment?>()
+
+    fun add(name: String, value: String): Builder = apply {
+      fields.add(name, value)
+      attachments.add(null)
+    }
+
+    fun addAttachment(name: String, attachment: Attachment): Builder = apply {
+      fields.add(name, "")
+      attachments.add(attachment)
+    }
+
+    fun build(): RequestBody {
+      val formBody = fields.build()
+      return if (attachments.all { it == null }) formBody else StreamingFormBody(formBody, attachments)
+    }
+  }
+
+  private companion object {
+
+    private val CONTENT_TYPE = "application/x-www-form-urlencoded".toMediaType()
+  }
+}
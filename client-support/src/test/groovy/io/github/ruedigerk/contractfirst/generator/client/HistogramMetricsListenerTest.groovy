@@ -0,0 +1,61 @@
+package io.github.ruedigerk.contractfirst.generator.client
+
+import spock.lang.Specification
+
+import static io.github.ruedigerk.contractfirst.generator.client.ApiClientMetricsListener.Phase.NETWORK
+import static io.github.ruedigerk.contractfirst.generator.client.ApiClientMetricsListener.Phase.VALIDATION
+
+class HistogramMetricsListenerTest extends Specification {
+
+  def listener = new HistogramMetricsListener()
+
+  def "records metrics per operation"() {
+    when:
+    listener.phaseCompleted("GET", "/items/{id}", NETWORK, 1000)
+    listener.requestCompleted("GET", "/items/{id}", 200, 0, 512, 1500, null)
+    listener.requestCompleted("GET", "/items/{id}", -1, 0, 0, 700, new IOException())
+    listener.requestCompleted("POST", "/items", 201, -1, 0, 2000, null)
+
+    then:
+    listener.operations.size() == 2
+
+    and:
+    def get = listener.operation("GET", "/items/{id}")
+    get.requestDuration.count == 2
+    get.requestDuration.sum == 2200
+    get.requestDuration.max == 1500
+    get.phaseDuration(NETWORK).count == 1
+    get.phaseDuration(VALIDATION).count == 0
+    get.statusCodes == [200: 1L]
+    get.failures == 1
+    get.responseBodySize.max == 512
+
+    and:
+    def post = listener.operation("POST", "/items")
+    post.requestBodySize.count == 0
+    post.statusCodes == [201: 1L]
+
+    when:
+    listener.reset()
+
+    then:
+    listener.operations.isEmpty()
+    listener.operation("GET", "/items/{id}") == null
+  }
+
+  def "approximates percentiles by bucket upper bounds"() {
+    given:
+    (1..99).each { listener.requestCompleted("GET", "/", 200, 0, 0, 100, null) }
+    listener.requestCompleted("GET", "/", 200, 0, 0, 5000, null)
+
+    when:
+    def histogram = listener.operation("GET", "/").requestDuration
+
+    then:
+    histogram.count == 100
+    histogram.valueAtPercentile(50.0) == 127
+    histogram.valueAtPercentile(99.0) == 127
+    histogram.valueAtPercentile(100.0) == 5000
+    histogram.mean == 149.0
+  }
+}
@@ -0,0 +1,51 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import okio.Buffer
+import okio.ForwardingSink
+import okio.Okio
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.lang.Timeout
+
+class FileRequestBodyTest extends Specification {
+
+  @TempDir
+  File directory
+
+  def "the content of the file is written"() {
+    given:
+    def file = new File(directory, "upload.bin")
+    def bytes = (0..100_000).collect { (byte) (it * 7) } as byte[]
+    file.bytes = bytes
+    def body = new FileRequestBody(file, null)
+    def buffer = new Buffer()
+
+    when:
+    body.writeTo(buffer)
+
+    then:
+    body.contentLength() == bytes.length
+    buffer.readByteArray() == bytes
+  }
+
+  @Timeout(10)
+  def "a file that shrinks while being written fails the request"() {
+    given:
+    def file = new File(directory, "upload.bin")
+    file.bytes = new byte[100_000]
+    def body = new FileRequestBody(file, null)
+    def truncatingSink = new ForwardingSink(new Buffer()) {
+      @Override
+      void write(Buffer source, long byteCount) {
+        new RandomAccessFile(file, "rw").withCloseable { it.setLength(10) }
+        super.write(source, byteCount)
+      }
+    }
+
+    when:
+    Okio.buffer(truncatingSink).withCloseable { body.writeTo(it) }
+
+    then:
+    thrown(IOException)
+  }
+}
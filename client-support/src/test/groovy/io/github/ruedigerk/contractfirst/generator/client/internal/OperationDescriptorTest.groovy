@@ -0,0 +1,77 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import spock.lang.Specification
+
+class OperationDescriptorTest extends Specification {
+
+  def "bind assigns values to parameters and request body in definition order"() {
+    given:
+    def descriptor = new OperationDescriptor.Builder("/items/{id}", "PUT")
+        .parameter("id", ParameterLocation.PATH, true)
+        .requestBody("application/json", true)
+        .parameter("dryRun", ParameterLocation.QUERY, false)
+        .response(StatusCode.of(204))
+        .build()
+
+    when:
+    def operation = descriptor.bind("42", "entity", null)
+
+    then:
+    operation.descriptor.is(descriptor)
+    operation.path == "/items/{id}"
+    operation.method == "PUT"
+    operation.parameters == [
+        new Parameter("id", ParameterLocation.PATH, true, "42"),
+        new Parameter("dryRun", ParameterLocation.QUERY, false, null),
+    ]
+    operation.requestBody == new OperationRequestBody("application/json", true, "entity")
+    operation.pathParameters.keySet() == ["id"] as Set
+    operation.queryParameters.keySet() == ["dryRun"] as Set
+  }
+
+  def "bind collects values of body parts into a multipart request body"() {
+    given:
+    def descriptor = new OperationDescriptor.Builder("/upload", "POST")
+        .parameter("testSelector", ParameterLocation.QUERY, true)
+        .requestBodyPart(BodyPart.Type.PRIMITIVE, "name")
+        .requestBodyPart(BodyPart.Type.ATTACHMENT, "file")
+        .multipartRequestBody("multipart/form-data")
+        .build()
+
+    when:
+    def operation = descriptor.bind("selector", "value", null)
+
+    then:
+    operation.parameters == [new Parameter("testSelector", ParameterLocation.QUERY, true, "selector")]
+    operation.requestBody == new OperationRequestBody("multipart/form-data", false, new MultipartRequestBody([
+        new BodyPart(BodyPart.Type.PRIMITIVE, "name", "value"),
+        new BodyPart(BodyPart.Type.ATTACHMENT, "file", null),
+    ]))
+  }
+
+  def "bind rejects a wrong number of values"() {
+    given:
+    def descriptor = new OperationDescriptor.Builder("/items", "GET")
+        .parameter("filter", ParameterLocation.QUERY, false)
+        .build()
+
+    when:
+    descriptor.bind()
+
+    then:
+    thrown IllegalArgumentException
+  }
+
+  def "accept header value and path template are computed when the descriptor is built"() {
+    given:
+    def descriptor = new OperationDescriptor.Builder("/items/{id}/", "GET")
+        .response(StatusCode.of(200), "application/pdf", InputStream)
+        .response(StatusCode.of(200), "application/json", Object)
+        .response(StatusCode.DEFAULT, "application/json", Object)
+        .build()
+
+    expect:
+    descriptor.acceptHeaderValue == "application/json, application/pdf; q=0.5"
+    descriptor.pathTemplate.parameterNames == ["id"]
+  }
+}
@@ -0,0 +1,39 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import okhttp3.HttpUrl
+import spock.lang.Specification
+
+class PathTemplateTest extends Specification {
+
+  def "expands path parameters in whole segments and in segments with literal prefixes and suffixes"() {
+    given:
+    def template = PathTemplate.of(path)
+    def operation = new OperationDescriptor.Builder(path, "GET")
+        .parameter("id", ParameterLocation.PATH, true)
+        .parameter("format", ParameterLocation.PATH, true)
+        .build()
+        .bind(42, "json")
+    def urlBuilder = HttpUrl.get("http://localhost/api").newBuilder()
+
+    when:
+    template.appendTo(urlBuilder, operation)
+
+    then:
+    urlBuilder.build().toString() == expectedUrl
+
+    where:
+    path                        | expectedUrl
+    "/files/{id}"               | "http://localhost/api/files/42"
+    "/files/{id}.{format}"      | "http://localhost/api/files/42.json"
+    "/files/v{id}-raw/"         | "http://localhost/api/files/v42-raw"
+    "/files/{id}{format}"       | "http://localhost/api/files/42json"
+    "//files/{unknown}/{id}"    | "http://localhost/api/files/%7Bunknown%7D/42"
+    "/files/{}/{id"             | "http://localhost/api/files/%7B%7D/%7Bid"
+    "/"                         | "http://localhost/api"
+  }
+
+  def "compiled templates are cached"() {
+    expect:
+    PathTemplate.of("/cached/{id}").is(PathTemplate.of("/cached/{id}"))
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.ruedigerk.contractfirst.generator.client.internal
+
+import io.github.ruedigerk.contractfirst.generator.client.Attachment
+import okhttp3.FormBody
+import okio.Buffer
+import spock.lang.Specification
+
+class StreamingFormBodyTest extends Specification {
+
+  def "attachments are encoded like Base64 encoded form values"() {
+    given:
+    def bytes = (0..1000).collect { (byte) (it * 7) } as byte[]
+    def file = File.createTempFile("attachment", ".bin")
+    file.deleteOnExit()
+    file.bytes = bytes
+
+    def streamingBody = new StreamingFormBody.Builder()
+        .add("name", "a&b=c d")
+        .addAttachment("bytes", Attachment.of(bytes, "bytes.bin", "application/octet-stream"))
+        .addAttachment("stream", Attachment.of(new ByteArrayInputStream(bytes), "stream.bin", "application/octet-stream"))
+        .addAttachment("file", Attachment.of(file, "application/octet-stream"))
+        .build()
+
+    def base64 = Base64.encoder.encodeToString(bytes)
+    def expectedBody = new FormBody.Builder()
+        .add("name", "a&b=c d")
+        .add("bytes", base64)
+        .add("stream", base64)
+        .add("file", base64)
+        .build()
+
+    expect:
+    streamingBody.contentType() == expectedBody.contentType()
+    streamingBody.contentLength() == -1
+    streamingBody.isOneShot()
+    writeToString(streamingBody) == writeToString(expectedBody)
+  }
+
+  def "a form body without attachments is a plain FormBody"() {
+    expect:
+    new StreamingFormBody.Builder().add("name", "value").build() instanceof FormBody
+  }
+
+  private static String writeToString(body) {
+    def buffer = new Buffer()
+    body.writeTo(buffer)
+    buffer.readUtf8()
+  }
+}
@@ -11,7 +11,9 @@ import io.github.ruedigerk.contractfirst.generator.configuration.GeneratorType
 import io.github.ruedigerk.contractfirst.generator.configuration.GeneratorVariant
 import io.github.ruedigerk.contractfirst.generator.configuration.ModelVariant
 import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
 import io.github.ruedigerk.contractfirst.generator.logging.Slf4jLogAdapter
+import io.github.ruedigerk.contractfirst.generator.parser.SharedFileCache
 import org.slf4j.LoggerFactory
 import java.io.File
 import kotlin.system.exitProcess
@@ -22,53 +24,80 @@ import kotlin.system.exitProcess
 object CommandLineInterface {
 
   private val logAdapter = Slf4jLogAdapter(LoggerFactory.getLogger("Contractfirst-Generator"))
-  private val log = Log(logAdapter)
 
   @JvmStatic
   fun main(args: Array<String>) = mainBody {
-    val cliConfig = readConfiguration(args)
-
-    val verbosity = toLoggingVerbosity(cliConfig)
-    LogbackConfigurator.applyLoggingVerbosity(verbosity)
-
-    log.info {
-      "Generating code for contract '${cliConfig.inputContractFile}' in output directory '${cliConfig.outputDir}', package '${cliConfig.outputJavaBasePackage}'"
+    val exitCode = run(args) { verbosity ->
+      LogbackConfigurator.applyLoggingVerbosity(verbosity)
+      logAdapter
     }
 
-    val generatorConfig = mapToConfiguration(cliConfig)
-    generate(generatorConfig)
+    if (exitCode != 0) {
+      exitProcess(exitCode)
+    }
   }
 
-  private fun readConfiguration(args: Array<String>): CliConfiguration {
-    return try {
+  /**
+   * Runs the generator with the supplied command line arguments and returns the exit code. The log adapter is created for the verbosity selected by the
+   * arguments. Relative paths in the arguments are resolved against the supplied working directory, if any. If a file cache is supplied, contract and schema
+   * files are read through it, see [GeneratorDaemon]. The option `--watch` is rejected, if watching is not supported, as it never returns.
+   *
+   * @throws com.xenomachina.argparser.SystemExitException when the arguments are incomplete or help is requested.
+   */
+  internal fun run(
+    args: Array<String>,
+    workingDirectory: File? = null,
+    sharedFileCache: SharedFileCache? = null,
+    watchSupported: Boolean = true,
+    createLogAdapter: (LoggingVerbosity) -> LogAdapter,
+  ): Int {
+    val cliConfig = try {
       ArgParser(args).parseInto(::CliConfiguration)
     } catch (e: InvalidConfigurationException) {
-      exit(1) { "Parameters invalid: ${e.message}" }
+      Log(createLogAdapter(LoggingVerbosity.NORMAL)).error { "Parameters invalid: ${e.message}" }
+      return 1
     }
-  }
 
-  private fun generate(config: Configuration) {
-    try {
-      ContractfirstGenerator(logAdapter).generate(config)
+    val log = Log(createLogAdapter(toLoggingVerbosity(cliConfig)))
+
+    if (cliConfig.watch && !watchSupported) {
+      return error(log, 1) { "Parameters invalid: option --watch is not supported by the generator daemon" }
+    }
+
+    log.info {
+      "Generating code for contract '${cliConfig.inputContractFile}' in output directory '${cliConfig.outputDir}', package '${cliConfig.outputJavaBasePackage}'"
+    }
+
+    val resolvePath = { path: String -> workingDirectory?.resolve(path)?.path ?: path }
+    val generatorConfig = mapToConfiguration(cliConfig, resolvePath)
+    val generator = ContractfirstGenerator(log.underlyingLogger, cliConfig.parseCacheDirectory?.let { File(resolvePath(it)) })
+
+    return try {
+      when {
+        cliConfig.watch -> generator.watch(listOf(generatorConfig), 1)
+        sharedFileCache != null -> generator.generate(generatorConfig, sharedFileCache)
+        else -> generator.generate(generatorConfig)
+      }
+      0
     } catch (e: ParserException) {
-      exit(2) { "Could not parse contract: ${e.message}" }
+      error(log, 2) { "Could not parse contract: ${e.message}" }
     } catch (e: NotSupportedException) {
-      exit(3) { "Contract contains unsupported usage: ${e.message}" }
+      error(log, 3) { "Contract contains unsupported usage: ${e.message}" }
     } catch (e: InvalidConfigurationException) {
-      exit(4) { "Invalid configuration ${e.message}" }
+      error(log, 4) { "Invalid configuration ${e.message}" }
     }
   }
 
-  private fun exit(errorCode: Int, msg: () -> String): Nothing {
+  private fun error(log: Log, errorCode: Int, msg: () -> String): Int {
     log.error(msg)
-    exitProcess(errorCode)
+    return errorCode
   }
 
-  private fun mapToConfiguration(cliConfiguration: CliConfiguration): Configuration {
-    val effectiveInputContractFile = determineInputContractFile(cliConfiguration.inputContractFile)
+  private fun mapToConfiguration(cliConfiguration: CliConfiguration, resolvePath: (String) -> String): Configuration {
+    val effectiveInputContractFile = determineInputContractFile(resolvePath(cliConfiguration.inputContractFile))
     val effectiveOutputJavaPackageSchemaDirectoryPrefix = determineOutputJavaPackageSchemaDirectoryPrefix(
       effectiveInputContractFile,
-      cliConfiguration.outputJavaPackageSchemaDirectoryPrefix,
+      cliConfiguration.outputJavaPackageSchemaDirectoryPrefix?.let(resolvePath),
     )
 
     val generator = determineGenerator(cliConfiguration.generator)
@@ -80,7 +109,7 @@ object CommandLineInterface {
       generator,
       generatorVariant,
       modelVariant,
-      cliConfiguration.outputDir,
+      resolvePath(cliConfiguration.outputDir),
       cliConfiguration.outputContract,
       cliConfiguration.outputContractFile,
       cliConfiguration.outputJavaBasePackage,
@@ -88,6 +117,9 @@ object CommandLineInterface {
       effectiveOutputJavaPackageSchemaDirectoryPrefix,
       cliConfiguration.outputJavaModelNamePrefix,
       cliConfiguration.outputJavaModelUseJsr305NullabilityAnnotations,
+      cliConfiguration.outputJavaModelReflectionFreeSerialization,
+      cliConfiguration.outputJavaModelImmutable,
+      cliConfiguration.generatorThreads,
     )
   }
 
@@ -187,6 +219,32 @@ private class CliConfiguration(parser: ArgParser) {
     help = "whether to generate JSR-305 nullability annotations for the getter and setter methods of the model classes",
   )
 
+  val outputJavaModelReflectionFreeSerialization: Boolean by parser.flagging(
+    "--output-java-model-reflection-free-serialization",
+    help = "whether to generate code for serializing and deserializing the model without reflection, i.e., Gson TypeAdapters or Jackson serializers",
+  )
+
+  val outputJavaModelImmutable: Boolean by parser.flagging(
+    "--output-java-model-immutable",
+    help = "whether to generate immutable model classes with builders; requires --output-java-model-reflection-free-serialization",
+  )
+
+  val generatorThreads: Int by parser.storing(
+    "--generator-threads",
+    help = "the number of threads used for parsing schemas and for rendering and writing the generated source files; defaults to 1",
+  ) { toIntOrNull() ?: throw InvalidConfigurationException("Option --generator-threads has invalid value: '$this', it must be a number.") }.default(1)
+
+  val parseCacheDirectory: String? by parser.storing(
+    "--parse-cache-directory",
+    help = "the directory of a persistent cache of parsed contract and schema files, so that unchanged files are not parsed again; files of at least " +
+      "1 MiB are not cached, as they are read lazily; by default, there is no cache",
+  ).default(null)
+
+  val watch: Boolean by parser.flagging(
+    "--watch",
+    help = "whether to keep running after generating the code, and to generate it again whenever one of the contract and schema files read changes",
+  )
+
   val verbose: Boolean by parser.flagging("--verbose", "-v", help = "verbose output")
 
   val quiet: Boolean by parser.flagging("--quiet", "-q", help = "quiet output")
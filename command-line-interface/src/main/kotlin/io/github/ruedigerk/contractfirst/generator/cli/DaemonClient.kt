@@ -0,0 +1,64 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.net.ConnectException
+import java.net.InetAddress
+import java.net.Socket
+import kotlin.system.exitProcess
+
+/**
+ * A thin client for the [GeneratorDaemon]. It takes the same arguments as [CommandLineInterface] and passes them to the daemon, together with its working
+ * directory and the token of the daemon, see [DaemonToken], prints the output of the generator, and exits with the exit code of the generator. If no daemon
+ * is running, the generator is run in the process of the client instead. The generator is also run in the process of the client for the option `--watch`,
+ * which keeps running until the process is terminated.
+ *
+ * The port of the daemon can be configured with the system property `contractfirst.generator.daemon.port`.
+ */
+object DaemonClient {
+
+  private const val PORT_PROPERTY = "contractfirst.generator.daemon.port"
+
+  @JvmStatic
+  fun main(args: Array<String>) {
+    val port = Integer.getInteger(PORT_PROPERTY, DaemonProtocol.DEFAULT_PORT)
+
+    // Watching never finishes, so it would occupy a thread of the daemon forever.
+    if ("--watch" in args) {
+      CommandLineInterface.main(args)
+      return
+    }
+
+    val token = DaemonToken.read(DaemonToken.file(port))
+    val socket = token?.let { connect(port) }
+
+    if (token == null || socket == null) {
+      System.err.println("No Contractfirst-Generator daemon running on port $port, running the generator without daemon.")
+      CommandLineInterface.main(args)
+      return
+    }
+
+    val exitCode = socket.use {
+      val output = DataOutputStream(BufferedOutputStream(socket.getOutputStream()))
+      DaemonProtocol.writeRequest(output, token, DaemonProtocol.Request(File("").absolutePath, args))
+
+      val input = DataInputStream(BufferedInputStream(socket.getInputStream()))
+      DaemonProtocol.readAnswer(input) { print(it) }
+    }
+
+    System.out.flush()
+
+    if (exitCode != 0) {
+      exitProcess(exitCode)
+    }
+  }
+
+  private fun connect(port: Int): Socket? = try {
+    Socket(InetAddress.getLoopbackAddress(), port)
+  } catch (e: ConnectException) {
+    null
+  }
+}
@@ -0,0 +1,56 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import java.io.PrintWriter
+import java.io.StringWriter
+
+/**
+ * Logging adapter of [GeneratorDaemon], passing the log messages of a request to the supplied function, e.g., for sending them to the client. Messages are
+ * formatted like [LoggingLayout] does for the command line interface.
+ */
+internal class DaemonLogAdapter(
+  private val verbosity: LoggingVerbosity,
+  private val output: (String) -> Unit,
+) : LogAdapter {
+
+  override fun isDebugEnabled(): Boolean = verbosity == LoggingVerbosity.VERBOSE
+
+  override fun debug(msg: String) = write(isDebugEnabled(), "", msg, null)
+
+  override fun debug(msg: String, error: Throwable) = write(isDebugEnabled(), "", msg, error)
+
+  override fun isInfoEnabled(): Boolean = verbosity != LoggingVerbosity.QUIET
+
+  override fun info(msg: String) = write(isInfoEnabled(), "", msg, null)
+
+  override fun info(msg: String, error: Throwable) = write(isInfoEnabled(), "", msg, error)
+
+  override fun isWarnEnabled(): Boolean = true
+
+  override fun warn(msg: String) = write(true, "Warning: ", msg, null)
+
+  override fun warn(msg: String, error: Throwable) = write(true, "Warning: ", msg, error)
+
+  override fun isErrorEnabled(): Boolean = true
+
+  override fun error(msg: String) = write(true, "Error: ", msg, null)
+
+  override fun error(msg: String, error: Throwable) = write(true, "Error: ", msg, error)
+
+  private fun write(enabled: Boolean, prefix: String, msg: String, error: Throwable?) {
+    if (!enabled) {
+      return
+    }
+
+    val builder = StringBuilder()
+    builder.append(prefix).append(msg).append(System.lineSeparator())
+
+    if (error != null) {
+      val stackTrace = StringWriter()
+      error.printStackTrace(PrintWriter(stackTrace))
+      builder.append(stackTrace)
+    }
+
+    output(builder.toString())
+  }
+}
@@ -0,0 +1,117 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.IOException
+
+/**
+ * The protocol between [DaemonClient] and [GeneratorDaemon]. The client sends the token of the daemon, see [DaemonToken], followed by a single request,
+ * consisting of its working directory and the command line arguments. The daemon answers with the output of the generator in any number of output frames,
+ * followed by an exit frame containing the exit code, and closes the connection. Strings are sent as UTF-8 bytes prefixed by their length.
+ *
+ * The daemon reads the request only after checking the token, which is limited to a few bytes. The number of arguments and the total size of the request are
+ * limited as well, so that a malformed request cannot exhaust the memory of the daemon. Violations are reported as IOExceptions.
+ */
+internal object DaemonProtocol {
+
+  /**
+   * The port the daemon listens on, unless another port is configured.
+   */
+  const val DEFAULT_PORT = 7431
+
+  private const val OUTPUT_FRAME = 'O'.code
+  private const val EXIT_FRAME = 'X'.code
+
+  private const val MAX_TOKEN_BYTES = 256
+  private const val MAX_ARGUMENTS = 1000
+  private const val MAX_REQUEST_BYTES = 16 * 1024 * 1024
+  private const val MAX_OUTPUT_BYTES = 16 * 1024 * 1024
+
+  class Request(
+    val workingDirectory: String,
+    val arguments: Array<String>,
+  )
+
+  fun writeRequest(output: DataOutputStream, token: String, request: Request) {
+    writeString(output, token)
+    writeString(output, request.workingDirectory)
+    output.writeInt(request.arguments.size)
+    request.arguments.forEach { writeString(output, it) }
+    output.flush()
+  }
+
+  /**
+   * Reads the token preceding the request.
+   */
+  @Throws(IOException::class)
+  fun readToken(input: DataInputStream): String = readString(input, MAX_TOKEN_BYTES, "token length")
+
+  /**
+   * Reads the request following the token. The strings of the request must not exceed [MAX_REQUEST_BYTES] in total.
+   */
+  @Throws(IOException::class)
+  fun readRequest(input: DataInputStream): Request {
+    var remainingBytes = MAX_REQUEST_BYTES
+    val readLimitedString = {
+      val bytes = readBytes(input, remainingBytes, "string length")
+      remainingBytes -= bytes.size
+      String(bytes, Charsets.UTF_8)
+    }
+
+    val workingDirectory = readLimitedString()
+    val arguments = Array(readLength(input, MAX_ARGUMENTS, "number of arguments")) { readLimitedString() }
+
+    return Request(workingDirectory, arguments)
+  }
+
+  fun writeOutput(output: DataOutputStream, text: String) {
+    output.writeByte(OUTPUT_FRAME)
+    writeString(output, text)
+    output.flush()
+  }
+
+  fun writeExitCode(output: DataOutputStream, exitCode: Int) {
+    output.writeByte(EXIT_FRAME)
+    output.writeInt(exitCode)
+    output.flush()
+  }
+
+  /**
+   * Reads the answer of the daemon, passing each output to the supplied function, and returns the exit code.
+   */
+  @Throws(IOException::class)
+  fun readAnswer(input: DataInputStream, onOutput: (String) -> Unit): Int {
+    while (true) {
+      when (val frame = input.readUnsignedByte()) {
+        OUTPUT_FRAME -> onOutput(readString(input, MAX_OUTPUT_BYTES, "output length"))
+        EXIT_FRAME -> return input.readInt()
+        else -> throw IOException("Invalid frame from daemon: $frame")
+      }
+    }
+  }
+
+  private fun writeString(output: DataOutputStream, string: String) {
+    val bytes = string.toByteArray(Charsets.UTF_8)
+    output.writeInt(bytes.size)
+    output.write(bytes)
+  }
+
+  private fun readString(input: DataInputStream, maximumBytes: Int, description: String): String =
+    String(readBytes(input, maximumBytes, description), Charsets.UTF_8)
+
+  private fun readBytes(input: DataInputStream, maximumBytes: Int, description: String): ByteArray {
+    val bytes = ByteArray(readLength(input, maximumBytes, description))
+    input.readFully(bytes)
+    return bytes
+  }
+
+  private fun readLength(input: DataInputStream, maximum: Int, description: String): Int {
+    val length = input.readInt()
+
+    if (length !in 0..maximum) {
+      throw IOException("Invalid $description: $length")
+    }
+
+    return length
+  }
+}
@@ -0,0 +1,104 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import com.xenomachina.argparser.SystemExitException
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.parser.SharedFileCache
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.io.StringWriter
+import java.net.ServerSocket
+import java.net.Socket
+import java.net.SocketException
+import java.util.concurrent.Executors
+
+/**
+ * Accepts the requests of [DaemonClient]s on a server socket and processes them concurrently, see [GeneratorDaemon]. Only requests preceded by the token of
+ * the daemon are read and processed. Contract and schema files are kept in memory between requests, and are read again only when they changed.
+ */
+internal class DaemonServer(
+  private val log: Log,
+  private val token: String,
+) {
+
+  // Each request takes a new cache without the changed files, so that concurrent requests keep using consistent files.
+  @Volatile
+  private var sharedFileCache = SharedFileCache()
+
+  /**
+   * Processes requests until the server socket is closed.
+   */
+  fun serve(serverSocket: ServerSocket, threads: Int) {
+    val executor = Executors.newFixedThreadPool(threads)
+
+    try {
+      while (true) {
+        val socket = try {
+          serverSocket.accept()
+        } catch (e: SocketException) {
+          if (serverSocket.isClosed) return
+          throw e
+        }
+
+        executor.execute { handle(socket) }
+      }
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  private fun handle(socket: Socket) {
+    try {
+      socket.use {
+        // Clients send their request right away, so connections must not occupy a thread by sending nothing.
+        socket.soTimeout = REQUEST_TIMEOUT_MILLIS
+
+        val input = DataInputStream(BufferedInputStream(socket.getInputStream()))
+        val output = DataOutputStream(BufferedOutputStream(socket.getOutputStream()))
+
+        // The generator logs from multiple threads, when generating concurrently.
+        val send = { text: String -> synchronized(output) { DaemonProtocol.writeOutput(output, text) } }
+
+        // The request is read only after checking the token, so that other processes cannot make the daemon read large requests.
+        val exitCode = if (DaemonToken.matches(token, DaemonProtocol.readToken(input))) process(DaemonProtocol.readRequest(input), send) else reject(send)
+
+        synchronized(output) { DaemonProtocol.writeExitCode(output, exitCode) }
+      }
+    } catch (e: IOException) {
+      log.warn { "Connection to client failed: ${e.message}" }
+    }
+  }
+
+  private fun reject(send: (String) -> Unit): Int {
+    log.warn { "Rejected a request with an invalid token" }
+    send("Request rejected by the Contractfirst-Generator daemon: invalid token\n")
+    return INVALID_TOKEN_EXIT_CODE
+  }
+
+  private fun process(request: DaemonProtocol.Request, send: (String) -> Unit): Int = try {
+    val fileCache = sharedFileCache.withoutChangedFiles()
+    sharedFileCache = fileCache
+
+    CommandLineInterface.run(request.arguments, File(request.workingDirectory), fileCache, watchSupported = false) { verbosity ->
+      DaemonLogAdapter(verbosity, send)
+    }
+  } catch (e: SystemExitException) {
+    val message = StringWriter()
+    e.printUserMessage(message, null, 0)
+    send(message.toString())
+    e.returnCode
+  } catch (e: Exception) {
+    DaemonLogAdapter(LoggingVerbosity.NORMAL, send).error("Generator failed with an unexpected exception", e)
+    UNEXPECTED_ERROR_EXIT_CODE
+  }
+
+  private companion object {
+
+    const val REQUEST_TIMEOUT_MILLIS = 10_000
+    const val INVALID_TOKEN_EXIT_CODE = 1
+    const val UNEXPECTED_ERROR_EXIT_CODE = 1
+  }
+}
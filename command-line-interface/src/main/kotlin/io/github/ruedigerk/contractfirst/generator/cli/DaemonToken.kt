@@ -0,0 +1,72 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import java.io.File
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.nio.file.attribute.PosixFilePermissions
+import java.security.MessageDigest
+import java.security.SecureRandom
+
+/**
+ * The secret a [DaemonClient] has to send with every request to the [GeneratorDaemon]. The daemon creates a random token when it starts, and writes it to a
+ * file in the home directory of its user, which only that user can read. So only processes of the same user can send requests to the daemon, even though any
+ * local process can connect to its port.
+ */
+internal object DaemonToken {
+
+  private const val TOKEN_BYTES = 32
+
+  /**
+   * Returns the file the token of the daemon listening on the port is written to.
+   */
+  fun file(port: Int): File = File(System.getProperty("user.home")).resolve(".contractfirst-generator").resolve("daemon-$port.token")
+
+  fun create(): String {
+    val bytes = ByteArray(TOKEN_BYTES)
+    SecureRandom().nextBytes(bytes)
+    return bytes.joinToString("") { "%02x".format(it) }
+  }
+
+  /**
+   * Writes the token to the file, which is readable and writable only by the owner. The token is written to a temporary file first, which is then moved to
+   * the file, so that the token is never readable by others.
+   */
+  @Throws(IOException::class)
+  fun write(file: File, token: String) {
+    val directory = file.parentFile.toPath()
+    val isPosix = directory.fileSystem.supportedFileAttributeViews().contains("posix")
+
+    if (isPosix) {
+      Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")))
+    } else {
+      Files.createDirectories(directory)
+    }
+
+    val temporaryFile = if (isPosix) {
+      Files.createTempFile(directory, file.name, ".tmp", PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+    } else {
+      Files.createTempFile(directory, file.name, ".tmp").also {
+        it.toFile().setReadable(false, false)
+        it.toFile().setReadable(true, true)
+      }
+    }
+
+    Files.write(temporaryFile, token.toByteArray(Charsets.UTF_8))
+    Files.move(temporaryFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+  }
+
+  /**
+   * Returns the token in the file, or null if it cannot be read.
+   */
+  fun read(file: File): String? = try {
+    file.readText(Charsets.UTF_8).trim().ifEmpty { null }
+  } catch (e: IOException) {
+    null
+  }
+
+  /**
+   * Compares the tokens in constant time, so that the token cannot be guessed by measuring the time of failed requests.
+   */
+  fun matches(expected: String, actual: String): Boolean = MessageDigest.isEqual(expected.toByteArray(Charsets.UTF_8), actual.toByteArray(Charsets.UTF_8))
+}
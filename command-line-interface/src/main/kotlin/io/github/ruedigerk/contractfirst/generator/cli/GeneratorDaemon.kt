@@ -0,0 +1,55 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import com.xenomachina.argparser.ArgParser
+import com.xenomachina.argparser.InvalidArgumentException
+import com.xenomachina.argparser.default
+import com.xenomachina.argparser.mainBody
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.Slf4jLogAdapter
+import org.slf4j.LoggerFactory
+import java.net.InetAddress
+import java.net.ServerSocket
+
+/**
+ * A long-running process that accepts requests for generating code from [DaemonClient]s, so that builds invoking the generator many times do not have to
+ * start and warm up a JVM for every invocation. Requests take the same arguments as [CommandLineInterface], except for `--watch`, and are processed
+ * concurrently. Contract and schema files are kept in memory between requests, and are read again only when they changed.
+ *
+ * The daemon only accepts connections on the loopback interface, and only processes requests containing its token, which it writes to a file readable only
+ * by its user, see [DaemonToken]. It runs until its process is terminated.
+ */
+object GeneratorDaemon {
+
+  private val log = Log(Slf4jLogAdapter(LoggerFactory.getLogger("Contractfirst-Generator")))
+
+  @JvmStatic
+  fun main(args: Array<String>) = mainBody {
+    val config = ArgParser(args).parseInto(::DaemonConfiguration)
+    val token = DaemonToken.create()
+
+    ServerSocket(config.port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress()).use { serverSocket ->
+      val tokenFile = DaemonToken.file(serverSocket.localPort)
+      DaemonToken.write(tokenFile, token)
+      tokenFile.deleteOnExit()
+
+      log.info { "Contractfirst-Generator daemon listening on port ${serverSocket.localPort}" }
+      DaemonServer(log, token).serve(serverSocket, config.threads)
+    }
+  }
+
+  private const val CONNECTION_BACKLOG = 50
+}
+
+private class DaemonConfiguration(parser: ArgParser) {
+
+  val port: Int by parser.storing(
+    "--port",
+    help = "the local port to listen on for requests; defaults to ${DaemonProtocol.DEFAULT_PORT}",
+  ) { toIntOrNull() ?: throw InvalidArgumentException("Option --port has invalid value: '$this', it must be a number.") }.default(DaemonProtocol.DEFAULT_PORT)
+
+  val threads: Int by parser.storing(
+    "--threads",
+    help = "the number of requests that are processed concurrently; defaults to the number of available processors",
+  ) { toIntOrNull() ?: throw InvalidArgumentException("Option --threads has invalid value: '$this', it must be a number.") }
+    .default(Runtime.getRuntime().availableProcessors())
+}
@@ -0,0 +1,120 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import kotlin.jvm.functions.Function1
+import spock.lang.Specification
+
+class DaemonProtocolTest extends Specification {
+
+  def "A request is read as it was written"() {
+    given:
+    def bytes = new ByteArrayOutputStream()
+    def request = new DaemonProtocol.Request("/working/directory", ["--generator", "server", "ä€"] as String[])
+
+    when:
+    DaemonProtocol.INSTANCE.writeRequest(new DataOutputStream(bytes), "token", request)
+    def input = input(bytes.toByteArray())
+    def token = DaemonProtocol.INSTANCE.readToken(input)
+    def result = DaemonProtocol.INSTANCE.readRequest(input)
+
+    then:
+    token == "token"
+    result.workingDirectory == "/working/directory"
+    result.arguments.toList() == ["--generator", "server", "ä€"]
+  }
+
+  def "An answer is read as the outputs and the exit code that were written"() {
+    given:
+    def bytes = new ByteArrayOutputStream()
+    def output = new DataOutputStream(bytes)
+    def outputs = []
+
+    when:
+    DaemonProtocol.INSTANCE.writeOutput(output, "first\n")
+    DaemonProtocol.INSTANCE.writeOutput(output, "second\n")
+    DaemonProtocol.INSTANCE.writeExitCode(output, 3)
+    def exitCode = DaemonProtocol.INSTANCE.readAnswer(input(bytes.toByteArray()), { outputs << it } as Function1)
+
+    then:
+    exitCode == 3
+    outputs == ["first\n", "second\n"]
+  }
+
+  def "Tokens with an invalid length #tokenLength are rejected"() {
+    given:
+    def bytes = new ByteArrayOutputStream()
+    new DataOutputStream(bytes).writeInt(tokenLength)
+
+    when:
+    DaemonProtocol.INSTANCE.readToken(input(bytes.toByteArray()))
+
+    then:
+    def e = thrown(IOException)
+    e.message == "Invalid token length: $tokenLength"
+
+    where:
+    tokenLength << [-1, 257, Integer.MAX_VALUE]
+  }
+
+  def "Requests with an invalid #description are rejected"() {
+    given:
+    def bytes = new ByteArrayOutputStream()
+    def output = new DataOutputStream(bytes)
+    writeString(output, "/working/directory")
+    output.writeInt(argumentCount)
+    if (argumentCount == 1) {
+      output.writeInt(stringLength)
+    }
+
+    when:
+    DaemonProtocol.INSTANCE.readRequest(input(bytes.toByteArray()))
+
+    then:
+    def e = thrown(IOException)
+    e.message == "Invalid $description: $invalidValue"
+
+    where:
+    description           | argumentCount     | stringLength      || invalidValue
+    "number of arguments" | -1                | 0                 || -1
+    "number of arguments" | Integer.MAX_VALUE | 0                 || Integer.MAX_VALUE
+    "string length"       | 1                 | -1                || -1
+    "string length"       | 1                 | Integer.MAX_VALUE || Integer.MAX_VALUE
+  }
+
+  def "Requests whose strings exceed the maximum size in total are rejected"() {
+    given:
+    def argumentBytes = 9 * 1024 * 1024
+    def bytes = new ByteArrayOutputStream()
+    def output = new DataOutputStream(bytes)
+    writeString(output, "/working/directory")
+    output.writeInt(2)
+    output.writeInt(argumentBytes)
+    output.write(new byte[argumentBytes])
+    output.writeInt(argumentBytes)
+
+    when:
+    DaemonProtocol.INSTANCE.readRequest(input(bytes.toByteArray()))
+
+    then:
+    def e = thrown(IOException)
+    e.message == "Invalid string length: $argumentBytes"
+  }
+
+  def "Answers with an invalid frame are rejected"() {
+    when:
+    DaemonProtocol.INSTANCE.readAnswer(input([0] as byte[]), { } as Function1)
+
+    then:
+    def e = thrown(IOException)
+    e.message == "Invalid frame from daemon: 0"
+  }
+
+  private static DataInputStream input(byte[] bytes) {
+    new DataInputStream(new ByteArrayInputStream(bytes))
+  }
+
+  private static void writeString(DataOutputStream output, String string) {
+    def bytes = string.getBytes("UTF-8")
+    output.writeInt(bytes.length)
+    output.write(bytes)
+  }
+}
@@ -0,0 +1,134 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import kotlin.jvm.functions.Function1
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.lang.Timeout
+
+@Timeout(60)
+class DaemonServerTest extends Specification {
+
+  private static final String TOKEN = "secret"
+
+  @TempDir
+  File workingDirectory
+
+  ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.loopbackAddress)
+  Thread serverThread
+
+  def setup() {
+    def server = new DaemonServer(new Log(Mock(LogAdapter)), TOKEN)
+    serverThread = Thread.start { server.serve(serverSocket, 1) }
+
+    new File(workingDirectory, "contract.yaml").text = """\
+      openapi: 3.0.3
+      info:
+        title: Test
+        version: "1"
+      paths:
+        /items:
+          get:
+            operationId: getItems
+            responses:
+              "200":
+                description: The items
+                content:
+                  application/json:
+                    schema:
+                      type: string
+      """.stripIndent()
+  }
+
+  def cleanup() {
+    serverSocket.close()
+    serverThread.join(10_000)
+  }
+
+  def "Generates the code in the working directory of the client"() {
+    when:
+    def answer = send(TOKEN, arguments())
+
+    then:
+    answer.exitCode == 0
+    answer.output.contains("Generated files: ")
+    new File(workingDirectory, "out/com/example/resources/DefaultApi.java").exists()
+  }
+
+  def "Rejects requests with an invalid token"() {
+    when:
+    def answer = send("invalid", arguments())
+
+    then:
+    answer.exitCode == 1
+    answer.output == "Request rejected by the Contractfirst-Generator daemon: invalid token\n"
+    !new File(workingDirectory, "out").exists()
+  }
+
+  def "Rejects requests with an invalid token without reading the rest of the request"() {
+    given: "a client announcing a request of the maximum size, but not sending it"
+    def socket = new Socket(InetAddress.loopbackAddress, serverSocket.localPort)
+    def output = new DataOutputStream(new BufferedOutputStream(socket.outputStream))
+    def token = "invalid".getBytes("UTF-8")
+    output.writeInt(token.length)
+    output.write(token)
+    output.writeInt(16 * 1024 * 1024)
+    output.flush()
+
+    when:
+    def answer = readAnswer(socket)
+
+    then:
+    answer.exitCode == 1
+    answer.output == "Request rejected by the Contractfirst-Generator daemon: invalid token\n"
+
+    and: "the daemon still processes other requests"
+    send(TOKEN, arguments()).exitCode == 0
+
+    cleanup:
+    socket?.close()
+  }
+
+  def "Rejects requests to watch the files"() {
+    when:
+    def answer = send(TOKEN, arguments() + "--watch")
+
+    then:
+    answer.exitCode == 1
+    answer.output.contains("option --watch is not supported by the generator daemon")
+    !new File(workingDirectory, "out").exists()
+  }
+
+  private Map send(String token, List<String> arguments) {
+    def socket = new Socket(InetAddress.loopbackAddress, serverSocket.localPort)
+
+    try {
+      def request = new DaemonProtocol.Request(workingDirectory.absolutePath, arguments as String[])
+      DaemonProtocol.INSTANCE.writeRequest(new DataOutputStream(new BufferedOutputStream(socket.outputStream)), token, request)
+
+      return readAnswer(socket)
+    } finally {
+      socket.close()
+    }
+  }
+
+  private static Map readAnswer(Socket socket) {
+    def output = new StringBuilder()
+    def exitCode = DaemonProtocol.INSTANCE.readAnswer(new DataInputStream(new BufferedInputStream(socket.inputStream)), { output << it } as Function1)
+
+    [exitCode: exitCode, output: output.toString()]
+  }
+
+  private static List<String> arguments() {
+    [
+        "--input-contract-file", "contract.yaml",
+        "--output-dir", "out",
+        "--output-java-base-package", "com.example",
+        "--output-java-package-schema-directory-prefix", "",
+        "--generator", "server",
+        "--generator-variant", "jax-rs",
+        "--model-variant", "gson",
+    ]
+  }
+}
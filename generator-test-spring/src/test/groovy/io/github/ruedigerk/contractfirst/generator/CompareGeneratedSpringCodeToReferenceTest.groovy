@@ -14,6 +14,7 @@ class CompareGeneratedSpringCodeToReferenceTest extends Specification {
   static def parametersHarness = new GeneratorHarness("equally-named-parameters.yaml", "parameters_server_spring", SERVER_SPRING_WEB)
   static def validationsHarness = new GeneratorHarness("validations.yaml", "validations_server_spring", SERVER_SPRING_WEB)
   static def jsr305Harness = new GeneratorHarness("testsuite.yaml", "jsr305_server_spring", SERVER_SPRING_WEB, "", true)
+  static def reflectionFreeHarness = new GeneratorHarness("testsuite.yaml", "reflection_free_server_spring", SERVER_SPRING_WEB, "", false, true)
 
   def "Testsuite (Spring server): #fileName"() {
     when:
@@ -94,4 +95,20 @@ class CompareGeneratedSpringCodeToReferenceTest extends Specification {
     referenceFile << jsr305Harness.referenceFiles
     generatedFile << jsr305Harness.generatedFiles
   }
+
+  def "Testsuite (Spring server) with reflection-free serialization: #fileName"() {
+    when:
+    reflectionFreeHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << reflectionFreeHarness.relativePathNames
+    referenceFile << reflectionFreeHarness.referenceFiles
+    generatedFile << reflectionFreeHarness.generatedFiles
+  }
 }
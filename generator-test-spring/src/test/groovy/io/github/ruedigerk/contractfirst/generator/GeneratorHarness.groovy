@@ -32,6 +32,9 @@ class GeneratorHarness {
   private final String inputContractFile
   private final String outputJavaModelNamePrefix
   private final boolean outputJavaModelUseJsr305NullabilityAnnotations
+  private final boolean outputJavaModelReflectionFreeSerialization
+  private final boolean outputJavaModelImmutable
+  private final int generatorThreads
   private final GeneratorVariant generatorVariant
 
   private generatorRan = false
@@ -41,13 +44,19 @@ class GeneratorHarness {
       String outputJavaBasePackage,
       GeneratorVariant generatorVariant,
       String outputJavaModelNamePrefix = "",
-      boolean outputJavaModelUseJsr305NullabilityAnnotations = false
+      boolean outputJavaModelUseJsr305NullabilityAnnotations = false,
+      boolean outputJavaModelReflectionFreeSerialization = false,
+      boolean outputJavaModelImmutable = false,
+      int generatorThreads = 1
   ) {
     this.inputContractFile = "src/test/contract/" + inputContractFile
     this.outputJavaBasePackage = outputJavaBasePackage
     this.generatorVariant = generatorVariant
     this.outputJavaModelNamePrefix = outputJavaModelNamePrefix
     this.outputJavaModelUseJsr305NullabilityAnnotations = outputJavaModelUseJsr305NullabilityAnnotations
+    this.outputJavaModelReflectionFreeSerialization = outputJavaModelReflectionFreeSerialization
+    this.outputJavaModelImmutable = outputJavaModelImmutable
+    this.generatorThreads = generatorThreads
 
     referenceDir = "src/test/java/$outputJavaBasePackage"
     generatedDir = "$OUTPUT_DIR/$outputJavaBasePackage"
@@ -98,7 +107,10 @@ class GeneratorHarness {
             true,
             generatorVariant == GeneratorVariant.MODEL_ONLY ? new File(inputContractFile).absolutePath : new File(inputContractFile).parentFile.absolutePath,
             outputJavaModelNamePrefix,
-            outputJavaModelUseJsr305NullabilityAnnotations
+            outputJavaModelUseJsr305NullabilityAnnotations,
+            outputJavaModelReflectionFreeSerialization,
+            outputJavaModelImmutable,
+            generatorThreads
         )
     )
   }
@@ -0,0 +1,43 @@
+package io.github.ruedigerk.contractfirst.generator
+
+import com.fasterxml.jackson.annotation.JsonInclude
+import reflection_free_server_spring.model.ModelJacksonModule
+import reflection_free_server_spring.model.ProblematicName
+import reflection_free_server_spring.model.ProblematicNameProblematC
+import spock.lang.Specification
+import tools.jackson.databind.json.JsonMapper
+
+/**
+ * Tests the Jackson serializers in the reference code generated with option outputJavaModelReflectionFreeSerialization.
+ */
+class ReflectionFreeJacksonSerializationTest extends Specification {
+
+  def "Null properties are written according to the default property inclusion #inclusion"() {
+    given:
+    def entity = new ProblematicName(_2name: "1", problematC: ProblematicNameProblematC.THREE)
+    def reflectionFreeMapper = mapper(inclusion, true)
+    def reflectiveMapper = mapper(inclusion, false)
+
+    when:
+    def json = reflectionFreeMapper.writeValueAsString(entity)
+
+    then:
+    json == expectedJson
+    json == reflectiveMapper.writeValueAsString(entity)
+
+    where:
+    inclusion                    || expectedJson
+    JsonInclude.Include.ALWAYS   || '{"2name":"1","name-and-value":null,"problemat%c":"three?"}'
+    JsonInclude.Include.NON_NULL || '{"2name":"1","problemat%c":"three?"}'
+  }
+
+  private static JsonMapper mapper(JsonInclude.Include inclusion, boolean reflectionFree) {
+    def builder = JsonMapper.builder().changeDefaultPropertyInclusion { it.withValueInclusion(inclusion) }
+
+    if (reflectionFree) {
+      builder.addModule(new ModelJacksonModule())
+    }
+
+    builder.build()
+  }
+}
@@ -29,13 +29,14 @@ public class SevereCtcError {
 
   @Override
   public int hashCode() {
-    return Objects.hash(code);
+    int result = 31 + Objects.hashCode(code);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", code=").append(code);
-    return builder.replace(0, 2, "SevereCtcError{").append('}').toString();
+    StringBuilder builder = new StringBuilder(37);
+    builder.append("SevereCtcError{code=").append(code);
+    return builder.append('}').toString();
   }
 }
@@ -50,14 +50,16 @@ public class Failure {
 
   @Override
   public int hashCode() {
-    return Objects.hash(code, message);
+    int result = 31 + Objects.hashCode(code);
+    result = 31 * result + Objects.hashCode(message);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", code=").append(code);
+    StringBuilder builder = new StringBuilder(56);
+    builder.append("Failure{code=").append(code);
     builder.append(", message=").append(message);
-    return builder.replace(0, 2, "Failure{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -50,14 +50,16 @@ public class Manual {
 
   @Override
   public int hashCode() {
-    return Objects.hash(title, content);
+    int result = 31 + Objects.hashCode(title);
+    result = 31 * result + Objects.hashCode(content);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", title=").append(title);
+    StringBuilder builder = new StringBuilder(56);
+    builder.append("Manual{title=").append(title);
     builder.append(", content=").append(content);
-    return builder.replace(0, 2, "Manual{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
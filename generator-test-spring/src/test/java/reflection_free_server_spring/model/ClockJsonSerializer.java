@@ -0,0 +1,32 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link Clock}, serializing it without reflection.
+ */
+public final class ClockJsonSerializer extends StdSerializer<Clock> {
+  public ClockJsonSerializer() {
+    super(Clock.class);
+  }
+
+  @Override
+  public void serialize(Clock value, JsonGenerator gen, SerializationContext ctxt) {
+    JsonInclude.Include inclusion = ctxt.getDefaultPropertyInclusion(Clock.class).getValueInclusion();
+    boolean skipNulls = inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+
+    gen.writeStartObject(value);
+    if (!skipNulls || value.getTime1() != null) {
+      gen.writeName("time1");
+      ctxt.writeValue(gen, value.getTime1());
+    }
+    if (!skipNulls || value.getTime2() != null) {
+      gen.writeName("time2");
+      ctxt.writeValue(gen, value.getTime2());
+    }
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,62 @@
+package reflection_free_server_spring.model;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link ClockResponse}, deserializing it without reflection.
+ */
+public final class ClockResponseJsonDeserializer extends StdDeserializer<ClockResponse> {
+  public ClockResponseJsonDeserializer() {
+    super(ClockResponse.class);
+  }
+
+  @Override
+  public ClockResponse deserialize(JsonParser p, DeserializationContext ctxt) {
+    // Jackson passes the START_OBJECT token, or the first PROPERTY_NAME for objects already started, e.g., by polymorphic type handling.
+    if (p.isExpectedStartObjectToken()) {
+      p.nextToken();
+    } else if (!p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+      return (ClockResponse) ctxt.handleUnexpectedToken(ClockResponse.class, p);
+    }
+
+    ClockResponse value = new ClockResponse();
+
+    for (; p.hasToken(JsonToken.PROPERTY_NAME); p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+
+      switch (name) {
+        case "time1":
+          value.setTime1(ctxt.readValue(p, LocalDate.class));
+          break;
+        case "time2":
+          value.setTime2(ctxt.readValue(p, OffsetDateTime.class));
+          break;
+        case "pathTime":
+          value.setPathTime(ctxt.readValue(p, LocalDate.class));
+          break;
+        case "queryTime1":
+          value.setQueryTime1(ctxt.readValue(p, LocalDate.class));
+          break;
+        case "queryTime2":
+          value.setQueryTime2(ctxt.readValue(p, OffsetDateTime.class));
+          break;
+        case "headerTime1":
+          value.setHeaderTime1(ctxt.readValue(p, LocalDate.class));
+          break;
+        case "headerTime2":
+          value.setHeaderTime2(ctxt.readValue(p, OffsetDateTime.class));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,52 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link ClockResponse}, serializing it without reflection.
+ */
+public final class ClockResponseJsonSerializer extends StdSerializer<ClockResponse> {
+  public ClockResponseJsonSerializer() {
+    super(ClockResponse.class);
+  }
+
+  @Override
+  public void serialize(ClockResponse value, JsonGenerator gen, SerializationContext ctxt) {
+    JsonInclude.Include inclusion = ctxt.getDefaultPropertyInclusion(ClockResponse.class).getValueInclusion();
+    boolean skipNulls = inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+
+    gen.writeStartObject(value);
+    if (!skipNulls || value.getTime1() != null) {
+      gen.writeName("time1");
+      ctxt.writeValue(gen, value.getTime1());
+    }
+    if (!skipNulls || value.getTime2() != null) {
+      gen.writeName("time2");
+      ctxt.writeValue(gen, value.getTime2());
+    }
+    if (!skipNulls || value.getPathTime() != null) {
+      gen.writeName("pathTime");
+      ctxt.writeValue(gen, value.getPathTime());
+    }
+    if (!skipNulls || value.getQueryTime1() != null) {
+      gen.writeName("queryTime1");
+      ctxt.writeValue(gen, value.getQueryTime1());
+    }
+    if (!skipNulls || value.getQueryTime2() != null) {
+      gen.writeName("queryTime2");
+      ctxt.writeValue(gen, value.getQueryTime2());
+    }
+    if (!skipNulls || value.getHeaderTime1() != null) {
+      gen.writeName("headerTime1");
+      ctxt.writeValue(gen, value.getHeaderTime1());
+    }
+    if (!skipNulls || value.getHeaderTime2() != null) {
+      gen.writeName("headerTime2");
+      ctxt.writeValue(gen, value.getHeaderTime2());
+    }
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,62 @@
+package reflection_free_server_spring.model;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Objects;
+
+public class Failure {
+  @NotNull
+  private Integer code;
+
+  @NotNull
+  private String message;
+
+  public Failure code(Integer code) {
+    this.code = code;
+    return this;
+  }
+
+  public Integer getCode() {
+    return code;
+  }
+
+  public void setCode(Integer code) {
+    this.code = code;
+  }
+
+  public Failure message(String message) {
+    this.message = message;
+    return this;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Failure o = (Failure) other;
+    return Objects.equals(code, o.code)
+        && Objects.equals(message, o.message);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 31 + Objects.hashCode(code);
+    result = 31 * result + Objects.hashCode(message);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(56);
+    builder.append("Failure{code=").append(code);
+    builder.append(", message=").append(message);
+    return builder.append('}').toString();
+  }
+}
@@ -0,0 +1,45 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link Failure}, deserializing it without reflection.
+ */
+public final class FailureJsonDeserializer extends StdDeserializer<Failure> {
+  public FailureJsonDeserializer() {
+    super(Failure.class);
+  }
+
+  @Override
+  public Failure deserialize(JsonParser p, DeserializationContext ctxt) {
+    // Jackson passes the START_OBJECT token, or the first PROPERTY_NAME for objects already started, e.g., by polymorphic type handling.
+    if (p.isExpectedStartObjectToken()) {
+      p.nextToken();
+    } else if (!p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+      return (Failure) ctxt.handleUnexpectedToken(Failure.class, p);
+    }
+
+    Failure value = new Failure();
+
+    for (; p.hasToken(JsonToken.PROPERTY_NAME); p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+
+      switch (name) {
+        case "code":
+          value.setCode(ctxt.readValue(p, Integer.class));
+          break;
+        case "message":
+          value.setMessage(ctxt.readValue(p, String.class));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,32 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link Failure}, serializing it without reflection.
+ */
+public final class FailureJsonSerializer extends StdSerializer<Failure> {
+  public FailureJsonSerializer() {
+    super(Failure.class);
+  }
+
+  @Override
+  public void serialize(Failure value, JsonGenerator gen, SerializationContext ctxt) {
+    JsonInclude.Include inclusion = ctxt.getDefaultPropertyInclusion(Failure.class).getValueInclusion();
+    boolean skipNulls = inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+
+    gen.writeStartObject(value);
+    if (!skipNulls || value.getCode() != null) {
+      gen.writeName("code");
+      ctxt.writeValue(gen, value.getCode());
+    }
+    if (!skipNulls || value.getMessage() != null) {
+      gen.writeName("message");
+      ctxt.writeValue(gen, value.getMessage());
+    }
+    gen.writeEndObject();
+  }
+}
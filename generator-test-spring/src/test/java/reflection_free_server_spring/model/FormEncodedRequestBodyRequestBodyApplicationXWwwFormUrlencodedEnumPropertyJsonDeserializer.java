@@ -0,0 +1,35 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty}, deserializing it without reflection.
+ */
+public final class FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumPropertyJsonDeserializer extends StdDeserializer<FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty> {
+  public FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumPropertyJsonDeserializer(
+      ) {
+    super(FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty.class);
+  }
+
+  @Override
+  public FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty deserialize(
+      JsonParser p, DeserializationContext ctxt) {
+    if (!p.hasToken(JsonToken.VALUE_STRING)) {
+      return (FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty) ctxt.handleUnexpectedToken(FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty.class, p);
+    }
+
+    String text = p.getString();
+
+    switch (text) {
+      case "first_value":
+        return FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty.FIRST_VALUE;
+      case "second%value":
+        return FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty.SECOND_VALUE;
+      default:
+        return (FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty) ctxt.handleWeirdStringValue(FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty.class, text, "not one of the values defined for the enum");
+    }
+  }
+}
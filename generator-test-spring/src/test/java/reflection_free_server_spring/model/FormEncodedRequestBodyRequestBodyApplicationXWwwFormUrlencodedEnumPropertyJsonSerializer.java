@@ -0,0 +1,29 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty}, serializing it without reflection.
+ */
+public final class FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumPropertyJsonSerializer extends StdSerializer<FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty> {
+  public FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumPropertyJsonSerializer(
+      ) {
+    super(FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty.class);
+  }
+
+  @Override
+  public void serialize(
+      FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty value,
+      JsonGenerator gen, SerializationContext ctxt) {
+    switch (value) {
+      case FIRST_VALUE:
+        gen.writeString("first_value");
+        break;
+      case SECOND_VALUE:
+        gen.writeString("second%value");
+        break;
+    }
+  }
+}
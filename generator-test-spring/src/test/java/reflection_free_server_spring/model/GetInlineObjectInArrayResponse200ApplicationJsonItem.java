@@ -0,0 +1,41 @@
+package reflection_free_server_spring.model;
+
+import java.util.Objects;
+
+public class GetInlineObjectInArrayResponse200ApplicationJsonItem {
+  private String someProperty;
+
+  public GetInlineObjectInArrayResponse200ApplicationJsonItem someProperty(String someProperty) {
+    this.someProperty = someProperty;
+    return this;
+  }
+
+  public String getSomeProperty() {
+    return someProperty;
+  }
+
+  public void setSomeProperty(String someProperty) {
+    this.someProperty = someProperty;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    GetInlineObjectInArrayResponse200ApplicationJsonItem o = (GetInlineObjectInArrayResponse200ApplicationJsonItem) other;
+    return Objects.equals(someProperty, o.someProperty);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 31 + Objects.hashCode(someProperty);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(83);
+    builder.append("GetInlineObjectInArrayResponse200ApplicationJsonItem{someProperty=").append(someProperty);
+    return builder.append('}').toString();
+  }
+}
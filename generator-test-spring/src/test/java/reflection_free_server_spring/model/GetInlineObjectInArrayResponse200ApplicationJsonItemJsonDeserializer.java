@@ -0,0 +1,43 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link GetInlineObjectInArrayResponse200ApplicationJsonItem}, deserializing it without reflection.
+ */
+public final class GetInlineObjectInArrayResponse200ApplicationJsonItemJsonDeserializer extends StdDeserializer<GetInlineObjectInArrayResponse200ApplicationJsonItem> {
+  public GetInlineObjectInArrayResponse200ApplicationJsonItemJsonDeserializer() {
+    super(GetInlineObjectInArrayResponse200ApplicationJsonItem.class);
+  }
+
+  @Override
+  public GetInlineObjectInArrayResponse200ApplicationJsonItem deserialize(JsonParser p,
+      DeserializationContext ctxt) {
+    // Jackson passes the START_OBJECT token, or the first PROPERTY_NAME for objects already started, e.g., by polymorphic type handling.
+    if (p.isExpectedStartObjectToken()) {
+      p.nextToken();
+    } else if (!p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+      return (GetInlineObjectInArrayResponse200ApplicationJsonItem) ctxt.handleUnexpectedToken(GetInlineObjectInArrayResponse200ApplicationJsonItem.class, p);
+    }
+
+    GetInlineObjectInArrayResponse200ApplicationJsonItem value = new GetInlineObjectInArrayResponse200ApplicationJsonItem();
+
+    for (; p.hasToken(JsonToken.PROPERTY_NAME); p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+
+      switch (name) {
+        case "someProperty":
+          value.setSomeProperty(ctxt.readValue(p, String.class));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+
+    return value;
+  }
+}
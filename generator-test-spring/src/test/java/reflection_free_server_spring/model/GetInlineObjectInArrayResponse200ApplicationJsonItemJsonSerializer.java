@@ -0,0 +1,29 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link GetInlineObjectInArrayResponse200ApplicationJsonItem}, serializing it without reflection.
+ */
+public final class GetInlineObjectInArrayResponse200ApplicationJsonItemJsonSerializer extends StdSerializer<GetInlineObjectInArrayResponse200ApplicationJsonItem> {
+  public GetInlineObjectInArrayResponse200ApplicationJsonItemJsonSerializer() {
+    super(GetInlineObjectInArrayResponse200ApplicationJsonItem.class);
+  }
+
+  @Override
+  public void serialize(GetInlineObjectInArrayResponse200ApplicationJsonItem value,
+      JsonGenerator gen, SerializationContext ctxt) {
+    JsonInclude.Include inclusion = ctxt.getDefaultPropertyInclusion(GetInlineObjectInArrayResponse200ApplicationJsonItem.class).getValueInclusion();
+    boolean skipNulls = inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+
+    gen.writeStartObject(value);
+    if (!skipNulls || value.getSomeProperty() != null) {
+      gen.writeName("someProperty");
+      ctxt.writeValue(gen, value.getSomeProperty());
+    }
+    gen.writeEndObject();
+  }
+}
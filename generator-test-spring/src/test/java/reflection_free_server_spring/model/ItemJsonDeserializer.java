@@ -0,0 +1,48 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link Item}, deserializing it without reflection.
+ */
+public final class ItemJsonDeserializer extends StdDeserializer<Item> {
+  public ItemJsonDeserializer() {
+    super(Item.class);
+  }
+
+  @Override
+  public Item deserialize(JsonParser p, DeserializationContext ctxt) {
+    // Jackson passes the START_OBJECT token, or the first PROPERTY_NAME for objects already started, e.g., by polymorphic type handling.
+    if (p.isExpectedStartObjectToken()) {
+      p.nextToken();
+    } else if (!p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+      return (Item) ctxt.handleUnexpectedToken(Item.class, p);
+    }
+
+    Item value = new Item();
+
+    for (; p.hasToken(JsonToken.PROPERTY_NAME); p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+
+      switch (name) {
+        case "id":
+          value.setId(ctxt.readValue(p, Long.class));
+          break;
+        case "name":
+          value.setName(ctxt.readValue(p, String.class));
+          break;
+        case "tag":
+          value.setTag(ctxt.readValue(p, String.class));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+
+    return value;
+  }
+}
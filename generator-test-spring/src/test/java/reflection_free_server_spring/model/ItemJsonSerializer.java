@@ -0,0 +1,36 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link Item}, serializing it without reflection.
+ */
+public final class ItemJsonSerializer extends StdSerializer<Item> {
+  public ItemJsonSerializer() {
+    super(Item.class);
+  }
+
+  @Override
+  public void serialize(Item value, JsonGenerator gen, SerializationContext ctxt) {
+    JsonInclude.Include inclusion = ctxt.getDefaultPropertyInclusion(Item.class).getValueInclusion();
+    boolean skipNulls = inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+
+    gen.writeStartObject(value);
+    if (!skipNulls || value.getId() != null) {
+      gen.writeName("id");
+      ctxt.writeValue(gen, value.getId());
+    }
+    if (!skipNulls || value.getName() != null) {
+      gen.writeName("name");
+      ctxt.writeValue(gen, value.getName());
+    }
+    if (!skipNulls || value.getTag() != null) {
+      gen.writeName("tag");
+      ctxt.writeValue(gen, value.getTag());
+    }
+    gen.writeEndObject();
+  }
+}
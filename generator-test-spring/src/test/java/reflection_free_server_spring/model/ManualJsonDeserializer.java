@@ -0,0 +1,45 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link Manual}, deserializing it without reflection.
+ */
+public final class ManualJsonDeserializer extends StdDeserializer<Manual> {
+  public ManualJsonDeserializer() {
+    super(Manual.class);
+  }
+
+  @Override
+  public Manual deserialize(JsonParser p, DeserializationContext ctxt) {
+    // Jackson passes the START_OBJECT token, or the first PROPERTY_NAME for objects already started, e.g., by polymorphic type handling.
+    if (p.isExpectedStartObjectToken()) {
+      p.nextToken();
+    } else if (!p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+      return (Manual) ctxt.handleUnexpectedToken(Manual.class, p);
+    }
+
+    Manual value = new Manual();
+
+    for (; p.hasToken(JsonToken.PROPERTY_NAME); p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+
+      switch (name) {
+        case "title":
+          value.setTitle(ctxt.readValue(p, String.class));
+          break;
+        case "content":
+          value.setContent(ctxt.readValue(p, String.class));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+
+    return value;
+  }
+}
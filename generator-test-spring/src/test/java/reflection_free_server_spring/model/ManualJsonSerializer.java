@@ -0,0 +1,32 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link Manual}, serializing it without reflection.
+ */
+public final class ManualJsonSerializer extends StdSerializer<Manual> {
+  public ManualJsonSerializer() {
+    super(Manual.class);
+  }
+
+  @Override
+  public void serialize(Manual value, JsonGenerator gen, SerializationContext ctxt) {
+    JsonInclude.Include inclusion = ctxt.getDefaultPropertyInclusion(Manual.class).getValueInclusion();
+    boolean skipNulls = inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+
+    gen.writeStartObject(value);
+    if (!skipNulls || value.getTitle() != null) {
+      gen.writeName("title");
+      ctxt.writeValue(gen, value.getTitle());
+    }
+    if (!skipNulls || value.getContent() != null) {
+      gen.writeName("content");
+      ctxt.writeValue(gen, value.getContent());
+    }
+    gen.writeEndObject();
+  }
+}
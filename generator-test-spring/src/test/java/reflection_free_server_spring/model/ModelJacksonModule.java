@@ -0,0 +1,35 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson module registering the serializers and deserializers of all model classes and enums, which work without reflection.
+ * Register it with the ObjectMapper, e.g., by declaring it as a bean in a Spring Boot application.
+ */
+public final class ModelJacksonModule extends SimpleModule {
+  public ModelJacksonModule() {
+    super("ModelJacksonModule");
+    addSerializer(Item.class, new ItemJsonSerializer());
+    addDeserializer(Item.class, new ItemJsonDeserializer());
+    addSerializer(Failure.class, new FailureJsonSerializer());
+    addDeserializer(Failure.class, new FailureJsonDeserializer());
+    addSerializer(Manual.class, new ManualJsonSerializer());
+    addDeserializer(Manual.class, new ManualJsonDeserializer());
+    addSerializer(Clock.class, new ClockJsonSerializer());
+    addDeserializer(Clock.class, new ClockJsonDeserializer());
+    addSerializer(ClockResponse.class, new ClockResponseJsonSerializer());
+    addDeserializer(ClockResponse.class, new ClockResponseJsonDeserializer());
+    addSerializer(ProblematicName.class, new ProblematicNameJsonSerializer());
+    addDeserializer(ProblematicName.class, new ProblematicNameJsonDeserializer());
+    addSerializer(SimpleEnum.class, new SimpleEnumJsonSerializer());
+    addDeserializer(SimpleEnum.class, new SimpleEnumJsonDeserializer());
+    addSerializer(GetInlineObjectInArrayResponse200ApplicationJsonItem.class, new GetInlineObjectInArrayResponse200ApplicationJsonItemJsonSerializer());
+    addDeserializer(GetInlineObjectInArrayResponse200ApplicationJsonItem.class, new GetInlineObjectInArrayResponse200ApplicationJsonItemJsonDeserializer());
+    addSerializer(ProblematicNameProblematC.class, new ProblematicNameProblematCJsonSerializer());
+    addDeserializer(ProblematicNameProblematC.class, new ProblematicNameProblematCJsonDeserializer());
+    addSerializer(FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty.class, new FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumPropertyJsonSerializer());
+    addDeserializer(FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty.class, new FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumPropertyJsonDeserializer());
+    addSerializer(MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty.class, new MultipartRequestBodyRequestBodyMultipartFormDataObjectPropertyJsonSerializer());
+    addDeserializer(MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty.class, new MultipartRequestBodyRequestBodyMultipartFormDataObjectPropertyJsonDeserializer());
+  }
+}
@@ -0,0 +1,61 @@
+package reflection_free_server_spring.model;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Objects;
+
+public class MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty {
+  @NotNull
+  private String a;
+
+  private Long b;
+
+  public MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty a(String a) {
+    this.a = a;
+    return this;
+  }
+
+  public String getA() {
+    return a;
+  }
+
+  public void setA(String a) {
+    this.a = a;
+  }
+
+  public MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty b(Long b) {
+    this.b = b;
+    return this;
+  }
+
+  public Long getB() {
+    return b;
+  }
+
+  public void setB(Long b) {
+    this.b = b;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty o = (MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty) other;
+    return Objects.equals(b, o.b)
+        && Objects.equals(a, o.a);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 31 + Objects.hashCode(a);
+    result = 31 * result + Objects.hashCode(b);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(102);
+    builder.append("MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty{a=").append(a);
+    builder.append(", b=").append(b);
+    return builder.append('}').toString();
+  }
+}
@@ -0,0 +1,46 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty}, deserializing it without reflection.
+ */
+public final class MultipartRequestBodyRequestBodyMultipartFormDataObjectPropertyJsonDeserializer extends StdDeserializer<MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty> {
+  public MultipartRequestBodyRequestBodyMultipartFormDataObjectPropertyJsonDeserializer() {
+    super(MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty.class);
+  }
+
+  @Override
+  public MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty deserialize(JsonParser p,
+      DeserializationContext ctxt) {
+    // Jackson passes the START_OBJECT token, or the first PROPERTY_NAME for objects already started, e.g., by polymorphic type handling.
+    if (p.isExpectedStartObjectToken()) {
+      p.nextToken();
+    } else if (!p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+      return (MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty) ctxt.handleUnexpectedToken(MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty.class, p);
+    }
+
+    MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty value = new MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty();
+
+    for (; p.hasToken(JsonToken.PROPERTY_NAME); p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+
+      switch (name) {
+        case "a":
+          value.setA(ctxt.readValue(p, String.class));
+          break;
+        case "b":
+          value.setB(ctxt.readValue(p, Long.class));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+
+    return value;
+  }
+}
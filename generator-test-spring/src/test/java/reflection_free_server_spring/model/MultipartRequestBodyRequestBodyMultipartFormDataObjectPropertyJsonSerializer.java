@@ -0,0 +1,33 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty}, serializing it without reflection.
+ */
+public final class MultipartRequestBodyRequestBodyMultipartFormDataObjectPropertyJsonSerializer extends StdSerializer<MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty> {
+  public MultipartRequestBodyRequestBodyMultipartFormDataObjectPropertyJsonSerializer() {
+    super(MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty.class);
+  }
+
+  @Override
+  public void serialize(MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty value,
+      JsonGenerator gen, SerializationContext ctxt) {
+    JsonInclude.Include inclusion = ctxt.getDefaultPropertyInclusion(MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty.class).getValueInclusion();
+    boolean skipNulls = inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+
+    gen.writeStartObject(value);
+    if (!skipNulls || value.getA() != null) {
+      gen.writeName("a");
+      ctxt.writeValue(gen, value.getA());
+    }
+    if (!skipNulls || value.getB() != null) {
+      gen.writeName("b");
+      ctxt.writeValue(gen, value.getB());
+    }
+    gen.writeEndObject();
+  }
+}
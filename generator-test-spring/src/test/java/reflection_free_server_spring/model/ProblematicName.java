@@ -0,0 +1,81 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+
+public class ProblematicName {
+  @JsonProperty("2name")
+  private String _2name;
+
+  @JsonProperty("name-and-value")
+  private String nameAndValue;
+
+  @JsonProperty("problemat%c")
+  private ProblematicNameProblematC problematC;
+
+  public ProblematicName _2name(String _2name) {
+    this._2name = _2name;
+    return this;
+  }
+
+  public String get_2name() {
+    return _2name;
+  }
+
+  public void set_2name(String _2name) {
+    this._2name = _2name;
+  }
+
+  public ProblematicName nameAndValue(String nameAndValue) {
+    this.nameAndValue = nameAndValue;
+    return this;
+  }
+
+  public String getNameAndValue() {
+    return nameAndValue;
+  }
+
+  public void setNameAndValue(String nameAndValue) {
+    this.nameAndValue = nameAndValue;
+  }
+
+  public ProblematicName problematC(ProblematicNameProblematC problematC) {
+    this.problematC = problematC;
+    return this;
+  }
+
+  public ProblematicNameProblematC getProblematC() {
+    return problematC;
+  }
+
+  public void setProblematC(ProblematicNameProblematC problematC) {
+    this.problematC = problematC;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    ProblematicName o = (ProblematicName) other;
+    return Objects.equals(_2name, o._2name)
+        && Objects.equals(nameAndValue, o.nameAndValue)
+        && Objects.equals(problematC, o.problematC);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 31 + Objects.hashCode(_2name);
+    result = 31 * result + Objects.hashCode(nameAndValue);
+    result = 31 * result + Objects.hashCode(problematC);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(100);
+    builder.append("ProblematicName{_2name=").append(_2name);
+    builder.append(", nameAndValue=").append(nameAndValue);
+    builder.append(", problematC=").append(problematC);
+    return builder.append('}').toString();
+  }
+}
@@ -0,0 +1,48 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link ProblematicName}, deserializing it without reflection.
+ */
+public final class ProblematicNameJsonDeserializer extends StdDeserializer<ProblematicName> {
+  public ProblematicNameJsonDeserializer() {
+    super(ProblematicName.class);
+  }
+
+  @Override
+  public ProblematicName deserialize(JsonParser p, DeserializationContext ctxt) {
+    // Jackson passes the START_OBJECT token, or the first PROPERTY_NAME for objects already started, e.g., by polymorphic type handling.
+    if (p.isExpectedStartObjectToken()) {
+      p.nextToken();
+    } else if (!p.hasToken(JsonToken.PROPERTY_NAME) && !p.hasToken(JsonToken.END_OBJECT)) {
+      return (ProblematicName) ctxt.handleUnexpectedToken(ProblematicName.class, p);
+    }
+
+    ProblematicName value = new ProblematicName();
+
+    for (; p.hasToken(JsonToken.PROPERTY_NAME); p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+
+      switch (name) {
+        case "2name":
+          value.set_2name(ctxt.readValue(p, String.class));
+          break;
+        case "name-and-value":
+          value.setNameAndValue(ctxt.readValue(p, String.class));
+          break;
+        case "problemat%c":
+          value.setProblematC(ctxt.readValue(p, ProblematicNameProblematC.class));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,36 @@
+package reflection_free_server_spring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link ProblematicName}, serializing it without reflection.
+ */
+public final class ProblematicNameJsonSerializer extends StdSerializer<ProblematicName> {
+  public ProblematicNameJsonSerializer() {
+    super(ProblematicName.class);
+  }
+
+  @Override
+  public void serialize(ProblematicName value, JsonGenerator gen, SerializationContext ctxt) {
+    JsonInclude.Include inclusion = ctxt.getDefaultPropertyInclusion(ProblematicName.class).getValueInclusion();
+    boolean skipNulls = inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT || inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT;
+
+    gen.writeStartObject(value);
+    if (!skipNulls || value.get_2name() != null) {
+      gen.writeName("2name");
+      ctxt.writeValue(gen, value.get_2name());
+    }
+    if (!skipNulls || value.getNameAndValue() != null) {
+      gen.writeName("name-and-value");
+      ctxt.writeValue(gen, value.getNameAndValue());
+    }
+    if (!skipNulls || value.getProblematC() != null) {
+      gen.writeName("problemat%c");
+      ctxt.writeValue(gen, value.getProblematC());
+    }
+    gen.writeEndObject();
+  }
+}
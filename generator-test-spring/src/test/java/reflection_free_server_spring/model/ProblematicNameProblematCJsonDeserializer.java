@@ -0,0 +1,35 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link ProblematicNameProblematC}, deserializing it without reflection.
+ */
+public final class ProblematicNameProblematCJsonDeserializer extends StdDeserializer<ProblematicNameProblematC> {
+  public ProblematicNameProblematCJsonDeserializer() {
+    super(ProblematicNameProblematC.class);
+  }
+
+  @Override
+  public ProblematicNameProblematC deserialize(JsonParser p, DeserializationContext ctxt) {
+    if (!p.hasToken(JsonToken.VALUE_STRING)) {
+      return (ProblematicNameProblematC) ctxt.handleUnexpectedToken(ProblematicNameProblematC.class, p);
+    }
+
+    String text = p.getString();
+
+    switch (text) {
+      case "1":
+        return ProblematicNameProblematC._1;
+      case "two-point-zero":
+        return ProblematicNameProblematC.TWO_POINT_ZERO;
+      case "three?":
+        return ProblematicNameProblematC.THREE;
+      default:
+        return (ProblematicNameProblematC) ctxt.handleWeirdStringValue(ProblematicNameProblematC.class, text, "not one of the values defined for the enum");
+    }
+  }
+}
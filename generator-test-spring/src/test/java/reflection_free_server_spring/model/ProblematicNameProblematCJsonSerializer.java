@@ -0,0 +1,30 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link ProblematicNameProblematC}, serializing it without reflection.
+ */
+public final class ProblematicNameProblematCJsonSerializer extends StdSerializer<ProblematicNameProblematC> {
+  public ProblematicNameProblematCJsonSerializer() {
+    super(ProblematicNameProblematC.class);
+  }
+
+  @Override
+  public void serialize(ProblematicNameProblematC value, JsonGenerator gen,
+      SerializationContext ctxt) {
+    switch (value) {
+      case _1:
+        gen.writeString("1");
+        break;
+      case TWO_POINT_ZERO:
+        gen.writeString("two-point-zero");
+        break;
+      case THREE:
+        gen.writeString("three?");
+        break;
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package reflection_free_server_spring.model;
+
+/**
+ * An enum with non-problematic constant names.
+ */
+public enum SimpleEnum {
+  FIRST,
+
+  SECOND,
+
+  THIRD
+}
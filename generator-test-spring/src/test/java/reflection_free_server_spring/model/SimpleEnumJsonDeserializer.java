@@ -0,0 +1,35 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for {@link SimpleEnum}, deserializing it without reflection.
+ */
+public final class SimpleEnumJsonDeserializer extends StdDeserializer<SimpleEnum> {
+  public SimpleEnumJsonDeserializer() {
+    super(SimpleEnum.class);
+  }
+
+  @Override
+  public SimpleEnum deserialize(JsonParser p, DeserializationContext ctxt) {
+    if (!p.hasToken(JsonToken.VALUE_STRING)) {
+      return (SimpleEnum) ctxt.handleUnexpectedToken(SimpleEnum.class, p);
+    }
+
+    String text = p.getString();
+
+    switch (text) {
+      case "FIRST":
+        return SimpleEnum.FIRST;
+      case "SECOND":
+        return SimpleEnum.SECOND;
+      case "THIRD":
+        return SimpleEnum.THIRD;
+      default:
+        return (SimpleEnum) ctxt.handleWeirdStringValue(SimpleEnum.class, text, "not one of the values defined for the enum");
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package reflection_free_server_spring.model;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link SimpleEnum}, serializing it without reflection.
+ */
+public final class SimpleEnumJsonSerializer extends StdSerializer<SimpleEnum> {
+  public SimpleEnumJsonSerializer() {
+    super(SimpleEnum.class);
+  }
+
+  @Override
+  public void serialize(SimpleEnum value, JsonGenerator gen, SerializationContext ctxt) {
+    switch (value) {
+      case FIRST:
+        gen.writeString("FIRST");
+        break;
+      case SECOND:
+        gen.writeString("SECOND");
+        break;
+      case THIRD:
+        gen.writeString("THIRD");
+        break;
+    }
+  }
+}
@@ -49,14 +49,16 @@ public class RestClock {
 
   @Override
   public int hashCode() {
-    return Objects.hash(time1, time2);
+    int result = 31 + Objects.hashCode(time1);
+    result = 31 * result + Objects.hashCode(time2);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", time1=").append(time1);
+    StringBuilder builder = new StringBuilder(57);
+    builder.append("RestClock{time1=").append(time1);
     builder.append(", time2=").append(time2);
-    return builder.replace(0, 2, "RestClock{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -47,14 +47,16 @@ public class RestFailure {
 
   @Override
   public int hashCode() {
-    return Objects.hash(code, message);
+    int result = 31 + Objects.hashCode(code);
+    result = 31 * result + Objects.hashCode(message);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", code=").append(code);
+    StringBuilder builder = new StringBuilder(60);
+    builder.append("RestFailure{code=").append(code);
     builder.append(", message=").append(message);
-    return builder.replace(0, 2, "RestFailure{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -29,13 +29,14 @@ public class RestGetInlineObjectInArrayResponse200ApplicationJsonItem {
 
   @Override
   public int hashCode() {
-    return Objects.hash(someProperty);
+    int result = 31 + Objects.hashCode(someProperty);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", someProperty=").append(someProperty);
-    return builder.replace(0, 2, "RestGetInlineObjectInArrayResponse200ApplicationJsonItem{").append('}').toString();
+    StringBuilder builder = new StringBuilder(87);
+    builder.append("RestGetInlineObjectInArrayResponse200ApplicationJsonItem{someProperty=").append(someProperty);
+    return builder.append('}').toString();
   }
 }
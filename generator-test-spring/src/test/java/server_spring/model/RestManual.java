@@ -47,14 +47,16 @@ public class RestManual {
 
   @Override
   public int hashCode() {
-    return Objects.hash(title, content);
+    int result = 31 + Objects.hashCode(title);
+    result = 31 * result + Objects.hashCode(content);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", title=").append(title);
+    StringBuilder builder = new StringBuilder(60);
+    builder.append("RestManual{title=").append(title);
     builder.append(", content=").append(content);
-    return builder.replace(0, 2, "RestManual{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -64,15 +64,18 @@ public class RestProblematicName {
 
   @Override
   public int hashCode() {
-    return Objects.hash(_2name, nameAndValue, problematC);
+    int result = 31 + Objects.hashCode(_2name);
+    result = 31 * result + Objects.hashCode(nameAndValue);
+    result = 31 * result + Objects.hashCode(problematC);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", _2name=").append(_2name);
+    StringBuilder builder = new StringBuilder(104);
+    builder.append("RestProblematicName{_2name=").append(_2name);
     builder.append(", nameAndValue=").append(nameAndValue);
     builder.append(", problematC=").append(problematC);
-    return builder.replace(0, 2, "RestProblematicName{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -0,0 +1,65 @@
+package io.github.ruedigerk.contractfirst.generator
+
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Applies the transform to every element on a bounded pool of threads and returns the results in the order of the elements. With at most one thread, the
+ * elements are transformed sequentially on the calling thread.
+ *
+ * Errors are reported deterministically: the exception of the first failing element, in the order of the elements, is thrown, regardless of which thread
+ * failed first. Elements after it are cancelled, if they have not been transformed yet.
+ */
+fun <T, R> List<T>.mapConcurrently(threads: Int, transform: (T) -> R): List<R> = ConcurrentMapper(minOf(threads, size)).use { it.map(this, transform) }
+
+/**
+ * Maps lists concurrently like [mapConcurrently], but reuses its thread pool for mapping multiple lists one after the other. The thread pool is only created
+ * when it is first needed, and shut down when the mapper is closed.
+ */
+class ConcurrentMapper(private val threads: Int) : AutoCloseable {
+
+  private var executor: ExecutorService? = null
+
+  fun <T, R> map(elements: List<T>, transform: (T) -> R): List<R> {
+    if (threads <= 1 || elements.size <= 1) {
+      return elements.map(transform)
+    }
+
+    val executor = executor ?: Executors.newFixedThreadPool(threads, GeneratorThreadFactory()).also { executor = it }
+    val futures = elements.map { element -> executor.submit<R> { transform(element) } }
+    return awaitInOrder(futures)
+  }
+
+  override fun close() {
+    executor?.shutdownNow()
+  }
+
+  private fun <R> awaitInOrder(futures: List<Future<R>>): List<R> = futures.map { future ->
+    try {
+      future.get()
+    } catch (e: ExecutionException) {
+      futures.forEach { it.cancel(true) }
+      throw e.cause ?: e
+    } catch (e: InterruptedException) {
+      futures.forEach { it.cancel(true) }
+      Thread.currentThread().interrupt()
+      throw e
+    }
+  }
+}
+
+/**
+ * Creates named daemon threads, so that a failing generator run does not prevent the JVM of the CLI from exiting.
+ */
+private class GeneratorThreadFactory : ThreadFactory {
+
+  private val threadNumber = AtomicInteger()
+
+  override fun newThread(runnable: Runnable): Thread = Thread(runnable, "contractfirst-generator-${threadNumber.incrementAndGet()}").apply {
+    isDaemon = true
+  }
+}
@@ -6,17 +6,26 @@ import io.github.ruedigerk.contractfirst.generator.configuration.GeneratorType
 import io.github.ruedigerk.contractfirst.generator.configuration.InvalidConfigurationException
 import io.github.ruedigerk.contractfirst.generator.logging.Log
 import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import io.github.ruedigerk.contractfirst.generator.parser.ParseCache
+import io.github.ruedigerk.contractfirst.generator.parser.SharedFileCache
+import java.io.File
 import java.io.IOException
 
 /**
  * The "entry point" for the Contractfirst-Generator code generator.
+ *
+ * If a parse cache directory is supplied, parsed contract and schema files are cached in it across runs of the generator, see [ParseCache].
  */
-class ContractfirstGenerator(logAdapter: LogAdapter) {
+class ContractfirstGenerator @JvmOverloads constructor(
+  logAdapter: LogAdapter,
+  parseCacheDirectory: File? = null,
+) {
 
   private val log = Log(logAdapter)
+  private val parseCache = parseCacheDirectory?.let { ParseCache(it) }
 
   /**
-   * Generate the source code according to the supplied configuration.
+   * Generate the source code according to the supplied configuration. Returns the files read for generating it.
    *
    * @throws NotSupportedException when an OpenAPI feature is used in the input contract that is not supported by the generator.
    * @throws ParserException when the input contract is invalid and cannot be parsed.
@@ -24,17 +33,88 @@ class ContractfirstGenerator(logAdapter: LogAdapter) {
    * @throws SerializerException when the option to write an output contract is on and there is an error serializing it.
    */
   @Throws(NotSupportedException::class, ParserException::class, InvalidConfigurationException::class, SerializerException::class)
-  fun generate(configuration: Configuration) {
+  fun generate(configuration: Configuration): GenerationResult = generate(configuration, SharedFileCache(parseCache))
+
+  /**
+   * Generate the source code for each of the supplied configurations, e.g., for multiple contracts sharing schema files. The configurations are processed
+   * concurrently on up to the supplied number of threads, and files shared by the contracts are read and parsed only once. Returns the results in the order
+   * of the configurations.
+   *
+   * All configurations are validated before any code is generated. When generating fails for some configurations, the exception of the first failing
+   * configuration, in the order of the configurations, is thrown.
+   *
+   * @throws NotSupportedException when an OpenAPI feature is used in an input contract that is not supported by the generator.
+   * @throws ParserException when an input contract is invalid and cannot be parsed.
+   * @throws io.github.ruedigerk.contractfirst.generator.configuration.InvalidConfigurationException when some option in a supplied configuration is invalid.
+   * @throws SerializerException when the option to write an output contract is on and there is an error serializing it.
+   */
+  @Throws(NotSupportedException::class, ParserException::class, InvalidConfigurationException::class, SerializerException::class)
+  fun generateAll(configurations: List<Configuration>, threads: Int): List<GenerationResult> {
+    configurations.forEach { it.validate() }
+
+    val sharedFileCache = SharedFileCache(parseCache)
+    return configurations.mapConcurrently(threads) { generate(it, sharedFileCache) }
+  }
+
+  /**
+   * Generate the source code for each of the supplied configurations, like [generateAll], and then generate it again whenever one of the contract and schema
+   * files read for generating it changes, e.g., while editing a contract during development. Only the changed files are read and parsed again, and only the
+   * generated files whose content changed are written. Errors in the contracts are logged, and do not end watching. Blocks until the calling thread is
+   * interrupted.
+   *
+   * @throws io.github.ruedigerk.contractfirst.generator.configuration.InvalidConfigurationException when some option in a supplied configuration is invalid.
+   * @throws InterruptedException when the calling thread is interrupted while waiting for changes.
+   */
+  @Throws(InvalidConfigurationException::class, InterruptedException::class)
+  fun watch(configurations: List<Configuration>, threads: Int) {
+    configurations.forEach { it.validate() }
+
+    var sharedFileCache = SharedFileCache(parseCache)
+    val inputFiles = configurations.map { File(it.inputContractFile).canonicalFile }
+
+    GenerationWatcher(log, inputFiles) {
+      sharedFileCache = sharedFileCache.withoutChangedFiles()
+      configurations.mapConcurrently(threads) { generateLoggingErrors(it, sharedFileCache) }
+    }.watch()
+  }
+
+  private fun generateLoggingErrors(configuration: Configuration, sharedFileCache: SharedFileCache): GenerationResult? = try {
+    generate(configuration, sharedFileCache)
+  } catch (e: ParserException) {
+    log.error { "Could not parse contract '${configuration.inputContractFile}': ${e.message}" }
+    null
+  } catch (e: NotSupportedException) {
+    log.error { "Contract '${configuration.inputContractFile}' contains unsupported usage: ${e.message}" }
+    null
+  } catch (e: InvalidConfigurationException) {
+    log.error { "Invalid configuration for contract '${configuration.inputContractFile}': ${e.message}" }
+    null
+  } catch (e: SerializerException) {
+    log.error { "Could not write output contract for contract '${configuration.inputContractFile}': ${e.message}" }
+    null
+  }
+
+  /**
+   * Generate the source code according to the supplied configuration, reading the contract and schema files through the supplied cache, e.g., a cache that
+   * is reused by a long-running process for multiple runs. Returns the files read for generating it.
+   *
+   * @throws NotSupportedException when an OpenAPI feature is used in the input contract that is not supported by the generator.
+   * @throws ParserException when the input contract is invalid and cannot be parsed.
+   * @throws io.github.ruedigerk.contractfirst.generator.configuration.InvalidConfigurationException when some option in the supplied configuration is invalid.
+   * @throws SerializerException when the option to write an output contract is on and there is an error serializing it.
+   */
+  @Throws(NotSupportedException::class, ParserException::class, InvalidConfigurationException::class, SerializerException::class)
+  fun generate(configuration: Configuration, sharedFileCache: SharedFileCache): GenerationResult {
     log.debug { "Configuration:\n${configuration.prettyPrint()}" }
 
     configuration.validate()
 
     val recipe = when (configuration.generator) {
-      GeneratorType.CLIENT, GeneratorType.SERVER -> RecipeForFullSpecification(log, configuration)
-      GeneratorType.MODEL_ONLY -> RecipeForModelOnly(log, configuration)
+      GeneratorType.CLIENT, GeneratorType.SERVER -> RecipeForFullSpecification(log, configuration, sharedFileCache)
+      GeneratorType.MODEL_ONLY -> RecipeForModelOnly(log, configuration, sharedFileCache)
     }
 
-    try {
+    return try {
       recipe.invoke()
     } catch (e: IOException) {
       throw ParserIoException("IO error during parsing ${e.message}", e)
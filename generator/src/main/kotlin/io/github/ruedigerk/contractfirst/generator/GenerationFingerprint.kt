@@ -0,0 +1,109 @@
+package io.github.ruedigerk.contractfirst.generator
+
+import io.github.ruedigerk.contractfirst.generator.configuration.Configuration
+import io.github.ruedigerk.contractfirst.generator.java.generator.OutputDirectory
+import java.io.File
+import java.io.IOException
+import java.security.MessageDigest
+
+/**
+ * The fingerprint of a generator run, stored in a file, for skipping generator runs whose output would not change.
+ *
+ * The fingerprint covers the configuration, the version of the generator and the contents of all files read by the run, including all transitively
+ * referenced files. When the input is a directory of model files, it also covers the list of model files in it, so that adding a model file is noticed.
+ * Checking the fingerprint only reads the recorded files, it does not parse them.
+ */
+class GenerationFingerprint(private val fingerprintFile: File) {
+
+  /**
+   * Returns whether the fingerprint recorded by the previous run matches the supplied configuration and the current contents of the input files, and the
+   * files generated by the previous run still exist.
+   */
+  fun isUpToDate(configuration: Configuration): Boolean {
+    val recordedLines = readRecordedLines() ?: return false
+    val inputFiles = recordedLines.drop(1).map { File(it.substringAfter(' ')) }
+
+    if (inputFiles.isEmpty() || !inputFiles.all { it.isFile }) {
+      return false
+    }
+
+    return try {
+      val modelFiles = listModelFiles(configuration)
+      val inputFileHashes = inputFiles.associateWith { sha256(it.readBytes()) }
+
+      recordedLines == fingerprintLines(configuration, modelFiles, inputFileHashes) && outputExists(configuration)
+    } catch (e: IOException) {
+      false
+    }
+  }
+
+  /**
+   * Records the fingerprint of a finished generator run. It records the hashes of the input files as they were parsed by the run, not their current contents,
+   * so that files changed during the run are noticed by the next check.
+   */
+  @Throws(IOException::class)
+  fun record(configuration: Configuration, result: GenerationResult) {
+    val modelDirectory = File(configuration.inputContractFile).canonicalFile
+    val modelFiles = if (modelDirectory.isDirectory) result.inputFiles.filter { it.startsWith(modelDirectory) && RecipeForModelOnly.isModelFile(it) } else emptyList()
+    val lines = fingerprintLines(configuration, modelFiles, result.inputFileHashes)
+
+    fingerprintFile.parentFile.mkdirs()
+    fingerprintFile.writeText(lines.joinToString("\n", postfix = "\n"))
+  }
+
+  /**
+   * Deletes the recorded fingerprint, so that a failed or aborted run is never considered to be up to date.
+   */
+  fun invalidate() {
+    fingerprintFile.delete()
+  }
+
+  private fun readRecordedLines(): List<String>? = try {
+    if (fingerprintFile.isFile) fingerprintFile.readLines().filter { it.isNotBlank() } else null
+  } catch (e: IOException) {
+    null
+  }
+
+  /**
+   * The first line holds the hash of the configuration and the generator version, every further line the hash and the path of an input file.
+   */
+  private fun fingerprintLines(configuration: Configuration, modelFiles: List<File>, inputFileHashes: Map<File, String>): List<String> {
+    val configurationLine = "configuration ${sha256(configurationText(configuration, modelFiles).toByteArray(Charsets.UTF_8))}"
+    val inputFileLines = inputFileHashes.entries.sortedBy { it.key }.map { (file, hash) -> "$hash ${file.path}" }
+
+    return listOf(configurationLine) + inputFileLines
+  }
+
+  private fun configurationText(configuration: Configuration, modelFiles: List<File>): String =
+    (listOf(GENERATOR_VERSION, configuration.prettyPrint()) + modelFiles.map { it.canonicalPath }.sorted()).joinToString("\n")
+
+  private fun listModelFiles(configuration: Configuration): List<File> {
+    val inputDirectory = File(configuration.inputContractFile)
+    return if (inputDirectory.isDirectory) RecipeForModelOnly.listModelFiles(inputDirectory) else emptyList()
+  }
+
+  private fun outputExists(configuration: Configuration): Boolean {
+    val outputDirectory = OutputDirectory.forConfiguration(configuration)
+    val contractExists = !configuration.outputContract || RecipeForAllInOneContract.outputFile(configuration).isFile
+
+    return outputDirectory.isComplete() && contractExists
+  }
+
+  private fun sha256(content: ByteArray): String = MessageDigest.getInstance("SHA-256")
+    .digest(content)
+    .joinToString("") { "%02x".format(it) }
+
+  internal companion object {
+
+    /**
+     * Identifies the version of the generator by the file it was loaded from, so that rebuilding a snapshot version of the generator invalidates fingerprints.
+     */
+    val GENERATOR_VERSION: String = try {
+      val location = GenerationFingerprint::class.java.protectionDomain.codeSource.location
+      val file = File(location.toURI())
+      "${file.name}:${file.length()}:${file.lastModified()}"
+    } catch (e: Exception) {
+      "unknown"
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package io.github.ruedigerk.contractfirst.generator
+
+import java.io.File
+
+/**
+ * The result of a generator run.
+ *
+ * @property inputFileHashes the SHA-256 hashes of the contents of the canonical contract and schema files read by the run, including all transitively
+ * referenced files, as they were parsed, by file.
+ */
+data class GenerationResult(
+  val inputFileHashes: Map<File, String>,
+) {
+
+  /**
+   * The canonical contract and schema files read by the run, including all transitively referenced files.
+   */
+  val inputFiles: Set<File>
+    get() = inputFileHashes.keys
+}
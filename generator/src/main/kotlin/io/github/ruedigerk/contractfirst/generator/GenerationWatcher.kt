@@ -0,0 +1,99 @@
+package io.github.ruedigerk.contractfirst.generator
+
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import java.io.File
+import java.nio.file.FileSystems
+import java.nio.file.Path
+import java.nio.file.StandardWatchEventKinds.ENTRY_CREATE
+import java.nio.file.StandardWatchEventKinds.ENTRY_DELETE
+import java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY
+import java.nio.file.StandardWatchEventKinds.OVERFLOW
+import java.nio.file.WatchKey
+import java.nio.file.WatchService
+import java.util.concurrent.TimeUnit
+
+/**
+ * Runs the supplied generation, and runs it again whenever one of the files it read changes. The files are watched with a [WatchService] on their
+ * directories. Input files that are directories, i.e., directories of model-only schemas, are watched recursively, so that added schema files are noticed.
+ *
+ * The generation returns the result for each of its input files, or null if generating failed, in which case the files read by its previous run are watched.
+ */
+internal class GenerationWatcher(
+  private val log: Log,
+  private val inputFiles: List<File>,
+  private val generate: () -> List<GenerationResult?>,
+) {
+
+  private val watchKeys = mutableMapOf<Path, WatchKey>()
+
+  /**
+   * Watches until the calling thread is interrupted.
+   */
+  @Throws(InterruptedException::class)
+  fun watch() {
+    FileSystems.getDefault().newWatchService().use { watchService ->
+      var filesPerInput = inputFiles.map { setOf(it) }
+
+      while (true) {
+        val results = generate()
+        filesPerInput = filesPerInput.mapIndexed { index, previousFiles -> results[index]?.inputFiles ?: previousFiles }
+
+        val watchedFiles = filesPerInput.flatten().toSet() + inputFiles
+        register(watchService, watchedFiles)
+        log.info { "Watching ${watchedFiles.size} files for changes" }
+
+        awaitChange(watchService, watchedFiles)
+        log.info { "Files changed, generating again" }
+      }
+    }
+  }
+
+  private fun register(watchService: WatchService, watchedFiles: Set<File>) {
+    val directories = watchedFiles.mapNotNull { it.parentFile?.toPath() } + watchedDirectoryTrees().flatMap { directoryTree(it) }
+
+    (watchKeys.keys - directories.toSet()).forEach { watchKeys.remove(it)?.cancel() }
+
+    directories.filter { it !in watchKeys && it.toFile().isDirectory }.forEach { directory ->
+      watchKeys[directory] = directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY)
+    }
+  }
+
+  private fun watchedDirectoryTrees(): List<Path> = inputFiles.filter { it.isDirectory }.map { it.toPath() }
+
+  private fun directoryTree(directory: Path): List<Path> = directory.toFile().walk().filter { it.isDirectory }.map { it.toPath() }.toList()
+
+  /**
+   * Waits for a change of one of the watched files, or of any file in the watched directory trees. Editors often change a file in multiple steps, e.g., by
+   * writing a temporary file and renaming it, so waiting ends only when there were no further changes for a short time.
+   */
+  private fun awaitChange(watchService: WatchService, watchedFiles: Set<File>) {
+    var changed = false
+
+    while (!changed) {
+      changed = isRelevant(watchService.take(), watchedFiles)
+    }
+
+    while (true) {
+      val key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS) ?: return
+      isRelevant(key, watchedFiles)
+    }
+  }
+
+  private fun isRelevant(key: WatchKey, watchedFiles: Set<File>): Boolean {
+    val directory = key.watchable() as Path
+    val events = key.pollEvents()
+    key.reset()
+
+    return events.any { event ->
+      val path = event.context() as? Path
+      event.kind() == OVERFLOW || path == null || isRelevant(directory.resolve(path), watchedFiles)
+    }
+  }
+
+  private fun isRelevant(path: Path, watchedFiles: Set<File>): Boolean = path.toFile() in watchedFiles || watchedDirectoryTrees().any { path.startsWith(it) }
+
+  private companion object {
+
+    const val QUIET_PERIOD_MILLIS = 200L
+  }
+}
@@ -21,13 +21,22 @@ class RecipeForAllInOneContract(
   }
 
   private fun writeParsedContract(configuration: Configuration, openApi: OpenAPI) {
-    val outputDir = File(configuration.outputDir)
-    val contractOutputFile = File(configuration.outputContractFile)
-    val outputFile = if (contractOutputFile.isAbsolute) contractOutputFile else outputDir.resolve(contractOutputFile)
+    val outputFile = outputFile(configuration)
 
     log.info { "Writing all-in-one contract to: $outputFile" }
 
     outputFile.parentFile.mkdirs()
     outputFile.writeText(YamlSerializer.toYaml(openApi))
   }
+
+  companion object {
+
+    /**
+     * Returns the file the all-in-one contract is written to, which is resolved against the output directory, if it is not absolute.
+     */
+    fun outputFile(configuration: Configuration): File {
+      val contractOutputFile = File(configuration.outputContractFile)
+      return if (contractOutputFile.isAbsolute) contractOutputFile else File(configuration.outputDir).resolve(contractOutputFile)
+    }
+  }
 }
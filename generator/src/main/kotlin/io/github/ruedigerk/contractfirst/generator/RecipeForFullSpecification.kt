@@ -3,6 +3,7 @@ package io.github.ruedigerk.contractfirst.generator
 import io.github.ruedigerk.contractfirst.generator.configuration.Configuration
 import io.github.ruedigerk.contractfirst.generator.configuration.GeneratorType
 import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
+import io.github.ruedigerk.contractfirst.generator.java.generator.OutputDirectory
 import io.github.ruedigerk.contractfirst.generator.java.generator.clientgenerator.ClientGenerator
 import io.github.ruedigerk.contractfirst.generator.java.generator.modelgenerator.ModelGenerator
 import io.github.ruedigerk.contractfirst.generator.java.generator.servergenerator.ServerGenerator
@@ -10,6 +11,8 @@ import io.github.ruedigerk.contractfirst.generator.java.model.JavaSpecification
 import io.github.ruedigerk.contractfirst.generator.java.transform.JavaTransformer
 import io.github.ruedigerk.contractfirst.generator.logging.Log
 import io.github.ruedigerk.contractfirst.generator.parser.ContractParser
+import io.github.ruedigerk.contractfirst.generator.parser.SharedFileCache
+import java.io.File
 
 /**
  * A recipe for generating REST-operation and model code from an OpenAPI specification file.
@@ -17,28 +20,37 @@ import io.github.ruedigerk.contractfirst.generator.parser.ContractParser
 class RecipeForFullSpecification(
   private val log: Log,
   private val configuration: Configuration,
-) : () -> Unit {
+  private val sharedFileCache: SharedFileCache,
+) : () -> GenerationResult {
 
-  override operator fun invoke() {
-    val specification = ContractParser(log).toSpecification(configuration.inputContractFile)
+  override operator fun invoke(): GenerationResult {
+    val contractParser = ContractParser(log, sharedFileCache, configuration.generatorThreads)
+    val specification = contractParser.toSpecification(configuration.inputContractFile)
     val javaConfiguration = JavaConfiguration.forFullSpecification(configuration, apiPackagePrefix(configuration))
     val javaSpecification = JavaTransformer(log, javaConfiguration).transform(specification)
 
-    val generator = getGenerator(javaConfiguration)
+    val outputDirectory = OutputDirectory.forConfiguration(configuration)
+    val generator = getGenerator(javaConfiguration, outputDirectory)
     generator(javaSpecification)
-    ModelGenerator(javaConfiguration).generateCode(javaSpecification.modelFiles)
+    ModelGenerator(javaConfiguration, outputDirectory).generateCode(javaSpecification.modelFiles)
+
+    val summary = outputDirectory.finish()
+    log.info { "Generated files: $summary" }
 
     if (configuration.outputContract) {
       RecipeForAllInOneContract(log, configuration).invoke()
     }
-  }
 
-  private fun getGenerator(javaConfiguration: JavaConfiguration): (JavaSpecification) -> Unit = when (configuration.generator) {
-    GeneratorType.CLIENT -> ClientGenerator(javaConfiguration)
-    GeneratorType.SERVER -> ServerGenerator(javaConfiguration)
-    GeneratorType.MODEL_ONLY -> error("Illegal generator type: ${configuration.generator}")
+    return GenerationResult(contractParser.loadedFileHashes)
   }
 
+  private fun getGenerator(javaConfiguration: JavaConfiguration, outputDirectory: OutputDirectory): (JavaSpecification) -> Unit =
+    when (configuration.generator) {
+      GeneratorType.CLIENT -> ClientGenerator(javaConfiguration, outputDirectory)
+      GeneratorType.SERVER -> ServerGenerator(javaConfiguration, outputDirectory)
+      GeneratorType.MODEL_ONLY -> error("Illegal generator type: ${configuration.generator}")
+    }
+
   private fun apiPackagePrefix(configuration: Configuration): String = when (configuration.generator) {
     GeneratorType.CLIENT -> ".api"
     GeneratorType.SERVER -> ".resources"
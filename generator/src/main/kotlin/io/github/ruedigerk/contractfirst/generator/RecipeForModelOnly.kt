@@ -3,11 +3,14 @@ package io.github.ruedigerk.contractfirst.generator
 import io.github.ruedigerk.contractfirst.generator.configuration.Configuration
 import io.github.ruedigerk.contractfirst.generator.configuration.InvalidConfigurationException
 import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
+import io.github.ruedigerk.contractfirst.generator.java.generator.OutputDirectory
 import io.github.ruedigerk.contractfirst.generator.java.generator.modelgenerator.ModelGenerator
 import io.github.ruedigerk.contractfirst.generator.java.transform.JavaSchemaToSourceTransformer
 import io.github.ruedigerk.contractfirst.generator.java.transform.JavaSchemaToTypeTransformer
 import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.parser.ParseableCache
 import io.github.ruedigerk.contractfirst.generator.parser.ResolvingSchemaParser
+import io.github.ruedigerk.contractfirst.generator.parser.SharedFileCache
 import java.io.File
 
 /**
@@ -16,17 +19,25 @@ import java.io.File
 class RecipeForModelOnly(
   private val log: Log,
   private val configuration: Configuration,
-) : () -> Unit {
+  private val sharedFileCache: SharedFileCache,
+) : () -> GenerationResult {
 
-  override operator fun invoke() {
+  override operator fun invoke(): GenerationResult {
     val modelFiles = findModelFiles(configuration)
-    val parsedSchemas = ResolvingSchemaParser.parseAndResolveAll(log, modelFiles)
+    val parseableCache = ParseableCache(sharedFileCache)
+    val parsedSchemas = ResolvingSchemaParser.parseAndResolveAll(log, modelFiles, parseableCache, configuration.generatorThreads)
 
     val javaConfiguration = JavaConfiguration.forModelOnly(configuration)
     val types = JavaSchemaToTypeTransformer(log, parsedSchemas, javaConfiguration, emptyMap()).transform()
     val sourceFiles = JavaSchemaToSourceTransformer(parsedSchemas, types).transform()
 
-    ModelGenerator(javaConfiguration).generateCode(sourceFiles)
+    val outputDirectory = OutputDirectory.forConfiguration(configuration)
+    ModelGenerator(javaConfiguration, outputDirectory).generateCode(sourceFiles)
+
+    val summary = outputDirectory.finish()
+    log.info { "Generated files: $summary" }
+
+    return GenerationResult(parseableCache.loadedFileHashes)
   }
 
   private fun findModelFiles(configuration: Configuration): List<File> {
@@ -36,9 +47,7 @@ class RecipeForModelOnly(
       throw InvalidConfigurationException("parameter inputContractFile: \"$modelDirectory\" does not point to an existing file or directory.")
     }
 
-    val modelFiles = modelDirectory.walk()
-      .filter { it.name.endsWith(".yaml") || it.name.endsWith(".json") }
-      .toList()
+    val modelFiles = listModelFiles(modelDirectory)
 
     if (modelFiles.isEmpty()) {
       throw InvalidConfigurationException("No YAML or JSON model files found for inputContractFile: \"$modelDirectory\".")
@@ -46,4 +55,19 @@ class RecipeForModelOnly(
 
     return modelFiles
   }
+
+  companion object {
+
+    /**
+     * Returns the YAML and JSON files in the supplied directory and its subdirectories, or the supplied file itself, if it is not a directory.
+     */
+    fun listModelFiles(modelDirectory: File): List<File> = modelDirectory.walk()
+      .filter(::isModelFile)
+      .toList()
+
+    /**
+     * Returns whether the file is a YAML or JSON model file.
+     */
+    fun isModelFile(file: File): Boolean = file.name.endsWith(".yaml") || file.name.endsWith(".json")
+  }
 }
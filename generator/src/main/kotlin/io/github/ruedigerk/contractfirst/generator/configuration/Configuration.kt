@@ -18,6 +18,9 @@ data class Configuration(
   val outputJavaPackageSchemaDirectoryPrefix: String,
   val outputJavaModelNamePrefix: String,
   val outputJavaModelUseJsr305NullabilityAnnotations: Boolean,
+  val outputJavaModelReflectionFreeSerialization: Boolean,
+  val outputJavaModelImmutable: Boolean,
+  val generatorThreads: Int,
 ) {
 
   @Throws(InvalidConfigurationException::class)
@@ -34,6 +37,17 @@ data class Configuration(
       throw InvalidConfigurationException("parameter modelVariant: model variant $modelVariant is not supported by OkHttp-Gson client.")
     }
 
+    if (outputJavaModelImmutable && !outputJavaModelReflectionFreeSerialization) {
+      throw InvalidConfigurationException(
+        "parameter outputJavaModelImmutable: immutable models are deserialized through their builders, which requires " +
+          "outputJavaModelReflectionFreeSerialization to be enabled.",
+      )
+    }
+
+    if (generatorThreads < 1) {
+      throw InvalidConfigurationException("parameter generatorThreads: $generatorThreads is not a valid number of threads, it must be at least 1.")
+    }
+
     if (outputJavaModelNamePrefix.isNotEmpty() && outputJavaModelNamePrefix != outputJavaModelNamePrefix.toJavaTypeIdentifier()) {
       throw InvalidConfigurationException(
         "parameter outputJavaModelNamePrefix: \"${outputJavaModelNamePrefix}\" is not a valid prefix for a Java class name, " +
@@ -55,5 +69,8 @@ data class Configuration(
     |outputJavaPackageSchemaDirectoryPrefix='$outputJavaPackageSchemaDirectoryPrefix'
     |outputJavaModelNamePrefix='$outputJavaModelNamePrefix'
     |outputJavaModelUseJsr305NullabilityAnnotations='$outputJavaModelUseJsr305NullabilityAnnotations'
+    |outputJavaModelReflectionFreeSerialization='$outputJavaModelReflectionFreeSerialization'
+    |outputJavaModelImmutable='$outputJavaModelImmutable'
+    |generatorThreads=$generatorThreads
   """.trimMargin().prependIndent(indent)
 }
@@ -18,6 +18,9 @@ data class JavaConfiguration(
   val outputJavaPackageSchemaDirectoryPrefix: String,
   val modelNamePrefix: String,
   val useJsr305NullabilityAnnotations: Boolean,
+  val reflectionFreeSerialization: Boolean,
+  val immutableModel: Boolean,
+  val generatorThreads: Int,
 ) {
 
   companion object {
@@ -33,6 +36,9 @@ data class JavaConfiguration(
       configuration.outputJavaPackageSchemaDirectoryPrefix,
       configuration.outputJavaModelNamePrefix,
       configuration.outputJavaModelUseJsr305NullabilityAnnotations,
+      configuration.outputJavaModelReflectionFreeSerialization,
+      configuration.outputJavaModelImmutable,
+      configuration.generatorThreads,
     )
 
     fun forModelOnly(configuration: Configuration) = JavaConfiguration(
@@ -46,6 +52,9 @@ data class JavaConfiguration(
       configuration.outputJavaPackageSchemaDirectoryPrefix,
       configuration.outputJavaModelNamePrefix,
       configuration.outputJavaModelUseJsr305NullabilityAnnotations,
+      configuration.outputJavaModelReflectionFreeSerialization,
+      configuration.outputJavaModelImmutable,
+      configuration.generatorThreads,
     )
   }
 }
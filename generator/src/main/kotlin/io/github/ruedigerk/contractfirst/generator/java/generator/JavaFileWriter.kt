@@ -0,0 +1,37 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator
+
+import com.squareup.javapoet.JavaFile
+import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
+import io.github.ruedigerk.contractfirst.generator.mapConcurrently
+
+/**
+ * Renders source files to JavaFiles and writes them to the output directory, which skips unchanged files. Sources that did not change since the previous
+ * run, according to their fingerprint, see [SourceFingerprinter], are not rendered again. With more than one thread, files are rendered and written
+ * concurrently on a bounded thread pool.
+ *
+ * Errors are reported deterministically: the exception of the first failing source, in the order of the sources, is thrown, regardless of which thread
+ * failed first. Sources after it are cancelled, if they have not been written yet.
+ */
+class JavaFileWriter(
+  private val outputDirectory: OutputDirectory,
+  configuration: JavaConfiguration,
+) {
+
+  private val threads = configuration.generatorThreads
+  private val fingerprinter = SourceFingerprinter(configuration)
+
+  /**
+   * Renders every source to a JavaFile and writes it. The render function has to be safe to be called concurrently, when using more than one thread. It has
+   * to depend only on the source and the configuration, as it is not called for sources that did not change since the previous run.
+   */
+  fun <T : Any> write(sources: List<T>, render: (T) -> JavaFile) {
+    sources.mapConcurrently(threads) { source -> outputDirectory.write(fingerprinter.fingerprint(source)) { render(source) } }
+  }
+
+  /**
+   * Writes the already rendered JavaFiles.
+   */
+  fun write(javaFiles: List<JavaFile>) {
+    javaFiles.mapConcurrently(threads) { outputDirectory.write(it) }
+  }
+}
@@ -1,22 +1,38 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator
 
 import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
 import com.squareup.javapoet.FieldSpec
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.NameAllocator
+import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
 import java.util.*
 import javax.lang.model.element.Modifier
 
 /**
  * Used for generating the methods inherited from Object: equals, hashCode and toString.
+ *
+ * The generated methods do not allocate, except for toString's result: hashCode is unrolled instead of calling Objects.hash, which allocates an array and boxes
+ * primitives. The results are the same as those of the straightforward implementations using Objects.equals, Objects.hash and a StringBuilder.
  */
 object MethodsFromObject {
 
-  fun generateEqualsHashCodeAndToString(thisClassName: ClassName, fields: List<FieldSpec>): List<MethodSpec> =
-    listOf(generateEquals(thisClassName, fields), generateHashCode(fields), generateToString(thisClassName, fields))
+  /**
+   * The estimated length of the string representation of a field's value, used for pre-sizing the StringBuilder in toString.
+   */
+  private const val ESTIMATED_VALUE_LENGTH = 16
+
+  private val STRING: TypeName = ClassName.get(String::class.java)
+
+  /**
+   * Generates equals, hashCode and toString based on the specified fields. If a hashCodeCache field is specified, which has to be an int field, the hash code
+   * is computed only once and cached in that field, which is only valid for immutable classes. Equals then also compares the cached hash codes first.
+   */
+  fun generateEqualsHashCodeAndToString(thisClassName: ClassName, fields: List<FieldSpec>, hashCodeCache: FieldSpec? = null): List<MethodSpec> =
+    listOf(generateEquals(thisClassName, fields, hashCodeCache), generateHashCode(fields, hashCodeCache), generateToString(thisClassName, fields))
 
-  private fun generateEquals(thisTypeName: TypeName, fields: List<FieldSpec>): MethodSpec {
+  private fun generateEquals(thisTypeName: TypeName, fields: List<FieldSpec>, hashCodeCache: FieldSpec?): MethodSpec {
     val localNameAllocator = NameAllocator()
     fields.forEach { localNameAllocator.newName(it.name, it) }
 
@@ -38,23 +54,30 @@ object MethodsFromObject {
     result.addStatement("if (\$1N == null || getClass() != \$1N.getClass()) return false", parameterName)
     result.addStatement("\$T \$N = (\$T) \$N", thisTypeName, otherName, thisTypeName, parameterName)
 
-    val firstFieldName = localNameAllocator[fields[0]]
-    result.addCode("\$[return $1T.equals($2L, $3N.$2L)", Objects::class.java, firstFieldName, otherName)
-
-    for (index in 1..fields.lastIndex) {
-      val field = fields[index]
-      val fieldName = localNameAllocator[field]
-      result.addCode("\n&& $1T.equals($2L, $3N.$2L)", Objects::class.java, fieldName, otherName)
+    if (hashCodeCache != null) {
+      // Hash codes that are already computed differ for unequal instances only, so comparing them first is a cheap way of detecting most unequal instances.
+      result.addStatement("if (\$1N != 0 && \$2N.\$1N != 0 && \$1N != \$2N.\$1N) return false", hashCodeCache, otherName)
     }
 
+    // Fields that are cheap to compare are compared first, so that comparing unequal instances returns as early as possible.
+    val fieldsByComparisonCost = fields.sortedBy(::comparisonCost)
+
+    result.addCode("\$[return ")
+    fieldsByComparisonCost.forEachIndexed { index, field ->
+      if (index > 0) {
+        result.addCode("\n&& ")
+      }
+      result.addCode(equalityTerm(field, localNameAllocator[field], otherName))
+    }
     result.addCode(";\n$]")
 
     return result.build()
   }
 
-  private fun generateHashCode(fields: List<FieldSpec>): MethodSpec {
+  private fun generateHashCode(fields: List<FieldSpec>, hashCodeCache: FieldSpec?): MethodSpec {
     val localNameAllocator = NameAllocator()
     fields.forEach { localNameAllocator.newName(it.name, it) }
+    hashCodeCache?.let { localNameAllocator.newName(it.name, it) }
 
     val result = MethodSpec.methodBuilder("hashCode")
       .addAnnotation(Override::class.java)
@@ -66,19 +89,76 @@ object MethodsFromObject {
       return result.build()
     }
 
-    result.addCode("\$[return Objects.hash(")
+    val resultName = localNameAllocator.newName("result")
 
-    for (index in 0 until fields.lastIndex) {
-      val field = fields[index]
-      result.addCode("\$N, ", field)
+    if (hashCodeCache == null) {
+      addHashStatements(result, fields, resultName)
+      result.addStatement("return \$N", resultName)
+      return result.build()
     }
 
-    result.addCode("\$N", fields.last())
-    result.addCode(");\n\$]")
+    // Like String, a hash code of 0 is not cached, but recomputed on every call. Racing threads compute the same hash code, so no synchronization is needed.
+    result.addStatement("int \$N = \$N", resultName, hashCodeCache)
+    result.beginControlFlow("if (\$N == 0)", resultName)
+    addHashStatements(result, fields, resultName, declare = false)
+    result.addStatement("\$N = \$N", hashCodeCache, resultName)
+    result.endControlFlow()
+    result.addStatement("return \$N", resultName)
 
     return result.build()
   }
 
+  /**
+   * Adds the statements computing the hash code into the local variable resultName. The result is equal to Objects.hash with all fields as arguments, i.e.,
+   * Arrays.hashCode of an array of the fields' values, which starts with 1 and adds the hash code of each value after multiplying by 31.
+   */
+  private fun addHashStatements(result: MethodSpec.Builder, fields: List<FieldSpec>, resultName: String, declare: Boolean = true) {
+    result.addStatement("\$L\$N = 31 + \$L", if (declare) "int " else "", resultName, hashTerm(fields.first()))
+
+    for (index in 1..fields.lastIndex) {
+      result.addStatement("\$1N = 31 * \$1N + \$2L", resultName, hashTerm(fields[index]))
+    }
+  }
+
+  /**
+   * Returns the expression for the hash code of a field, which is the same as the hash code of its boxed value, without boxing primitives.
+   */
+  private fun hashTerm(field: FieldSpec): CodeBlock {
+    val type = field.type.withoutAnnotations()
+
+    return if (type.isPrimitive) {
+      CodeBlock.of("\$T.hashCode(\$N)", type.box(), field)
+    } else {
+      CodeBlock.of("\$T.hashCode(\$N)", Objects::class.java, field)
+    }
+  }
+
+  private fun equalityTerm(field: FieldSpec, fieldName: String, otherName: String): CodeBlock {
+    val type = field.type.withoutAnnotations()
+
+    return when {
+      type == TypeName.FLOAT || type == TypeName.DOUBLE -> CodeBlock.of("\$T.compare(\$L, \$N.\$L) == 0", type.box(), fieldName, otherName, fieldName)
+      type.isPrimitive -> CodeBlock.of("\$L == \$N.\$L", fieldName, otherName, fieldName)
+      else -> CodeBlock.of("\$T.equals(\$L, \$N.\$L)", Objects::class.java, fieldName, otherName, fieldName)
+    }
+  }
+
+  /**
+   * Estimates the relative cost of comparing a field: primitives are the cheapest, followed by their wrappers and Strings. Generic types like collections are
+   * the most expensive.
+   */
+  private fun comparisonCost(field: FieldSpec): Int {
+    val type = field.type.withoutAnnotations()
+
+    return when {
+      type.isPrimitive -> 0
+      type.isBoxedPrimitive -> 1
+      type == STRING -> 2
+      type is ParameterizedTypeName -> 4
+      else -> 3
+    }
+  }
+
   /**
    * TODO: Generate more fancy indented toString like OpenAPI-Generator? Example:
    *
@@ -108,15 +188,24 @@ object MethodsFromObject {
       .addModifiers(Modifier.PUBLIC)
       .returns(String::class.java)
 
+    if (fields.isEmpty()) {
+      result.addStatement("return \$S", thisClassName.simpleName() + "{}")
+      return result.build()
+    }
+
+    // Sized for the literal text plus an estimated length of each value, so that the builder does not need to grow for typical values.
+    val literalLength = thisClassName.simpleName().length + 2 + fields.sumOf { it.name.length + 1 } + (fields.size - 1) * 2
+    val capacity = literalLength + fields.size * ESTIMATED_VALUE_LENGTH
+
     val builderName = nameAllocator.newName("builder")
-    result.addStatement("$1T $2N = new $1T()", StringBuilder::class.java, builderName)
+    result.addStatement("$1T $2N = new $1T(\$3L)", StringBuilder::class.java, builderName, capacity)
 
-    for (field in fields) {
-      val fieldName = nameAllocator[field]
-      result.addStatement("\$N.append(\", \$N=\").append(\$L)", builderName, field.name, fieldName)
+    fields.forEachIndexed { index, field ->
+      val prefix = if (index == 0) thisClassName.simpleName() + "{" else ", "
+      result.addStatement("\$N.append(\$S).append(\$N)", builderName, prefix + field.name + "=", nameAllocator[field])
     }
 
-    result.addStatement("return builder.replace(0, 2, \"\$L{\").append('}').toString()", thisClassName.simpleName())
+    result.addStatement("return \$N.append('}').toString()", builderName)
 
     return result.build()
   }
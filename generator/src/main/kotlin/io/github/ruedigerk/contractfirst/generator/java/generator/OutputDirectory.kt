@@ -0,0 +1,213 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator
+
+import com.squareup.javapoet.JavaFile
+import io.github.ruedigerk.contractfirst.generator.configuration.Configuration
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * The directory the generated files of a generator run are written to. Files are only written when their content changed, so that unchanged files keep their
+ * modification time and are not recompiled by the Java compiler or the IDE.
+ *
+ * The files written by a run are recorded in a manifest. When the run is finished, see [finish], files recorded in the manifest of the previous run, that
+ * were not generated again, are deleted. Files that were not generated by a previous run are never deleted. The manifest is named after the generator variant
+ * and the base package, see [forConfiguration], so that multiple executions can share the same directory, e.g., a server and a client execution with the
+ * same base package.
+ *
+ * Files rendered from a source with a fingerprint, see [SourceFingerprinter], are additionally recorded with that fingerprint. A later run does not render a
+ * source with the same fingerprint again, as long as the file rendered from it was not modified since, so that only the files of changed types and
+ * operation groups are rendered.
+ *
+ * Writing files is thread-safe.
+ */
+class OutputDirectory(
+  val directory: File,
+  manifestName: String,
+) {
+
+  private val manifestFile = directory.resolve(MANIFEST_DIRECTORY).resolve("$manifestName.files")
+  private val sourcesManifestFile = directory.resolve(MANIFEST_DIRECTORY).resolve("$manifestName.sources")
+  private val canonicalDirectory = directory.canonicalFile
+
+  private val generatedFiles: MutableSet<String> = ConcurrentHashMap.newKeySet()
+  private val writtenCount = AtomicInteger()
+  private val unchangedCount = AtomicInteger()
+
+  private val previousSources: Map<String, RenderedSource> by lazy { readSourcesManifest() }
+  private val renderedSources = ConcurrentHashMap<String, RenderedSource>()
+
+  /**
+   * Writes the JavaFile to the directory of its package, if its content changed. Returns the path of the file, relative to the directory.
+   */
+  fun write(javaFile: JavaFile): String {
+    val packagePath = javaFile.packageName.replace('.', '/')
+    val relativePath = if (packagePath.isEmpty()) "${javaFile.typeSpec.name}.java" else "$packagePath/${javaFile.typeSpec.name}.java"
+
+    write(relativePath, javaFile.toString().toByteArray(Charsets.UTF_8))
+    return relativePath
+  }
+
+  /**
+   * Writes the JavaFile rendered from a source with the supplied fingerprint. When the previous run rendered a source with the same fingerprint, and the file
+   * it wrote was not modified since, the file is kept as it is without rendering the JavaFile.
+   */
+  fun write(sourceFingerprint: String, render: () -> JavaFile) {
+    val previous = previousSources[sourceFingerprint]
+
+    val rendered = if (previous != null && isUnmodified(previous)) {
+      generatedFiles.add(previous.relativePath)
+      unchangedCount.incrementAndGet()
+      previous
+    } else {
+      renderedSource(write(render()))
+    }
+
+    renderedSources[sourceFingerprint] = rendered
+  }
+
+  /**
+   * Writes the content to the file at the relative path, if the file does not exist or its content is different.
+   */
+  fun write(relativePath: String, content: ByteArray) {
+    generatedFiles.add(relativePath)
+
+    val file = directory.resolve(relativePath)
+
+    if (hasContent(file, content)) {
+      unchangedCount.incrementAndGet()
+      return
+    }
+
+    file.parentFile.mkdirs()
+    file.writeBytes(content)
+    writtenCount.incrementAndGet()
+  }
+
+  /**
+   * Deletes the files generated by the previous run that were not generated by this run, and records the files of this run in the manifest. Returns the
+   * numbers of written, unchanged and removed files.
+   */
+  fun finish(): Summary {
+    val staleFiles = readManifest() - generatedFiles
+    val removedCount = staleFiles.count { deleteStaleFile(it) }
+
+    manifestFile.parentFile.mkdirs()
+    manifestFile.writeText(generatedFiles.sorted().joinToString("\n", postfix = "\n"))
+    sourcesManifestFile.writeText(renderedSources.toSortedMap().entries.joinToString("") { (fingerprint, rendered) -> "$fingerprint ${rendered.toLine()}\n" })
+
+    return Summary(writtenCount.get(), unchangedCount.get(), removedCount)
+  }
+
+  /**
+   * Returns whether the manifest of the previous run exists and all files recorded in it still exist.
+   */
+  fun isComplete(): Boolean = manifestFile.isFile && readManifest().all { directory.resolve(it).isFile }
+
+  private fun hasContent(file: File, content: ByteArray): Boolean {
+    // Comparing the size first avoids reading files whose content obviously changed.
+    if (!file.isFile || file.length() != content.size.toLong()) {
+      return false
+    }
+
+    return file.readBytes().contentEquals(content)
+  }
+
+  private fun readManifest(): Set<String> = if (manifestFile.isFile) {
+    manifestFile.readLines().filter { it.isNotBlank() }.toSet()
+  } else {
+    emptySet()
+  }
+
+  /**
+   * Every line holds the fingerprint of a source, and the length, the modification time and the relative path of the file rendered from it.
+   */
+  private fun readSourcesManifest(): Map<String, RenderedSource> = try {
+    if (sourcesManifestFile.isFile) {
+      sourcesManifestFile.readLines().mapNotNull { line -> RenderedSource.parse(line.substringAfter(' '))?.let { line.substringBefore(' ') to it } }.toMap()
+    } else {
+      emptyMap()
+    }
+  } catch (e: IOException) {
+    emptyMap()
+  }
+
+  private fun deleteStaleFile(relativePath: String): Boolean {
+    val file = directory.resolve(relativePath).canonicalFile
+
+    // Never delete anything outside the output directory, even if the manifest was tampered with.
+    if (!file.startsWith(canonicalDirectory) || !file.isFile || !file.delete()) {
+      return false
+    }
+
+    deleteEmptyParentDirectories(file)
+    return true
+  }
+
+  private fun deleteEmptyParentDirectories(file: File) {
+    var directory = file.parentFile
+
+    while (directory != null && directory != canonicalDirectory && directory.startsWith(canonicalDirectory) && directory.list()?.isEmpty() == true) {
+      directory.delete()
+      directory = directory.parentFile
+    }
+  }
+
+  private fun renderedSource(relativePath: String): RenderedSource {
+    val file = directory.resolve(relativePath)
+    return RenderedSource(relativePath, file.length(), file.lastModified())
+  }
+
+  private fun isUnmodified(rendered: RenderedSource): Boolean = renderedSource(rendered.relativePath) == rendered && directory.resolve(rendered.relativePath).isFile
+
+  /**
+   * The file rendered from a source, with the length and modification time it had when it was rendered.
+   */
+  private data class RenderedSource(
+    val relativePath: String,
+    val length: Long,
+    val lastModified: Long,
+  ) {
+
+    fun toLine(): String = "$length $lastModified $relativePath"
+
+    companion object {
+
+      fun parse(line: String): RenderedSource? {
+        val parts = line.split(' ', limit = 3)
+        val length = parts.getOrNull(0)?.toLongOrNull()
+        val lastModified = parts.getOrNull(1)?.toLongOrNull()
+        val relativePath = parts.getOrNull(2)
+
+        return if (length != null && lastModified != null && !relativePath.isNullOrEmpty()) RenderedSource(relativePath, length, lastModified) else null
+      }
+    }
+  }
+
+  /**
+   * The numbers of files written, left unchanged and removed by a generator run.
+   */
+  data class Summary(
+    val written: Int,
+    val unchanged: Int,
+    val removed: Int,
+  ) {
+
+    override fun toString(): String = "$written written, $unchanged unchanged, $removed removed"
+  }
+
+  companion object {
+
+    private const val MANIFEST_DIRECTORY = ".contractfirst-generator"
+
+    /**
+     * Returns the output directory of the configuration, with a manifest named after its generator variant and base package.
+     */
+    @JvmStatic
+    fun forConfiguration(configuration: Configuration): OutputDirectory {
+      val manifestName = "${configuration.outputJavaBasePackage}-${configuration.generatorVariant.name.lowercase()}"
+      return OutputDirectory(File(configuration.outputDir), manifestName)
+    }
+  }
+}
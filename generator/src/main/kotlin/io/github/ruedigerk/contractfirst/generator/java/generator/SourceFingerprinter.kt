@@ -0,0 +1,39 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.databind.json.JsonMapper
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator
+import io.github.ruedigerk.contractfirst.generator.GenerationFingerprint
+import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
+import java.security.MessageDigest
+
+/**
+ * Computes the fingerprints of the sources a [JavaFileWriter] renders Java files from, e.g., the model of a class or an operation group. A source refers to
+ * the other types it depends on by their names and embeds all data of them it renders, so the fingerprint of a source changes exactly when the Java file
+ * rendered from it may change. Sources whose fingerprint did not change since the previous run are not rendered again, see [OutputDirectory.write].
+ *
+ * The fingerprint covers the version of the generator, the configuration, the class of the source and all of its properties, including the classes of
+ * nested values, so that values of different subtypes with the same properties are told apart.
+ */
+internal class SourceFingerprinter(configuration: JavaConfiguration) {
+
+  private val mapper: ObjectMapper = JsonMapper.builder()
+    .activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.OBJECT_AND_NON_CONCRETE)
+    .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+    .build()
+
+  // The number of threads does not change the generated files.
+  private val configurationText = mapper.writeValueAsString(configuration.copy(generatorThreads = 0))
+
+  /**
+   * Returns the fingerprint of the source. Sources have to be plain data, i.e., their properties must not change, and they must be serializable by Jackson.
+   */
+  fun fingerprint(source: Any): String {
+    val text = listOf(GenerationFingerprint.GENERATOR_VERSION, configurationText, source.javaClass.name, mapper.writeValueAsString(source)).joinToString("\n")
+
+    return MessageDigest.getInstance("SHA-256")
+      .digest(text.toByteArray(Charsets.UTF_8))
+      .joinToString("") { "%02x".format(it) }
+  }
+}
@@ -13,7 +13,9 @@ import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaConsta
 import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaTypeIdentifier
 import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
 import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.toAnnotation
+import io.github.ruedigerk.contractfirst.generator.java.generator.JavaFileWriter
 import io.github.ruedigerk.contractfirst.generator.java.generator.JavaSpecRewriter
+import io.github.ruedigerk.contractfirst.generator.java.generator.OutputDirectory
 import io.github.ruedigerk.contractfirst.generator.java.generator.JavaSpecRewriter.Companion.Rewriter
 import io.github.ruedigerk.contractfirst.generator.java.generator.JavaSpecRewriter.Companion.rewriteBinaryTypeTo
 import io.github.ruedigerk.contractfirst.generator.java.generator.JavaSpecRewriter.Companion.rewriteDissectedBodyParameterType
@@ -37,16 +39,15 @@ import io.github.ruedigerk.contractfirst.generator.java.model.JavaTypeName
 import io.github.ruedigerk.contractfirst.generator.openapi.DefaultStatusCode
 import io.github.ruedigerk.contractfirst.generator.openapi.ParameterLocation
 import io.github.ruedigerk.contractfirst.generator.openapi.StatusCode
-import java.io.File
 import java.util.*
 import javax.lang.model.element.Modifier
 
 /**
  * Generates the contract-specific code for an API client in Java.
  */
-class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) -> Unit {
+class ClientGenerator(configuration: JavaConfiguration, outputDirectory: OutputDirectory) : (JavaSpecification) -> Unit {
 
-  private val outputDir = File(configuration.outputDir)
+  private val fileWriter = JavaFileWriter(outputDirectory, configuration)
   private val apiPackage = configuration.apiPackage
 
   override operator fun invoke(specification: JavaSpecification) {
@@ -66,22 +67,22 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
   }
 
   private fun generateApiClientClasses(specification: JavaSpecification) {
-    specification.operationGroups.asSequence()
-      .map(::createApiClientClass)
-      .forEach { it.writeTo(outputDir) }
+    fileWriter.write(specification.operationGroups, ::createApiClientClass)
   }
 
   private fun generateErrorWithEntityExceptionClasses(specification: JavaSpecification) {
-    specification.operationGroups
+    val failureTypes = specification.operationGroups
       .flatMap { it.operations }
       .flatMap { it.failureTypes }
       .distinct()
-      .map { createClassForErrorWithEntityException(it) }
-      .forEach { it.writeTo(outputDir) }
+
+    fileWriter.write(failureTypes, ::createClassForErrorWithEntityException)
   }
 
   private fun createApiClientClass(operationGroup: JavaOperationGroup): JavaFile {
     val genericTypeConstants = generateTypeTokenConstants(operationGroup)
+    val descriptorConstantNames = determineOperationDescriptorConstantNames(operationGroup)
+    val operationDescriptorConstants = operationGroup.operations.map { generateOperationDescriptorConstant(it, descriptorConstantNames.getValue(it)) }
 
     val requestExecutorFieldSpec = FieldSpec.builder(SupportTypes.ApiRequestExecutor, "requestExecutor", Modifier.PRIVATE, Modifier.FINAL).build()
     val returningResultFieldSpec = FieldSpec.builder("ReturningResult".toClassName(), "returningResult", Modifier.PRIVATE, Modifier.FINAL).build()
@@ -100,15 +101,18 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
       .addStatement("return returningResult")
       .build()
 
-    val methodSpecs = operationGroup.operations.map(::createSimplifiedMethod)
+    val methodSpecs = operationGroup.operations.flatMap {
+      listOf(createSimplifiedMethod(it), createAsyncSimplifiedMethod(it)) + createDownloadMethods(it, descriptorConstantNames.getValue(it))
+    }
 
-    val returningResultSubclass = createClassReturningResult(operationGroup)
+    val returningResultSubclass = createClassReturningResult(operationGroup, descriptorConstantNames)
     val operationSpecificResultClasses = operationGroup.operations.map(::createClassForOperationSpecificResult)
 
     val classSpec = TypeSpec.classBuilder(operationGroup.javaIdentifier + CLIENT_CLASS_NAME_SUFFIX)
       .addJavadoc("Contains methods for all API operations tagged \"${operationGroup.originalTag}\".")
       .addModifiers(Modifier.PUBLIC)
       .addFields(genericTypeConstants)
+      .addFields(operationDescriptorConstants)
       .addField(requestExecutorFieldSpec)
       .addField(returningResultFieldSpec)
       .addMethod(constructorSpec)
@@ -148,79 +152,61 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
     is JavaType -> type.name.simpleName.toJavaConstant()
   }
 
-  private fun createSimplifiedMethod(operation: JavaOperation): MethodSpec {
-    val code = createCodeOfSimplifiedMethod(operation)
-    val exceptions = getAllErrorWithEntityExceptionsFor(operation)
-
-    val returnType = when {
-      // There are multiple success entity types, so return the successful response object.
-      operation.successTypes.size > 1 -> typeNameOfResultClass(operation)
-
-      // There is a single entity type that all successful responses use or no entity at all.
-      else -> operation.successTypes.firstOrNull()?.toTypeName()
+  /**
+   * Determines the names of the constants holding the operation descriptors. Makes sure they are unique, even if the method names of two operations map to
+   * the same constant name.
+   */
+  private fun determineOperationDescriptorConstantNames(operationGroup: JavaOperationGroup): Map<JavaOperation, String> {
+    val usedNames = mutableSetOf<String>()
+
+    return operationGroup.operations.associateWith { operation ->
+      val baseName = "OPERATION_" + operation.javaMethodName.toJavaConstant()
+      generateSequence(1) { it + 1 }
+        .map { if (it == 1) baseName else "${baseName}_$it" }
+        .first { usedNames.add(it) }
     }
-
-    return createMethodForOperation(operation, returnType, code, exceptions)
   }
 
-  private fun createClassReturningResult(operationGroup: JavaOperationGroup): TypeSpec {
-    val methodSpecs = operationGroup.operations.map {
-      val code = createCodeOfMethodReturningResult(it)
-      createMethodForOperation(it, typeNameOfResultClass(it), code)
-    }
-
-    return TypeSpec.classBuilder("ReturningResult")
-      .addJavadoc("Contains methods returning operation specific result classes, allowing inspection of the operations' responses.")
-      .addModifiers(Modifier.PUBLIC)
-      .addMethods(methodSpecs)
-      .build()
-  }
-
-  private fun createCodeOfMethodReturningResult(operation: JavaOperation): CodeBlock {
+  /**
+   * Generates the constant holding the immutable descriptor of the operation, which is bound to the argument values for every call.
+   */
+  private fun generateOperationDescriptorConstant(operation: JavaOperation, constantName: String): FieldSpec {
     val codeBuilder = CodeBlock.builder()
 
-    codeBuilder.add("\n")
-    codeBuilder.addStatement("\$1T builder = new \$1T(\$2S, \$3S)", SupportTypes.OperationBuilder, operation.path, operation.httpMethod)
-    codeBuilder.add("\n")
+    codeBuilder.add("new \$T(\$S, \$S)", SupportTypes.OperationDescriptorBuilder, operation.path, operation.httpMethod)
+    codeBuilder.add("\$>\$>")
 
-    // Add all parameters to the operation builder.
+    // Define all parameters in the order their values are bound.
     operation.parameters.forEach { parameter ->
       when (parameter) {
-        is JavaRegularParameter -> codeBuilder.addStatement(
-          "builder.parameter(\$S, \$T.\$L, \$L, \$N)",
+        is JavaRegularParameter -> codeBuilder.add(
+          "\n.parameter(\$S, \$T.\$L, \$L)",
           parameter.originalName,
           SupportTypes.ParameterLocation,
           parameter.location.name,
           parameter.required,
-          parameter.javaParameterName,
         )
 
-        is JavaBodyParameter -> codeBuilder.addStatement(
-          "builder.requestBody(\$S, \$L, \$N)",
+        is JavaBodyParameter -> codeBuilder.add(
+          "\n.requestBody(\$S, \$L)",
           parameter.mediaType,
           parameter.required,
-          parameter.javaParameterName,
         )
 
-        is JavaDissectedBodyParameter -> codeBuilder.addStatement(
-          "builder.requestBodyPart(\$T.\$L, \$S, \$N)",
+        is JavaDissectedBodyParameter -> codeBuilder.add(
+          "\n.requestBodyPart(\$T.\$L, \$S)",
           SupportTypes.BodyPartType,
           parameter.bodyPartType.name,
           parameter.originalName,
-          parameter.javaParameterName,
         )
       }
     }
 
     if (operation.parameters.any { it is JavaDissectedBodyParameter }) {
-      codeBuilder.addStatement("builder.multipartRequestBody(\$S)", operation.requestBodyMediaType)
+      codeBuilder.add("\n.multipartRequestBody(\$S)", operation.requestBodyMediaType)
     }
 
-    if (operation.parameters.isNotEmpty()) {
-      codeBuilder.add("\n")
-    }
-
-    // Add response definitions to operation builder.
+    // Define the responses.
     operation.responses.forEach { response ->
       val statusCodeExpression = when (val statusCode = response.statusCode) {
         is StatusCode -> CodeBlock.of("\$T.of(\$L)", SupportTypes.StatusCode, statusCode.code)
@@ -228,25 +214,86 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
       }
 
       if (response.contents.isEmpty()) {
-        codeBuilder.addStatement("builder.response(\$L)", statusCodeExpression)
+        codeBuilder.add("\n.response(\$L)", statusCodeExpression)
       } else {
         response.contents.forEach { content ->
-          codeBuilder.addStatement("builder.response(\$L, \$S, \$L)", statusCodeExpression, content.mediaType, toTypeExpression(content.javaType))
+          codeBuilder.add("\n.response(\$L, \$S, \$L)", statusCodeExpression, content.mediaType, toTypeExpression(content.javaType))
         }
       }
     }
 
-    if (operation.responses.isNotEmpty()) {
-      codeBuilder.add("\n")
+    codeBuilder.add("\n.build()")
+    codeBuilder.add("\$<\$<")
+
+    return FieldSpec.builder(SupportTypes.OperationDescriptor, constantName, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+      .initializer(codeBuilder.build())
+      .build()
+  }
+
+  private fun createSimplifiedMethod(operation: JavaOperation): MethodSpec {
+    val code = createCodeOfSimplifiedMethod(operation)
+    val exceptions = getAllErrorWithEntityExceptionsFor(operation)
+
+    return createMethodForOperation(operation, determineReturnTypeOfSimplifiedMethod(operation), code, exceptions)
+  }
+
+  private fun determineReturnTypeOfSimplifiedMethod(operation: JavaOperation): TypeName? = when {
+    // There are multiple success entity types, so return the successful response object.
+    operation.successTypes.size > 1 -> typeNameOfResultClass(operation)
+
+    // There is a single entity type that all successful responses use or no entity at all.
+    else -> operation.successTypes.firstOrNull()?.toTypeName()
+  }
+
+  private fun createClassReturningResult(operationGroup: JavaOperationGroup, descriptorConstantNames: Map<JavaOperation, String>): TypeSpec {
+    val methodSpecs = operationGroup.operations.flatMap {
+      val descriptorConstantName = descriptorConstantNames.getValue(it)
+      val code = createCodeOfMethodReturningResult(it, descriptorConstantName)
+      val asyncCode = createCodeOfAsyncMethodReturningResult(it, descriptorConstantName)
+
+      listOf(
+        createMethodForOperation(it, typeNameOfResultClass(it), code),
+        createAsyncMethodForOperation(it, typeNameOfResultClass(it), asyncCode),
+      )
     }
 
-    codeBuilder.addStatement("\$T response = requestExecutor.executeRequest(builder.build())", SupportTypes.ApiResponse)
+    return TypeSpec.classBuilder("ReturningResult")
+      .addJavadoc("Contains methods returning operation specific result classes, allowing inspection of the operations' responses.")
+      .addModifiers(Modifier.PUBLIC)
+      .addMethods(methodSpecs)
+      .build()
+  }
+
+  private fun createCodeOfMethodReturningResult(operation: JavaOperation, descriptorConstantName: String): CodeBlock {
+    val codeBuilder = CodeBlock.builder()
+
+    codeBuilder.add("\n")
+    codeBuilder.addStatement(
+      "\$T response = requestExecutor.executeRequest(\$N.bind(\$L))",
+      SupportTypes.ApiResponse,
+      descriptorConstantName,
+      operation.parameters.joinToString(", ") { it.javaParameterName },
+    )
     codeBuilder.add("\n")
     codeBuilder.addStatement("return new \$T(response)", typeNameOfResultClass(operation))
 
     return codeBuilder.build()
   }
 
+  private fun createCodeOfAsyncMethodReturningResult(operation: JavaOperation, descriptorConstantName: String): CodeBlock {
+    val codeBuilder = CodeBlock.builder()
+
+    codeBuilder.add("\n")
+    codeBuilder.addStatement(
+      "return requestExecutor.executeRequestAsync(\$N.bind(\$L)).thenApply(\$T::new)",
+      descriptorConstantName,
+      operation.parameters.joinToString(", ") { it.javaParameterName },
+      typeNameOfResultClass(operation),
+    )
+
+    return codeBuilder.build()
+  }
+
   private fun typeNameOfResultClass(operation: JavaOperation): ClassName {
     return (operation.javaMethodName.toJavaTypeIdentifier() + "Result").toClassName()
   }
@@ -275,6 +322,125 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
       .build()
   }
 
+  /**
+   * Creates the asynchronous variant of an operation method. It does not declare any exceptions, as they are delivered by completing the returned future
+   * exceptionally.
+   */
+  private fun createAsyncMethodForOperation(operation: JavaOperation, resultType: TypeName?, code: CodeBlock): MethodSpec {
+    val parameters = operation.parameters.map(::toParameterSpec)
+    val futureResultType = resultType?.box() ?: TypeName.VOID.box()
+
+    return MethodSpec.methodBuilder(asyncMethodName(operation))
+      .addJavadoc(
+        "Executes operation {@code \$L} asynchronously. The returned future fails with the exceptions of the synchronous variant.",
+        operation.javaMethodName,
+      )
+      .doIfNotNull(operation.javadoc) { addJavadoc("\n\n\$L", it) }
+      .addModifiers(Modifier.PUBLIC)
+      .returns(ParameterizedTypeName.get(SupportTypes.CompletableFuture, futureResultType))
+      .addParameters(parameters)
+      .addCode(code)
+      .build()
+  }
+
+  private fun asyncMethodName(operation: JavaOperation): String = operation.javaMethodName + "Async"
+
+  /**
+   * Creates the variants of an operation method that write the binary response body to a file or a channel, instead of returning it as an InputStream. They
+   * are only generated for operations whose successful responses all have a binary entity.
+   */
+  private fun createDownloadMethods(operation: JavaOperation, descriptorConstantName: String): List<MethodSpec> {
+    if (operation.successTypes.singleOrNull()?.name != JavaTypeName.INPUT_STREAM) {
+      return emptyList()
+    }
+
+    val usedNames = operation.parameters.map { it.javaParameterName }.toSet()
+    val fileParameter = ParameterSpec.builder(SupportTypes.Path, uniqueParameterName("targetFile", usedNames)).build()
+    val resumeParameter = ParameterSpec.builder(TypeName.BOOLEAN, uniqueParameterName("resume", usedNames)).build()
+    val channelParameter = ParameterSpec.builder(SupportTypes.WritableByteChannel, uniqueParameterName("targetChannel", usedNames)).build()
+    val offsetParameter = ParameterSpec.builder(TypeName.LONG, uniqueParameterName("offset", usedNames)).build()
+
+    val toFileMethod = createDownloadMethod(
+      operation,
+      descriptorConstantName,
+      operation.javaMethodName + "ToFile",
+      CodeBlock.of(
+        "Executes operation {@code \$L}, writing the binary response body to the file {@code \$N}, instead of returning it. If {@code \$N} is true, only the " +
+          "bytes missing from an existing file are requested from the server, using a Range header, and appended to the file. See " +
+          "{@code ApiRequestExecutor.executeDownload}.",
+        operation.javaMethodName,
+        fileParameter,
+        resumeParameter,
+      ),
+      listOf(fileParameter, resumeParameter),
+    )
+
+    val toChannelMethod = createDownloadMethod(
+      operation,
+      descriptorConstantName,
+      operation.javaMethodName + "ToChannel",
+      CodeBlock.of(
+        "Executes operation {@code \$L}, writing the binary response body to the channel {@code \$N}, instead of returning it. If {@code \$N} is positive, " +
+          "only the bytes of the body starting at that position are requested from the server, using a Range header. The channel is not closed. See " +
+          "{@code ApiRequestExecutor.executeDownload}.",
+        operation.javaMethodName,
+        channelParameter,
+        offsetParameter,
+      ),
+      listOf(channelParameter, offsetParameter),
+    )
+
+    return listOf(toFileMethod, toChannelMethod)
+  }
+
+  private fun createDownloadMethod(
+    operation: JavaOperation,
+    descriptorConstantName: String,
+    methodName: String,
+    javadoc: CodeBlock,
+    downloadParameters: List<ParameterSpec>,
+  ): MethodSpec {
+    val codeBuilder = CodeBlock.builder()
+    val executeDownload = CodeBlock.of(
+      "requestExecutor.executeDownload(\$N.bind(\$L), \$L)",
+      descriptorConstantName,
+      operation.parameters.joinToString(", ") { it.javaParameterName },
+      downloadParameters.joinToString(", ") { it.name },
+    )
+
+    codeBuilder.add("\n")
+
+    if (operation.failureTypes.isEmpty()) {
+      codeBuilder.addStatement("\$L", executeDownload)
+    } else {
+      codeBuilder.addStatement("\$T result = new \$T(\$L)", typeNameOfResultClass(operation), typeNameOfResultClass(operation), executeDownload)
+      codeBuilder.add("\n")
+      codeBuilder.add(createCodeForThrowingErrorWithEntityExceptions(operation.failureTypes.toList()))
+    }
+
+    return MethodSpec.methodBuilder(methodName)
+      .addJavadoc(javadoc)
+      .doIfNotNull(operation.javadoc) { addJavadoc("\n\n\$L", it) }
+      .addModifiers(Modifier.PUBLIC)
+      .addParameters(operation.parameters.map(::toParameterSpec))
+      .addParameters(downloadParameters)
+      .addException(SupportTypes.ApiClientIoException)
+      .addException(SupportTypes.ApiClientValidationException)
+      .addException(SupportTypes.ApiClientIncompatibleResponseException)
+      .addExceptions(getAllErrorWithEntityExceptionsFor(operation))
+      .addCode(codeBuilder.build())
+      .build()
+  }
+
+  /**
+   * Returns the name, made unique among the names of the operation's parameters by appending a number if necessary.
+   */
+  private fun uniqueParameterName(name: String, usedNames: Set<String>): String {
+    return generateSequence(1) { it + 1 }
+      .map { if (it == 1) name else "$name$it" }
+      .first { it !in usedNames }
+  }
+
   private fun toTypeExpression(javaType: JavaAnyType): CodeBlock = when {
     javaType.isGenericType() -> CodeBlock.of("\$L", constantsNameForGenericType(javaType))
     else -> CodeBlock.of("\$T.class", javaType.toTypeName())
@@ -295,30 +461,70 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
       operation.parameters.joinToString(", ") { it.javaParameterName },
     )
 
-    if (operation.failureTypes.isNotEmpty()) {
+    createCodeForEvaluatingResult(operation).forEach { section ->
       codeBuilder.add("\n")
-      codeBuilder.add(createCodeForThrowingErrorWithEntityExceptions(operation.failureTypes.toList()))
+      codeBuilder.add(section)
+    }
+
+    return codeBuilder.build()
+  }
+
+  private fun createAsyncSimplifiedMethod(operation: JavaOperation): MethodSpec {
+    val codeBuilder = CodeBlock.builder()
+    codeBuilder.add("\n")
+
+    val sections = createCodeForEvaluatingResult(operation).filterNot { it.isEmpty }
+    val arguments = operation.parameters.joinToString(", ") { it.javaParameterName }
+
+    if (sections.isEmpty()) {
+      // Nothing to evaluate, the future only has to complete with Void.
+      codeBuilder.addStatement("return returningResult.\$N(\$L).thenRun(() -> {})", asyncMethodName(operation), arguments)
+      return createAsyncMethodForOperation(operation, determineReturnTypeOfSimplifiedMethod(operation), codeBuilder.build())
+    }
+
+    // The future of operations without a success entity completes with Void, which thenAccept provides without returning null from the lambda.
+    val thenMethod = if (operation.successTypes.isEmpty()) "thenAccept" else "thenApply"
+    codeBuilder.add("return returningResult.\$N(\$L).\$N(result -> {\n\$>", asyncMethodName(operation), arguments, thenMethod)
+
+    sections.forEachIndexed { index, section ->
+      if (index > 0) {
+        codeBuilder.add("\n")
+      }
+      codeBuilder.add(section)
+    }
+
+    codeBuilder.add("\$<});\n")
+
+    return createAsyncMethodForOperation(operation, determineReturnTypeOfSimplifiedMethod(operation), codeBuilder.build())
+  }
+
+  /**
+   * Creates the sections of code that evaluate the result of an operation in a simplified method: throwing exceptions for failures and returning the entity of
+   * a successful response.
+   */
+  private fun createCodeForEvaluatingResult(operation: JavaOperation): List<CodeBlock> {
+    val sections = mutableListOf<CodeBlock>()
+
+    if (operation.failureTypes.isNotEmpty()) {
+      sections.add(createCodeForThrowingErrorWithEntityExceptions(operation.failureTypes.toList()))
     }
 
     when {
       operation.successTypes.size > 1 -> {
         // There are multiple success entity types, so return the result instance itself.
-        codeBuilder.add("\n")
-        codeBuilder.addStatement("return result")
+        sections.add(CodeBlock.of("return result;\n"))
       }
 
       operation.successTypes.size == 1 -> when (operation.allReturnTypes.size) {
         // Return the one entity type that all successful responses use.
         1 -> {
           // There are no failure entity types, use getEntity method.
-          codeBuilder.add("\n")
-          codeBuilder.addStatement("return result.getEntity()")
+          sections.add(CodeBlock.of("return result.getEntity();\n"))
         }
 
         else -> {
           // There are success and failure types, so use type-specific entity accessor method.
-          codeBuilder.add("\n")
-          codeBuilder.addStatement("return result.\$N()", nameForMethodGetEntityAs(operation.successTypes.first()))
+          sections.add(CodeBlock.of("return result.\$N();\n", nameForMethodGetEntityAs(operation.successTypes.first())))
         }
       }
 
@@ -327,7 +533,7 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
       }
     }
 
-    return codeBuilder.build()
+    return sections
   }
 
   private fun createCodeForThrowingErrorWithEntityExceptions(failureTypes: List<JavaAnyType>): CodeBlock {
@@ -555,9 +761,13 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
     val ApiRequestExecutor = "$SUPPORT_PACKAGE.ApiRequestExecutor".toClassName()
     val ApiResponse = "$SUPPORT_PACKAGE.ApiResponse".toClassName()
     val BodyPartType = "$SUPPORT_PACKAGE.internal.BodyPart.Type".toClassName()
-    val OperationBuilder = "$SUPPORT_PACKAGE.internal.Operation.Builder".toClassName()
+    val CompletableFuture = "java.util.concurrent.CompletableFuture".toClassName()
+    val OperationDescriptor = "$SUPPORT_PACKAGE.internal.OperationDescriptor".toClassName()
+    val OperationDescriptorBuilder = "$SUPPORT_PACKAGE.internal.OperationDescriptor.Builder".toClassName()
     val ParameterLocation = "$SUPPORT_PACKAGE.internal.ParameterLocation".toClassName()
+    val Path = "java.nio.file.Path".toClassName()
     val StatusCode = "$SUPPORT_PACKAGE.internal.StatusCode".toClassName()
+    val WritableByteChannel = "java.nio.channels.WritableByteChannel".toClassName()
   }
 
   companion object {
@@ -1,11 +1,16 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator.modelgenerator
 
+import com.squareup.javapoet.JavaFile
 import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.toAnnotation
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaSourceFile
 
 /**
  * Gson-specific implementation of the ModelGeneratorVariant.
  */
-class GsonModelGeneratorVariant : ModelGeneratorVariant {
+class GsonModelGeneratorVariant(private val modelPackage: String, private val immutableModel: Boolean) : ModelGeneratorVariant {
 
   override fun serializedNameAnnotation(originalName: String) = toAnnotation("com.google.gson.annotations.SerializedName", originalName)
+
+  override fun reflectionFreeSerializationFiles(sourceFiles: List<JavaSourceFile>): List<JavaFile> =
+    GsonTypeAdapterGenerator(modelPackage, immutableModel).generate(sourceFiles)
 }
@@ -0,0 +1,288 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator.modelgenerator
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.NameAllocator
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import com.squareup.javapoet.TypeVariableName
+import com.squareup.javapoet.WildcardTypeName
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.capitalize
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaIdentifier
+import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.toAnnotation
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toClassName
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
+import io.github.ruedigerk.contractfirst.generator.java.generator.doIf
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaAnyType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaClassFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaCollectionType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaEnumFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMapType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaSourceFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaType
+import javax.lang.model.element.Modifier.FINAL
+import javax.lang.model.element.Modifier.PRIVATE
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+
+/**
+ * Generates a Gson TypeAdapter for every model class and enum, and a TypeAdapterFactory creating them. Registering the factory with Gson makes it serialize and
+ * deserialize the model without reflection.
+ *
+ * The adapters of model classes delegate the properties to the adapters Gson provides for their types, so that adapters registered by the application, e.g.,
+ * for dates, are still used. The adapters behave like Gson's reflection-based ones: null properties are only written if the JsonWriter serializes nulls,
+ * unknown properties are skipped, and unknown enum constants are read as null. Immutable model classes are read through their builders.
+ */
+class GsonTypeAdapterGenerator(private val factoryPackage: String, private val immutableModel: Boolean) {
+
+  fun generate(sourceFiles: List<JavaSourceFile>): List<JavaFile> {
+    val adapters = sourceFiles.map { sourceFile ->
+      when (sourceFile) {
+        is JavaClassFile -> toJavaFile(sourceFile, toClassAdapter(sourceFile))
+        is JavaEnumFile -> toJavaFile(sourceFile, toEnumAdapter(sourceFile))
+      }
+    }
+
+    return adapters + toFactory(sourceFiles)
+  }
+
+  private fun toJavaFile(sourceFile: JavaSourceFile, typeSpec: TypeSpec): JavaFile {
+    return JavaFile.builder(sourceFile.typeName.packageName, typeSpec)
+      .skipJavaLangImports(true)
+      .build()
+  }
+
+  private fun toClassAdapter(classFile: JavaClassFile): TypeSpec {
+    val modelClassName = classFile.typeName.toClassName()
+
+    // One delegate adapter per distinct property type, named after the type. Validations do not affect serialization, so they are ignored.
+    val nameAllocator = NameAllocator()
+    val delegateTypes = classFile.properties.map { it.type.withoutValidations() }.distinct()
+    delegateTypes.forEach { nameAllocator.newName(delegateAdapterName(it), it) }
+
+    val delegateFields = delegateTypes.map { type ->
+      FieldSpec.builder(typeAdapterOf(type.toTypeName()), nameAllocator[type], PRIVATE, FINAL).build()
+    }
+
+    val constructor = MethodSpec.constructorBuilder()
+      .addModifiers(PUBLIC)
+      .addParameter(GsonTypes.Gson, "gson")
+      .apply { delegateTypes.forEach { addStatement("this.\$N = gson.getAdapter(\$L)", nameAllocator[it], typeTokenExpression(it)) } }
+      .build()
+
+    val write = writeMethod(modelClassName)
+      .addStatement("out.beginObject()")
+      .apply {
+        classFile.properties.forEach { property ->
+          addStatement("out.name(\$S)", property.originalName)
+          addStatement("\$N.write(out, value.get\$L())", nameAllocator[property.type.withoutValidations()], property.javaName.capitalize())
+        }
+      }
+      .addStatement("out.endObject()")
+      .build()
+
+    val read = readMethod(modelClassName)
+      .doIf(!immutableModel) { addStatement("\$1T value = new \$1T()", modelClassName) }
+      .doIf(immutableModel) { addStatement("\$T value = \$T.builder()", modelClassName.nestedClass("Builder"), modelClassName) }
+      .addStatement("in.beginObject()")
+      .addCode("\n")
+      .beginControlFlow("while (in.hasNext())")
+      .beginControlFlow("switch (in.nextName())")
+      .apply {
+        classFile.properties.forEach { property ->
+          addCode("case \$S:\n\$>", property.originalName)
+          val setterName = if (immutableModel) property.javaName else "set${property.javaName.capitalize()}"
+          addStatement("value.\$N(\$N.read(in))", setterName, nameAllocator[property.type.withoutValidations()])
+          addStatement("break\$<")
+        }
+      }
+      .addCode("default:\n\$>")
+      .addStatement("in.skipValue()\$<")
+      .endControlFlow()
+      .endControlFlow()
+      .addCode("\n")
+      .addStatement("in.endObject()")
+      .addStatement(if (immutableModel) "return value.build()" else "return value")
+      .build()
+
+    return TypeSpec.classBuilder(adapterClassName(classFile))
+      .addJavadoc("Gson TypeAdapter for {@link \$T}, serializing and deserializing it without reflection.", modelClassName)
+      .addModifiers(PUBLIC, FINAL)
+      .superclass(typeAdapterOf(modelClassName))
+      .addFields(delegateFields)
+      .addMethod(constructor)
+      .addMethod(write)
+      .addMethod(read)
+      .build()
+  }
+
+  private fun toEnumAdapter(enumFile: JavaEnumFile): TypeSpec {
+    val enumClassName = enumFile.typeName.toClassName()
+
+    val write = writeMethod(enumClassName)
+      .beginControlFlow("switch (value)")
+      .apply {
+        enumFile.constants.forEach { constant ->
+          addCode("case \$L:\n\$>", constant.javaName)
+          addStatement("out.value(\$S)", constant.originalName)
+          addStatement("break\$<")
+        }
+      }
+      .endControlFlow()
+      .build()
+
+    val read = readMethod(enumClassName)
+      .beginControlFlow("switch (in.nextString())")
+      .apply {
+        enumFile.constants.forEach { constant ->
+          addCode("case \$S:\n\$>", constant.originalName)
+          addStatement("return \$T.\$L\$<", enumClassName, constant.javaName)
+        }
+      }
+      .addCode("default:\n\$>")
+      .addStatement("return null\$<")
+      .endControlFlow()
+      .build()
+
+    return TypeSpec.classBuilder(adapterClassName(enumFile))
+      .addJavadoc("Gson TypeAdapter for {@link \$T}, serializing and deserializing it without reflection.", enumClassName)
+      .addModifiers(PUBLIC, FINAL)
+      .superclass(typeAdapterOf(enumClassName))
+      .addMethod(write)
+      .addMethod(read)
+      .build()
+  }
+
+  private fun writeMethod(valueTypeName: TypeName): MethodSpec.Builder {
+    return MethodSpec.methodBuilder("write")
+      .addAnnotation(Override::class.java)
+      .addModifiers(PUBLIC)
+      .addParameter(GsonTypes.JsonWriter, "out")
+      .addParameter(valueTypeName, "value")
+      .addException(GsonTypes.IOException)
+      .beginControlFlow("if (value == null)")
+      .addStatement("out.nullValue()")
+      .addStatement("return")
+      .endControlFlow()
+      .addCode("\n")
+  }
+
+  private fun readMethod(valueTypeName: TypeName): MethodSpec.Builder {
+    return MethodSpec.methodBuilder("read")
+      .addAnnotation(Override::class.java)
+      .addModifiers(PUBLIC)
+      .returns(valueTypeName)
+      .addParameter(GsonTypes.JsonReader, "in")
+      .addException(GsonTypes.IOException)
+      .beginControlFlow("if (in.peek() == \$T.NULL)", GsonTypes.JsonToken)
+      .addStatement("in.nextNull()")
+      .addStatement("return null")
+      .endControlFlow()
+      .addCode("\n")
+  }
+
+  private fun toFactory(sourceFiles: List<JavaSourceFile>): JavaFile {
+    val constructorFunctionType = ParameterizedTypeName.get(
+      GsonTypes.Function,
+      GsonTypes.Gson,
+      typeAdapterOf(WildcardTypeName.subtypeOf(Any::class.java)),
+    )
+    val mapType = ParameterizedTypeName.get(
+      ClassName.get(Map::class.java),
+      ParameterizedTypeName.get(ClassName.get(Class::class.java), WildcardTypeName.subtypeOf(Any::class.java)),
+      constructorFunctionType,
+    )
+
+    val adaptersField = FieldSpec.builder(mapType, "ADAPTERS", PRIVATE, STATIC, FINAL)
+      .initializer("new \$T<>()", HashMap::class.java)
+      .build()
+
+    val staticInitializer = CodeBlock.builder()
+      .apply {
+        sourceFiles.forEach { sourceFile ->
+          val adapterClassName = adapterClassName(sourceFile)
+          when (sourceFile) {
+            is JavaClassFile -> addStatement("ADAPTERS.put(\$T.class, \$T::new)", sourceFile.typeName.toClassName(), adapterClassName)
+            is JavaEnumFile -> addStatement("ADAPTERS.put(\$T.class, gson -> new \$T())", sourceFile.typeName.toClassName(), adapterClassName)
+          }
+        }
+      }
+      .build()
+
+    val typeVariable = TypeVariableName.get("T")
+    val create = MethodSpec.methodBuilder("create")
+      .addAnnotation(Override::class.java)
+      .addAnnotation(toAnnotation("java.lang.SuppressWarnings", "unchecked"))
+      .addModifiers(PUBLIC)
+      .addTypeVariable(typeVariable)
+      .returns(typeAdapterOf(typeVariable))
+      .addParameter(GsonTypes.Gson, "gson")
+      .addParameter(ParameterizedTypeName.get(GsonTypes.TypeToken, typeVariable), "type")
+      .addStatement("\$T constructor = ADAPTERS.get(type.getRawType())", constructorFunctionType)
+      .addStatement("return constructor == null ? null : (\$T) constructor.apply(gson)", typeAdapterOf(typeVariable))
+      .build()
+
+    val factory = TypeSpec.classBuilder(FACTORY_CLASS_NAME)
+      .addJavadoc(
+        "Gson TypeAdapterFactory creating the TypeAdapters of all model classes and enums, which serialize and deserialize them without reflection.\n" +
+          "Register it with the GsonBuilder, the ApiRequestExecutor.Builder or the GsonMessageBodyHandler.",
+      )
+      .addModifiers(PUBLIC, FINAL)
+      .addSuperinterface(GsonTypes.TypeAdapterFactory)
+      .addField(adaptersField)
+      .addStaticBlock(staticInitializer)
+      .addMethod(create)
+      .build()
+
+    return JavaFile.builder(factoryPackage, factory)
+      .skipJavaLangImports(true)
+      .build()
+  }
+
+  private fun adapterClassName(sourceFile: JavaSourceFile): ClassName {
+    return ClassName.get(sourceFile.typeName.packageName, sourceFile.typeName.simpleName + "TypeAdapter")
+  }
+
+  private fun typeAdapterOf(typeName: TypeName): TypeName = ParameterizedTypeName.get(GsonTypes.TypeAdapter, typeName)
+
+  private fun typeTokenExpression(type: JavaAnyType): CodeBlock = when (type) {
+    is JavaType -> CodeBlock.of("\$T.class", type.toTypeName())
+    is JavaCollectionType, is JavaMapType -> CodeBlock.of("new \$T<\$T>() {}", GsonTypes.TypeToken, type.toTypeName())
+  }
+
+  private fun delegateAdapterName(type: JavaAnyType): String = (typeDescription(type) + "Adapter").toJavaIdentifier()
+
+  private fun typeDescription(type: JavaAnyType): String = when (type) {
+    is JavaType -> type.name.simpleName
+    is JavaCollectionType -> "${type.name.simpleName}Of${typeDescription(type.elementType)}"
+    is JavaMapType -> "MapOf${typeDescription(type.valuesType)}"
+  }
+
+  /**
+   * Contains the class names of the Gson types used in generated code.
+   */
+  private object GsonTypes {
+
+    val Function = "java.util.function.Function".toClassName()
+    val Gson = "com.google.gson.Gson".toClassName()
+    val IOException = "java.io.IOException".toClassName()
+    val JsonReader = "com.google.gson.stream.JsonReader".toClassName()
+    val JsonToken = "com.google.gson.stream.JsonToken".toClassName()
+    val JsonWriter = "com.google.gson.stream.JsonWriter".toClassName()
+    val TypeAdapter = "com.google.gson.TypeAdapter".toClassName()
+    val TypeAdapterFactory = "com.google.gson.TypeAdapterFactory".toClassName()
+    val TypeToken = "com.google.gson.reflect.TypeToken".toClassName()
+  }
+
+  companion object {
+
+    /**
+     * The simple name of the generated TypeAdapterFactory.
+     */
+    const val FACTORY_CLASS_NAME = "ModelTypeAdapterFactory"
+  }
+}
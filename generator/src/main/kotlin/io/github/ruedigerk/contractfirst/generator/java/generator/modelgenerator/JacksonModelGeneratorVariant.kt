@@ -1,11 +1,16 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator.modelgenerator
 
+import com.squareup.javapoet.JavaFile
 import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.toAnnotation
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaSourceFile
 
 /**
  * Jackson-specific implementation of the ModelGeneratorVariant.
  */
-class JacksonModelGeneratorVariant : ModelGeneratorVariant {
+class JacksonModelGeneratorVariant(private val modelPackage: String, private val immutableModel: Boolean) : ModelGeneratorVariant {
 
   override fun serializedNameAnnotation(originalName: String) = toAnnotation("com.fasterxml.jackson.annotation.JsonProperty", originalName)
+
+  override fun reflectionFreeSerializationFiles(sourceFiles: List<JavaSourceFile>): List<JavaFile> =
+    JacksonSerializerGenerator(modelPackage, immutableModel).generate(sourceFiles)
 }
@@ -0,0 +1,285 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator.modelgenerator
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.NameAllocator
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.capitalize
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaConstant
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toClassName
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
+import io.github.ruedigerk.contractfirst.generator.java.generator.doIf
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaAnyType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaClassFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaCollectionType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaEnumFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMapType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaSourceFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaType
+import javax.lang.model.element.Modifier.FINAL
+import javax.lang.model.element.Modifier.PRIVATE
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+
+/**
+ * Generates a Jackson serializer and deserializer for every model class and enum, and a Jackson module registering them. Registering the module with the
+ * ObjectMapper makes Jackson serialize and deserialize the model without reflection. The generated code targets Jackson 3.
+ *
+ * Serializers and deserializers of model classes delegate the properties to the serializers and deserializers Jackson provides for their types, so that the
+ * ObjectMapper's configuration, e.g., for dates, still applies. Serializers skip null properties, when the ObjectMapper's default property inclusion for the
+ * model class excludes null values, i.e., is NON_NULL, NON_ABSENT, NON_EMPTY or NON_DEFAULT; empty and default values are still written. Unknown properties and
+ * enum constants are reported to the DeserializationContext, which handles them according to the DeserializationFeatures of the ObjectMapper. Immutable model
+ * classes are deserialized through their builders.
+ */
+class JacksonSerializerGenerator(private val modulePackage: String, private val immutableModel: Boolean) {
+
+  fun generate(sourceFiles: List<JavaSourceFile>): List<JavaFile> {
+    val serializers = sourceFiles.flatMap { sourceFile ->
+      when (sourceFile) {
+        is JavaClassFile -> listOf(toClassSerializer(sourceFile), toClassDeserializer(sourceFile))
+        is JavaEnumFile -> listOf(toEnumSerializer(sourceFile), toEnumDeserializer(sourceFile))
+      }.map { toJavaFile(sourceFile.typeName.packageName, it) }
+    }
+
+    return serializers + toJavaFile(modulePackage, toModule(sourceFiles))
+  }
+
+  private fun toJavaFile(packageName: String, typeSpec: TypeSpec): JavaFile {
+    return JavaFile.builder(packageName, typeSpec)
+      .skipJavaLangImports(true)
+      .build()
+  }
+
+  private fun toClassSerializer(classFile: JavaClassFile): TypeSpec {
+    val modelClassName = classFile.typeName.toClassName()
+
+    val serialize = serializeMethod(modelClassName)
+      .doIf(classFile.properties.isNotEmpty()) {
+        addStatement("\$T inclusion = ctxt.getDefaultPropertyInclusion(\$T.class).getValueInclusion()", JacksonTypes.JsonIncludeInclude, modelClassName)
+        addStatement(
+          "boolean skipNulls = inclusion == \$1T.NON_NULL || inclusion == \$1T.NON_ABSENT || inclusion == \$1T.NON_EMPTY || inclusion == \$1T.NON_DEFAULT",
+          JacksonTypes.JsonIncludeInclude,
+        )
+        addCode("\n")
+      }
+      .addStatement("gen.writeStartObject(value)")
+      .apply {
+        classFile.properties.forEach { property ->
+          beginControlFlow("if (!skipNulls || value.get\$L() != null)", property.javaName.capitalize())
+          addStatement("gen.writeName(\$S)", property.originalName)
+          addStatement("ctxt.writeValue(gen, value.get\$L())", property.javaName.capitalize())
+          endControlFlow()
+        }
+      }
+      .addStatement("gen.writeEndObject()")
+      .build()
+
+    return serializerClass(classFile, modelClassName)
+      .addMethod(serialize)
+      .build()
+  }
+
+  private fun toClassDeserializer(classFile: JavaClassFile): TypeSpec {
+    val modelClassName = classFile.typeName.toClassName()
+
+    // Generic property types are read by TypeReference constants, one per distinct type.
+    val nameAllocator = NameAllocator()
+    val genericTypes = classFile.properties.map { it.type.withoutValidations() }.filter { it !is JavaType }.distinct()
+    genericTypes.forEach { nameAllocator.newName(typeDescription(it).toJavaConstant(), it) }
+
+    val typeReferenceConstants = genericTypes.map { type ->
+      FieldSpec.builder(ParameterizedTypeName.get(JacksonTypes.TypeReference, type.toTypeName()), nameAllocator[type], PRIVATE, STATIC, FINAL)
+        .initializer("new \$T<\$T>() {}", JacksonTypes.TypeReference, type.toTypeName())
+        .build()
+    }
+
+    val deserialize = deserializeMethod(modelClassName)
+      .addComment("Jackson passes the START_OBJECT token, or the first PROPERTY_NAME for objects already started, e.g., by polymorphic type handling.")
+      .beginControlFlow("if (p.isExpectedStartObjectToken())")
+      .addStatement("p.nextToken()")
+      .nextControlFlow("else if (!p.hasToken(\$1T.PROPERTY_NAME) && !p.hasToken(\$1T.END_OBJECT))", JacksonTypes.JsonToken)
+      .addStatement("return (\$T) ctxt.handleUnexpectedToken(\$T.class, p)", modelClassName, modelClassName)
+      .endControlFlow()
+      .addCode("\n")
+      .doIf(!immutableModel) { addStatement("\$1T value = new \$1T()", modelClassName) }
+      .doIf(immutableModel) { addStatement("\$T value = \$T.builder()", modelClassName.nestedClass("Builder"), modelClassName) }
+      .addCode("\n")
+      .beginControlFlow("for (; p.hasToken(\$T.PROPERTY_NAME); p.nextToken())", JacksonTypes.JsonToken)
+      .addStatement("String name = p.currentName()")
+      .addStatement("p.nextToken()")
+      .addCode("\n")
+      .beginControlFlow("switch (name)")
+      .apply {
+        classFile.properties.forEach { property ->
+          val type = property.type.withoutValidations()
+          val typeArgument = if (type is JavaType) CodeBlock.of("\$T.class", type.toTypeName()) else CodeBlock.of("\$N", nameAllocator[type])
+
+          addCode("case \$S:\n\$>", property.originalName)
+          val setterName = if (immutableModel) property.javaName else "set${property.javaName.capitalize()}"
+          addStatement("value.\$N(ctxt.readValue(p, \$L))", setterName, typeArgument)
+          addStatement("break\$<")
+        }
+      }
+      .addCode("default:\n\$>")
+      .addStatement("handleUnknownProperty(p, ctxt, value, name)\$<")
+      .endControlFlow()
+      .endControlFlow()
+      .addCode("\n")
+      .addStatement(if (immutableModel) "return value.build()" else "return value")
+      .build()
+
+    return deserializerClass(classFile, modelClassName)
+      .addFields(typeReferenceConstants)
+      .addMethod(deserialize)
+      .build()
+  }
+
+  private fun toEnumSerializer(enumFile: JavaEnumFile): TypeSpec {
+    val enumClassName = enumFile.typeName.toClassName()
+
+    val serialize = serializeMethod(enumClassName)
+      .beginControlFlow("switch (value)")
+      .apply {
+        enumFile.constants.forEach { constant ->
+          addCode("case \$L:\n\$>", constant.javaName)
+          addStatement("gen.writeString(\$S)", constant.originalName)
+          addStatement("break\$<")
+        }
+      }
+      .endControlFlow()
+      .build()
+
+    return serializerClass(enumFile, enumClassName)
+      .addMethod(serialize)
+      .build()
+  }
+
+  private fun toEnumDeserializer(enumFile: JavaEnumFile): TypeSpec {
+    val enumClassName = enumFile.typeName.toClassName()
+
+    val deserialize = deserializeMethod(enumClassName)
+      .beginControlFlow("if (!p.hasToken(\$T.VALUE_STRING))", JacksonTypes.JsonToken)
+      .addStatement("return (\$T) ctxt.handleUnexpectedToken(\$T.class, p)", enumClassName, enumClassName)
+      .endControlFlow()
+      .addCode("\n")
+      .addStatement("String text = p.getString()")
+      .addCode("\n")
+      .beginControlFlow("switch (text)")
+      .apply {
+        enumFile.constants.forEach { constant ->
+          addCode("case \$S:\n\$>", constant.originalName)
+          addStatement("return \$T.\$L\$<", enumClassName, constant.javaName)
+        }
+      }
+      .addCode("default:\n\$>")
+      .addStatement("return (\$1T) ctxt.handleWeirdStringValue(\$1T.class, text, \"not one of the values defined for the enum\")\$<", enumClassName)
+      .endControlFlow()
+      .build()
+
+    return deserializerClass(enumFile, enumClassName)
+      .addMethod(deserialize)
+      .build()
+  }
+
+  private fun serializerClass(sourceFile: JavaSourceFile, valueClassName: ClassName): TypeSpec.Builder {
+    return TypeSpec.classBuilder(serializerClassName(sourceFile))
+      .addJavadoc("Jackson serializer for {@link \$T}, serializing it without reflection.", valueClassName)
+      .addModifiers(PUBLIC, FINAL)
+      .superclass(ParameterizedTypeName.get(JacksonTypes.StdSerializer, valueClassName))
+      .addMethod(MethodSpec.constructorBuilder().addModifiers(PUBLIC).addStatement("super(\$T.class)", valueClassName).build())
+  }
+
+  private fun deserializerClass(sourceFile: JavaSourceFile, valueClassName: ClassName): TypeSpec.Builder {
+    return TypeSpec.classBuilder(deserializerClassName(sourceFile))
+      .addJavadoc("Jackson deserializer for {@link \$T}, deserializing it without reflection.", valueClassName)
+      .addModifiers(PUBLIC, FINAL)
+      .superclass(ParameterizedTypeName.get(JacksonTypes.StdDeserializer, valueClassName))
+      .addMethod(MethodSpec.constructorBuilder().addModifiers(PUBLIC).addStatement("super(\$T.class)", valueClassName).build())
+  }
+
+  private fun serializeMethod(valueTypeName: TypeName): MethodSpec.Builder {
+    return MethodSpec.methodBuilder("serialize")
+      .addAnnotation(Override::class.java)
+      .addModifiers(PUBLIC)
+      .addParameter(valueTypeName, "value")
+      .addParameter(JacksonTypes.JsonGenerator, "gen")
+      .addParameter(JacksonTypes.SerializationContext, "ctxt")
+  }
+
+  private fun deserializeMethod(valueTypeName: TypeName): MethodSpec.Builder {
+    return MethodSpec.methodBuilder("deserialize")
+      .addAnnotation(Override::class.java)
+      .addModifiers(PUBLIC)
+      .returns(valueTypeName)
+      .addParameter(JacksonTypes.JsonParser, "p")
+      .addParameter(JacksonTypes.DeserializationContext, "ctxt")
+  }
+
+  private fun toModule(sourceFiles: List<JavaSourceFile>): TypeSpec {
+    val constructor = MethodSpec.constructorBuilder()
+      .addModifiers(PUBLIC)
+      .addStatement("super(\$S)", MODULE_CLASS_NAME)
+      .apply {
+        sourceFiles.forEach { sourceFile ->
+          val valueClassName = sourceFile.typeName.toClassName()
+          addStatement("addSerializer(\$T.class, new \$T())", valueClassName, serializerClassName(sourceFile))
+          addStatement("addDeserializer(\$T.class, new \$T())", valueClassName, deserializerClassName(sourceFile))
+        }
+      }
+      .build()
+
+    return TypeSpec.classBuilder(MODULE_CLASS_NAME)
+      .addJavadoc(
+        "Jackson module registering the serializers and deserializers of all model classes and enums, which work without reflection.\n" +
+          "Register it with the ObjectMapper, e.g., by declaring it as a bean in a Spring Boot application.",
+      )
+      .addModifiers(PUBLIC, FINAL)
+      .superclass(JacksonTypes.SimpleModule)
+      .addMethod(constructor)
+      .build()
+  }
+
+  private fun serializerClassName(sourceFile: JavaSourceFile): ClassName {
+    return ClassName.get(sourceFile.typeName.packageName, sourceFile.typeName.simpleName + "JsonSerializer")
+  }
+
+  private fun deserializerClassName(sourceFile: JavaSourceFile): ClassName {
+    return ClassName.get(sourceFile.typeName.packageName, sourceFile.typeName.simpleName + "JsonDeserializer")
+  }
+
+  private fun typeDescription(type: JavaAnyType): String = when (type) {
+    is JavaType -> type.name.simpleName
+    is JavaCollectionType -> "${type.name.simpleName}Of${typeDescription(type.elementType)}"
+    is JavaMapType -> "MapOf${typeDescription(type.valuesType)}"
+  }
+
+  /**
+   * Contains the class names of the Jackson types used in generated code.
+   */
+  private object JacksonTypes {
+
+    val DeserializationContext = "tools.jackson.databind.DeserializationContext".toClassName()
+    val JsonGenerator = "tools.jackson.core.JsonGenerator".toClassName()
+    val JsonIncludeInclude = "com.fasterxml.jackson.annotation.JsonInclude.Include".toClassName()
+    val JsonParser = "tools.jackson.core.JsonParser".toClassName()
+    val JsonToken = "tools.jackson.core.JsonToken".toClassName()
+    val SerializationContext = "tools.jackson.databind.SerializationContext".toClassName()
+    val SimpleModule = "tools.jackson.databind.module.SimpleModule".toClassName()
+    val StdDeserializer = "tools.jackson.databind.deser.std.StdDeserializer".toClassName()
+    val StdSerializer = "tools.jackson.databind.ser.std.StdSerializer".toClassName()
+    val TypeReference = "tools.jackson.core.type.TypeReference".toClassName()
+  }
+
+  companion object {
+
+    /**
+     * The simple name of the generated Jackson module.
+     */
+    const val MODULE_CLASS_NAME = "ModelJacksonModule"
+  }
+}
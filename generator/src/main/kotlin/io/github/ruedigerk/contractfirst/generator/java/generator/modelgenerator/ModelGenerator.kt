@@ -1,8 +1,11 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator.modelgenerator
 
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
 import com.squareup.javapoet.FieldSpec
 import com.squareup.javapoet.JavaFile
 import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.NameAllocator
 import com.squareup.javapoet.ParameterSpec
 import com.squareup.javapoet.TypeName
 import com.squareup.javapoet.TypeSpec
@@ -11,48 +14,54 @@ import io.github.ruedigerk.contractfirst.generator.java.Identifiers.capitalize
 import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
 import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations
 import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.jsr305NullabilityAnnotation
+import io.github.ruedigerk.contractfirst.generator.java.generator.JavaFileWriter
 import io.github.ruedigerk.contractfirst.generator.java.generator.MethodsFromObject
+import io.github.ruedigerk.contractfirst.generator.java.generator.OutputDirectory
 import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toClassName
 import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
 import io.github.ruedigerk.contractfirst.generator.java.generator.doIf
 import io.github.ruedigerk.contractfirst.generator.java.generator.doIfNotNull
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaAnyType
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaClassFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaCollectionType
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaEnumFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMapType
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaProperty
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaSourceFile
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaTypeName
-import java.io.File
 import javax.lang.model.element.Modifier.FINAL
 import javax.lang.model.element.Modifier.PRIVATE
 import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+import javax.lang.model.element.Modifier.TRANSIENT
 
 /**
  * Generates the Java code for the model classes of an API.
  */
-class ModelGenerator(configuration: JavaConfiguration) {
+class ModelGenerator(configuration: JavaConfiguration, outputDirectory: OutputDirectory) {
 
-  private val outputDir = File(configuration.outputDir)
+  private val fileWriter = JavaFileWriter(outputDirectory, configuration)
   private val useJsr305Nullability = configuration.useJsr305NullabilityAnnotations
-  private val variant = selectVariant(configuration.modelVariant)
+  private val reflectionFreeSerialization = configuration.reflectionFreeSerialization
+  private val immutableModel = configuration.immutableModel
+  private val variant = selectVariant(configuration)
 
-  private fun selectVariant(modelVariant: ModelVariant): ModelGeneratorVariant = when (modelVariant) {
-    ModelVariant.GSON -> GsonModelGeneratorVariant()
-    ModelVariant.JACKSON -> JacksonModelGeneratorVariant()
+  private fun selectVariant(configuration: JavaConfiguration): ModelGeneratorVariant = when (configuration.modelVariant) {
+    ModelVariant.GSON -> GsonModelGeneratorVariant(configuration.modelPackage, configuration.immutableModel)
+    ModelVariant.JACKSON -> JacksonModelGeneratorVariant(configuration.modelPackage, configuration.immutableModel)
   }
 
   fun generateCode(javaSourceFiles: List<JavaSourceFile>) {
-    javaSourceFiles.asSequence()
-      .map(::toJavaFile)
-      .forEach(::writeFile)
-  }
+    fileWriter.write(javaSourceFiles, ::toJavaFile)
 
-  private fun writeFile(javaFile: JavaFile) {
-    javaFile.writeTo(outputDir)
+    if (reflectionFreeSerialization && javaSourceFiles.isNotEmpty()) {
+      fileWriter.write(variant.reflectionFreeSerializationFiles(javaSourceFiles))
+    }
   }
 
   private fun toJavaFile(sourceFile: JavaSourceFile): JavaFile {
     val typeSpec = when (sourceFile) {
-      is JavaClassFile -> toJavaClass(sourceFile)
+      is JavaClassFile -> if (immutableModel) toImmutableJavaClass(sourceFile) else toJavaClass(sourceFile)
       is JavaEnumFile -> toJavaEnum(sourceFile)
     }
 
@@ -115,7 +124,11 @@ class ModelGenerator(configuration: JavaConfiguration) {
       .build()
   }
 
-  private fun toField(property: JavaProperty): FieldSpec {
+  private fun toField(property: JavaProperty): FieldSpec = toFieldBuilder(property)
+    .doIfNotNull(property.initializerType) { initializer("new \$T<>()", it.toTypeName()) }
+    .build()
+
+  private fun toFieldBuilder(property: JavaProperty): FieldSpec.Builder {
     val typeValidationAnnotations = property.type.validations.map(Annotations::toAnnotation)
 
     return FieldSpec.builder(property.type.toTypeName(true), property.javaName, PRIVATE)
@@ -123,10 +136,125 @@ class ModelGenerator(configuration: JavaConfiguration) {
       .doIf(property.required) { addAnnotation(Annotations.NOT_NULL_ANNOTATION) }
       .doIf(property.javaName != property.originalName) { addAnnotation(variant.serializedNameAnnotation(property.originalName)) }
       .addAnnotations(typeValidationAnnotations)
-      .doIfNotNull(property.initializerType) { initializer("new \$T<>()", it.toTypeName()) }
+  }
+
+  /**
+   * Generates an immutable model class. Instances are created with a nested builder, collections are copied into unmodifiable collections when the instance
+   * is built, and the hash code is computed only once. Instances can therefore safely be shared between threads and used as keys of hash-based collections.
+   */
+  private fun toImmutableJavaClass(classFile: JavaClassFile): TypeSpec {
+    val className = classFile.typeName.toClassName()
+    val builderClassName = className.nestedClass(BUILDER_CLASS_NAME)
+
+    val fieldNames = NameAllocator()
+    classFile.properties.forEach { fieldNames.newName(it.javaName) }
+    val hashCodeCache = FieldSpec.builder(TypeName.INT, fieldNames.newName("cachedHashCode"), PRIVATE, TRANSIENT).build()
+
+    val fields = classFile.properties.map { toFieldBuilder(it).addModifiers(FINAL).build() }
+    val getters = classFile.properties.map { generateGetter(it, it.type.toTypeName()) }
+    val equalsHashCodeAndToString = MethodsFromObject.generateEqualsHashCodeAndToString(className, fields, hashCodeCache)
+
+    val constructor = MethodSpec.constructorBuilder()
+      .addModifiers(PRIVATE)
+      .addParameter(builderClassName, "builder")
+      .apply { classFile.properties.forEach { addStatement("this.\$N = \$L", it.javaName, unmodifiableCopy(it, "builder")) } }
+      .build()
+
+    val builderFactoryMethod = MethodSpec.methodBuilder("builder")
+      .addJavadoc("Returns a new builder for instances of this class.")
+      .addModifiers(PUBLIC, STATIC)
+      .returns(builderClassName)
+      .addStatement("return new \$T()", builderClassName)
+      .build()
+
+    val toBuilderMethod = MethodSpec.methodBuilder("toBuilder")
+      .addJavadoc("Returns a new builder, that is initialized with the values of this instance.")
+      .addModifiers(PUBLIC)
+      .returns(builderClassName)
+      .addStatement("return new \$T(this)", builderClassName)
+      .build()
+
+    return TypeSpec.classBuilder(className)
+      .doIfNotNull(classFile.javadoc) { addJavadoc("\$L", it) }
+      .addModifiers(PUBLIC, FINAL)
+      .addFields(fields)
+      .addField(hashCodeCache)
+      .addMethod(constructor)
+      .addMethod(builderFactoryMethod)
+      .addMethod(toBuilderMethod)
+      .addMethods(getters)
+      .addMethods(equalsHashCodeAndToString)
+      .addType(toBuilderClass(classFile, className, builderClassName))
       .build()
   }
 
+  private fun toBuilderClass(classFile: JavaClassFile, className: ClassName, builderClassName: ClassName): TypeSpec {
+    val fields = classFile.properties.map { property ->
+      FieldSpec.builder(property.type.toTypeName(), property.javaName, PRIVATE)
+        .doIfNotNull(property.initializerType) { initializer("new \$T<>()", it.toTypeName()) }
+        .build()
+    }
+
+    val constructor = MethodSpec.constructorBuilder()
+      .addModifiers(PRIVATE)
+      .build()
+
+    // The collections of an instance are already unmodifiable, so they can be shared with the builder. They are copied anyway when building a new instance.
+    val copyConstructor = MethodSpec.constructorBuilder()
+      .addModifiers(PRIVATE)
+      .addParameter(className, "instance")
+      .apply { classFile.properties.forEach { addStatement("this.\$1N = instance.\$1N", it.javaName) } }
+      .build()
+
+    val setters = classFile.properties.map { property ->
+      MethodSpec.methodBuilder(property.javaName)
+        .addModifiers(PUBLIC)
+        .returns(builderClassName)
+        .addParameter(toSetterParameterSpec(property.type.toTypeName(), property))
+        .addStatement("this.\$1N = \$1N", property.javaName)
+        .addStatement("return this")
+        .build()
+    }
+
+    val buildMethod = MethodSpec.methodBuilder("build")
+      .addJavadoc("Builds a new instance from the values of this builder.")
+      .addModifiers(PUBLIC)
+      .returns(className)
+      .addStatement("return new \$T(this)", className)
+      .build()
+
+    return TypeSpec.classBuilder(builderClassName)
+      .addJavadoc("Builder for instances of class \$T.", className)
+      .addModifiers(PUBLIC, STATIC, FINAL)
+      .addFields(fields)
+      .addMethod(constructor)
+      .addMethod(copyConstructor)
+      .addMethods(setters)
+      .addMethod(buildMethod)
+      .build()
+  }
+
+  /**
+   * Returns the expression for initializing the field of an immutable instance from the builder. Collections are copied into unmodifiable collections, keeping
+   * null values and the iteration order of the builder's collection.
+   */
+  private fun unmodifiableCopy(property: JavaProperty, builderName: String): CodeBlock {
+    val copy = when (property.type.collectionKind()) {
+      JavaTypeName.LIST -> CodeBlock.of("\$T.unmodifiableList(new \$T<>(\$N.\$N))", COLLECTIONS, ARRAY_LIST, builderName, property.javaName)
+      JavaTypeName.SET -> CodeBlock.of("\$T.unmodifiableSet(new \$T<>(\$N.\$N))", COLLECTIONS, LINKED_HASH_SET, builderName, property.javaName)
+      JavaTypeName.MAP -> CodeBlock.of("\$T.unmodifiableMap(new \$T<>(\$N.\$N))", COLLECTIONS, LINKED_HASH_MAP, builderName, property.javaName)
+      else -> return CodeBlock.of("\$N.\$N", builderName, property.javaName)
+    }
+
+    return CodeBlock.of("\$1N.\$2N == null ? null : \$3L", builderName, property.javaName, copy)
+  }
+
+  private fun JavaAnyType.collectionKind(): JavaTypeName? = when (this) {
+    is JavaMapType -> JavaTypeName.MAP
+    is JavaCollectionType -> name
+    else -> null
+  }
+
   private fun toJavaEnum(enumFile: JavaEnumFile): TypeSpec {
     // If any of the enum constants has a name, that is not equal to its java name, then generate a "complex" enum, where the toString method returns the
     // original name, so that enums are properly serialized for x-www-form-urlencoded request bodies.
@@ -185,4 +313,14 @@ class ModelGenerator(configuration: JavaConfiguration) {
 
     return builder.build()
   }
+
+  private companion object {
+
+    const val BUILDER_CLASS_NAME = "Builder"
+
+    val COLLECTIONS: ClassName = ClassName.get("java.util", "Collections")
+    val ARRAY_LIST: ClassName = ClassName.get("java.util", "ArrayList")
+    val LINKED_HASH_SET: ClassName = ClassName.get("java.util", "LinkedHashSet")
+    val LINKED_HASH_MAP: ClassName = ClassName.get("java.util", "LinkedHashMap")
+  }
 }
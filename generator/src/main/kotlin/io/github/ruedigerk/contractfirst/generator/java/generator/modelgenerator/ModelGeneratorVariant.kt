@@ -1,6 +1,8 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator.modelgenerator
 
 import com.squareup.javapoet.AnnotationSpec
+import com.squareup.javapoet.JavaFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaSourceFile
 
 /**
  * Implementations of this interface define the variants of the Java model code generator.
@@ -11,4 +13,9 @@ interface ModelGeneratorVariant {
    * Creates an annotation spec that allows to define the serialized name of a field or enum constant.
    */
   fun serializedNameAnnotation(originalName: String): AnnotationSpec
+
+  /**
+   * Creates the Java files for serializing and deserializing the model without reflection.
+   */
+  fun reflectionFreeSerializationFiles(sourceFiles: List<JavaSourceFile>): List<JavaFile>
 }
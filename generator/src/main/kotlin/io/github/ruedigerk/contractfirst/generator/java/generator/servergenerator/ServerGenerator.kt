@@ -11,6 +11,8 @@ import io.github.ruedigerk.contractfirst.generator.java.Identifiers.mediaTypeToJ
 import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
 import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations
 import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.NOT_NULL_ANNOTATION
+import io.github.ruedigerk.contractfirst.generator.java.generator.JavaFileWriter
+import io.github.ruedigerk.contractfirst.generator.java.generator.OutputDirectory
 import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toClassName
 import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
 import io.github.ruedigerk.contractfirst.generator.java.generator.doIf
@@ -23,7 +25,6 @@ import io.github.ruedigerk.contractfirst.generator.java.model.JavaResponse
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaSpecification
 import io.github.ruedigerk.contractfirst.generator.openapi.DefaultStatusCode
 import io.github.ruedigerk.contractfirst.generator.openapi.StatusCode
-import java.io.File
 import javax.lang.model.element.Modifier.ABSTRACT
 import javax.lang.model.element.Modifier.PRIVATE
 import javax.lang.model.element.Modifier.PUBLIC
@@ -32,9 +33,9 @@ import javax.lang.model.element.Modifier.STATIC
 /**
  * Generates the code for server stubs/interfaces.
  */
-class ServerGenerator(private val configuration: JavaConfiguration) : (JavaSpecification) -> Unit {
+class ServerGenerator(configuration: JavaConfiguration, private val outputDirectory: OutputDirectory) : (JavaSpecification) -> Unit {
 
-  private val outputDir = File(configuration.outputDir)
+  private val fileWriter = JavaFileWriter(outputDirectory, configuration)
   private val apiPackage = configuration.apiPackage
   private val supportPackage = configuration.supportPackage
   private val variant = selectVariant(configuration.generatorVariant)
@@ -49,9 +50,7 @@ class ServerGenerator(private val configuration: JavaConfiguration) : (JavaSpeci
     // Rewrite the types in the specification according to the variant.
     val rewrittenSpecification = variant.specificationRewriter()(specification)
 
-    rewrittenSpecification.operationGroups.asSequence()
-      .map(::toJavaInterface)
-      .forEach { it.writeTo(outputDir) }
+    fileWriter.write(rewrittenSpecification.operationGroups, ::toJavaInterface)
 
     writeResponseWrapperClass()
   }
@@ -194,7 +193,7 @@ class ServerGenerator(private val configuration: JavaConfiguration) : (JavaSpeci
   }
 
   private fun writeResponseWrapperClass() {
-    TemplateFileWriter(configuration).writeTemplateFile(supportPackage, variant.templateDirectory, "$RESPONSE_WRAPPER_CLASS_NAME.java")
+    TemplateFileWriter(outputDirectory).writeTemplateFile(supportPackage, variant.templateDirectory, "$RESPONSE_WRAPPER_CLASS_NAME.java")
   }
 
   companion object {
@@ -1,33 +1,23 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator.servergenerator
 
-import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
-import java.io.BufferedOutputStream
-import java.io.File
+import io.github.ruedigerk.contractfirst.generator.java.generator.OutputDirectory
 import java.io.InputStream
 
 /**
  * Used for writing template source files. Template source files are static resource files that get added a package statement, when being written.
  */
-class TemplateFileWriter(private val configuration: JavaConfiguration) {
+class TemplateFileWriter(private val outputDirectory: OutputDirectory) {
 
   fun writeTemplateFile(destinationPackage: String, templateDir: String, templateFile: String) {
     val packageAsDirectory = destinationPackage.replace('.', '/')
-    val destinationDirectory = File(configuration.outputDir).resolve(packageAsDirectory)
     val templateInputStream = loadResource("/io/github/ruedigerk/contractfirst/generator/templates/$templateDir/$templateFile")
 
-    destinationDirectory.mkdirs()
+    val packageStatement = "package $destinationPackage;\n\n".toByteArray(Charsets.UTF_8)
+    val content = packageStatement + templateInputStream.use { it.readBytes() }
 
-    destinationDirectory.resolve(templateFile).outputStream().buffered().use { outputStream ->
-      outputStream.writePackageStatement(destinationPackage)
-      templateInputStream.use { it.copyTo(outputStream) }
-    }
+    outputDirectory.write("$packageAsDirectory/$templateFile", content)
   }
 
   private fun loadResource(location: String): InputStream = javaClass.getResourceAsStream(location)
     ?: throw IllegalStateException("Resource file $location not found")
-
-  private fun BufferedOutputStream.writePackageStatement(destinationPackage: String) = with(this.writer()) {
-    write("package $destinationPackage;\n\n")
-    flush()
-  }
 }
@@ -31,6 +31,15 @@ sealed interface JavaAnyType {
     is JavaCollectionType if elementType is JavaType && elementType.name == replacedType -> copy(elementType = elementType.copy(name = replacementType))
     else -> this
   }
+
+  /**
+   * Returns this type without any validations, including those of its element or values type.
+   */
+  fun withoutValidations(): JavaAnyType = when (this) {
+    is JavaType -> copy(validations = emptyList())
+    is JavaCollectionType -> copy(elementType = elementType.withoutValidations(), validations = emptyList())
+    is JavaMapType -> copy(valuesType = valuesType.withoutValidations(), validations = emptyList())
+  }
 }
 
 /**
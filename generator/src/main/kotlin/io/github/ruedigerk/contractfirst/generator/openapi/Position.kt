@@ -7,35 +7,59 @@ import java.net.URISyntaxException
 
 /**
  * Represents the position during parsing as the combination of the parsed file together with a path to the position in the file.
+ *
+ * A position points to its parent position and only stores the last segment of its path, so that creating a child position takes constant time and memory,
+ * independent of the depth of the position. The hash code is computed when the position is created, which makes positions cheap to use as map keys.
+ * Positions are not interned in global state, so that no positions outlive the parsing in long-running processes, like the generator daemon or watch mode.
  */
-data class Position private constructor(
+class Position private constructor(
   val file: File,
-  val path: List<String>,
+  private val parent: Position?,
+  private val segment: String?,
 ) {
 
-  operator fun plus(additional: String): Position = Position(file, path + additional)
+  private val depth: Int = if (parent == null) 0 else parent.depth + 1
+  private val hash: Int = if (parent == null) file.hashCode() else 31 * parent.hash + segment.hashCode()
 
-  fun addPathHint(hint: String): Position = Position(file, pathWithHint(hint))
+  /**
+   * The path to this position within its file.
+   */
+  val path: List<String>
+    get() {
+      val segments = arrayOfNulls<String>(depth)
+      var position = this
 
-  private fun pathWithHint(hint: String): List<String> {
-    return if (path.isEmpty()) {
-      listOf(hint)
-    } else {
-      val newElement = "${path.last()} ($hint)"
-      path.dropLast(1) + newElement
+      while (true) {
+        val parent = position.parent ?: break
+        segments[position.depth - 1] = position.segment
+        position = parent
+      }
+
+      return segments.map { it!! }
     }
+
+  operator fun plus(additional: String): Position = Position(file, this, additional)
+
+  fun addPathHint(hint: String): Position = if (parent == null) {
+    this + hint
+  } else {
+    parent + "$segment ($hint)"
   }
 
-  fun resolveReference(reference: String): Position {
+  /**
+   * Resolves the reference relative to this position. The referenced file is resolved with the supplied function, which gets the directory of this position's
+   * file and the path of the reference, and has to return the canonical file.
+   */
+  fun resolveReference(reference: String, resolveFile: (File, String) -> File = ::canonicalFile): Position {
     val uri = try {
       URI(reference)
     } catch (e: URISyntaxException) {
       throw ParserContentException("Illegal \$ref, value is not a valid URI in '$reference' at $this ")
     }
-    val referencedFile = uri.path?.takeIf { it.isNotEmpty() }?.let { path -> file.parentFile.resolve(mendPath(path)).canonicalFile } ?: file
+    val referencedFile = uri.path?.takeIf { it.isNotEmpty() }?.let { path -> resolveFile(file.parentFile, mendPath(path)) } ?: file
     val referencedPath = parseFragment(uri.fragment, reference)
 
-    return Position(referencedFile, referencedPath)
+    return ofCanonicalFile(referencedFile, referencedPath)
   }
 
   private fun mendPath(path: String): String = if (path.startsWith("./")) path.drop(2) else path
@@ -50,8 +74,32 @@ data class Position private constructor(
     return fragment.drop(1).split('/')
   }
 
+  override fun equals(other: Any?): Boolean {
+    if (this === other) return true
+    if (other !is Position) return false
+
+    var position: Position = this
+    var otherPosition: Position = other
+
+    if (position.hash != otherPosition.hash || position.depth != otherPosition.depth) return false
+
+    while (true) {
+      val parent = position.parent ?: break
+      if (position.segment != otherPosition.segment) return false
+
+      position = parent
+      otherPosition = otherPosition.parent!!
+
+      if (position === otherPosition) return true
+    }
+
+    return position.file == otherPosition.file
+  }
+
+  override fun hashCode(): Int = hash
+
   override fun toString(): String {
-    return if (path.isEmpty()) {
+    return if (parent == null) {
       file.path
     } else {
       "${file.path}#$path"
@@ -62,6 +110,20 @@ data class Position private constructor(
 
     operator fun invoke(path: String) = Position(File(path))
 
-    operator fun invoke(file: File) = Position(file.canonicalFile, emptyList())
+    operator fun invoke(file: File) = ofCanonicalFile(file.canonicalFile)
+
+    /**
+     * Creates the position of a file that is known to be canonical already, which saves the file system access of canonicalizing it.
+     */
+    @JvmStatic
+    @JvmOverloads
+    fun ofCanonicalFile(file: File, path: List<String> = emptyList()): Position {
+      return path.fold(Position(file, null, null)) { position, segment -> position + segment }
+    }
+
+    /**
+     * Resolves the path against the directory and returns the canonical file.
+     */
+    fun canonicalFile(directory: File, path: String): File = directory.resolve(path).canonicalFile
   }
 }
@@ -16,6 +16,7 @@ import io.github.ruedigerk.contractfirst.generator.openapi.ResponseStatusCode
 import io.github.ruedigerk.contractfirst.generator.openapi.SchemaId
 import io.github.ruedigerk.contractfirst.generator.openapi.Specification
 import io.github.ruedigerk.contractfirst.generator.openapi.StatusCode
+import java.io.File
 
 /**
  * Parser implementation based on swagger-parser.
@@ -28,20 +29,30 @@ import io.github.ruedigerk.contractfirst.generator.openapi.StatusCode
  * 1.1. All referenced components (path items, etc.) are dereferenced and parsed immediately.
  * 1.2. All encountered schemas are remembered but are not parsed yet. References to schemas are resolved and the references schemas remembered.
  *      Schemas are identified by their positions.
- * 2. All previously remembered schemas are parsed.
+ * 2. All previously remembered schemas are parsed, see [ResolvingSchemaParser]; concurrently, when using more than one thread.
  */
-class ContractParser(private val log: Log) {
+class ContractParser(
+  private val log: Log,
+  sharedFileCache: SharedFileCache = SharedFileCache(),
+  private val threads: Int = 1,
+) {
 
-  private val parseableCache = ParseableCache()
+  private val parseableCache = ParseableCache(sharedFileCache)
   private val encounteredSchemas: MutableMap<Position, Parseable> = mutableMapOf()
 
+  /**
+   * The SHA-256 hashes of the canonical files read by the parser, i.e., the contract file and all files transitively referenced from it, by file.
+   */
+  val loadedFileHashes: Map<File, String>
+    get() = parseableCache.loadedFileHashes
+
   fun toSpecification(path: String): Specification {
     return toSpecification(parseableCache.get(path))
   }
 
   private fun toSpecification(contract: Parseable): Specification {
     val operations = toOperations(contract.requiredField("paths").requireObject())
-    val resolvingSchemaParser = ResolvingSchemaParser(log, parseableCache)
+    val resolvingSchemaParser = ResolvingSchemaParser(log, parseableCache, threads)
     val schemas = resolvingSchemaParser.parseAndResolveAll(encounteredSchemas.values)
 
     return Specification(operations, schemas, contract)
@@ -0,0 +1,22 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import java.security.MessageDigest
+
+/**
+ * The parsed content of a file, together with the SHA-256 hash of the bytes it was parsed from.
+ */
+data class FileContent(
+  val parseable: Parseable,
+  val sha256: String,
+) {
+
+  companion object {
+
+    /**
+     * Returns the SHA-256 hash of the bytes of a file, as hex string.
+     */
+    fun sha256(content: ByteArray): String = MessageDigest.getInstance("SHA-256")
+      .digest(content)
+      .joinToString("") { "%02x".format(it) }
+  }
+}
@@ -0,0 +1,104 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import com.fasterxml.jackson.core.JsonGenerator
+import com.fasterxml.jackson.core.JsonPointer
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.SerializerProvider
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer
+import com.fasterxml.jackson.databind.node.JsonNodeFactory
+import com.fasterxml.jackson.databind.node.ObjectNode
+import java.util.Optional
+import java.util.function.BiConsumer
+import java.util.stream.Stream
+
+/**
+ * An ObjectNode whose properties are only materialized when the node is first accessed, see [LazyTreeReader]. Materializing is thread-safe and happens only
+ * once; afterward, the node behaves like a regular ObjectNode. It is meant to be read only.
+ */
+internal class LazyObjectNode(
+  private var loader: (() -> ObjectNode)?,
+) : ObjectNode(JsonNodeFactory.instance) {
+
+  @Volatile
+  private var loaded = false
+
+  /**
+   * Whether the properties of this node have been materialized.
+   */
+  val isLoaded: Boolean
+    get() = loaded
+
+  private fun load(): ObjectNode {
+    if (!loaded) {
+      synchronized(this) {
+        if (!loaded) {
+          setAll<JsonNode>(loader!!())
+          loader = null
+          loaded = true
+        }
+      }
+    }
+
+    return this
+  }
+
+  override fun size(): Int = load().run { super.size() }
+
+  override fun isEmpty(): Boolean = load().run { super.isEmpty() }
+
+  override fun isEmpty(serializers: SerializerProvider?): Boolean = load().run { super.isEmpty(serializers) }
+
+  override fun elements(): MutableIterator<JsonNode> = load().run { super.elements() }
+
+  override fun values(): MutableIterator<JsonNode> = load().run { super.values() }
+
+  override fun get(propertyName: String?): JsonNode? = load().run { super.get(propertyName) }
+
+  override fun optional(propertyName: String?): Optional<JsonNode> = load().run { super.optional(propertyName) }
+
+  override fun path(propertyName: String?): JsonNode = load().run { super.path(propertyName) }
+
+  override fun required(propertyName: String?): JsonNode = load().run { super.required(propertyName) }
+
+  override fun fieldNames(): MutableIterator<String> = load().run { super.fieldNames() }
+
+  @Deprecated("Deprecated in Jackson, use properties()")
+  @Suppress("DEPRECATION")
+  override fun fields(): MutableIterator<MutableMap.MutableEntry<String, JsonNode>> = load().run { super.fields() }
+
+  override fun properties(): MutableSet<MutableMap.MutableEntry<String, JsonNode>> = load().run { super.properties() }
+
+  override fun valueStream(): Stream<JsonNode> = load().run { super.valueStream() }
+
+  override fun propertyStream(): Stream<MutableMap.MutableEntry<String, JsonNode>> = load().run { super.propertyStream() }
+
+  override fun forEachEntry(action: BiConsumer<in String, in JsonNode>?) = load().run { super.forEachEntry(action) }
+
+  override fun findValue(propertyName: String?): JsonNode? = load().run { super.findValue(propertyName) }
+
+  override fun findValues(propertyName: String?, foundSoFar: MutableList<JsonNode>?): MutableList<JsonNode>? =
+    load().run { super.findValues(propertyName, foundSoFar) }
+
+  override fun findValuesAsText(propertyName: String?, foundSoFar: MutableList<String>?): MutableList<String>? =
+    load().run { super.findValuesAsText(propertyName, foundSoFar) }
+
+  override fun findParent(propertyName: String?): ObjectNode? = load().run { super.findParent(propertyName) }
+
+  override fun findParents(propertyName: String?, foundSoFar: MutableList<JsonNode>?): MutableList<JsonNode>? =
+    load().run { super.findParents(propertyName, foundSoFar) }
+
+  override fun _at(ptr: JsonPointer?): JsonNode? = load().run { super._at(ptr) }
+
+  override fun deepCopy(): ObjectNode = load().run { super.deepCopy() }
+
+  override fun serialize(generator: JsonGenerator?, provider: SerializerProvider?) = load().run { super.serialize(generator, provider) }
+
+  override fun serializeWithType(generator: JsonGenerator?, provider: SerializerProvider?, typeSerializer: TypeSerializer?) =
+    load().run { super.serializeWithType(generator, provider, typeSerializer) }
+
+  override fun equals(comparator: Comparator<JsonNode>?, other: JsonNode?): Boolean = load().run { super.equals(comparator, (other as? LazyObjectNode)?.load() ?: other) }
+
+  override fun equals(other: Any?): Boolean = load().run { super.equals((other as? LazyObjectNode)?.load() ?: other) }
+
+  override fun hashCode(): Int = load().run { super.hashCode() }
+}
@@ -0,0 +1,77 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import com.fasterxml.jackson.core.JsonParser
+import com.fasterxml.jackson.core.JsonToken
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.node.ObjectNode
+
+/**
+ * Reads YAML and JSON documents lazily. A single streaming pass materializes the objects up to a fixed depth, e.g., the sections of the components of an
+ * OpenAPI contract. Deeper objects, e.g., the individual schemas, are only recorded by their location in the text, and are parsed from there when they are
+ * first accessed, see [LazyObjectNode]. Consequently, the memory needed for a document depends on the parts of it that are actually used.
+ *
+ * The text of the document is kept in memory, as long as there are objects that have not been materialized yet.
+ */
+internal class LazyTreeReader(
+  private val objectMapper: ObjectMapper,
+) {
+
+  /**
+   * Reads the document, or returns null if the document is empty.
+   */
+  fun read(text: String): JsonNode? {
+    objectMapper.factory.createParser(text).use { parser ->
+      if (parser.nextToken() == null) {
+        return null
+      }
+
+      return readValue(parser, text, 0)
+    }
+  }
+
+  private fun readValue(parser: JsonParser, text: String, depth: Int): JsonNode = when {
+    parser.currentToken() != JsonToken.START_OBJECT -> objectMapper.readTree(parser)
+    depth < MATERIALIZED_DEPTH -> readObject(parser, text, depth)
+    else -> skipObject(parser, text)
+  }
+
+  private fun readObject(parser: JsonParser, text: String, depth: Int): ObjectNode {
+    val node = objectMapper.nodeFactory.objectNode()
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      val propertyName = parser.currentName()
+      parser.nextToken()
+      node.replace(propertyName, readValue(parser, text, depth + 1))
+    }
+
+    return node
+  }
+
+  private fun skipObject(parser: JsonParser, text: String): ObjectNode {
+    val start = parser.currentTokenLocation()
+    parser.skipChildren()
+    val end = parser.currentTokenLocation()
+
+    val startOffset = start.charOffset.toInt()
+    val isFlowStyle = text[startOffset] == '{'
+
+    // The end of a flow style object is its closing brace, the end of a block style object is the start of the following token.
+    val endOffset = if (isFlowStyle) end.charOffset.toInt() + 1 else end.charOffset.toInt()
+
+    // Block style objects are indented like in the original text, so that all of their lines have the same indentation as their first line.
+    val indentation = if (isFlowStyle) "" else " ".repeat(start.columnNr - 1)
+
+    return LazyObjectNode {
+      objectMapper.readTree(indentation + text.substring(startOffset, endOffset)) as ObjectNode
+    }
+  }
+
+  private companion object {
+
+    /**
+     * The depth up to which objects are materialized while reading: the root object of a contract, its components, and the sections of its components.
+     */
+    const val MATERIALIZED_DEPTH = 3
+  }
+}
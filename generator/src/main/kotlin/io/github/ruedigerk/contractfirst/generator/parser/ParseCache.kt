@@ -0,0 +1,80 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.dataformat.smile.SmileFactory
+import com.fasterxml.jackson.dataformat.yaml.PackageVersion
+import java.io.File
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.security.MessageDigest
+
+/**
+ * A persistent cache of parsed contract and schema files in a directory, so that files are not parsed again by later runs of the generator, e.g., by the
+ * builds of other modules using the same schema library. The parsed tree of a file is stored in the binary Smile format, which is read much faster than
+ * YAML, and is keyed by the hash of the file's content, so that changed files are parsed again. The cache can be shared by concurrent processes.
+ *
+ * Files large enough to be read lazily, see [YamlReader], are not cached, as reading a cached tree materializes it completely.
+ *
+ * The cache is only an optimization: an entry that cannot be read is treated as missing, and an entry that cannot be written is skipped. Entries are never
+ * deleted, the directory can be cleared at any time.
+ */
+class ParseCache(
+  private val directory: File,
+) {
+
+  private val smileMapper = ObjectMapper(SmileFactory())
+
+  /**
+   * Returns the cached tree of a file with the supplied content, or null if there is none.
+   */
+  fun get(content: ByteArray): JsonNode? {
+    val entry = entryFile(content)
+
+    if (!entry.isFile) {
+      return null
+    }
+
+    return try {
+      smileMapper.readTree(entry)
+    } catch (e: IOException) {
+      null
+    }
+  }
+
+  /**
+   * Stores the tree of a file with the supplied content. The entry is written to a temporary file first, and then moved into place, so that concurrent
+   * readers never see partially written entries.
+   */
+  fun put(content: ByteArray, node: JsonNode) {
+    val entry = entryFile(content)
+
+    try {
+      Files.createDirectories(directory.toPath())
+      val temporaryFile = Files.createTempFile(directory.toPath(), entry.name, ".tmp")
+
+      try {
+        smileMapper.writeValue(temporaryFile.toFile(), node)
+        Files.move(temporaryFile, entry.toPath(), StandardCopyOption.ATOMIC_MOVE)
+      } finally {
+        Files.deleteIfExists(temporaryFile)
+      }
+    } catch (e: IOException) {
+      // The cache is only an optimization, the file is parsed again next time.
+    }
+  }
+
+  private fun entryFile(content: ByteArray): File = File(directory, "${key(content)}.smile")
+
+  /**
+   * The key covers the version of the YAML parser, as another version might parse the same content differently.
+   */
+  private fun key(content: ByteArray): String {
+    val digest = MessageDigest.getInstance("SHA-256")
+    digest.update(PackageVersion.VERSION.toString().toByteArray(Charsets.UTF_8))
+    digest.update(content)
+
+    return digest.digest().joinToString("") { "%02x".format(it) }
+  }
+}
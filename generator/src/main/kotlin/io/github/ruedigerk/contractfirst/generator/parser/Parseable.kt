@@ -3,6 +3,7 @@ package io.github.ruedigerk.contractfirst.generator.parser
 import com.fasterxml.jackson.databind.JsonNode
 import io.github.ruedigerk.contractfirst.generator.ParserContentException
 import io.github.ruedigerk.contractfirst.generator.openapi.Position
+import java.io.File
 import java.math.BigDecimal
 
 /**
@@ -43,13 +44,13 @@ class Parseable(
 
   fun getReference(): String = requiredField(DOLLAR_REF).string()!!
 
-  fun resolveReference(): Position {
+  fun resolveReference(resolveFile: (File, String) -> File = Position::canonicalFile): Position {
     if (!isReference()) {
       throw IllegalStateException("Parseable is not a reference: $this")
     }
 
     val reference = getReference()
-    return position.resolveReference(reference)
+    return position.resolveReference(reference, resolveFile)
   }
 
   fun string(): String? {
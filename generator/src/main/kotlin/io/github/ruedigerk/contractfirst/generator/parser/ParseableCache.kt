@@ -4,21 +4,38 @@ import io.github.ruedigerk.contractfirst.generator.ParserContentException
 import io.github.ruedigerk.contractfirst.generator.ParserFileNotFoundException
 import io.github.ruedigerk.contractfirst.generator.openapi.Position
 import java.io.File
+import java.util.concurrent.ConcurrentHashMap
 
 /**
- * Reads files and caches their content.
+ * Reads files and caches their content. Files are read through the supplied [SharedFileCache], which can be shared with the ParseableCaches of other
+ * contracts.
+ *
+ * The cache is thread-safe, so that independent parts of a contract can be parsed concurrently. Each file is read only once, even under contention.
  */
-class ParseableCache {
+class ParseableCache(
+  private val sharedFileCache: SharedFileCache = SharedFileCache(),
+) {
 
-  private val yamlReader = YamlReader()
-  private val fileCache: MutableMap<File, Parseable> = mutableMapOf()
-  private val positionCache: MutableMap<Position, Parseable> = mutableMapOf()
+  private val fileCache = ConcurrentHashMap<File, FileContent>()
+  private val positionCache = ConcurrentHashMap<Position, Parseable>()
+
+  /**
+   * The canonical files read so far, i.e., the contract files and all files transitively referenced from them.
+   */
+  val loadedFiles: Set<File>
+    get() = fileCache.keys.toSet()
+
+  /**
+   * The SHA-256 hashes of the contents of the loaded files, as they were parsed, by file.
+   */
+  val loadedFileHashes: Map<File, String>
+    get() = fileCache.mapValues { it.value.sha256 }
 
   fun get(path: String): Parseable = get(Position(path))
 
   fun get(file: File): Parseable = get(Position(file))
 
-  fun get(position: Position): Parseable = positionCache.getOrPut(position) {
+  fun get(position: Position): Parseable = positionCache.computeIfAbsent(position) {
     val file = lookupFile(position.file)
     var target = file
 
@@ -29,9 +46,9 @@ class ParseableCache {
     target
   }
 
-  private fun lookupFile(file: File): Parseable = fileCache.getOrPut(file) {
-    yamlReader.readFile(file)
-  }
+  private fun lookupFile(file: File): Parseable = fileCache.computeIfAbsent(file) {
+    sharedFileCache.getContent(file)
+  }.parseable
 
   /**
    * Recursively dereferences the supplied parseable if it is a reference, else returns the supplied parseable.
@@ -60,7 +77,7 @@ class ParseableCache {
   }
 
   private fun resolveReferenceOnce(parseable: Parseable): Parseable {
-    val referencedPosition = parseable.resolveReference()
+    val referencedPosition = parseable.resolveReference(sharedFileCache::canonicalFile)
 
     try {
       return get(referencedPosition)
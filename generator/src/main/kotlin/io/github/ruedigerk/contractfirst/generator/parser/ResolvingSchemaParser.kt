@@ -1,5 +1,6 @@
 package io.github.ruedigerk.contractfirst.generator.parser
 
+import io.github.ruedigerk.contractfirst.generator.ConcurrentMapper
 import io.github.ruedigerk.contractfirst.generator.NotSupportedException
 import io.github.ruedigerk.contractfirst.generator.logging.Log
 import io.github.ruedigerk.contractfirst.generator.openapi.ArraySchema
@@ -15,49 +16,51 @@ import java.io.File
 
 /**
  * A parser for JSON Schema files in either JSON oder YAML format.
+ *
+ * Schemas are parsed breadth-first, level by level: the supplied schemas form the first level, and the schemas referenced by a level, that were not parsed
+ * before, form the next level. With more than one thread, the schemas of a level are parsed concurrently. The result does not depend on the number of
+ * threads: the schemas are ordered as if parsed one after the other, and errors are reported for the first failing schema in that order.
  */
 class ResolvingSchemaParser(
   private val log: Log,
   private val parseableCache: ParseableCache,
+  private val threads: Int = 1,
 ) {
 
-  private val schemasToParse = ArrayDeque<Parseable>()
-  private val visitedSchemas = mutableSetOf<SchemaId>()
-
   fun parseAndResolveAll(schemas: Collection<Parseable>): Map<SchemaId, Schema> {
-    schemasToParse.addAll(schemas)
-
     val parsedSchemas = mutableMapOf<SchemaId, Schema>()
+    var level = schemas.associateBy { SchemaId(it) }
 
-    while (schemasToParse.isNotEmpty()) {
-      val parseable = schemasToParse.removeFirst()
-      val id = SchemaId(parseable)
-
-      // Enter the schema ID in visitedSchemas before parsing it, to avoid adding it to schemasToParse again during parsing.
-      visitedSchemas.add(id)
+    ConcurrentMapper(threads).use { mapper ->
+      while (level.isNotEmpty()) {
+        val parsedLevel = mapper.map(level.values.toList()) { parseSchemaAndCollectReferences(it) }
 
-      val schema = parseSchema(parseable)
-      parsedSchemas[id] = schema
+        level.keys.zip(parsedLevel).forEach { (id, parsed) -> parsedSchemas[id] = parsed.schema }
+        level = parsedLevel.flatMap { it.referencedSchemas }
+          .associateBy { SchemaId(it) }
+          .filterKeys { it !in parsedSchemas }
+      }
     }
 
     return parsedSchemas
   }
 
-  private fun dereferenceAndRememberSchema(schemaOrReference: Parseable): SchemaId {
-    val schema = parseableCache.resolveWhileReference(schemaOrReference)
-    val id = SchemaId(schema)
-
-    if (id !in visitedSchemas) {
-      schemasToParse.addLast(schema)
-    }
+  private fun parseSchemaAndCollectReferences(parseable: Parseable): ParsedSchema {
+    val referencedSchemas = mutableListOf<Parseable>()
+    val schema = parseSchema(parseable, referencedSchemas)
+    return ParsedSchema(schema, referencedSchemas)
+  }
 
-    return id
+  private fun dereferenceAndRememberSchema(schemaOrReference: Parseable, referencedSchemas: MutableList<Parseable>): SchemaId {
+    val schema = parseableCache.resolveWhileReference(schemaOrReference)
+    referencedSchemas.add(schema)
+    return SchemaId(schema)
   }
 
   /**
    * The supplied parseable must not be a schema reference.
    */
-  private fun parseSchema(parseable: Parseable): Schema {
+  private fun parseSchema(parseable: Parseable, referencedSchemas: MutableList<Parseable>): Schema {
     log.debug { "Parsing schema ${parseable.position}" }
 
     if (parseable.isReference()) {
@@ -79,9 +82,9 @@ class ResolvingSchemaParser(
     }
 
     return when (type) {
-      "array" -> toArraySchema(parseable)
+      "array" -> toArraySchema(parseable, referencedSchemas)
       "boolean", "integer", "number", "string" -> toPrimitiveSchema(PrimitiveType.valueOf(type.uppercase()), parseable)
-      "object", null -> toObjectOrMapSchema(parseable)
+      "object", null -> toObjectOrMapSchema(parseable, referencedSchemas)
       else -> throw NotSupportedException("Schema type '$type' is not supported at ${parseable.position}")
     }
   }
@@ -101,9 +104,9 @@ class ResolvingSchemaParser(
     )
   }
 
-  private fun toArraySchema(parseable: Parseable): ArraySchema {
+  private fun toArraySchema(parseable: Parseable, referencedSchemas: MutableList<Parseable>): ArraySchema {
     val itemsParseable = parseable.requiredField("items").requireObject()
-    val itemsSchema = dereferenceAndRememberSchema(itemsParseable)
+    val itemsSchema = dereferenceAndRememberSchema(itemsParseable, referencedSchemas)
 
     return ArraySchema(
       parseable.optionalField("title").string().normalize(),
@@ -133,7 +136,7 @@ class ResolvingSchemaParser(
     )
   }
 
-  private fun toObjectOrMapSchema(parseable: Parseable): Schema {
+  private fun toObjectOrMapSchema(parseable: Parseable, referencedSchemas: MutableList<Parseable>): Schema {
     val properties = parseable.optionalField("properties").let { if (!it.isPresent() || !it.isObject() || it.isEmpty()) null else it }
 
     // TODO: Support additionalProperties of type Boolean instead of type Object/Schema.
@@ -144,14 +147,14 @@ class ResolvingSchemaParser(
         "Object schemas having both properties and additionalProperties are not supported, just either or, at ${parseable.position}",
       )
 
-      additionalProperties != null -> toMapSchema(parseable, additionalProperties)
+      additionalProperties != null -> toMapSchema(parseable, additionalProperties, referencedSchemas)
 
-      else -> toObjectSchema(parseable)
+      else -> toObjectSchema(parseable, referencedSchemas)
     }
   }
 
-  private fun toMapSchema(parseable: Parseable, valuesParseable: Parseable): MapSchema {
-    val valuesSchema = dereferenceAndRememberSchema(valuesParseable)
+  private fun toMapSchema(parseable: Parseable, valuesParseable: Parseable, referencedSchemas: MutableList<Parseable>): MapSchema {
+    val valuesSchema = dereferenceAndRememberSchema(valuesParseable, referencedSchemas)
 
     return MapSchema(
       parseable.optionalField("title").string().normalize(),
@@ -163,10 +166,10 @@ class ResolvingSchemaParser(
     )
   }
 
-  private fun toObjectSchema(parseable: Parseable): ObjectSchema {
+  private fun toObjectSchema(parseable: Parseable, referencedSchemas: MutableList<Parseable>): ObjectSchema {
     val requiredProperties = parseable.optionalField("required").stringElements().toSet()
     val properties: List<SchemaProperty> = parseable.optionalField("properties").properties().map { (name, propertySchemaParseable) ->
-      val propertySchema = dereferenceAndRememberSchema(propertySchemaParseable)
+      val propertySchema = dereferenceAndRememberSchema(propertySchemaParseable, referencedSchemas)
       SchemaProperty(name, requiredProperties.contains(name), propertySchema)
     }
 
@@ -178,16 +181,30 @@ class ResolvingSchemaParser(
     )
   }
 
+  /**
+   * A parsed schema together with the schemas it references, in the order of their references.
+   */
+  private class ParsedSchema(
+    val schema: Schema,
+    val referencedSchemas: List<Parseable>,
+  )
+
   companion object {
 
     /**
-     * Utility method for parsing standalone schema files, instead of parsing the schemas referenced from an OpenAPI contract.
+     * Utility method for parsing standalone schema files, instead of parsing the schemas referenced from an OpenAPI contract. The files read are recorded in
+     * the supplied cache.
      */
     @JvmStatic
-    fun parseAndResolveAll(log: Log, files: Collection<File>): Map<SchemaId, Schema> {
-      val parseableCache = ParseableCache()
+    @JvmOverloads
+    fun parseAndResolveAll(
+      log: Log,
+      files: Collection<File>,
+      parseableCache: ParseableCache = ParseableCache(),
+      threads: Int = 1,
+    ): Map<SchemaId, Schema> {
       val parseables = files.map { parseableCache.get(it) }
-      val parser = ResolvingSchemaParser(log, parseableCache)
+      val parser = ResolvingSchemaParser(log, parseableCache, threads)
 
       return parser.parseAndResolveAll(parseables)
     }
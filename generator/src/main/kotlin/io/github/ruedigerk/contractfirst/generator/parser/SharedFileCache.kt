@@ -0,0 +1,66 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import io.github.ruedigerk.contractfirst.generator.openapi.Position
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Reads contract and schema files and caches their content, so that files shared by multiple contracts are read and parsed only once. It is thread-safe and
+ * reads each file only once, even when it is requested concurrently. It also caches the canonical files of the references, as canonicalizing a file
+ * accesses the file system, and large contracts contain thousands of references to the same files.
+ *
+ * A [ParseableCache] caches the files of a single contract, this cache can be shared by the ParseableCaches of multiple contracts. If a [ParseCache] is
+ * supplied, parsed files are additionally cached across runs of the generator.
+ *
+ * Long-running processes reuse the unchanged files for another run of the generator by taking a new cache from [withoutChangedFiles]. The cache itself is
+ * never invalidated, so that the files stay consistent for the runs still using it.
+ */
+class SharedFileCache private constructor(
+  private val yamlReader: YamlReader,
+  private val fileCache: ConcurrentHashMap<File, FileContent>,
+) {
+
+  @JvmOverloads
+  constructor(parseCache: ParseCache? = null) : this(YamlReader(parseCache = parseCache), ConcurrentHashMap())
+
+  private val canonicalFileCache = ConcurrentHashMap<ReferencedFile, File>()
+
+  /**
+   * Returns the content of the canonical file, reading it on the first request.
+   */
+  fun get(file: File): Parseable = getContent(file).parseable
+
+  /**
+   * Returns the content of the canonical file together with the hash of the bytes it was parsed from, reading it on the first request.
+   */
+  fun getContent(file: File): FileContent = fileCache.computeIfAbsent(file, yamlReader::readFileContent)
+
+  /**
+   * Returns a new cache containing the files of this cache whose content did not change since they were read, so that another run of the generator in the
+   * same process reads and parses only the changed files. Files are compared by the hash of their content, as an edit may keep the modification time and
+   * length. The canonical files of references are not taken over, as files may have been moved. This cache is not modified.
+   */
+  fun withoutChangedFiles(): SharedFileCache {
+    val unchangedFiles = fileCache.filter { (file, content) -> hasContent(file, content.sha256) }
+    return SharedFileCache(yamlReader, ConcurrentHashMap(unchangedFiles))
+  }
+
+  private fun hasContent(file: File, sha256: String): Boolean = try {
+    FileContent.sha256(file.readBytes()) == sha256
+  } catch (e: IOException) {
+    false
+  }
+
+  /**
+   * Returns the canonical file of the path, resolved against the directory.
+   */
+  fun canonicalFile(directory: File, path: String): File = canonicalFileCache.computeIfAbsent(ReferencedFile(directory, path)) {
+    Position.canonicalFile(directory, path)
+  }
+
+  private data class ReferencedFile(
+    val directory: File,
+    val path: String,
+  )
+}
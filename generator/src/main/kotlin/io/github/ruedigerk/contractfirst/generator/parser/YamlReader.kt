@@ -1,5 +1,6 @@
 package io.github.ruedigerk.contractfirst.generator.parser
 
+import com.fasterxml.jackson.databind.JsonNode
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory
 import io.github.ruedigerk.contractfirst.generator.ParserFileNotFoundException
@@ -11,20 +12,67 @@ import java.io.IOException
 
 /**
  * Support functions for parsing OpenAPI and JSON Schema files.
+ *
+ * Files of at least [lazyReadingThreshold] bytes are read lazily, see [LazyTreeReader], so that large contracts of which only some parts are used do not have
+ * to be materialized completely. If a [ParseCache] is supplied, smaller files are looked up in it first, and files that are not in it are read and added
+ * to it. Files read lazily are never cached, as a cached tree is always materialized completely, which would defeat lazy reading.
  */
-class YamlReader {
+class YamlReader @JvmOverloads constructor(
+  private val lazyReadingThreshold: Long = DEFAULT_LAZY_READING_THRESHOLD,
+  private val parseCache: ParseCache? = null,
+) {
 
   private val objectMapper = ObjectMapper(YAMLFactory())
+  private val lazyTreeReader = LazyTreeReader(objectMapper)
 
-  fun readFile(file: File): Parseable {
+  /**
+   * Reads the canonical file.
+   */
+  fun readFile(file: File): Parseable = readFileContent(file).parseable
+
+  /**
+   * Reads the canonical file, and hashes the bytes that were read, so that the hash matches the parsed content, even if the file is changed concurrently.
+   */
+  fun readFileContent(file: File): FileContent {
     try {
-      val position = Position(file)
-      val jsonNode = objectMapper.readTree(file)
-      return Parseable(jsonNode, position)
+      val position = Position.ofCanonicalFile(file)
+      val content = file.readBytes()
+      val jsonNode = if (parseCache != null && content.size < lazyReadingThreshold) readCached(content, parseCache) else readTree(content)
+      return FileContent(Parseable(jsonNode, position), FileContent.sha256(content))
     } catch (e: FileNotFoundException) {
       throw ParserFileNotFoundException("File '$file' not found", e)
     } catch (e: IOException) {
       throw ParserIoException("Error reading file '$file'", e)
     }
   }
+
+  private fun readCached(content: ByteArray, parseCache: ParseCache): JsonNode {
+    val cachedNode = parseCache.get(content)
+
+    if (cachedNode != null) {
+      return cachedNode
+    }
+
+    // Missing nodes, i.e., empty files, cannot be represented in the cache.
+    return objectMapper.readTree(content).also { if (!it.isMissingNode) parseCache.put(content, it) }
+  }
+
+  private fun readTree(content: ByteArray): JsonNode = if (content.size >= lazyReadingThreshold) readLazily(content) else objectMapper.readTree(content)
+
+  private fun readLazily(content: ByteArray): JsonNode {
+    val text = content.toString(Charsets.UTF_8)
+
+    // The text offsets reported by the YAML parser count code points, so they match the text's char offsets only if there are no surrogate pairs.
+    if (text.startsWith(BYTE_ORDER_MARK) || text.any { it.isSurrogate() }) {
+      return objectMapper.readTree(text)
+    }
+
+    return lazyTreeReader.read(text) ?: objectMapper.readTree(text)
+  }
+
+  private companion object {
+
+    const val DEFAULT_LAZY_READING_THRESHOLD = 1024L * 1024L
+    const val BYTE_ORDER_MARK = '\uFEFF'
+  }
 }
@@ -19,9 +19,11 @@ class CompareGeneratedCodeToReferenceTest extends Specification {
   static def parametersClientHarness = new GeneratorHarness("src/test/contract/equally-named-parameters.yaml", "parameters_client", CLIENT_OKHTTP)
   static def validationsHarness = new GeneratorHarness("src/test/contract/validations.yaml", "validations", SERVER_JAX_RS)
   static def modelOnlyHarness = new GeneratorHarness("src/test/contract/modelOnlySchemas", "model_only", MODEL_ONLY)
-  static def serverJsr305Harness = new GeneratorHarness("src/test/contract/testsuite.yaml", "server_jsr305", SERVER_JAX_RS, "", true)
-  static def clientJsr305Harness = new GeneratorHarness("src/test/contract/testsuite.yaml", "client_jsr305", CLIENT_OKHTTP, "", true)
-  static def modelOnlyJsr305Harness = new GeneratorHarness("src/test/contract/modelOnlySchemas", "model_only_jsr305", MODEL_ONLY, "", true)
+  static def serverJsr305Harness = new GeneratorHarness("src/test/contract/testsuite.yaml", "server_jsr305", SERVER_JAX_RS, "", true, false, false, 4)
+  static def clientJsr305Harness = new GeneratorHarness("src/test/contract/testsuite.yaml", "client_jsr305", CLIENT_OKHTTP, "", true, false, false, 4)
+  static def modelOnlyJsr305Harness = new GeneratorHarness("src/test/contract/modelOnlySchemas", "model_only_jsr305", MODEL_ONLY, "", true, false, false, 4)
+  static def modelOnlyReflectionFreeHarness = new GeneratorHarness("src/test/contract/modelOnlySchemas", "model_only_reflection_free", MODEL_ONLY, "", false, true)
+  static def modelOnlyImmutableHarness = new GeneratorHarness("src/test/contract/modelOnlySchemas", "model_only_immutable", MODEL_ONLY, "", false, true, true)
 
   def "Testsuite (server): #fileName"() {
     when:
@@ -214,4 +216,36 @@ class CompareGeneratedCodeToReferenceTest extends Specification {
     referenceFile << modelOnlyJsr305Harness.referenceFiles
     generatedFile << modelOnlyJsr305Harness.generatedFiles
   }
+
+  def "Model-Only mode with reflection-free serialization: #fileName"() {
+    when:
+    modelOnlyReflectionFreeHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << modelOnlyReflectionFreeHarness.relativePathNames
+    referenceFile << modelOnlyReflectionFreeHarness.referenceFiles
+    generatedFile << modelOnlyReflectionFreeHarness.generatedFiles
+  }
+
+  def "Model-Only mode with immutable model: #fileName"() {
+    when:
+    modelOnlyImmutableHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << modelOnlyImmutableHarness.relativePathNames
+    referenceFile << modelOnlyImmutableHarness.referenceFiles
+    generatedFile << modelOnlyImmutableHarness.generatedFiles
+  }
 }
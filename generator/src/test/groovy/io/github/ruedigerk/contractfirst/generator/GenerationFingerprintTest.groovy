@@ -0,0 +1,118 @@
+package io.github.ruedigerk.contractfirst.generator
+
+import io.github.ruedigerk.contractfirst.generator.configuration.Configuration
+import io.github.ruedigerk.contractfirst.generator.configuration.GeneratorType
+import io.github.ruedigerk.contractfirst.generator.configuration.GeneratorVariant
+import io.github.ruedigerk.contractfirst.generator.configuration.ModelVariant
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class GenerationFingerprintTest extends Specification {
+
+  @TempDir
+  File directory
+
+  def "Changes to transitively referenced files are noticed"() {
+    given:
+    def contractFile = writeContract()
+    def fingerprint = new GenerationFingerprint(new File(directory, "fingerprint/test.fingerprint"))
+    def configuration = configurationFor(contractFile)
+    def result = new ContractfirstGenerator(new NoLoggingLogAdapter()).generate(configuration)
+    fingerprint.record(configuration, result)
+
+    expect:
+    result.inputFiles == [contractFile, new File(directory, "schemas/Item.yaml")].collect { it.canonicalFile } as Set
+    fingerprint.isUpToDate(configuration)
+
+    when:
+    new File(directory, "schemas/Item.yaml").text = ITEM_SCHEMA.replace("string", "integer")
+
+    then:
+    !fingerprint.isUpToDate(configuration)
+  }
+
+  def "Changes to files made while generating are noticed"() {
+    given:
+    def contractFile = writeContract()
+    def fingerprint = new GenerationFingerprint(new File(directory, "fingerprint/test.fingerprint"))
+    def configuration = configurationFor(contractFile)
+    def result = new ContractfirstGenerator(new NoLoggingLogAdapter()).generate(configuration)
+
+    when:
+    new File(directory, "schemas/Item.yaml").text = ITEM_SCHEMA.replace("string", "integer")
+    fingerprint.record(configuration, result)
+
+    then:
+    !fingerprint.isUpToDate(configuration)
+  }
+
+  def "Changes to the configuration and missing generated files are noticed"() {
+    given:
+    def contractFile = writeContract()
+    def fingerprint = new GenerationFingerprint(new File(directory, "fingerprint/test.fingerprint"))
+    def configuration = configurationFor(contractFile)
+    fingerprint.record(configuration, new ContractfirstGenerator(new NoLoggingLogAdapter()).generate(configuration))
+
+    expect:
+    !fingerprint.isUpToDate(configurationFor(contractFile, "Prefix"))
+
+    when:
+    new File(directory, "output/fingerprint/test/model/Item.java").delete()
+
+    then:
+    !fingerprint.isUpToDate(configuration)
+  }
+
+  private File writeContract() {
+    new File(directory, "schemas").mkdirs()
+    new File(directory, "schemas/Item.yaml").text = ITEM_SCHEMA
+    def contractFile = new File(directory, "contract.yaml")
+    contractFile.text = CONTRACT
+    contractFile
+  }
+
+  private Configuration configurationFor(File contractFile, String modelNamePrefix = "") {
+    new Configuration(
+        contractFile.canonicalPath,
+        GeneratorType.CLIENT,
+        GeneratorVariant.CLIENT_OKHTTP,
+        ModelVariant.GSON,
+        new File(directory, "output").path,
+        false,
+        "openapi.yaml",
+        "fingerprint.test",
+        false,
+        directory.path,
+        modelNamePrefix,
+        false,
+        false,
+        false,
+        1
+    )
+  }
+
+  private static final String ITEM_SCHEMA = """\
+      type: object
+      properties:
+        name:
+          type: string
+      """.stripIndent()
+
+  private static final String CONTRACT = """\
+      openapi: 3.0.2
+      info:
+        title: Fingerprint test
+        version: 1.0.0
+      paths:
+        /items:
+          get:
+            operationId: getItem
+            responses:
+              "200":
+                description: The item
+                content:
+                  application/json:
+                    schema:
+                      \$ref: "schemas/Item.yaml"
+      """.stripIndent()
+}
@@ -0,0 +1,55 @@
+package io.github.ruedigerk.contractfirst.generator
+
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import kotlin.jvm.functions.Function0
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class GenerationWatcherTest extends Specification {
+
+  @TempDir
+  File directory
+
+  Log log = new Log(Mock(LogAdapter))
+  PollingConditions conditions = new PollingConditions(timeout: 30)
+
+  def "Generates again when a file read by the previous generation changes, but not for other files"() {
+    given:
+    def contract = new File(directory, "contract.yaml").canonicalFile
+    def schema = new File(directory, "schema.yaml").canonicalFile
+    def unrelated = new File(directory, "unrelated.yaml").canonicalFile
+    [contract, schema, unrelated].each { it.text = "type: object" }
+
+    def generations = new AtomicInteger()
+    def watcher = new GenerationWatcher(log, [contract], {
+      generations.incrementAndGet()
+      [new GenerationResult([(contract): "", (schema): ""])]
+    } as Function0)
+    def thread = Thread.start {
+      try {
+        watcher.watch()
+      } catch (InterruptedException ignored) {
+        // The watcher is stopped by interrupting it.
+      }
+    }
+
+    when:
+    conditions.eventually { assert generations.get() == 1 }
+    unrelated.text = "type: string"
+    Thread.sleep(1000)
+    def generationsAfterUnrelatedChange = generations.get()
+    schema.text = "type: string"
+
+    then:
+    generationsAfterUnrelatedChange == 1
+    conditions.eventually { assert generations.get() == 2 }
+
+    cleanup:
+    thread?.interrupt()
+    thread?.join(10_000)
+  }
+}
@@ -18,7 +18,10 @@ class ConfigurationTest extends Specification {
         true,
         "/dir-prefix/",
         "Prefix",
-        false
+        false,
+        reflectionFree,
+        immutable,
+        threads
     )
 
     when:
@@ -28,11 +31,16 @@ class ConfigurationTest extends Specification {
     noExceptionThrown()
 
     where:
-    generatorType            | generatorVariant                   | modelVariant
-    GeneratorType.CLIENT     | GeneratorVariant.CLIENT_OKHTTP     | ModelVariant.GSON
-    GeneratorType.MODEL_ONLY | GeneratorVariant.MODEL_ONLY        | ModelVariant.GSON
-    GeneratorType.SERVER     | GeneratorVariant.SERVER_JAX_RS     | ModelVariant.GSON
-    GeneratorType.SERVER     | GeneratorVariant.SERVER_SPRING_WEB | ModelVariant.GSON
+    generatorType            | generatorVariant                   | modelVariant         | reflectionFree | immutable | threads
+    GeneratorType.CLIENT     | GeneratorVariant.CLIENT_OKHTTP     | ModelVariant.GSON    | false          | false     | 1
+    GeneratorType.MODEL_ONLY | GeneratorVariant.MODEL_ONLY        | ModelVariant.GSON    | false          | false     | 1
+    GeneratorType.SERVER     | GeneratorVariant.SERVER_JAX_RS     | ModelVariant.GSON    | false          | false     | 1
+    GeneratorType.SERVER     | GeneratorVariant.SERVER_SPRING_WEB | ModelVariant.GSON    | false          | false     | 1
+    GeneratorType.SERVER     | GeneratorVariant.SERVER_JAX_RS     | ModelVariant.GSON    | true           | false     | 1
+    GeneratorType.SERVER     | GeneratorVariant.SERVER_SPRING_WEB | ModelVariant.JACKSON | true           | false     | 1
+    GeneratorType.CLIENT     | GeneratorVariant.CLIENT_OKHTTP     | ModelVariant.GSON    | true           | true      | 1
+    GeneratorType.SERVER     | GeneratorVariant.SERVER_SPRING_WEB | ModelVariant.JACKSON | true           | true      | 1
+    GeneratorType.CLIENT     | GeneratorVariant.CLIENT_OKHTTP     | ModelVariant.GSON    | false          | false     | 8
   }
 
   def "Invalid configuration is rejected"() {
@@ -48,8 +56,11 @@ class ConfigurationTest extends Specification {
         "package",
         true,
         "/prefix/",
-        "lowercase",
-        false
+        prefix,
+        false,
+        reflectionFree,
+        immutable,
+        threads
     )
 
     when:
@@ -57,6 +68,12 @@ class ConfigurationTest extends Specification {
 
     then:
     def e = thrown InvalidConfigurationException
-    e.message.contains("outputJavaModelNamePrefix")
+    e.message.contains(invalidParameter)
+
+    where:
+    prefix      | reflectionFree | immutable | threads | invalidParameter
+    "lowercase" | false          | false     | 1       | "outputJavaModelNamePrefix"
+    "Prefix"    | false          | true      | 1       | "outputJavaModelImmutable"
+    "Prefix"    | false          | false     | 0       | "generatorThreads"
   }
 }
@@ -0,0 +1,122 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator
+
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.TypeSpec
+import io.github.ruedigerk.contractfirst.generator.configuration.Configuration
+import io.github.ruedigerk.contractfirst.generator.configuration.GeneratorType
+import io.github.ruedigerk.contractfirst.generator.configuration.GeneratorVariant
+import io.github.ruedigerk.contractfirst.generator.configuration.ModelVariant
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class OutputDirectoryTest extends Specification {
+
+  @TempDir
+  File directory
+
+  def "Only changed files are written"() {
+    given:
+    run(["a/One.java": "one", "a/Two.java": "two"])
+    def unchangedFile = new File(directory, "a/One.java")
+    unchangedFile.setLastModified(1000)
+
+    when:
+    def summary = run(["a/One.java": "one", "a/Two.java": "two, changed", "b/Three.java": "three"])
+
+    then:
+    summary == new OutputDirectory.Summary(2, 1, 0)
+    unchangedFile.lastModified() == 1000
+    new File(directory, "a/Two.java").text == "two, changed"
+    new File(directory, "b/Three.java").text == "three"
+  }
+
+  def "Stale files of the previous run are removed, other files are kept"() {
+    given:
+    run(["a/One.java": "one", "b/Two.java": "two"])
+    new File(directory, "a/Foreign.java").text = "not generated"
+    run(["x/Other.java": "other"], "other.package")
+
+    when:
+    def summary = run(["a/One.java": "one"])
+
+    then:
+    summary == new OutputDirectory.Summary(0, 1, 1)
+    !new File(directory, "b").exists()
+    new File(directory, "a/One.java").exists()
+    new File(directory, "a/Foreign.java").exists()
+    new File(directory, "x/Other.java").exists()
+  }
+
+  def "Executions of different generators with the same base package do not remove each other's files"() {
+    given:
+    def server = OutputDirectory.forConfiguration(configuration(GeneratorType.SERVER, GeneratorVariant.SERVER_JAX_RS))
+    server.write("a/resources/Api.java", "server".getBytes("UTF-8"))
+    server.finish()
+
+    def client = OutputDirectory.forConfiguration(configuration(GeneratorType.CLIENT, GeneratorVariant.CLIENT_OKHTTP))
+    client.write("a/api/ApiClient.java", "client".getBytes("UTF-8"))
+    client.finish()
+
+    when:
+    def summary = OutputDirectory.forConfiguration(configuration(GeneratorType.CLIENT, GeneratorVariant.CLIENT_OKHTTP)).finish()
+
+    then:
+    summary == new OutputDirectory.Summary(0, 0, 1)
+    new File(directory, "a/resources/Api.java").exists()
+    !new File(directory, "a/api/ApiClient.java").exists()
+  }
+
+  def "Sources with an unchanged fingerprint are not rendered again, unless their file was modified"() {
+    given:
+    renderSources(["one": "One", "two": "Two", "three": "Three"])
+    def modifiedFile = new File(directory, "a/Two.java")
+    modifiedFile.text = "modified"
+    new File(directory, "a/Three.java").delete()
+
+    when:
+    def rendered = []
+    def summary = renderSources(["one": "One", "two": "Two", "three": "Three", "four": "Four"], rendered)
+
+    then:
+    rendered == ["Two", "Three", "Four"]
+    summary == new OutputDirectory.Summary(3, 1, 0)
+    modifiedFile.text.contains("class Two")
+  }
+
+  private OutputDirectory.Summary run(Map<String, String> files, String manifestName = "test.package") {
+    def outputDirectory = new OutputDirectory(directory, manifestName)
+    files.each { path, content -> outputDirectory.write(path, content.getBytes("UTF-8")) }
+    outputDirectory.finish()
+  }
+
+  private OutputDirectory.Summary renderSources(Map<String, String> classNamesByFingerprint, List<String> rendered = []) {
+    def outputDirectory = new OutputDirectory(directory, "test.package")
+    classNamesByFingerprint.each { fingerprint, className ->
+      outputDirectory.write(fingerprint) {
+        rendered << className
+        JavaFile.builder("a", TypeSpec.classBuilder(className).build()).build()
+      }
+    }
+    outputDirectory.finish()
+  }
+
+  private Configuration configuration(GeneratorType generator, GeneratorVariant generatorVariant) {
+    new Configuration(
+        "openapi.yaml",
+        generator,
+        generatorVariant,
+        ModelVariant.GSON,
+        directory.path,
+        false,
+        "openapi.yaml",
+        "a",
+        false,
+        "",
+        "",
+        false,
+        false,
+        false,
+        1
+    )
+  }
+}
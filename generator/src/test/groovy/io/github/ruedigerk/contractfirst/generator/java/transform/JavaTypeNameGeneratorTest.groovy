@@ -30,7 +30,10 @@ class JavaTypeNameGeneratorTest extends Specification {
       true,
       "/stripped",
       "Prefix",
-      false
+      false,
+      false,
+      false,
+      1
   )
 
   @Subject
@@ -61,6 +64,6 @@ class JavaTypeNameGeneratorTest extends Specification {
   }
 
   private Position pos(String file, List<String> path) {
-    return new Position(new File(file), path)
+    return Position.ofCanonicalFile(new File(file), path)
   }
 }
@@ -0,0 +1,50 @@
+package io.github.ruedigerk.contractfirst.generator.openapi
+
+import spock.lang.Specification
+
+class PositionTest extends Specification {
+
+  static final File FILE = new File("/contracts/api.yaml")
+
+  def "Positions built by descending equal positions built from a path"() {
+    given:
+    def descended = Position.ofCanonicalFile(FILE) + "components" + "schemas" + "Item"
+    def fromPath = Position.ofCanonicalFile(FILE, ["components", "schemas", "Item"])
+
+    expect:
+    descended == fromPath
+    descended.hashCode() == fromPath.hashCode()
+    descended.path == ["components", "schemas", "Item"]
+    descended.toString() == "${FILE.path}#[components, schemas, Item]"
+  }
+
+  def "Positions with different paths or files are not equal"() {
+    given:
+    def position = Position.ofCanonicalFile(FILE, ["components", "schemas", "Item"])
+
+    expect:
+    position != Position.ofCanonicalFile(FILE, ["components", "schemas", "Other"])
+    position != Position.ofCanonicalFile(FILE, ["components", "schemas"])
+    position != Position.ofCanonicalFile(new File("/contracts/other.yaml"), ["components", "schemas", "Item"])
+  }
+
+  def "Path hints replace the last segment"() {
+    expect:
+    Position.ofCanonicalFile(FILE, ["paths", "/items"]).addPathHint("get").path == ["paths", "/items (get)"]
+    Position.ofCanonicalFile(FILE).addPathHint("root").path == ["root"]
+  }
+
+  def "Positions are not interned, so that they do not outlive parsing"() {
+    given:
+    def segment = new String("components")
+
+    when:
+    def position = Position.ofCanonicalFile(FILE) + segment
+    def other = Position.ofCanonicalFile(FILE) + "components"
+
+    then:
+    position == other
+    !Position.ofCanonicalFile(FILE).is(Position.ofCanonicalFile(FILE))
+    position.path[0].is(segment)
+  }
+}
@@ -0,0 +1,73 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class ParseCacheTest extends Specification {
+
+  @TempDir
+  File directory
+
+  def "Files read from the cache result in the same tree as files parsed from YAML or JSON for #file.name"() {
+    given:
+    def parsedNode = new YamlReader().readFile(file).node
+    new YamlReader(Long.MAX_VALUE, new ParseCache(directory)).readFile(file)
+
+    when:
+    def cachedNode = new YamlReader(Long.MAX_VALUE, new ParseCache(directory)).readFile(file).node
+
+    then:
+    directory.listFiles().findAll { it.name.endsWith(".smile") }.size() == 1
+    cachedNode == parsedNode
+
+    where:
+    file << contractFiles()
+  }
+
+  def "Entries are keyed by the content of the files"() {
+    given:
+    def parseCache = new ParseCache(directory)
+    def file = new File(directory, "schema.yaml")
+
+    when:
+    file.text = "type: string"
+    def first = new YamlReader(Long.MAX_VALUE, parseCache).readFile(file).node
+    file.text = "type: integer"
+    def second = new YamlReader(Long.MAX_VALUE, parseCache).readFile(file).node
+
+    then:
+    first.get("type").textValue() == "string"
+    second.get("type").textValue() == "integer"
+    parseCache.get("type: string".bytes) == first
+    parseCache.get("type: integer".bytes) == second
+  }
+
+  def "Files large enough to be read lazily are not cached"() {
+    given:
+    def file = contractFiles().find { it.name == "testsuite.yaml" }
+
+    when:
+    def node = new YamlReader(0L, new ParseCache(directory)).readFile(file).node
+
+    then:
+    directory.listFiles().findAll { it.name.endsWith(".smile") }.isEmpty()
+    node == new YamlReader().readFile(file).node
+  }
+
+  def "Unreadable entries are treated as missing"() {
+    given:
+    def parseCache = new ParseCache(directory)
+    def content = "type: string".bytes
+    parseCache.put(content, new YamlReader().readFile(contractFiles().first()).node)
+    directory.listFiles().each { it.bytes = [1, 2, 3] as byte[] }
+
+    expect:
+    parseCache.get(content) == null
+  }
+
+  private static List<File> contractFiles() {
+    def files = []
+    new File("src/test/contract").eachFileRecurse { if (it.name ==~ /.*\.(yaml|json)/) files << it.canonicalFile }
+    files
+  }
+}
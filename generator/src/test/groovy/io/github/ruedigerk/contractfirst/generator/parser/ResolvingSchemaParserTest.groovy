@@ -43,6 +43,20 @@ class ResolvingSchemaParserTest extends Specification {
     ]
   }
 
+  def "parsing with multiple threads results in the same schemas in the same order"() {
+    given:
+    def contract = "src/test/contract/testsuite.yaml"
+
+    when:
+    def sequentialSchemas = new ContractParser(log, new SharedFileCache(), 1).toSpecification(contract).schemas
+    def concurrentSchemas = new ContractParser(log, new SharedFileCache(), 4).toSpecification(contract).schemas
+
+    then:
+    sequentialSchemas.size() > 50
+    concurrentSchemas.keySet().toList() == sequentialSchemas.keySet().toList()
+    concurrentSchemas == sequentialSchemas
+  }
+
   private static String dropPrefix(String path) {
     if (path.startsWith(PATH_PREFIX)) {
       return path.drop(PATH_PREFIX.length() + 1)
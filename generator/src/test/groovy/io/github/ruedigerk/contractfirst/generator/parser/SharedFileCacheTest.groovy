@@ -0,0 +1,85 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class SharedFileCacheTest extends Specification {
+
+  static final File APPLIANCE_FILE = new File("src/test/contract/modelOnlySchemas/appliance.yaml").canonicalFile
+  static final File DEVICE_FILE = new File("src/test/contract/modelOnlySchemas/device.json").canonicalFile
+
+  @TempDir
+  File directory
+
+  def "Each file is read only once, even when requested concurrently"() {
+    given:
+    def sharedFileCache = new SharedFileCache()
+    def executor = Executors.newFixedThreadPool(8)
+
+    when:
+    def parseables = executor.invokeAll((1..32).collect { { -> sharedFileCache.get(APPLIANCE_FILE) } as Callable<Parseable> })*.get()
+
+    then:
+    parseables.every { it.is(parseables[0]) }
+
+    cleanup:
+    executor.shutdownNow()
+  }
+
+  def "Canonical files of references are resolved once per directory and path"() {
+    given:
+    def sharedFileCache = new SharedFileCache()
+    def directory = new File("src/test/contract/modelOnlySchemas/../modelOnlySchemas")
+
+    when:
+    def first = sharedFileCache.canonicalFile(directory, "./../modelOnlySchemas/device.json")
+    def second = sharedFileCache.canonicalFile(directory, "./../modelOnlySchemas/device.json")
+
+    then:
+    first == DEVICE_FILE
+    first.is(second)
+  }
+
+  def "ParseableCaches sharing a SharedFileCache share the files, but record only the files they loaded themselves"() {
+    given:
+    def sharedFileCache = new SharedFileCache()
+    def applianceCache = new ParseableCache(sharedFileCache)
+    def deviceCache = new ParseableCache(sharedFileCache)
+
+    when:
+    def appliance = applianceCache.get(APPLIANCE_FILE)
+    deviceCache.get(DEVICE_FILE)
+    def applianceFromOtherCache = deviceCache.get(APPLIANCE_FILE)
+
+    then:
+    appliance.is(applianceFromOtherCache)
+    applianceCache.loadedFiles == [APPLIANCE_FILE] as Set
+    deviceCache.loadedFiles == [DEVICE_FILE, APPLIANCE_FILE] as Set
+  }
+
+  def "A cache without the changed files keeps only the files whose content did not change, even if modification time and length did not change"() {
+    given:
+    def sharedFileCache = new SharedFileCache()
+    def changedFile = new File(directory, "changed.yaml").canonicalFile
+    changedFile.text = "type: string"
+    def lastModified = changedFile.lastModified()
+    def unchanged = sharedFileCache.get(APPLIANCE_FILE)
+    def changed = sharedFileCache.get(changedFile)
+
+    when:
+    changedFile.text = "type: number"
+    changedFile.setLastModified(lastModified)
+    def newCache = sharedFileCache.withoutChangedFiles()
+
+    then:
+    newCache.get(APPLIANCE_FILE).is(unchanged)
+    !newCache.get(changedFile).is(changed)
+    newCache.get(changedFile).node.get("type").textValue() == "number"
+
+    and: "the previous cache is not modified, so that runs still using it are not affected"
+    sharedFileCache.get(changedFile).is(changed)
+  }
+}
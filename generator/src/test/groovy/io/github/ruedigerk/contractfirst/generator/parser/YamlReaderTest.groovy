@@ -0,0 +1,46 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import spock.lang.Specification
+
+class YamlReaderTest extends Specification {
+
+  static final File TESTSUITE_FILE = new File("src/test/contract/testsuite.yaml").canonicalFile
+
+  def "Reading lazily results in the same tree as reading eagerly for #file.name"() {
+    given:
+    def eagerReader = new YamlReader(Long.MAX_VALUE)
+    def lazyReader = new YamlReader(0)
+
+    when:
+    def eagerNode = eagerReader.readFile(file).node
+    def lazyNode = lazyReader.readFile(file).node
+
+    then:
+    lazyNode == eagerNode
+    lazyNode.toString() == eagerNode.toString()
+
+    where:
+    file << contractFiles()
+  }
+
+  def "Reading lazily materializes only the accessed objects"() {
+    given:
+    def lazyReader = new YamlReader(0)
+
+    when:
+    def schemas = lazyReader.readFile(TESTSUITE_FILE).node.get("components").get("schemas")
+    def accessedSchema = schemas.get("Item")
+    accessedSchema.get("type")
+
+    then:
+    accessedSchema instanceof LazyObjectNode
+    accessedSchema.isLoaded()
+    schemas.elements().findAll { it instanceof LazyObjectNode && !it.isLoaded() }.size() == schemas.size() - 1
+  }
+
+  private static List<File> contractFiles() {
+    def files = []
+    new File("src/test/contract").eachFileRecurse { if (it.name ==~ /.*\.(yaml|json)/) files << it.canonicalFile }
+    files
+  }
+}
@@ -9,16 +9,36 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
 import io.github.ruedigerk.contractfirst.generator.client.Attachment;
 import io.github.ruedigerk.contractfirst.generator.client.internal.BodyPart;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "MultipartRequestBody".
  */
 public class MultipartRequestBodyApiClient {
+  private static final OperationDescriptor OPERATION_FORM_ENCODED_REQUEST_BODY = new OperationDescriptor.Builder("/formEncodedRequestBody", "POST")
+      .requestBodyPart(BodyPart.Type.PRIMITIVE, "stringProperty")
+      .requestBodyPart(BodyPart.Type.PRIMITIVE, "integerProperty")
+      .requestBodyPart(BodyPart.Type.PRIMITIVE, "enumProperty")
+      .multipartRequestBody("application/x-www-form-urlencoded")
+      .response(StatusCode.of(204))
+      .build();
+
+  private static final OperationDescriptor OPERATION_MULTIPART_REQUEST_BODY = new OperationDescriptor.Builder("/multipartRequestBody", "POST")
+      .parameter("testSelector", ParameterLocation.QUERY, true)
+      .requestBodyPart(BodyPart.Type.PRIMITIVE, "stringProperty")
+      .requestBodyPart(BodyPart.Type.PRIMITIVE, "integerProperty")
+      .requestBodyPart(BodyPart.Type.COMPLEX, "objectProperty")
+      .requestBodyPart(BodyPart.Type.ATTACHMENT, "firstBinary")
+      .requestBodyPart(BodyPart.Type.ATTACHMENT, "additionalBinaries")
+      .multipartRequestBody("multipart/form-data")
+      .response(StatusCode.of(204))
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -46,6 +66,18 @@ public class MultipartRequestBodyApiClient {
     FormEncodedRequestBodyResult result = returningResult.formEncodedRequestBody(stringProperty, integerProperty, enumProperty);
   }
 
+  /**
+   * Executes operation {@code formEncodedRequestBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * A test case for an x-www-form-urlencoded encoded request body.
+   */
+  public CompletableFuture<Void> formEncodedRequestBodyAsync(String stringProperty,
+      Long integerProperty,
+      FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty enumProperty) {
+
+    return returningResult.formEncodedRequestBodyAsync(stringProperty, integerProperty, enumProperty).thenRun(() -> {});
+  }
+
   /**
    * A test case for a multipart/form-data encoded request body.
    *
@@ -59,6 +91,21 @@ public class MultipartRequestBodyApiClient {
     MultipartRequestBodyResult result = returningResult.multipartRequestBody(testSelector, stringProperty, integerProperty, objectProperty, firstBinary, additionalBinaries);
   }
 
+  /**
+   * Executes operation {@code multipartRequestBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * A test case for a multipart/form-data encoded request body.
+   *
+   * @param testSelector Selects the assertions to perform on the server.
+   */
+  public CompletableFuture<Void> multipartRequestBodyAsync(String testSelector,
+      String stringProperty, Long integerProperty,
+      MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty objectProperty,
+      Attachment firstBinary, List<Attachment> additionalBinaries) {
+
+    return returningResult.multipartRequestBodyAsync(testSelector, stringProperty, integerProperty, objectProperty, firstBinary, additionalBinaries).thenRun(() -> {});
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -72,18 +119,21 @@ public class MultipartRequestBodyApiClient {
         throws ApiClientIoException, ApiClientValidationException,
         ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/formEncodedRequestBody", "POST");
-
-      builder.requestBodyPart(BodyPart.Type.PRIMITIVE, "stringProperty", stringProperty);
-      builder.requestBodyPart(BodyPart.Type.PRIMITIVE, "integerProperty", integerProperty);
-      builder.requestBodyPart(BodyPart.Type.PRIMITIVE, "enumProperty", enumProperty);
-      builder.multipartRequestBody("application/x-www-form-urlencoded");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_FORM_ENCODED_REQUEST_BODY.bind(stringProperty, integerProperty, enumProperty));
 
-      builder.response(StatusCode.of(204));
+      return new FormEncodedRequestBodyResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code formEncodedRequestBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * A test case for an x-www-form-urlencoded encoded request body.
+     */
+    public CompletableFuture<FormEncodedRequestBodyResult> formEncodedRequestBodyAsync(
+        String stringProperty, Long integerProperty,
+        FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty enumProperty) {
 
-      return new FormEncodedRequestBodyResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_FORM_ENCODED_REQUEST_BODY.bind(stringProperty, integerProperty, enumProperty)).thenApply(FormEncodedRequestBodyResult::new);
     }
 
     /**
@@ -97,21 +147,24 @@ public class MultipartRequestBodyApiClient {
         Attachment firstBinary, List<Attachment> additionalBinaries) throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/multipartRequestBody", "POST");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_MULTIPART_REQUEST_BODY.bind(testSelector, stringProperty, integerProperty, objectProperty, firstBinary, additionalBinaries));
 
-      builder.parameter("testSelector", ParameterLocation.QUERY, true, testSelector);
-      builder.requestBodyPart(BodyPart.Type.PRIMITIVE, "stringProperty", stringProperty);
-      builder.requestBodyPart(BodyPart.Type.PRIMITIVE, "integerProperty", integerProperty);
-      builder.requestBodyPart(BodyPart.Type.COMPLEX, "objectProperty", objectProperty);
-      builder.requestBodyPart(BodyPart.Type.ATTACHMENT, "firstBinary", firstBinary);
-      builder.requestBodyPart(BodyPart.Type.ATTACHMENT, "additionalBinaries", additionalBinaries);
-      builder.multipartRequestBody("multipart/form-data");
-
-      builder.response(StatusCode.of(204));
+      return new MultipartRequestBodyResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code multipartRequestBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * A test case for a multipart/form-data encoded request body.
+     *
+     * @param testSelector Selects the assertions to perform on the server.
+     */
+    public CompletableFuture<MultipartRequestBodyResult> multipartRequestBodyAsync(
+        String testSelector, String stringProperty, Long integerProperty,
+        MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty objectProperty,
+        Attachment firstBinary, List<Attachment> additionalBinaries) {
 
-      return new MultipartRequestBodyResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_MULTIPART_REQUEST_BODY.bind(testSelector, stringProperty, integerProperty, objectProperty, firstBinary, additionalBinaries)).thenApply(MultipartRequestBodyResult::new);
     }
   }
 
@@ -163,14 +216,15 @@ public class MultipartRequestBodyApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "FormEncodedRequestBodyResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(55);
+      builder.append("FormEncodedRequestBodyResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -222,14 +276,15 @@ public class MultipartRequestBodyApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "MultipartRequestBodyResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(53);
+      builder.append("MultipartRequestBodyResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
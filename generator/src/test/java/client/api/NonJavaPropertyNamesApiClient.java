@@ -7,15 +7,22 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "NonJavaPropertyNames".
  */
 public class NonJavaPropertyNamesApiClient {
+  private static final OperationDescriptor OPERATION_POST_NON_JAVA_PROPERTY_NAMES = new OperationDescriptor.Builder("/nonJavaPropertyNames", "POST")
+      .requestBody("application/json", true)
+      .response(StatusCode.of(200), "application/json", ProblematicName.class)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -48,6 +55,23 @@ public class NonJavaPropertyNamesApiClient {
     return result.getEntityAsProblematicName();
   }
 
+  /**
+   * Executes operation {@code postNonJavaPropertyNames} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * A test case for a JSON model with properties that are not legal Java identifiers.
+   */
+  public CompletableFuture<ProblematicName> postNonJavaPropertyNamesAsync(
+      ProblematicName requestBody) {
+
+    return returningResult.postNonJavaPropertyNamesAsync(requestBody).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsProblematicName();
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -59,16 +83,20 @@ public class NonJavaPropertyNamesApiClient {
         throws ApiClientIoException, ApiClientValidationException,
         ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/nonJavaPropertyNames", "POST");
-
-      builder.requestBody("application/json", true, requestBody);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_POST_NON_JAVA_PROPERTY_NAMES.bind(requestBody));
 
-      builder.response(StatusCode.of(200), "application/json", ProblematicName.class);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new PostNonJavaPropertyNamesResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code postNonJavaPropertyNames} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * A test case for a JSON model with properties that are not legal Java identifiers.
+     */
+    public CompletableFuture<PostNonJavaPropertyNamesResult> postNonJavaPropertyNamesAsync(
+        ProblematicName requestBody) {
 
-      return new PostNonJavaPropertyNamesResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_POST_NON_JAVA_PROPERTY_NAMES.bind(requestBody)).thenApply(PostNonJavaPropertyNamesResult::new);
     }
   }
 
@@ -163,14 +191,15 @@ public class NonJavaPropertyNamesApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "PostNonJavaPropertyNamesResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(57);
+      builder.append("PostNonJavaPropertyNamesResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
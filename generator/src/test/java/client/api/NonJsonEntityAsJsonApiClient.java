@@ -6,14 +6,19 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "NonJsonEntityAsJson".
  */
 public class NonJsonEntityAsJsonApiClient {
+  private static final OperationDescriptor OPERATION_GET_NON_JSON_ENTITY_AS_JSON = new OperationDescriptor.Builder("/nonJsonEntityAsJson", "GET")
+      .response(StatusCode.of(200), "application/xml", Item.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -41,6 +46,18 @@ public class NonJsonEntityAsJsonApiClient {
     return result.getEntity();
   }
 
+  /**
+   * Executes operation {@code getNonJsonEntityAsJson} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for an operation that declares a non-JSON entity and the server nevertheless sending the entity as JSON.
+   */
+  public CompletableFuture<Item> getNonJsonEntityAsJsonAsync() {
+
+    return returningResult.getNonJsonEntityAsJsonAsync().thenApply(result -> {
+      return result.getEntity();
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -51,13 +68,19 @@ public class NonJsonEntityAsJsonApiClient {
     public GetNonJsonEntityAsJsonResult getNonJsonEntityAsJson() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/nonJsonEntityAsJson", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_NON_JSON_ENTITY_AS_JSON.bind());
 
-      builder.response(StatusCode.of(200), "application/xml", Item.class);
+      return new GetNonJsonEntityAsJsonResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getNonJsonEntityAsJson} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for an operation that declares a non-JSON entity and the server nevertheless sending the entity as JSON.
+     */
+    public CompletableFuture<GetNonJsonEntityAsJsonResult> getNonJsonEntityAsJsonAsync() {
 
-      return new GetNonJsonEntityAsJsonResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_NON_JSON_ENTITY_AS_JSON.bind()).thenApply(GetNonJsonEntityAsJsonResult::new);
     }
   }
 
@@ -116,14 +139,15 @@ public class NonJsonEntityAsJsonApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetNonJsonEntityAsJsonResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(55);
+      builder.append("GetNonJsonEntityAsJsonResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
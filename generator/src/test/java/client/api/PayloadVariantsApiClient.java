@@ -8,13 +8,16 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "PayloadVariants".
@@ -22,6 +25,30 @@ import java.util.Optional;
 public class PayloadVariantsApiClient {
   public static final Type LIST_OF_ITEM = new TypeToken<List<Item>>(){}.getType();
 
+  private static final OperationDescriptor OPERATION_FILTER_ITEMS = new OperationDescriptor.Builder("/items", "POST")
+      .requestBody("application/json", true)
+      .response(StatusCode.of(200), "application/json", LIST_OF_ITEM)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_FILTER_ITEMS2 = new OperationDescriptor.Builder("/items2", "POST")
+      .requestBody("application/json", true)
+      .response(StatusCode.of(200), "application/json", LIST_OF_ITEM)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_CHANGE_ITEM = new OperationDescriptor.Builder("/itemBinaries", "POST")
+      .requestBody("application/json", true)
+      .response(StatusCode.of(204))
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_UPLOAD_AND_RETURN_BINARY = new OperationDescriptor.Builder("/itemBinaries", "PUT")
+      .requestBody("application/octet-stream", true)
+      .response(StatusCode.of(200), "application/octet-stream", InputStream.class)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -54,6 +81,22 @@ public class PayloadVariantsApiClient {
     return result.getEntityAsListOfItem();
   }
 
+  /**
+   * Executes operation {@code filterItems} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test operation for generating generic types, e.g. List of Item.
+   */
+  public CompletableFuture<List<Item>> filterItemsAsync(List<Item> requestBody) {
+
+    return returningResult.filterItemsAsync(requestBody).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsListOfItem();
+    });
+  }
+
   /**
    * Second test operation for generic types, using the same generic return type as the other operation (test for bug in the generator).
    */
@@ -70,6 +113,22 @@ public class PayloadVariantsApiClient {
     return result.getEntityAsListOfItem();
   }
 
+  /**
+   * Executes operation {@code filterItems2} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Second test operation for generic types, using the same generic return type as the other operation (test for bug in the generator).
+   */
+  public CompletableFuture<List<Item>> filterItems2Async(List<Item> requestBody) {
+
+    return returningResult.filterItems2Async(requestBody).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsListOfItem();
+    });
+  }
+
   /**
    * Test for 204 response.
    */
@@ -84,6 +143,20 @@ public class PayloadVariantsApiClient {
     }
   }
 
+  /**
+   * Executes operation {@code changeItem} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test for 204 response.
+   */
+  public CompletableFuture<Void> changeItemAsync(Item requestBody) {
+
+    return returningResult.changeItemAsync(requestBody).thenAccept(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+    });
+  }
+
   /**
    * Test binary input and output.
    */
@@ -100,6 +173,55 @@ public class PayloadVariantsApiClient {
     return result.getEntityAsInputStream();
   }
 
+  /**
+   * Executes operation {@code uploadAndReturnBinary} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test binary input and output.
+   */
+  public CompletableFuture<InputStream> uploadAndReturnBinaryAsync(InputStream requestBody) {
+
+    return returningResult.uploadAndReturnBinaryAsync(requestBody).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsInputStream();
+    });
+  }
+
+  /**
+   * Executes operation {@code uploadAndReturnBinary}, writing the binary response body to the file {@code targetFile}, instead of returning it. If {@code resume} is true, only the bytes missing from an existing file are requested from the server, using a Range header, and appended to the file. See {@code ApiRequestExecutor.executeDownload}.
+   *
+   * Test binary input and output.
+   */
+  public void uploadAndReturnBinaryToFile(InputStream requestBody, Path targetFile, boolean resume)
+      throws ApiClientIoException, ApiClientValidationException,
+      ApiClientIncompatibleResponseException, ApiClientErrorWithFailureEntityException {
+
+    UploadAndReturnBinaryResult result = new UploadAndReturnBinaryResult(requestExecutor.executeDownload(OPERATION_UPLOAD_AND_RETURN_BINARY.bind(requestBody), targetFile, resume));
+
+    if (!result.isSuccessful()) {
+      throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+    }
+  }
+
+  /**
+   * Executes operation {@code uploadAndReturnBinary}, writing the binary response body to the channel {@code targetChannel}, instead of returning it. If {@code offset} is positive, only the bytes of the body starting at that position are requested from the server, using a Range header. The channel is not closed. See {@code ApiRequestExecutor.executeDownload}.
+   *
+   * Test binary input and output.
+   */
+  public void uploadAndReturnBinaryToChannel(InputStream requestBody,
+      WritableByteChannel targetChannel, long offset) throws ApiClientIoException,
+      ApiClientValidationException, ApiClientIncompatibleResponseException,
+      ApiClientErrorWithFailureEntityException {
+
+    UploadAndReturnBinaryResult result = new UploadAndReturnBinaryResult(requestExecutor.executeDownload(OPERATION_UPLOAD_AND_RETURN_BINARY.bind(requestBody), targetChannel, offset));
+
+    if (!result.isSuccessful()) {
+      throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+    }
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -110,16 +232,19 @@ public class PayloadVariantsApiClient {
     public FilterItemsResult filterItems(List<Item> requestBody) throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/items", "POST");
-
-      builder.requestBody("application/json", true, requestBody);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_FILTER_ITEMS.bind(requestBody));
 
-      builder.response(StatusCode.of(200), "application/json", LIST_OF_ITEM);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new FilterItemsResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code filterItems} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test operation for generating generic types, e.g. List of Item.
+     */
+    public CompletableFuture<FilterItemsResult> filterItemsAsync(List<Item> requestBody) {
 
-      return new FilterItemsResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_FILTER_ITEMS.bind(requestBody)).thenApply(FilterItemsResult::new);
     }
 
     /**
@@ -128,16 +253,19 @@ public class PayloadVariantsApiClient {
     public FilterItems2Result filterItems2(List<Item> requestBody) throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/items2", "POST");
-
-      builder.requestBody("application/json", true, requestBody);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_FILTER_ITEMS2.bind(requestBody));
 
-      builder.response(StatusCode.of(200), "application/json", LIST_OF_ITEM);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new FilterItems2Result(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code filterItems2} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Second test operation for generic types, using the same generic return type as the other operation (test for bug in the generator).
+     */
+    public CompletableFuture<FilterItems2Result> filterItems2Async(List<Item> requestBody) {
 
-      return new FilterItems2Result(response);
+      return requestExecutor.executeRequestAsync(OPERATION_FILTER_ITEMS2.bind(requestBody)).thenApply(FilterItems2Result::new);
     }
 
     /**
@@ -146,16 +274,19 @@ public class PayloadVariantsApiClient {
     public ChangeItemResult changeItem(Item requestBody) throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/itemBinaries", "POST");
-
-      builder.requestBody("application/json", true, requestBody);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_CHANGE_ITEM.bind(requestBody));
 
-      builder.response(StatusCode.of(204));
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new ChangeItemResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code changeItem} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test for 204 response.
+     */
+    public CompletableFuture<ChangeItemResult> changeItemAsync(Item requestBody) {
 
-      return new ChangeItemResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_CHANGE_ITEM.bind(requestBody)).thenApply(ChangeItemResult::new);
     }
 
     /**
@@ -164,16 +295,20 @@ public class PayloadVariantsApiClient {
     public UploadAndReturnBinaryResult uploadAndReturnBinary(InputStream requestBody) throws
         ApiClientIoException, ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/itemBinaries", "PUT");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_UPLOAD_AND_RETURN_BINARY.bind(requestBody));
 
-      builder.requestBody("application/octet-stream", true, requestBody);
-
-      builder.response(StatusCode.of(200), "application/octet-stream", InputStream.class);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new UploadAndReturnBinaryResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code uploadAndReturnBinary} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test binary input and output.
+     */
+    public CompletableFuture<UploadAndReturnBinaryResult> uploadAndReturnBinaryAsync(
+        InputStream requestBody) {
 
-      return new UploadAndReturnBinaryResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_UPLOAD_AND_RETURN_BINARY.bind(requestBody)).thenApply(UploadAndReturnBinaryResult::new);
     }
   }
 
@@ -269,14 +404,15 @@ public class PayloadVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "FilterItemsResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(44);
+      builder.append("FilterItemsResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -372,14 +508,15 @@ public class PayloadVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "FilterItems2Result{").append('}').toString();
+      StringBuilder builder = new StringBuilder(45);
+      builder.append("FilterItems2Result{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -445,14 +582,15 @@ public class PayloadVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "ChangeItemResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(43);
+      builder.append("ChangeItemResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -547,14 +685,15 @@ public class PayloadVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "UploadAndReturnBinaryResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(54);
+      builder.append("UploadAndReturnBinaryResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
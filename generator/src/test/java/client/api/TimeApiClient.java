@@ -8,18 +8,30 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "time".
  */
 public class TimeApiClient {
+  private static final OperationDescriptor OPERATION_UPDATE_TIME = new OperationDescriptor.Builder("/time/{timeId}", "POST")
+      .parameter("timeId", ParameterLocation.PATH, true)
+      .parameter("queryTimeA", ParameterLocation.QUERY, true)
+      .parameter("queryTimeB", ParameterLocation.QUERY, true)
+      .parameter("headerTimeA", ParameterLocation.HEADER, true)
+      .parameter("headerTimeB", ParameterLocation.HEADER, true)
+      .requestBody("application/json", true)
+      .response(StatusCode.of(200), "application/json", ClockResponse.class)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -53,6 +65,24 @@ public class TimeApiClient {
     return result.getEntityAsClockResponse();
   }
 
+  /**
+   * Executes operation {@code updateTime} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * For testing handling of date and date-time formats.
+   */
+  public CompletableFuture<ClockResponse> updateTimeAsync(LocalDate timeId, LocalDate queryTimeA,
+      OffsetDateTime queryTimeB, LocalDate headerTimeA, OffsetDateTime headerTimeB,
+      Clock requestBody) {
+
+    return returningResult.updateTimeAsync(timeId, queryTimeA, queryTimeB, headerTimeA, headerTimeB, requestBody).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsClockResponse();
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -65,21 +95,21 @@ public class TimeApiClient {
         Clock requestBody) throws ApiClientIoException, ApiClientValidationException,
         ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/time/{timeId}", "POST");
-
-      builder.parameter("timeId", ParameterLocation.PATH, true, timeId);
-      builder.parameter("queryTimeA", ParameterLocation.QUERY, true, queryTimeA);
-      builder.parameter("queryTimeB", ParameterLocation.QUERY, true, queryTimeB);
-      builder.parameter("headerTimeA", ParameterLocation.HEADER, true, headerTimeA);
-      builder.parameter("headerTimeB", ParameterLocation.HEADER, true, headerTimeB);
-      builder.requestBody("application/json", true, requestBody);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_UPDATE_TIME.bind(timeId, queryTimeA, queryTimeB, headerTimeA, headerTimeB, requestBody));
 
-      builder.response(StatusCode.of(200), "application/json", ClockResponse.class);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new UpdateTimeResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code updateTime} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * For testing handling of date and date-time formats.
+     */
+    public CompletableFuture<UpdateTimeResult> updateTimeAsync(LocalDate timeId,
+        LocalDate queryTimeA, OffsetDateTime queryTimeB, LocalDate headerTimeA,
+        OffsetDateTime headerTimeB, Clock requestBody) {
 
-      return new UpdateTimeResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_UPDATE_TIME.bind(timeId, queryTimeA, queryTimeB, headerTimeA, headerTimeB, requestBody)).thenApply(UpdateTimeResult::new);
     }
   }
 
@@ -174,14 +204,15 @@ public class TimeApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "UpdateTimeResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(43);
+      builder.append("UpdateTimeResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
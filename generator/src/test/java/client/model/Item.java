@@ -63,15 +63,18 @@ public class Item {
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, name, tag);
+    int result = 31 + Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(tag);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", id=").append(id);
+    StringBuilder builder = new StringBuilder(70);
+    builder.append("Item{id=").append(id);
     builder.append(", name=").append(name);
     builder.append(", tag=").append(tag);
-    return builder.replace(0, 2, "Item{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -6,17 +6,24 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "BigDecimals".
  */
 public class BigDecimalsApiClient {
+  private static final OperationDescriptor OPERATION_GET_NUMBER = new OperationDescriptor.Builder("/bigDecimals", "GET")
+      .parameter("decimalNumber", ParameterLocation.QUERY, true)
+      .response(StatusCode.of(200), "application/json", BigDecimal.class)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -51,6 +58,24 @@ public class BigDecimalsApiClient {
     return result.getEntityAsBigDecimal();
   }
 
+  /**
+   * Executes operation {@code getNumber} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test serialization of schema type number as BigDecimal.
+   *
+   * @param decimalNumber Test BigDecimal
+   */
+  public CompletableFuture<BigDecimal> getNumberAsync(BigDecimal decimalNumber) {
+
+    return returningResult.getNumberAsync(decimalNumber).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsBigDecimal();
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -63,16 +88,21 @@ public class BigDecimalsApiClient {
     public GetNumberResult getNumber(BigDecimal decimalNumber) throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/bigDecimals", "GET");
-
-      builder.parameter("decimalNumber", ParameterLocation.QUERY, true, decimalNumber);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_NUMBER.bind(decimalNumber));
 
-      builder.response(StatusCode.of(200), "application/json", BigDecimal.class);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new GetNumberResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getNumber} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test serialization of schema type number as BigDecimal.
+     *
+     * @param decimalNumber Test BigDecimal
+     */
+    public CompletableFuture<GetNumberResult> getNumberAsync(BigDecimal decimalNumber) {
 
-      return new GetNumberResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_NUMBER.bind(decimalNumber)).thenApply(GetNumberResult::new);
     }
   }
 
@@ -167,14 +197,15 @@ public class BigDecimalsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetNumberResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(42);
+      builder.append("GetNumberResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
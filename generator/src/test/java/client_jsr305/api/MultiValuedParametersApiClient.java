@@ -7,17 +7,30 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "MultiValuedParameters".
  */
 public class MultiValuedParametersApiClient {
+  private static final OperationDescriptor OPERATION_MULTI_VALUED_PARAMETERS_TEST = new OperationDescriptor.Builder("/multiValuedParametersTest/{pathParam}/{pathSetParam}", "POST")
+      .parameter("testSelector", ParameterLocation.QUERY, true)
+      .parameter("pathParam", ParameterLocation.PATH, true)
+      .parameter("queryParam", ParameterLocation.QUERY, false)
+      .parameter("headerParam", ParameterLocation.HEADER, false)
+      .parameter("pathSetParam", ParameterLocation.PATH, true)
+      .parameter("querySetParam", ParameterLocation.QUERY, false)
+      .parameter("headerSetParam", ParameterLocation.HEADER, false)
+      .response(StatusCode.of(204))
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -58,6 +71,30 @@ public class MultiValuedParametersApiClient {
     }
   }
 
+  /**
+   * Executes operation {@code multiValuedParametersTest} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test for handling of multi-valued parameters.
+   *
+   * @param testSelector Selects the assertions to perform on the server.
+   * @param pathParam Multi-valued path parameter.
+   * @param queryParam Multi-valued query parameter.
+   * @param headerParam Multi-valued header parameter.
+   * @param pathSetParam Multi-valued path parameter.
+   * @param querySetParam Multi-valued query parameter.
+   * @param headerSetParam Multi-valued header parameter.
+   */
+  public CompletableFuture<Void> multiValuedParametersTestAsync(String testSelector,
+      List<String> pathParam, List<SimpleEnum> queryParam, List<Integer> headerParam,
+      Set<String> pathSetParam, Set<SimpleEnum> querySetParam, Set<Integer> headerSetParam) {
+
+    return returningResult.multiValuedParametersTestAsync(testSelector, pathParam, queryParam, headerParam, pathSetParam, querySetParam, headerSetParam).thenAccept(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -78,22 +115,30 @@ public class MultiValuedParametersApiClient {
         Set<String> pathSetParam, Set<SimpleEnum> querySetParam, Set<Integer> headerSetParam) throws
         ApiClientIoException, ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/multiValuedParametersTest/{pathParam}/{pathSetParam}", "POST");
-
-      builder.parameter("testSelector", ParameterLocation.QUERY, true, testSelector);
-      builder.parameter("pathParam", ParameterLocation.PATH, true, pathParam);
-      builder.parameter("queryParam", ParameterLocation.QUERY, false, queryParam);
-      builder.parameter("headerParam", ParameterLocation.HEADER, false, headerParam);
-      builder.parameter("pathSetParam", ParameterLocation.PATH, true, pathSetParam);
-      builder.parameter("querySetParam", ParameterLocation.QUERY, false, querySetParam);
-      builder.parameter("headerSetParam", ParameterLocation.HEADER, false, headerSetParam);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_MULTI_VALUED_PARAMETERS_TEST.bind(testSelector, pathParam, queryParam, headerParam, pathSetParam, querySetParam, headerSetParam));
 
-      builder.response(StatusCode.of(204));
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new MultiValuedParametersTestResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code multiValuedParametersTest} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test for handling of multi-valued parameters.
+     *
+     * @param testSelector Selects the assertions to perform on the server.
+     * @param pathParam Multi-valued path parameter.
+     * @param queryParam Multi-valued query parameter.
+     * @param headerParam Multi-valued header parameter.
+     * @param pathSetParam Multi-valued path parameter.
+     * @param querySetParam Multi-valued query parameter.
+     * @param headerSetParam Multi-valued header parameter.
+     */
+    public CompletableFuture<MultiValuedParametersTestResult> multiValuedParametersTestAsync(
+        String testSelector, List<String> pathParam, List<SimpleEnum> queryParam,
+        List<Integer> headerParam, Set<String> pathSetParam, Set<SimpleEnum> querySetParam,
+        Set<Integer> headerSetParam) {
 
-      return new MultiValuedParametersTestResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_MULTI_VALUED_PARAMETERS_TEST.bind(testSelector, pathParam, queryParam, headerParam, pathSetParam, querySetParam, headerSetParam)).thenApply(MultiValuedParametersTestResult::new);
     }
   }
 
@@ -159,14 +204,15 @@ public class MultiValuedParametersApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "MultiValuedParametersTestResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(58);
+      builder.append("MultiValuedParametersTestResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
@@ -7,17 +7,27 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "MultipleContentTypes".
  */
 public class MultipleContentTypesApiClient {
+  private static final OperationDescriptor OPERATION_GET_MANUAL = new OperationDescriptor.Builder("/manuals", "GET")
+      .parameter("testCaseSelector", ParameterLocation.HEADER, false)
+      .response(StatusCode.of(200), "application/json", Manual.class)
+      .response(StatusCode.of(200), "application/pdf", InputStream.class)
+      .response(StatusCode.of(202), "text/plain", String.class)
+      .response(StatusCode.of(204))
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -52,6 +62,24 @@ public class MultipleContentTypesApiClient {
     return result;
   }
 
+  /**
+   * Executes operation {@code getManual} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for multiple response content types with different schemas.
+   *
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  public CompletableFuture<GetManualResult> getManualAsync(String testCaseSelector) {
+
+    return returningResult.getManualAsync(testCaseSelector).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result;
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -64,19 +92,21 @@ public class MultipleContentTypesApiClient {
     public GetManualResult getManual(String testCaseSelector) throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/manuals", "GET");
-
-      builder.parameter("testCaseSelector", ParameterLocation.HEADER, false, testCaseSelector);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_MANUAL.bind(testCaseSelector));
 
-      builder.response(StatusCode.of(200), "application/json", Manual.class);
-      builder.response(StatusCode.of(200), "application/pdf", InputStream.class);
-      builder.response(StatusCode.of(202), "text/plain", String.class);
-      builder.response(StatusCode.of(204));
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new GetManualResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getManual} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for multiple response content types with different schemas.
+     *
+     * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+     */
+    public CompletableFuture<GetManualResult> getManualAsync(String testCaseSelector) {
 
-      return new GetManualResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_MANUAL.bind(testCaseSelector)).thenApply(GetManualResult::new);
     }
   }
 
@@ -228,14 +258,15 @@ public class MultipleContentTypesApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetManualResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(42);
+      builder.append("GetManualResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
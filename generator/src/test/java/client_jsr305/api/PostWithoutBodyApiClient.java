@@ -5,14 +5,27 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "PostWithoutBody".
  */
 public class PostWithoutBodyApiClient {
+  private static final OperationDescriptor OPERATION_POST_WITHOUT_BODY = new OperationDescriptor.Builder("/postWithoutBody/post", "POST")
+      .response(StatusCode.of(204))
+      .build();
+
+  private static final OperationDescriptor OPERATION_PUT_WITHOUT_BODY = new OperationDescriptor.Builder("/postWithoutBody/put", "PUT")
+      .response(StatusCode.of(204))
+      .build();
+
+  private static final OperationDescriptor OPERATION_PATCH_WITHOUT_BODY = new OperationDescriptor.Builder("/postWithoutBody/patch", "POST")
+      .response(StatusCode.of(204))
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -38,6 +51,16 @@ public class PostWithoutBodyApiClient {
     PostWithoutBodyResult result = returningResult.postWithoutBody();
   }
 
+  /**
+   * Executes operation {@code postWithoutBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Testing HTTP method POST without a request body.
+   */
+  public CompletableFuture<Void> postWithoutBodyAsync() {
+
+    return returningResult.postWithoutBodyAsync().thenRun(() -> {});
+  }
+
   /**
    * Testing HTTP method PUT without a request body.
    */
@@ -47,6 +70,16 @@ public class PostWithoutBodyApiClient {
     PutWithoutBodyResult result = returningResult.putWithoutBody();
   }
 
+  /**
+   * Executes operation {@code putWithoutBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Testing HTTP method PUT without a request body.
+   */
+  public CompletableFuture<Void> putWithoutBodyAsync() {
+
+    return returningResult.putWithoutBodyAsync().thenRun(() -> {});
+  }
+
   /**
    * Testing HTTP method PATCH without a request body.
    */
@@ -56,6 +89,16 @@ public class PostWithoutBodyApiClient {
     PatchWithoutBodyResult result = returningResult.patchWithoutBody();
   }
 
+  /**
+   * Executes operation {@code patchWithoutBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Testing HTTP method PATCH without a request body.
+   */
+  public CompletableFuture<Void> patchWithoutBodyAsync() {
+
+    return returningResult.patchWithoutBodyAsync().thenRun(() -> {});
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -66,13 +109,19 @@ public class PostWithoutBodyApiClient {
     public PostWithoutBodyResult postWithoutBody() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/postWithoutBody/post", "POST");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_POST_WITHOUT_BODY.bind());
 
-      builder.response(StatusCode.of(204));
+      return new PostWithoutBodyResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code postWithoutBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Testing HTTP method POST without a request body.
+     */
+    public CompletableFuture<PostWithoutBodyResult> postWithoutBodyAsync() {
 
-      return new PostWithoutBodyResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_POST_WITHOUT_BODY.bind()).thenApply(PostWithoutBodyResult::new);
     }
 
     /**
@@ -81,13 +130,19 @@ public class PostWithoutBodyApiClient {
     public PutWithoutBodyResult putWithoutBody() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/postWithoutBody/put", "PUT");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_PUT_WITHOUT_BODY.bind());
 
-      builder.response(StatusCode.of(204));
+      return new PutWithoutBodyResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code putWithoutBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Testing HTTP method PUT without a request body.
+     */
+    public CompletableFuture<PutWithoutBodyResult> putWithoutBodyAsync() {
 
-      return new PutWithoutBodyResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_PUT_WITHOUT_BODY.bind()).thenApply(PutWithoutBodyResult::new);
     }
 
     /**
@@ -96,13 +151,19 @@ public class PostWithoutBodyApiClient {
     public PatchWithoutBodyResult patchWithoutBody() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/postWithoutBody/patch", "POST");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_PATCH_WITHOUT_BODY.bind());
 
-      builder.response(StatusCode.of(204));
+      return new PatchWithoutBodyResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code patchWithoutBody} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Testing HTTP method PATCH without a request body.
+     */
+    public CompletableFuture<PatchWithoutBodyResult> patchWithoutBodyAsync() {
 
-      return new PatchWithoutBodyResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_PATCH_WITHOUT_BODY.bind()).thenApply(PatchWithoutBodyResult::new);
     }
   }
 
@@ -154,14 +215,15 @@ public class PostWithoutBodyApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "PostWithoutBodyResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(48);
+      builder.append("PostWithoutBodyResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -213,14 +275,15 @@ public class PostWithoutBodyApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "PutWithoutBodyResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(47);
+      builder.append("PutWithoutBodyResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -272,14 +335,15 @@ public class PostWithoutBodyApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "PatchWithoutBodyResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(49);
+      builder.append("PatchWithoutBodyResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
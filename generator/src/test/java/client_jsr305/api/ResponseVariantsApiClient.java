@@ -7,16 +7,30 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "ResponseVariants".
  */
 public class ResponseVariantsApiClient {
+  private static final OperationDescriptor OPERATION_CREATE_ITEM = new OperationDescriptor.Builder("/{systemId}/components", "POST")
+      .parameter("systemId", ParameterLocation.PATH, true)
+      .parameter("dryRun", ParameterLocation.QUERY, false)
+      .parameter("partNumber", ParameterLocation.HEADER, false)
+      .parameter("testCaseSelector", ParameterLocation.HEADER, false)
+      .requestBody("application/json", true)
+      .response(StatusCode.of(200), "application/json", Item.class)
+      .response(StatusCode.of(201))
+      .response(StatusCode.of(204))
+      .response(StatusCode.of(400), "application/json", Failure.class)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -54,6 +68,28 @@ public class ResponseVariantsApiClient {
     return result.getEntityAsItem();
   }
 
+  /**
+   * Executes operation {@code createItem} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test for the various parameter locations and for serializing request and response body entities.
+   *
+   * @param systemId ID of the system to create the item in.
+   * @param dryRun Do a dry run?
+   * @param partNumber Optional part number
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  public CompletableFuture<Item> createItemAsync(String systemId, Boolean dryRun, Long partNumber,
+      String testCaseSelector, Item requestBody) {
+
+    return returningResult.createItemAsync(systemId, dryRun, partNumber, testCaseSelector, requestBody).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsItem();
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -70,23 +106,25 @@ public class ResponseVariantsApiClient {
         String testCaseSelector, Item requestBody) throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/{systemId}/components", "POST");
-
-      builder.parameter("systemId", ParameterLocation.PATH, true, systemId);
-      builder.parameter("dryRun", ParameterLocation.QUERY, false, dryRun);
-      builder.parameter("partNumber", ParameterLocation.HEADER, false, partNumber);
-      builder.parameter("testCaseSelector", ParameterLocation.HEADER, false, testCaseSelector);
-      builder.requestBody("application/json", true, requestBody);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_CREATE_ITEM.bind(systemId, dryRun, partNumber, testCaseSelector, requestBody));
 
-      builder.response(StatusCode.of(200), "application/json", Item.class);
-      builder.response(StatusCode.of(201));
-      builder.response(StatusCode.of(204));
-      builder.response(StatusCode.of(400), "application/json", Failure.class);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new CreateItemResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code createItem} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test for the various parameter locations and for serializing request and response body entities.
+     *
+     * @param systemId ID of the system to create the item in.
+     * @param dryRun Do a dry run?
+     * @param partNumber Optional part number
+     * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+     */
+    public CompletableFuture<CreateItemResult> createItemAsync(String systemId, Boolean dryRun,
+        Long partNumber, String testCaseSelector, Item requestBody) {
 
-      return new CreateItemResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_CREATE_ITEM.bind(systemId, dryRun, partNumber, testCaseSelector, requestBody)).thenApply(CreateItemResult::new);
     }
   }
 
@@ -202,14 +240,15 @@ public class ResponseVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "CreateItemResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(43);
+      builder.append("CreateItemResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
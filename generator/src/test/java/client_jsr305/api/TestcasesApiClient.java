@@ -8,13 +8,14 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "testcases".
@@ -22,6 +23,16 @@ import java.util.Optional;
 public class TestcasesApiClient {
   public static final Type LIST_OF_GET_INLINE_OBJECT_IN_ARRAY_RESPONSE200_APPLICATION_JSON_ITEM = new TypeToken<List<GetInlineObjectInArrayResponse200ApplicationJsonItem>>(){}.getType();
 
+  private static final OperationDescriptor OPERATION_GET_INLINE_OBJECT_IN_ARRAY = new OperationDescriptor.Builder("/testcases", "GET")
+      .response(StatusCode.of(200), "application/json", LIST_OF_GET_INLINE_OBJECT_IN_ARRAY_RESPONSE200_APPLICATION_JSON_ITEM)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_NON_STRING_ENUM_TYPE_IS_IGNORED = new OperationDescriptor.Builder("/nonStringEnumTypeIsIgnored", "POST")
+      .parameter("booleanEnum", ParameterLocation.QUERY, false)
+      .response(StatusCode.of(204))
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -54,6 +65,23 @@ public class TestcasesApiClient {
     return result.getEntityAsListOfGetInlineObjectInArrayResponse200ApplicationJsonItem();
   }
 
+  /**
+   * Executes operation {@code getInlineObjectInArray} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * A test case for the SchemaToJavaTypeTransformer.
+   */
+  public CompletableFuture<List<GetInlineObjectInArrayResponse200ApplicationJsonItem>> getInlineObjectInArrayAsync(
+      ) {
+
+    return returningResult.getInlineObjectInArrayAsync().thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsListOfGetInlineObjectInArrayResponse200ApplicationJsonItem();
+    });
+  }
+
   /**
    * Testing that enums of a type different from string are supported by ignoring the enum part of the type.
    */
@@ -63,6 +91,16 @@ public class TestcasesApiClient {
     NonStringEnumTypeIsIgnoredResult result = returningResult.nonStringEnumTypeIsIgnored(booleanEnum);
   }
 
+  /**
+   * Executes operation {@code nonStringEnumTypeIsIgnored} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Testing that enums of a type different from string are supported by ignoring the enum part of the type.
+   */
+  public CompletableFuture<Void> nonStringEnumTypeIsIgnoredAsync(Boolean booleanEnum) {
+
+    return returningResult.nonStringEnumTypeIsIgnoredAsync(booleanEnum).thenRun(() -> {});
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -73,14 +111,19 @@ public class TestcasesApiClient {
     public GetInlineObjectInArrayResult getInlineObjectInArray() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/testcases", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_INLINE_OBJECT_IN_ARRAY.bind());
 
-      builder.response(StatusCode.of(200), "application/json", LIST_OF_GET_INLINE_OBJECT_IN_ARRAY_RESPONSE200_APPLICATION_JSON_ITEM);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new GetInlineObjectInArrayResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getInlineObjectInArray} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * A test case for the SchemaToJavaTypeTransformer.
+     */
+    public CompletableFuture<GetInlineObjectInArrayResult> getInlineObjectInArrayAsync() {
 
-      return new GetInlineObjectInArrayResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_INLINE_OBJECT_IN_ARRAY.bind()).thenApply(GetInlineObjectInArrayResult::new);
     }
 
     /**
@@ -89,15 +132,20 @@ public class TestcasesApiClient {
     public NonStringEnumTypeIsIgnoredResult nonStringEnumTypeIsIgnored(Boolean booleanEnum) throws
         ApiClientIoException, ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/nonStringEnumTypeIsIgnored", "POST");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_NON_STRING_ENUM_TYPE_IS_IGNORED.bind(booleanEnum));
 
-      builder.parameter("booleanEnum", ParameterLocation.QUERY, false, booleanEnum);
-
-      builder.response(StatusCode.of(204));
+      return new NonStringEnumTypeIsIgnoredResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code nonStringEnumTypeIsIgnored} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Testing that enums of a type different from string are supported by ignoring the enum part of the type.
+     */
+    public CompletableFuture<NonStringEnumTypeIsIgnoredResult> nonStringEnumTypeIsIgnoredAsync(
+        Boolean booleanEnum) {
 
-      return new NonStringEnumTypeIsIgnoredResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_NON_STRING_ENUM_TYPE_IS_IGNORED.bind(booleanEnum)).thenApply(NonStringEnumTypeIsIgnoredResult::new);
     }
   }
 
@@ -196,14 +244,15 @@ public class TestcasesApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetInlineObjectInArrayResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(55);
+      builder.append("GetInlineObjectInArrayResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -255,14 +304,15 @@ public class TestcasesApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "NonStringEnumTypeIsIgnoredResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(59);
+      builder.append("NonStringEnumTypeIsIgnoredResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
@@ -6,17 +6,25 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "WildcardContentTypes".
  */
 public class WildcardContentTypesApiClient {
+  private static final OperationDescriptor OPERATION_GET_WILDCARD_CONTENT_TYPES = new OperationDescriptor.Builder("/wildcardContentTypes", "GET")
+      .parameter("testCaseSelector", ParameterLocation.HEADER, false)
+      .response(StatusCode.of(200), "text/*", String.class)
+      .response(StatusCode.of(200), "application/*", InputStream.class)
+      .response(StatusCode.DEFAULT, "application/json", Failure.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -51,6 +59,25 @@ public class WildcardContentTypesApiClient {
     return result;
   }
 
+  /**
+   * Executes operation {@code getWildcardContentTypes} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test wildcard response content types.
+   *
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  public CompletableFuture<GetWildcardContentTypesResult> getWildcardContentTypesAsync(
+      String testCaseSelector) {
+
+    return returningResult.getWildcardContentTypesAsync(testCaseSelector).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithFailureEntityException(result.getResponse());
+      }
+
+      return result;
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -63,17 +90,22 @@ public class WildcardContentTypesApiClient {
     public GetWildcardContentTypesResult getWildcardContentTypes(String testCaseSelector) throws
         ApiClientIoException, ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/wildcardContentTypes", "GET");
-
-      builder.parameter("testCaseSelector", ParameterLocation.HEADER, false, testCaseSelector);
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_WILDCARD_CONTENT_TYPES.bind(testCaseSelector));
 
-      builder.response(StatusCode.of(200), "text/*", String.class);
-      builder.response(StatusCode.of(200), "application/*", InputStream.class);
-      builder.response(StatusCode.DEFAULT, "application/json", Failure.class);
+      return new GetWildcardContentTypesResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getWildcardContentTypes} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test wildcard response content types.
+     *
+     * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+     */
+    public CompletableFuture<GetWildcardContentTypesResult> getWildcardContentTypesAsync(
+        String testCaseSelector) {
 
-      return new GetWildcardContentTypesResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_WILDCARD_CONTENT_TYPES.bind(testCaseSelector)).thenApply(GetWildcardContentTypesResult::new);
     }
   }
 
@@ -193,14 +225,15 @@ public class WildcardContentTypesApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetWildcardContentTypesResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(56);
+      builder.append("GetWildcardContentTypesResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
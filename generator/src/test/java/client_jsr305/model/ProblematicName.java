@@ -68,15 +68,18 @@ public class ProblematicName {
 
   @Override
   public int hashCode() {
-    return Objects.hash(_2name, nameAndValue, problematC);
+    int result = 31 + Objects.hashCode(_2name);
+    result = 31 * result + Objects.hashCode(nameAndValue);
+    result = 31 * result + Objects.hashCode(problematC);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", _2name=").append(_2name);
+    StringBuilder builder = new StringBuilder(100);
+    builder.append("ProblematicName{_2name=").append(_2name);
     builder.append(", nameAndValue=").append(nameAndValue);
     builder.append(", problematC=").append(problematC);
-    return builder.replace(0, 2, "ProblematicName{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
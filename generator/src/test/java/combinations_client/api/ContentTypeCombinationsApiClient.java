@@ -8,16 +8,59 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "ContentTypeCombinations".
  */
 public class ContentTypeCombinationsApiClient {
+  private static final OperationDescriptor OPERATION_GET_DEFAULT_ONLY = new OperationDescriptor.Builder("/defaultOnly", "GET")
+      .parameter("testCaseSelector", ParameterLocation.HEADER, false)
+      .response(StatusCode.DEFAULT, "application/json", Book.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_GET_SUCCESS_ONLY = new OperationDescriptor.Builder("/successOnly", "GET")
+      .response(StatusCode.of(200), "application/json", Book.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_GET_FAILURE_ONLY = new OperationDescriptor.Builder("/failureOnly", "GET")
+      .response(StatusCode.of(400), "application/json", CtcError.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_GET_SUCCESS_ENTITY_AND_ERROR_DEFAULT = new OperationDescriptor.Builder("/successEntityAndErrorDefault", "GET")
+      .parameter("testCaseSelector", ParameterLocation.HEADER, false)
+      .response(StatusCode.of(200), "application/json", Book.class)
+      .response(StatusCode.DEFAULT, "application/json", CtcError.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_GET_MULTIPLE_SUCCESS_ENTITIES = new OperationDescriptor.Builder("/multipleSuccessEntities", "GET")
+      .parameter("testCaseSelector", ParameterLocation.HEADER, false)
+      .response(StatusCode.of(200), "application/json", Book.class)
+      .response(StatusCode.of(201), "application/json", CtcError.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_GET_MULTIPLE_SUCCESS_RESPONSES_WITHOUT_CONTENT = new OperationDescriptor.Builder("/multipleSuccessResponsesWithoutContent", "GET")
+      .parameter("testCaseSelector", ParameterLocation.HEADER, false)
+      .response(StatusCode.of(200))
+      .response(StatusCode.of(204))
+      .build();
+
+  private static final OperationDescriptor OPERATION_GET_MULTIPLE_ERROR_ENTITIES = new OperationDescriptor.Builder("/multipleErrorEntities", "GET")
+      .parameter("testCaseSelector", ParameterLocation.HEADER, false)
+      .response(StatusCode.of(200), "application/json", Book.class)
+      .response(StatusCode.of(400), "application/json", CtcError.class)
+      .response(StatusCode.of(500), "application/json", SevereCtcError.class)
+      .build();
+
+  private static final OperationDescriptor OPERATION_GET_CONTENT_FOR204 = new OperationDescriptor.Builder("/contentFor204", "GET")
+      .response(StatusCode.of(204))
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -50,6 +93,22 @@ public class ContentTypeCombinationsApiClient {
     return result.getEntity();
   }
 
+  /**
+   * Executes operation {@code getDefaultOnly} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for only having a response with status code "default".
+   */
+  public CompletableFuture<Book> getDefaultOnlyAsync(String testCaseSelector) {
+
+    return returningResult.getDefaultOnlyAsync(testCaseSelector).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithBookEntityException(result.getResponse());
+      }
+
+      return result.getEntity();
+    });
+  }
+
   /**
    * Test case for only having a single successful response.
    */
@@ -61,6 +120,18 @@ public class ContentTypeCombinationsApiClient {
     return result.getEntity();
   }
 
+  /**
+   * Executes operation {@code getSuccessOnly} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for only having a single successful response.
+   */
+  public CompletableFuture<Book> getSuccessOnlyAsync() {
+
+    return returningResult.getSuccessOnlyAsync().thenApply(result -> {
+      return result.getEntity();
+    });
+  }
+
   /**
    * Test case for only having a single failure response.
    */
@@ -74,6 +145,20 @@ public class ContentTypeCombinationsApiClient {
     }
   }
 
+  /**
+   * Executes operation {@code getFailureOnly} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for only having a single failure response.
+   */
+  public CompletableFuture<Void> getFailureOnlyAsync() {
+
+    return returningResult.getFailureOnlyAsync().thenAccept(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithCtcErrorEntityException(result.getResponse());
+      }
+    });
+  }
+
   /**
    * Test case for having one successful response with an entity and a default for all errors.
    */
@@ -90,6 +175,22 @@ public class ContentTypeCombinationsApiClient {
     return result.getEntityAsBook();
   }
 
+  /**
+   * Executes operation {@code getSuccessEntityAndErrorDefault} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for having one successful response with an entity and a default for all errors.
+   */
+  public CompletableFuture<Book> getSuccessEntityAndErrorDefaultAsync(String testCaseSelector) {
+
+    return returningResult.getSuccessEntityAndErrorDefaultAsync(testCaseSelector).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        throw new ApiClientErrorWithCtcErrorEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsBook();
+    });
+  }
+
   /**
    * Test case for having multiple success entity types.
    */
@@ -101,6 +202,19 @@ public class ContentTypeCombinationsApiClient {
     return result;
   }
 
+  /**
+   * Executes operation {@code getMultipleSuccessEntities} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for having multiple success entity types.
+   */
+  public CompletableFuture<GetMultipleSuccessEntitiesResult> getMultipleSuccessEntitiesAsync(
+      String testCaseSelector) {
+
+    return returningResult.getMultipleSuccessEntitiesAsync(testCaseSelector).thenApply(result -> {
+      return result;
+    });
+  }
+
   /**
    * Test case for having multiple successful responses without content.
    */
@@ -110,6 +224,17 @@ public class ContentTypeCombinationsApiClient {
     GetMultipleSuccessResponsesWithoutContentResult result = returningResult.getMultipleSuccessResponsesWithoutContent(testCaseSelector);
   }
 
+  /**
+   * Executes operation {@code getMultipleSuccessResponsesWithoutContent} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for having multiple successful responses without content.
+   */
+  public CompletableFuture<Void> getMultipleSuccessResponsesWithoutContentAsync(
+      String testCaseSelector) {
+
+    return returningResult.getMultipleSuccessResponsesWithoutContentAsync(testCaseSelector).thenRun(() -> {});
+  }
+
   /**
    * Test case for having multiple error entity types.
    */
@@ -129,6 +254,25 @@ public class ContentTypeCombinationsApiClient {
     return result.getEntityAsBook();
   }
 
+  /**
+   * Executes operation {@code getMultipleErrorEntities} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for having multiple error entity types.
+   */
+  public CompletableFuture<Book> getMultipleErrorEntitiesAsync(String testCaseSelector) {
+
+    return returningResult.getMultipleErrorEntitiesAsync(testCaseSelector).thenApply(result -> {
+      if (!result.isSuccessful()) {
+        if (result.getResponse().getEntityType() == CtcError.class) {
+          throw new ApiClientErrorWithCtcErrorEntityException(result.getResponse());
+        }
+        throw new ApiClientErrorWithSevereCtcErrorEntityException(result.getResponse());
+      }
+
+      return result.getEntityAsBook();
+    });
+  }
+
   /**
    * Test case for returning content with status code 204.
    */
@@ -138,6 +282,16 @@ public class ContentTypeCombinationsApiClient {
     GetContentFor204Result result = returningResult.getContentFor204();
   }
 
+  /**
+   * Executes operation {@code getContentFor204} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test case for returning content with status code 204.
+   */
+  public CompletableFuture<Void> getContentFor204Async() {
+
+    return returningResult.getContentFor204Async().thenRun(() -> {});
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -148,15 +302,19 @@ public class ContentTypeCombinationsApiClient {
     public GetDefaultOnlyResult getDefaultOnly(String testCaseSelector) throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/defaultOnly", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_DEFAULT_ONLY.bind(testCaseSelector));
 
-      builder.parameter("testCaseSelector", ParameterLocation.HEADER, false, testCaseSelector);
-
-      builder.response(StatusCode.DEFAULT, "application/json", Book.class);
+      return new GetDefaultOnlyResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getDefaultOnly} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for only having a response with status code "default".
+     */
+    public CompletableFuture<GetDefaultOnlyResult> getDefaultOnlyAsync(String testCaseSelector) {
 
-      return new GetDefaultOnlyResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_DEFAULT_ONLY.bind(testCaseSelector)).thenApply(GetDefaultOnlyResult::new);
     }
 
     /**
@@ -165,13 +323,19 @@ public class ContentTypeCombinationsApiClient {
     public GetSuccessOnlyResult getSuccessOnly() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/successOnly", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_SUCCESS_ONLY.bind());
 
-      builder.response(StatusCode.of(200), "application/json", Book.class);
+      return new GetSuccessOnlyResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getSuccessOnly} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for only having a single successful response.
+     */
+    public CompletableFuture<GetSuccessOnlyResult> getSuccessOnlyAsync() {
 
-      return new GetSuccessOnlyResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_SUCCESS_ONLY.bind()).thenApply(GetSuccessOnlyResult::new);
     }
 
     /**
@@ -180,13 +344,19 @@ public class ContentTypeCombinationsApiClient {
     public GetFailureOnlyResult getFailureOnly() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/failureOnly", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_FAILURE_ONLY.bind());
 
-      builder.response(StatusCode.of(400), "application/json", CtcError.class);
+      return new GetFailureOnlyResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getFailureOnly} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for only having a single failure response.
+     */
+    public CompletableFuture<GetFailureOnlyResult> getFailureOnlyAsync() {
 
-      return new GetFailureOnlyResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_FAILURE_ONLY.bind()).thenApply(GetFailureOnlyResult::new);
     }
 
     /**
@@ -196,16 +366,20 @@ public class ContentTypeCombinationsApiClient {
         String testCaseSelector) throws ApiClientIoException, ApiClientValidationException,
         ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/successEntityAndErrorDefault", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_SUCCESS_ENTITY_AND_ERROR_DEFAULT.bind(testCaseSelector));
 
-      builder.parameter("testCaseSelector", ParameterLocation.HEADER, false, testCaseSelector);
-
-      builder.response(StatusCode.of(200), "application/json", Book.class);
-      builder.response(StatusCode.DEFAULT, "application/json", CtcError.class);
+      return new GetSuccessEntityAndErrorDefaultResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getSuccessEntityAndErrorDefault} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for having one successful response with an entity and a default for all errors.
+     */
+    public CompletableFuture<GetSuccessEntityAndErrorDefaultResult> getSuccessEntityAndErrorDefaultAsync(
+        String testCaseSelector) {
 
-      return new GetSuccessEntityAndErrorDefaultResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_SUCCESS_ENTITY_AND_ERROR_DEFAULT.bind(testCaseSelector)).thenApply(GetSuccessEntityAndErrorDefaultResult::new);
     }
 
     /**
@@ -215,16 +389,20 @@ public class ContentTypeCombinationsApiClient {
         throws ApiClientIoException, ApiClientValidationException,
         ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/multipleSuccessEntities", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_MULTIPLE_SUCCESS_ENTITIES.bind(testCaseSelector));
 
-      builder.parameter("testCaseSelector", ParameterLocation.HEADER, false, testCaseSelector);
-
-      builder.response(StatusCode.of(200), "application/json", Book.class);
-      builder.response(StatusCode.of(201), "application/json", CtcError.class);
+      return new GetMultipleSuccessEntitiesResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getMultipleSuccessEntities} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for having multiple success entity types.
+     */
+    public CompletableFuture<GetMultipleSuccessEntitiesResult> getMultipleSuccessEntitiesAsync(
+        String testCaseSelector) {
 
-      return new GetMultipleSuccessEntitiesResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_MULTIPLE_SUCCESS_ENTITIES.bind(testCaseSelector)).thenApply(GetMultipleSuccessEntitiesResult::new);
     }
 
     /**
@@ -234,16 +412,20 @@ public class ContentTypeCombinationsApiClient {
         String testCaseSelector) throws ApiClientIoException, ApiClientValidationException,
         ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/multipleSuccessResponsesWithoutContent", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_MULTIPLE_SUCCESS_RESPONSES_WITHOUT_CONTENT.bind(testCaseSelector));
 
-      builder.parameter("testCaseSelector", ParameterLocation.HEADER, false, testCaseSelector);
-
-      builder.response(StatusCode.of(200));
-      builder.response(StatusCode.of(204));
+      return new GetMultipleSuccessResponsesWithoutContentResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getMultipleSuccessResponsesWithoutContent} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for having multiple successful responses without content.
+     */
+    public CompletableFuture<GetMultipleSuccessResponsesWithoutContentResult> getMultipleSuccessResponsesWithoutContentAsync(
+        String testCaseSelector) {
 
-      return new GetMultipleSuccessResponsesWithoutContentResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_MULTIPLE_SUCCESS_RESPONSES_WITHOUT_CONTENT.bind(testCaseSelector)).thenApply(GetMultipleSuccessResponsesWithoutContentResult::new);
     }
 
     /**
@@ -252,17 +434,20 @@ public class ContentTypeCombinationsApiClient {
     public GetMultipleErrorEntitiesResult getMultipleErrorEntities(String testCaseSelector) throws
         ApiClientIoException, ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/multipleErrorEntities", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_MULTIPLE_ERROR_ENTITIES.bind(testCaseSelector));
 
-      builder.parameter("testCaseSelector", ParameterLocation.HEADER, false, testCaseSelector);
-
-      builder.response(StatusCode.of(200), "application/json", Book.class);
-      builder.response(StatusCode.of(400), "application/json", CtcError.class);
-      builder.response(StatusCode.of(500), "application/json", SevereCtcError.class);
+      return new GetMultipleErrorEntitiesResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getMultipleErrorEntities} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for having multiple error entity types.
+     */
+    public CompletableFuture<GetMultipleErrorEntitiesResult> getMultipleErrorEntitiesAsync(
+        String testCaseSelector) {
 
-      return new GetMultipleErrorEntitiesResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_MULTIPLE_ERROR_ENTITIES.bind(testCaseSelector)).thenApply(GetMultipleErrorEntitiesResult::new);
     }
 
     /**
@@ -271,13 +456,19 @@ public class ContentTypeCombinationsApiClient {
     public GetContentFor204Result getContentFor204() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/contentFor204", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_CONTENT_FOR204.bind());
 
-      builder.response(StatusCode.of(204));
+      return new GetContentFor204Result(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getContentFor204} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test case for returning content with status code 204.
+     */
+    public CompletableFuture<GetContentFor204Result> getContentFor204Async() {
 
-      return new GetContentFor204Result(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_CONTENT_FOR204.bind()).thenApply(GetContentFor204Result::new);
     }
   }
 
@@ -336,14 +527,15 @@ public class ContentTypeCombinationsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetDefaultOnlyResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(47);
+      builder.append("GetDefaultOnlyResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -402,14 +594,15 @@ public class ContentTypeCombinationsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetSuccessOnlyResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(47);
+      builder.append("GetSuccessOnlyResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -468,14 +661,15 @@ public class ContentTypeCombinationsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetFailureOnlyResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(47);
+      builder.append("GetFailureOnlyResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -570,14 +764,15 @@ public class ContentTypeCombinationsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetSuccessEntityAndErrorDefaultResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(64);
+      builder.append("GetSuccessEntityAndErrorDefaultResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -672,14 +867,15 @@ public class ContentTypeCombinationsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetMultipleSuccessEntitiesResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(59);
+      builder.append("GetMultipleSuccessEntitiesResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -738,14 +934,15 @@ public class ContentTypeCombinationsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetMultipleSuccessResponsesWithoutContentResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(74);
+      builder.append("GetMultipleSuccessResponsesWithoutContentResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -865,14 +1062,15 @@ public class ContentTypeCombinationsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetMultipleErrorEntitiesResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(57);
+      builder.append("GetMultipleErrorEntitiesResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 
@@ -924,14 +1122,15 @@ public class ContentTypeCombinationsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetContentFor204Result{").append('}').toString();
+      StringBuilder builder = new StringBuilder(49);
+      builder.append("GetContentFor204Result{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
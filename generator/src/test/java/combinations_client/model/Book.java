@@ -44,14 +44,16 @@ public class Book {
 
   @Override
   public int hashCode() {
-    return Objects.hash(title, isbn);
+    int result = 31 + Objects.hashCode(title);
+    result = 31 * result + Objects.hashCode(isbn);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", title=").append(title);
+    StringBuilder builder = new StringBuilder(51);
+    builder.append("Book{title=").append(title);
     builder.append(", isbn=").append(isbn);
-    return builder.replace(0, 2, "Book{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -28,13 +28,14 @@ public class CtcError {
 
   @Override
   public int hashCode() {
-    return Objects.hash(code);
+    int result = 31 + Objects.hashCode(code);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", code=").append(code);
-    return builder.replace(0, 2, "CtcError{").append('}').toString();
+    StringBuilder builder = new StringBuilder(31);
+    builder.append("CtcError{code=").append(code);
+    return builder.append('}').toString();
   }
 }
@@ -48,14 +48,16 @@ public class Device {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, value);
+    int result = 31 + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(value);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", name=").append(name);
+    StringBuilder builder = new StringBuilder(53);
+    builder.append("Device{name=").append(name);
     builder.append(", value=").append(value);
-    return builder.replace(0, 2, "Device{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
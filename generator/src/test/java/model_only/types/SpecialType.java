@@ -65,22 +65,25 @@ public class SpecialType {
     if (other == this) return true;
     if (other == null || getClass() != other.getClass()) return false;
     SpecialType o = (SpecialType) other;
-    return Objects.equals(sibling, o.sibling)
-        && Objects.equals(typeName, o.typeName)
+    return Objects.equals(typeName, o.typeName)
+        && Objects.equals(sibling, o.sibling)
         && Objects.equals(specialities, o.specialities);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(sibling, typeName, specialities);
+    int result = 31 + Objects.hashCode(sibling);
+    result = 31 * result + Objects.hashCode(typeName);
+    result = 31 * result + Objects.hashCode(specialities);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", sibling=").append(sibling);
+    StringBuilder builder = new StringBuilder(95);
+    builder.append("SpecialType{sibling=").append(sibling);
     builder.append(", typeName=").append(typeName);
     builder.append(", specialities=").append(specialities);
-    return builder.replace(0, 2, "SpecialType{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -0,0 +1,134 @@
+package model_only_immutable;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import model_only_immutable.types.SpecialType;
+
+/**
+ * Appliance
+ */
+public final class Appliance {
+  @NotNull
+  private final String name;
+
+  @Valid
+  private final List<@Valid Device> devices;
+
+  /**
+   * Special Type
+   */
+  @Valid
+  private final SpecialType type;
+
+  private transient int cachedHashCode;
+
+  private Appliance(Builder builder) {
+    this.name = builder.name;
+    this.devices = builder.devices == null ? null : Collections.unmodifiableList(new ArrayList<>(builder.devices));
+    this.type = builder.type;
+  }
+
+  /**
+   * Returns a new builder for instances of this class.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns a new builder, that is initialized with the values of this instance.
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<Device> getDevices() {
+    return devices;
+  }
+
+  public SpecialType getType() {
+    return type;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Appliance o = (Appliance) other;
+    if (cachedHashCode != 0 && o.cachedHashCode != 0 && cachedHashCode != o.cachedHashCode) return false;
+    return Objects.equals(name, o.name)
+        && Objects.equals(type, o.type)
+        && Objects.equals(devices, o.devices);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 31 + Objects.hashCode(name);
+      result = 31 * result + Objects.hashCode(devices);
+      result = 31 * result + Objects.hashCode(type);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(81);
+    builder.append("Appliance{name=").append(name);
+    builder.append(", devices=").append(devices);
+    builder.append(", type=").append(type);
+    return builder.append('}').toString();
+  }
+
+  /**
+   * Builder for instances of class Appliance.
+   */
+  public static final class Builder {
+    private String name;
+
+    private List<Device> devices = new ArrayList<>();
+
+    private SpecialType type;
+
+    private Builder() {
+    }
+
+    private Builder(Appliance instance) {
+      this.name = instance.name;
+      this.devices = instance.devices;
+      this.type = instance.type;
+    }
+
+    public Builder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    public Builder devices(List<Device> devices) {
+      this.devices = devices;
+      return this;
+    }
+
+    public Builder type(SpecialType type) {
+      this.type = type;
+      return this;
+    }
+
+    /**
+     * Builds a new instance from the values of this builder.
+     */
+    public Appliance build() {
+      return new Appliance(this);
+    }
+  }
+}
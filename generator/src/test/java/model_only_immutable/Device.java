@@ -0,0 +1,105 @@
+package model_only_immutable;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Device
+ */
+public final class Device {
+  private final String name;
+
+  private final BigDecimal value;
+
+  private transient int cachedHashCode;
+
+  private Device(Builder builder) {
+    this.name = builder.name;
+    this.value = builder.value;
+  }
+
+  /**
+   * Returns a new builder for instances of this class.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns a new builder, that is initialized with the values of this instance.
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public BigDecimal getValue() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Device o = (Device) other;
+    if (cachedHashCode != 0 && o.cachedHashCode != 0 && cachedHashCode != o.cachedHashCode) return false;
+    return Objects.equals(name, o.name)
+        && Objects.equals(value, o.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 31 + Objects.hashCode(name);
+      result = 31 * result + Objects.hashCode(value);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(53);
+    builder.append("Device{name=").append(name);
+    builder.append(", value=").append(value);
+    return builder.append('}').toString();
+  }
+
+  /**
+   * Builder for instances of class Device.
+   */
+  public static final class Builder {
+    private String name;
+
+    private BigDecimal value;
+
+    private Builder() {
+    }
+
+    private Builder(Device instance) {
+      this.name = instance.name;
+      this.value = instance.value;
+    }
+
+    public Builder name(String name) {
+      this.name = name;
+      return this;
+    }
+
+    public Builder value(BigDecimal value) {
+      this.value = value;
+      return this;
+    }
+
+    /**
+     * Builds a new instance from the values of this builder.
+     */
+    public Device build() {
+      return new Device(this);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package model_only_immutable;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Gson TypeAdapter for {@link Device}, serializing and deserializing it without reflection.
+ */
+public final class DeviceTypeAdapter extends TypeAdapter<Device> {
+  private final TypeAdapter<String> stringAdapter;
+
+  private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+  public DeviceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, Device value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
+    out.beginObject();
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("value");
+    bigDecimalAdapter.write(out, value.getValue());
+    out.endObject();
+  }
+
+  @Override
+  public Device read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    Device.Builder value = Device.builder();
+    in.beginObject();
+
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "name":
+          value.name(stringAdapter.read(in));
+          break;
+        case "value":
+          value.value(bigDecimalAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+
+    in.endObject();
+    return value.build();
+  }
+}
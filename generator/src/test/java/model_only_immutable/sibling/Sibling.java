@@ -0,0 +1,87 @@
+package model_only_immutable.sibling;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Sibling
+ */
+public final class Sibling {
+  private final BigInteger value;
+
+  private transient int cachedHashCode;
+
+  private Sibling(Builder builder) {
+    this.value = builder.value;
+  }
+
+  /**
+   * Returns a new builder for instances of this class.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns a new builder, that is initialized with the values of this instance.
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  public BigInteger getValue() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Sibling o = (Sibling) other;
+    if (cachedHashCode != 0 && o.cachedHashCode != 0 && cachedHashCode != o.cachedHashCode) return false;
+    return Objects.equals(value, o.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 31 + Objects.hashCode(value);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(31);
+    builder.append("Sibling{value=").append(value);
+    return builder.append('}').toString();
+  }
+
+  /**
+   * Builder for instances of class Sibling.
+   */
+  public static final class Builder {
+    private BigInteger value;
+
+    private Builder() {
+    }
+
+    private Builder(Sibling instance) {
+      this.value = instance.value;
+    }
+
+    public Builder value(BigInteger value) {
+      this.value = value;
+      return this;
+    }
+
+    /**
+     * Builds a new instance from the values of this builder.
+     */
+    public Sibling build() {
+      return new Sibling(this);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package model_only_immutable.sibling;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Gson TypeAdapter for {@link Sibling}, serializing and deserializing it without reflection.
+ */
+public final class SiblingTypeAdapter extends TypeAdapter<Sibling> {
+  private final TypeAdapter<BigInteger> bigIntegerAdapter;
+
+  public SiblingTypeAdapter(Gson gson) {
+    this.bigIntegerAdapter = gson.getAdapter(BigInteger.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, Sibling value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
+    out.beginObject();
+    out.name("value");
+    bigIntegerAdapter.write(out, value.getValue());
+    out.endObject();
+  }
+
+  @Override
+  public Sibling read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    Sibling.Builder value = Sibling.builder();
+    in.beginObject();
+
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "value":
+          value.value(bigIntegerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+
+    in.endObject();
+    return value.build();
+  }
+}
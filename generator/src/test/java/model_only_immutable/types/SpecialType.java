@@ -0,0 +1,132 @@
+package model_only_immutable.types;
+
+import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import model_only_immutable.sibling.Sibling;
+
+/**
+ * Special Type
+ */
+public final class SpecialType {
+  /**
+   * Sibling
+   */
+  @Valid
+  private final Sibling sibling;
+
+  private final String typeName;
+
+  @Valid
+  private final List<@Valid SpecialTypeSpecialitiesItem> specialities;
+
+  private transient int cachedHashCode;
+
+  private SpecialType(Builder builder) {
+    this.sibling = builder.sibling;
+    this.typeName = builder.typeName;
+    this.specialities = builder.specialities == null ? null : Collections.unmodifiableList(new ArrayList<>(builder.specialities));
+  }
+
+  /**
+   * Returns a new builder for instances of this class.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns a new builder, that is initialized with the values of this instance.
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  public Sibling getSibling() {
+    return sibling;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public List<SpecialTypeSpecialitiesItem> getSpecialities() {
+    return specialities;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    SpecialType o = (SpecialType) other;
+    if (cachedHashCode != 0 && o.cachedHashCode != 0 && cachedHashCode != o.cachedHashCode) return false;
+    return Objects.equals(typeName, o.typeName)
+        && Objects.equals(sibling, o.sibling)
+        && Objects.equals(specialities, o.specialities);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 31 + Objects.hashCode(sibling);
+      result = 31 * result + Objects.hashCode(typeName);
+      result = 31 * result + Objects.hashCode(specialities);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(95);
+    builder.append("SpecialType{sibling=").append(sibling);
+    builder.append(", typeName=").append(typeName);
+    builder.append(", specialities=").append(specialities);
+    return builder.append('}').toString();
+  }
+
+  /**
+   * Builder for instances of class SpecialType.
+   */
+  public static final class Builder {
+    private Sibling sibling;
+
+    private String typeName;
+
+    private List<SpecialTypeSpecialitiesItem> specialities = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    private Builder(SpecialType instance) {
+      this.sibling = instance.sibling;
+      this.typeName = instance.typeName;
+      this.specialities = instance.specialities;
+    }
+
+    public Builder sibling(Sibling sibling) {
+      this.sibling = sibling;
+      return this;
+    }
+
+    public Builder typeName(String typeName) {
+      this.typeName = typeName;
+      return this;
+    }
+
+    public Builder specialities(List<SpecialTypeSpecialitiesItem> specialities) {
+      this.specialities = specialities;
+      return this;
+    }
+
+    /**
+     * Builds a new instance from the values of this builder.
+     */
+    public SpecialType build() {
+      return new SpecialType(this);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package model_only_immutable.types;
+
+import java.util.Objects;
+
+public final class SpecialTypeSpecialitiesItem {
+  private final String label;
+
+  private final String category;
+
+  private transient int cachedHashCode;
+
+  private SpecialTypeSpecialitiesItem(Builder builder) {
+    this.label = builder.label;
+    this.category = builder.category;
+  }
+
+  /**
+   * Returns a new builder for instances of this class.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns a new builder, that is initialized with the values of this instance.
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public String getCategory() {
+    return category;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    SpecialTypeSpecialitiesItem o = (SpecialTypeSpecialitiesItem) other;
+    if (cachedHashCode != 0 && o.cachedHashCode != 0 && cachedHashCode != o.cachedHashCode) return false;
+    return Objects.equals(label, o.label)
+        && Objects.equals(category, o.category);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 31 + Objects.hashCode(label);
+      result = 31 * result + Objects.hashCode(category);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(78);
+    builder.append("SpecialTypeSpecialitiesItem{label=").append(label);
+    builder.append(", category=").append(category);
+    return builder.append('}').toString();
+  }
+
+  /**
+   * Builder for instances of class SpecialTypeSpecialitiesItem.
+   */
+  public static final class Builder {
+    private String label;
+
+    private String category;
+
+    private Builder() {
+    }
+
+    private Builder(SpecialTypeSpecialitiesItem instance) {
+      this.label = instance.label;
+      this.category = instance.category;
+    }
+
+    public Builder label(String label) {
+      this.label = label;
+      return this;
+    }
+
+    public Builder category(String category) {
+      this.category = category;
+      return this;
+    }
+
+    /**
+     * Builds a new instance from the values of this builder.
+     */
+    public SpecialTypeSpecialitiesItem build() {
+      return new SpecialTypeSpecialitiesItem(this);
+    }
+  }
+}
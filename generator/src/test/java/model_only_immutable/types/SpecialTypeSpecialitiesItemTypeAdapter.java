@@ -0,0 +1,61 @@
+package model_only_immutable.types;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Gson TypeAdapter for {@link SpecialTypeSpecialitiesItem}, serializing and deserializing it without reflection.
+ */
+public final class SpecialTypeSpecialitiesItemTypeAdapter extends TypeAdapter<SpecialTypeSpecialitiesItem> {
+  private final TypeAdapter<String> stringAdapter;
+
+  public SpecialTypeSpecialitiesItemTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, SpecialTypeSpecialitiesItem value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
+    out.beginObject();
+    out.name("label");
+    stringAdapter.write(out, value.getLabel());
+    out.name("category");
+    stringAdapter.write(out, value.getCategory());
+    out.endObject();
+  }
+
+  @Override
+  public SpecialTypeSpecialitiesItem read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    SpecialTypeSpecialitiesItem.Builder value = SpecialTypeSpecialitiesItem.builder();
+    in.beginObject();
+
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "label":
+          value.label(stringAdapter.read(in));
+          break;
+        case "category":
+          value.category(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+
+    in.endObject();
+    return value.build();
+  }
+}
@@ -0,0 +1,75 @@
+package model_only_immutable.types;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import model_only_immutable.sibling.Sibling;
+
+/**
+ * Gson TypeAdapter for {@link SpecialType}, serializing and deserializing it without reflection.
+ */
+public final class SpecialTypeTypeAdapter extends TypeAdapter<SpecialType> {
+  private final TypeAdapter<Sibling> siblingAdapter;
+
+  private final TypeAdapter<String> stringAdapter;
+
+  private final TypeAdapter<List<SpecialTypeSpecialitiesItem>> listOfSpecialTypeSpecialitiesItemAdapter;
+
+  public SpecialTypeTypeAdapter(Gson gson) {
+    this.siblingAdapter = gson.getAdapter(Sibling.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listOfSpecialTypeSpecialitiesItemAdapter = gson.getAdapter(new TypeToken<List<SpecialTypeSpecialitiesItem>>() {});
+  }
+
+  @Override
+  public void write(JsonWriter out, SpecialType value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
+    out.beginObject();
+    out.name("sibling");
+    siblingAdapter.write(out, value.getSibling());
+    out.name("typeName");
+    stringAdapter.write(out, value.getTypeName());
+    out.name("specialities");
+    listOfSpecialTypeSpecialitiesItemAdapter.write(out, value.getSpecialities());
+    out.endObject();
+  }
+
+  @Override
+  public SpecialType read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    SpecialType.Builder value = SpecialType.builder();
+    in.beginObject();
+
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "sibling":
+          value.sibling(siblingAdapter.read(in));
+          break;
+        case "typeName":
+          value.typeName(stringAdapter.read(in));
+          break;
+        case "specialities":
+          value.specialities(listOfSpecialTypeSpecialitiesItemAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+
+    in.endObject();
+    return value.build();
+  }
+}
@@ -73,21 +73,24 @@ public class Appliance {
     if (other == null || getClass() != other.getClass()) return false;
     Appliance o = (Appliance) other;
     return Objects.equals(name, o.name)
-        && Objects.equals(devices, o.devices)
-        && Objects.equals(type, o.type);
+        && Objects.equals(type, o.type)
+        && Objects.equals(devices, o.devices);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, devices, type);
+    int result = 31 + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(devices);
+    result = 31 * result + Objects.hashCode(type);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", name=").append(name);
+    StringBuilder builder = new StringBuilder(81);
+    builder.append("Appliance{name=").append(name);
     builder.append(", devices=").append(devices);
     builder.append(", type=").append(type);
-    return builder.replace(0, 2, "Appliance{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
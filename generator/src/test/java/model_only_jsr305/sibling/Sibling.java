@@ -34,13 +34,14 @@ public class Sibling {
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    int result = 31 + Objects.hashCode(value);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", value=").append(value);
-    return builder.replace(0, 2, "Sibling{").append('}').toString();
+    StringBuilder builder = new StringBuilder(31);
+    builder.append("Sibling{value=").append(value);
+    return builder.append('}').toString();
   }
 }
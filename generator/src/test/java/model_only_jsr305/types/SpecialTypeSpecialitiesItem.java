@@ -47,14 +47,16 @@ public class SpecialTypeSpecialitiesItem {
 
   @Override
   public int hashCode() {
-    return Objects.hash(label, category);
+    int result = 31 + Objects.hashCode(label);
+    result = 31 * result + Objects.hashCode(category);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", label=").append(label);
+    StringBuilder builder = new StringBuilder(78);
+    builder.append("SpecialTypeSpecialitiesItem{label=").append(label);
     builder.append(", category=").append(category);
-    return builder.replace(0, 2, "SpecialTypeSpecialitiesItem{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -0,0 +1,75 @@
+package model_only_reflection_free;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import model_only_reflection_free.types.SpecialType;
+
+/**
+ * Gson TypeAdapter for {@link Appliance}, serializing and deserializing it without reflection.
+ */
+public final class ApplianceTypeAdapter extends TypeAdapter<Appliance> {
+  private final TypeAdapter<String> stringAdapter;
+
+  private final TypeAdapter<List<Device>> listOfDeviceAdapter;
+
+  private final TypeAdapter<SpecialType> specialTypeAdapter;
+
+  public ApplianceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listOfDeviceAdapter = gson.getAdapter(new TypeToken<List<Device>>() {});
+    this.specialTypeAdapter = gson.getAdapter(SpecialType.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, Appliance value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
+    out.beginObject();
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("devices");
+    listOfDeviceAdapter.write(out, value.getDevices());
+    out.name("type");
+    specialTypeAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public Appliance read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    Appliance value = new Appliance();
+    in.beginObject();
+
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "devices":
+          value.setDevices(listOfDeviceAdapter.read(in));
+          break;
+        case "type":
+          value.setType(specialTypeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+
+    in.endObject();
+    return value;
+  }
+}
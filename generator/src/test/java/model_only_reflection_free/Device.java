@@ -0,0 +1,63 @@
+package model_only_reflection_free;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Device
+ */
+public class Device {
+  private String name;
+
+  private BigDecimal value;
+
+  public Device name(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Device value(BigDecimal value) {
+    this.value = value;
+    return this;
+  }
+
+  public BigDecimal getValue() {
+    return value;
+  }
+
+  public void setValue(BigDecimal value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Device o = (Device) other;
+    return Objects.equals(name, o.name)
+        && Objects.equals(value, o.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 31 + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(value);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(53);
+    builder.append("Device{name=").append(name);
+    builder.append(", value=").append(value);
+    return builder.append('}').toString();
+  }
+}
@@ -0,0 +1,38 @@
+package model_only_reflection_free;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import model_only_reflection_free.sibling.Sibling;
+import model_only_reflection_free.sibling.SiblingTypeAdapter;
+import model_only_reflection_free.types.SpecialType;
+import model_only_reflection_free.types.SpecialTypeSpecialitiesItem;
+import model_only_reflection_free.types.SpecialTypeSpecialitiesItemTypeAdapter;
+import model_only_reflection_free.types.SpecialTypeTypeAdapter;
+
+/**
+ * Gson TypeAdapterFactory creating the TypeAdapters of all model classes and enums, which serialize and deserialize them without reflection.
+ * Register it with the GsonBuilder, the ApiRequestExecutor.Builder or the GsonMessageBodyHandler.
+ */
+public final class ModelTypeAdapterFactory implements TypeAdapterFactory {
+  private static final Map<Class<?>, Function<Gson, TypeAdapter<?>>> ADAPTERS = new HashMap<>();
+
+  static {
+    ADAPTERS.put(SpecialType.class, SpecialTypeTypeAdapter::new);
+    ADAPTERS.put(Device.class, DeviceTypeAdapter::new);
+    ADAPTERS.put(Appliance.class, ApplianceTypeAdapter::new);
+    ADAPTERS.put(Sibling.class, SiblingTypeAdapter::new);
+    ADAPTERS.put(SpecialTypeSpecialitiesItem.class, SpecialTypeSpecialitiesItemTypeAdapter::new);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Function<Gson, TypeAdapter<?>> constructor = ADAPTERS.get(type.getRawType());
+    return constructor == null ? null : (TypeAdapter<T>) constructor.apply(gson);
+  }
+}
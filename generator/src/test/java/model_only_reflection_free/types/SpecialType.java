@@ -0,0 +1,89 @@
+package model_only_reflection_free.types;
+
+import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import model_only_reflection_free.sibling.Sibling;
+
+/**
+ * Special Type
+ */
+public class SpecialType {
+  /**
+   * Sibling
+   */
+  @Valid
+  private Sibling sibling;
+
+  private String typeName;
+
+  @Valid
+  private List<@Valid SpecialTypeSpecialitiesItem> specialities = new ArrayList<>();
+
+  public SpecialType sibling(Sibling sibling) {
+    this.sibling = sibling;
+    return this;
+  }
+
+  public Sibling getSibling() {
+    return sibling;
+  }
+
+  public void setSibling(Sibling sibling) {
+    this.sibling = sibling;
+  }
+
+  public SpecialType typeName(String typeName) {
+    this.typeName = typeName;
+    return this;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public void setTypeName(String typeName) {
+    this.typeName = typeName;
+  }
+
+  public SpecialType specialities(List<SpecialTypeSpecialitiesItem> specialities) {
+    this.specialities = specialities;
+    return this;
+  }
+
+  public List<SpecialTypeSpecialitiesItem> getSpecialities() {
+    return specialities;
+  }
+
+  public void setSpecialities(List<SpecialTypeSpecialitiesItem> specialities) {
+    this.specialities = specialities;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    SpecialType o = (SpecialType) other;
+    return Objects.equals(typeName, o.typeName)
+        && Objects.equals(sibling, o.sibling)
+        && Objects.equals(specialities, o.specialities);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 31 + Objects.hashCode(sibling);
+    result = 31 * result + Objects.hashCode(typeName);
+    result = 31 * result + Objects.hashCode(specialities);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(95);
+    builder.append("SpecialType{sibling=").append(sibling);
+    builder.append(", typeName=").append(typeName);
+    builder.append(", specialities=").append(specialities);
+    return builder.append('}').toString();
+  }
+}
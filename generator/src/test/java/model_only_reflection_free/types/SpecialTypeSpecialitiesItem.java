@@ -0,0 +1,59 @@
+package model_only_reflection_free.types;
+
+import java.util.Objects;
+
+public class SpecialTypeSpecialitiesItem {
+  private String label;
+
+  private String category;
+
+  public SpecialTypeSpecialitiesItem label(String label) {
+    this.label = label;
+    return this;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public void setLabel(String label) {
+    this.label = label;
+  }
+
+  public SpecialTypeSpecialitiesItem category(String category) {
+    this.category = category;
+    return this;
+  }
+
+  public String getCategory() {
+    return category;
+  }
+
+  public void setCategory(String category) {
+    this.category = category;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    SpecialTypeSpecialitiesItem o = (SpecialTypeSpecialitiesItem) other;
+    return Objects.equals(label, o.label)
+        && Objects.equals(category, o.category);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 31 + Objects.hashCode(label);
+    result = 31 * result + Objects.hashCode(category);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(78);
+    builder.append("SpecialTypeSpecialitiesItem{label=").append(label);
+    builder.append(", category=").append(category);
+    return builder.append('}').toString();
+  }
+}
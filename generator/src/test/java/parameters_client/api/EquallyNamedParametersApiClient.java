@@ -6,15 +6,26 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationExc
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
 import io.github.ruedigerk.contractfirst.generator.client.internal.BodyPart;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contains methods for all API operations tagged "EquallyNamedParameters".
  */
 public class EquallyNamedParametersApiClient {
+  private static final OperationDescriptor OPERATION_GET_EQUALLY_NAMED_PARAMETERS = new OperationDescriptor.Builder("/getEquallyNamedParameters/{theParameter}", "GET")
+      .parameter("theParameter", ParameterLocation.HEADER, false)
+      .parameter("theParameter", ParameterLocation.PATH, true)
+      .parameter("theParameter", ParameterLocation.QUERY, false)
+      .requestBodyPart(BodyPart.Type.PRIMITIVE, "theParameter")
+      .requestBodyPart(BodyPart.Type.PRIMITIVE, "other")
+      .multipartRequestBody("application/x-www-form-urlencoded")
+      .response(StatusCode.of(204))
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -41,6 +52,18 @@ public class EquallyNamedParametersApiClient {
     GetEquallyNamedParametersResult result = returningResult.getEquallyNamedParameters(theParameterInHeader, theParameterInPath, theParameterInQuery, theParameterInBody, other);
   }
 
+  /**
+   * Executes operation {@code getEquallyNamedParameters} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Test for multiple equally named parameters.
+   */
+  public CompletableFuture<Void> getEquallyNamedParametersAsync(String theParameterInHeader,
+      String theParameterInPath, String theParameterInQuery, String theParameterInBody,
+      String other) {
+
+    return returningResult.getEquallyNamedParametersAsync(theParameterInHeader, theParameterInPath, theParameterInQuery, theParameterInBody, other).thenRun(() -> {});
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -53,20 +76,21 @@ public class EquallyNamedParametersApiClient {
         String other) throws ApiClientIoException, ApiClientValidationException,
         ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/getEquallyNamedParameters/{theParameter}", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_EQUALLY_NAMED_PARAMETERS.bind(theParameterInHeader, theParameterInPath, theParameterInQuery, theParameterInBody, other));
 
-      builder.parameter("theParameter", ParameterLocation.HEADER, false, theParameterInHeader);
-      builder.parameter("theParameter", ParameterLocation.PATH, true, theParameterInPath);
-      builder.parameter("theParameter", ParameterLocation.QUERY, false, theParameterInQuery);
-      builder.requestBodyPart(BodyPart.Type.PRIMITIVE, "theParameter", theParameterInBody);
-      builder.requestBodyPart(BodyPart.Type.PRIMITIVE, "other", other);
-      builder.multipartRequestBody("application/x-www-form-urlencoded");
-
-      builder.response(StatusCode.of(204));
+      return new GetEquallyNamedParametersResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getEquallyNamedParameters} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Test for multiple equally named parameters.
+     */
+    public CompletableFuture<GetEquallyNamedParametersResult> getEquallyNamedParametersAsync(
+        String theParameterInHeader, String theParameterInPath, String theParameterInQuery,
+        String theParameterInBody, String other) {
 
-      return new GetEquallyNamedParametersResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_EQUALLY_NAMED_PARAMETERS.bind(theParameterInHeader, theParameterInPath, theParameterInQuery, theParameterInBody, other)).thenApply(GetEquallyNamedParametersResult::new);
     }
   }
 
@@ -118,14 +142,15 @@ public class EquallyNamedParametersApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetEquallyNamedParametersResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(58);
+      builder.append("GetEquallyNamedParametersResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
@@ -5,15 +5,20 @@ import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
 import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
-import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.OperationDescriptor;
 import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import selfreferential.model.Model;
 
 /**
  * Contains methods for all API operations tagged "V1Components".
  */
 public class V1ComponentsApiClient {
+  private static final OperationDescriptor OPERATION_GET_COMPONENT = new OperationDescriptor.Builder("/v1/components", "GET")
+      .response(StatusCode.of(200), "application/json", Model.class)
+      .build();
+
   private final ApiRequestExecutor requestExecutor;
 
   private final ReturningResult returningResult;
@@ -41,6 +46,18 @@ public class V1ComponentsApiClient {
     return result.getEntity();
   }
 
+  /**
+   * Executes operation {@code getComponent} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+   *
+   * Get component. Also, test escaping of JavaPoet placeholders: $L $1N $%.
+   */
+  public CompletableFuture<Model> getComponentAsync() {
+
+    return returningResult.getComponentAsync().thenApply(result -> {
+      return result.getEntity();
+    });
+  }
+
   /**
    * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
    */
@@ -51,13 +68,19 @@ public class V1ComponentsApiClient {
     public GetComponentResult getComponent() throws ApiClientIoException,
         ApiClientValidationException, ApiClientIncompatibleResponseException {
 
-      Operation.Builder builder = new Operation.Builder("/v1/components", "GET");
+      ApiResponse response = requestExecutor.executeRequest(OPERATION_GET_COMPONENT.bind());
 
-      builder.response(StatusCode.of(200), "application/json", Model.class);
+      return new GetComponentResult(response);
+    }
 
-      ApiResponse response = requestExecutor.executeRequest(builder.build());
+    /**
+     * Executes operation {@code getComponent} asynchronously. The returned future fails with the exceptions of the synchronous variant.
+     *
+     * Get component. Also, test escaping of JavaPoet placeholders: $L $1N $%.
+     */
+    public CompletableFuture<GetComponentResult> getComponentAsync() {
 
-      return new GetComponentResult(response);
+      return requestExecutor.executeRequestAsync(OPERATION_GET_COMPONENT.bind()).thenApply(GetComponentResult::new);
     }
   }
 
@@ -116,14 +139,15 @@ public class V1ComponentsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 31 + Objects.hashCode(response);
+      return result;
     }
 
     @Override
     public String toString() {
-      StringBuilder builder = new StringBuilder();
-      builder.append(", response=").append(response);
-      return builder.replace(0, 2, "GetComponentResult{").append('}').toString();
+      StringBuilder builder = new StringBuilder(45);
+      builder.append("GetComponentResult{response=").append(response);
+      return builder.append('}').toString();
     }
   }
 }
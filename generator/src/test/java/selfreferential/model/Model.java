@@ -55,14 +55,16 @@ public class Model {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, next);
+    int result = 31 + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(next);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", name=").append(name);
+    StringBuilder builder = new StringBuilder(51);
+    builder.append("Model{name=").append(name);
     builder.append(", next=").append(next);
-    return builder.replace(0, 2, "Model{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -126,19 +126,26 @@ public class ClockResponse {
 
   @Override
   public int hashCode() {
-    return Objects.hash(time1, time2, pathTime, queryTime1, queryTime2, headerTime1, headerTime2);
+    int result = 31 + Objects.hashCode(time1);
+    result = 31 * result + Objects.hashCode(time2);
+    result = 31 * result + Objects.hashCode(pathTime);
+    result = 31 * result + Objects.hashCode(queryTime1);
+    result = 31 * result + Objects.hashCode(queryTime2);
+    result = 31 * result + Objects.hashCode(headerTime1);
+    result = 31 * result + Objects.hashCode(headerTime2);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", time1=").append(time1);
+    StringBuilder builder = new StringBuilder(206);
+    builder.append("ClockResponse{time1=").append(time1);
     builder.append(", time2=").append(time2);
     builder.append(", pathTime=").append(pathTime);
     builder.append(", queryTime1=").append(queryTime1);
     builder.append(", queryTime2=").append(queryTime2);
     builder.append(", headerTime1=").append(headerTime1);
     builder.append(", headerTime2=").append(headerTime2);
-    return builder.replace(0, 2, "ClockResponse{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
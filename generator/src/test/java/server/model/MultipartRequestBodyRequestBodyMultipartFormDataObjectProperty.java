@@ -40,20 +40,22 @@ public class MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty {
     if (other == this) return true;
     if (other == null || getClass() != other.getClass()) return false;
     MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty o = (MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty) other;
-    return Objects.equals(a, o.a)
-        && Objects.equals(b, o.b);
+    return Objects.equals(b, o.b)
+        && Objects.equals(a, o.a);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(a, b);
+    int result = 31 + Objects.hashCode(a);
+    result = 31 * result + Objects.hashCode(b);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", a=").append(a);
+    StringBuilder builder = new StringBuilder(102);
+    builder.append("MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty{a=").append(a);
     builder.append(", b=").append(b);
-    return builder.replace(0, 2, "MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -52,14 +52,16 @@ public class Clock {
 
   @Override
   public int hashCode() {
-    return Objects.hash(time1, time2);
+    int result = 31 + Objects.hashCode(time1);
+    result = 31 * result + Objects.hashCode(time2);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", time1=").append(time1);
+    StringBuilder builder = new StringBuilder(53);
+    builder.append("Clock{time1=").append(time1);
     builder.append(", time2=").append(time2);
-    return builder.replace(0, 2, "Clock{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
@@ -31,13 +31,14 @@ public class GetInlineObjectInArrayResponse200ApplicationJsonItem {
 
   @Override
   public int hashCode() {
-    return Objects.hash(someProperty);
+    int result = 31 + Objects.hashCode(someProperty);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", someProperty=").append(someProperty);
-    return builder.replace(0, 2, "GetInlineObjectInArrayResponse200ApplicationJsonItem{").append('}').toString();
+    StringBuilder builder = new StringBuilder(83);
+    builder.append("GetInlineObjectInArrayResponse200ApplicationJsonItem{someProperty=").append(someProperty);
+    return builder.append('}').toString();
   }
 }
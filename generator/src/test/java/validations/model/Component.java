@@ -171,28 +171,35 @@ public class Component {
     Component o = (Component) other;
     return Objects.equals(intMinMax, o.intMinMax)
         && Objects.equals(longMinMax, o.longMinMax)
+        && Objects.equals(text, o.text)
         && Objects.equals(bigIntMinMax, o.bigIntMinMax)
         && Objects.equals(validatedStrings, o.validatedStrings)
         && Objects.equals(validatedObjects, o.validatedObjects)
-        && Objects.equals(validatedMap, o.validatedMap)
-        && Objects.equals(text, o.text);
+        && Objects.equals(validatedMap, o.validatedMap);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(intMinMax, longMinMax, bigIntMinMax, validatedStrings, validatedObjects, validatedMap, text);
+    int result = 31 + Objects.hashCode(intMinMax);
+    result = 31 * result + Objects.hashCode(longMinMax);
+    result = 31 * result + Objects.hashCode(bigIntMinMax);
+    result = 31 * result + Objects.hashCode(validatedStrings);
+    result = 31 * result + Objects.hashCode(validatedObjects);
+    result = 31 * result + Objects.hashCode(validatedMap);
+    result = 31 * result + Objects.hashCode(text);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", intMinMax=").append(intMinMax);
+    StringBuilder builder = new StringBuilder(221);
+    builder.append("Component{intMinMax=").append(intMinMax);
     builder.append(", longMinMax=").append(longMinMax);
     builder.append(", bigIntMinMax=").append(bigIntMinMax);
     builder.append(", validatedStrings=").append(validatedStrings);
     builder.append(", validatedObjects=").append(validatedObjects);
     builder.append(", validatedMap=").append(validatedMap);
     builder.append(", text=").append(text);
-    return builder.replace(0, 2, "Component{").append('}').toString();
+    return builder.append('}').toString();
   }
 }
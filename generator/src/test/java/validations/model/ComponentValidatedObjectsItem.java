@@ -32,13 +32,14 @@ public class ComponentValidatedObjectsItem {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name);
+    int result = 31 + Objects.hashCode(name);
+    return result;
   }
 
   @Override
   public String toString() {
-    StringBuilder builder = new StringBuilder();
-    builder.append(", name=").append(name);
-    return builder.replace(0, 2, "ComponentValidatedObjectsItem{").append('}').toString();
+    StringBuilder builder = new StringBuilder(52);
+    builder.append("ComponentValidatedObjectsItem{name=").append(name);
+    return builder.append('}').toString();
   }
 }
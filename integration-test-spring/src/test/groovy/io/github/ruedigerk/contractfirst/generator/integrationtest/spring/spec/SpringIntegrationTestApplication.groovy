@@ -1,16 +1,27 @@
 package io.github.ruedigerk.contractfirst.generator.integrationtest.spring.spec
 
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.ModelJacksonModule
 import org.springframework.boot.SpringApplication
 import org.springframework.boot.SpringBootConfiguration
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
+import org.springframework.context.annotation.Bean
 
 /**
- * The Spring application used in tests. The only beans/controllers are defined inside the actual test classes.
+ * The Spring application used in tests. Apart from the Jackson module for the testsuite's model, the only beans/controllers are defined inside the actual test
+ * classes.
  */
 @SpringBootConfiguration
 @EnableAutoConfiguration
 class SpringIntegrationTestApplication {
 
+  /**
+   * Makes Spring Boot register the generated serializers and deserializers with its ObjectMapper.
+   */
+  @Bean
+  ModelJacksonModule modelJacksonModule() {
+    new ModelJacksonModule()
+  }
+
   static void main(String[] args) {
     SpringApplication.run(SpringIntegrationTestApplication, args)
   }
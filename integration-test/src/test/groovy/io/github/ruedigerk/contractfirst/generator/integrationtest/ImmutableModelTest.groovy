@@ -0,0 +1,68 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import io.github.ruedigerk.contractfirst.generator.mojotest.immutable.Appliance
+import io.github.ruedigerk.contractfirst.generator.mojotest.immutable.Device
+import io.github.ruedigerk.contractfirst.generator.mojotest.immutable.ModelTypeAdapterFactory
+import spock.lang.Specification
+
+/**
+ * Tests the immutable model classes, generated with option outputJavaModelImmutable.
+ */
+class ImmutableModelTest extends Specification {
+
+  Gson gson = new GsonBuilder().registerTypeAdapterFactory(new ModelTypeAdapterFactory()).create()
+
+  def "Collections of built instances are copied and unmodifiable"() {
+    given:
+    def devices = [Device.builder().name("Fridge").build()]
+    def appliance = Appliance.builder().name("Kitchen").devices(devices).build()
+
+    when:
+    devices.add(Device.builder().name("Oven").build())
+
+    then:
+    appliance.devices.size() == 1
+
+    when:
+    appliance.devices.clear()
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+
+  def "Instances built from equal values are equal and have equal hash codes"() {
+    given:
+    def appliance = Appliance.builder().name("Kitchen").devices([Device.builder().name("Fridge").value(1.5).build()]).build()
+    def copy = appliance.toBuilder().build()
+    def other = appliance.toBuilder().name("Cellar").build()
+
+    expect:
+    appliance == copy
+    appliance.hashCode() == copy.hashCode()
+    appliance.hashCode() == appliance.hashCode()
+    appliance != other
+    other.name == "Cellar"
+    appliance.name == "Kitchen"
+  }
+
+  def "Immutable instances are serialized and deserialized by the generated type adapters"() {
+    given:
+    def appliance = Appliance.builder().name("Kitchen").devices([Device.builder().name("Fridge").value(1.5).build()]).build()
+
+    when:
+    def json = gson.toJson(appliance)
+    def deserialized = gson.fromJson(json, Appliance)
+
+    then:
+    json == '{"name":"Kitchen","devices":[{"name":"Fridge","value":1.5}]}'
+    deserialized == appliance
+
+    when:
+    deserialized.devices.add(Device.builder().build())
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+}
@@ -56,6 +56,36 @@ class MultipartRequestBodyTest extends EmbeddedJaxRsServerSpecification {
     result.isStatus204WithoutEntity()
   }
 
+  def "Multipart request bodies are streamed, with a Content-Length only if the lengths of all attachments are known"() {
+    given:
+    def pdfLength = new File("src/test/resources/sample.pdf").length()
+    def inputStreamAttachment = knownLength
+        ? Attachment.of(getSamplePdfAsInputStream(), "sample-is.pdf", "application/pdf", pdfLength)
+        : Attachment.of(getSamplePdfAsInputStream(), "sample-is.pdf", "application/pdf")
+
+    when:
+    def result = apiClient.returningResult().multipartRequestBody(
+        "allParametersPresent",
+        "a&1",
+        42L,
+        new CMultipartRequestBodyRequestBodyMultipartFormDataObjectProperty(a: "string", b: 23L),
+        Attachment.of(new File("src/test/resources/sample.pdf"), "application/pdf"),
+        [
+            Attachment.of(getSamplePdfAsInputStream().bytes, "sample-bytes.pdf", "application/pdf"),
+            inputStreamAttachment,
+        ]
+    )
+    def headerNames = result.response.request.headers*.name
+
+    then:
+    result.isStatus204WithoutEntity()
+    headerNames.contains("Content-Length") == knownLength
+    headerNames.contains("Transfer-Encoding") == !knownLength
+
+    where:
+    knownLength << [true, false]
+  }
+
   def "Test multipart form data request body with optional parameters not supplied"() {
     when:
     def result = apiClient.returningResult().multipartRequestBody(
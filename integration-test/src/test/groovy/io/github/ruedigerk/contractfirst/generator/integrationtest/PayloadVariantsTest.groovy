@@ -6,8 +6,16 @@ import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.cli
 import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.SItem
 import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.resources.PayloadVariantsApi
 import io.github.ruedigerk.contractfirst.generator.integrationtest.spec.EmbeddedJaxRsServerSpecification
+import jakarta.ws.rs.core.Context
+import jakarta.ws.rs.core.HttpHeaders
+import jakarta.ws.rs.core.Response
 import okhttp3.logging.HttpLoggingInterceptor
 import spock.lang.Subject
+import spock.lang.TempDir
+
+import java.nio.channels.Channels
+import java.nio.file.Files
+import java.nio.file.Path
 
 /**
  * Tests for various request and response payloads.
@@ -17,6 +25,14 @@ class PayloadVariantsTest extends EmbeddedJaxRsServerSpecification {
   @Subject
   PayloadVariantsApiClient apiClient = new PayloadVariantsApiClient(apiRequestExecutor)
 
+  @TempDir
+  Path tempDir
+
+  def cleanup() {
+    EmbeddedServerResource.supportsRanges = true
+    EmbeddedServerResource.lastRangeHeader = null
+  }
+
   @Override
   Class<?> getTestResource() {
     EmbeddedServerResource
@@ -106,6 +122,58 @@ class PayloadVariantsTest extends EmbeddedJaxRsServerSpecification {
     (response.entity as InputStream).bytes == pdfBytes
   }
 
+  def "Binary response bodies are written to a file, and partial downloads are resumed with a Range request"() {
+    given:
+    setLoggingInterceptorLevel(HttpLoggingInterceptor.Level.HEADERS)
+    byte[] pdfBytes = getClass().getResourceAsStream("/sample.pdf").bytes
+    def file = tempDir.resolve("download.pdf")
+    Files.write(file, new byte[pdfBytes.length + 100])
+
+    when: "not resuming, an existing file is overwritten"
+    apiClient.uploadAndReturnBinaryToFile(new ByteArrayInputStream(pdfBytes), file, false)
+
+    then:
+    Files.readAllBytes(file) == pdfBytes
+    EmbeddedServerResource.lastRangeHeader == null
+
+    when: "resuming, only the missing bytes are requested"
+    Files.write(file, Arrays.copyOf(pdfBytes, 1000))
+    apiClient.uploadAndReturnBinaryToFile(new ByteArrayInputStream(pdfBytes), file, true)
+
+    then:
+    Files.readAllBytes(file) == pdfBytes
+    EmbeddedServerResource.lastRangeHeader == "bytes=1000-"
+
+    when: "resuming, but the server ignores the Range header"
+    EmbeddedServerResource.supportsRanges = false
+    Files.write(file, Arrays.copyOf(pdfBytes, 1000))
+    apiClient.uploadAndReturnBinaryToFile(new ByteArrayInputStream(pdfBytes), file, true)
+
+    then:
+    Files.readAllBytes(file) == pdfBytes
+  }
+
+  def "Binary response bodies are written to a channel, starting at an offset"() {
+    given:
+    setLoggingInterceptorLevel(HttpLoggingInterceptor.Level.HEADERS)
+    EmbeddedServerResource.supportsRanges = supportsRanges
+    byte[] pdfBytes = getClass().getResourceAsStream("/sample.pdf").bytes
+    def output = new ByteArrayOutputStream()
+
+    when:
+    apiClient.uploadAndReturnBinaryToChannel(new ByteArrayInputStream(pdfBytes), Channels.newChannel(output), offset)
+
+    then:
+    output.toByteArray() == Arrays.copyOfRange(pdfBytes, offset as int, pdfBytes.length)
+    EmbeddedServerResource.lastRangeHeader == expectedRangeHeader
+
+    where:
+    supportsRanges | offset || expectedRangeHeader
+    true           | 0L     || null
+    true           | 1000L  || "bytes=1000-"
+    false          | 1000L  || "bytes=1000-"
+  }
+
   private static CItem item(long id, String name) {
     new CItem(id: id, name: name)
   }
@@ -115,6 +183,12 @@ class PayloadVariantsTest extends EmbeddedJaxRsServerSpecification {
    */
   static class EmbeddedServerResource implements PayloadVariantsApi {
 
+    static volatile boolean supportsRanges = true
+    static volatile String lastRangeHeader
+
+    @Context
+    private HttpHeaders headers
+
     @Override
     ChangeItemResponse changeItem(SItem requestBody) {
       return ChangeItemResponse.with204()
@@ -127,7 +201,21 @@ class PayloadVariantsTest extends EmbeddedJaxRsServerSpecification {
 
     @Override
     UploadAndReturnBinaryResponse uploadAndReturnBinary(InputStream requestBody) {
-      return UploadAndReturnBinaryResponse.with200ApplicationOctetStream(requestBody)
+      lastRangeHeader = headers.getHeaderString("Range")
+
+      if (lastRangeHeader == null || !supportsRanges) {
+        return UploadAndReturnBinaryResponse.with200ApplicationOctetStream(requestBody)
+      }
+
+      // Supports only ranges of the form "bytes=<start>-".
+      byte[] content = requestBody.bytes
+      int start = lastRangeHeader.substring("bytes=".length(), lastRangeHeader.length() - 1) as int
+
+      return UploadAndReturnBinaryResponse.withCustomResponse(Response.status(206)
+          .header("Content-Type", "application/octet-stream")
+          .header("Content-Range", "bytes $start-${content.length - 1}/${content.length}")
+          .entity(Arrays.copyOfRange(content, start, content.length))
+          .build())
     }
   }
 }
@@ -0,0 +1,107 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.TypeAdapterFactory
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor
+import io.github.ruedigerk.contractfirst.generator.integrationtest.spec.EmbeddedJaxRsServerSpecification
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.api.TimeApiClient
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.model.CClock
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.model.CClockResponse
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.model.CClockTypeAdapter
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.model.CProblematicName
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.model.CProblematicNameProblematC
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.model.CProblematicNameProblematCTypeAdapter
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.model.CProblematicNameTypeAdapter
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.client.model.ModelTypeAdapterFactory as ClientModelTypeAdapterFactory
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.server.model.ModelTypeAdapterFactory as ServerModelTypeAdapterFactory
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.server.model.SClock
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.server.model.SClockResponse
+import io.github.ruedigerk.contractfirst.generator.reflectionfree.generated.server.resources.TimeApi
+import spock.lang.Shared
+import spock.lang.Subject
+
+import java.time.LocalDate
+import java.time.OffsetDateTime
+
+/**
+ * Tests the TypeAdapters generated with option outputJavaModelReflectionFreeSerialization, registered with both the client and the server.
+ */
+class ReflectionFreeSerializationTest extends EmbeddedJaxRsServerSpecification {
+
+  @Shared
+  ApiRequestExecutor reflectionFreeRequestExecutor = new ApiRequestExecutor.Builder(okHttpClient, BASE_URL)
+      .typeAdapterFactory(new ClientModelTypeAdapterFactory())
+      .build()
+
+  @Subject
+  TimeApiClient apiClient = new TimeApiClient(reflectionFreeRequestExecutor)
+
+  @Override
+  Class<?> getTestResource() {
+    EmbeddedServerResource
+  }
+
+  @Override
+  List<TypeAdapterFactory> getServerTypeAdapterFactories() {
+    [new ServerModelTypeAdapterFactory()]
+  }
+
+  def "Generated TypeAdapters are used instead of reflection"() {
+    expect:
+    reflectionFreeRequestExecutor.gson.getAdapter(CClock) instanceof CClockTypeAdapter
+    reflectionFreeRequestExecutor.gson.getAdapter(CProblematicName) instanceof CProblematicNameTypeAdapter
+    reflectionFreeRequestExecutor.gson.getAdapter(CProblematicNameProblematC) instanceof CProblematicNameProblematCTypeAdapter
+  }
+
+  def "Entities with dates are sent and received using the registered date adapters"() {
+    given:
+    def time1 = LocalDate.parse("2020-01-01")
+    def time2 = OffsetDateTime.parse("2020-01-01T00:00:00+00")
+    def pathTime = LocalDate.parse("2020-01-02")
+
+    when:
+    CClockResponse clockResponse = apiClient.updateTime(pathTime, time1, time2, time1, time2, new CClock(time1: time1, time2: time2))
+
+    then:
+    clockResponse.time1 == time1
+    clockResponse.time2 == time2
+    clockResponse.pathTime == pathTime
+  }
+
+  def "Generated TypeAdapters use the JSON names of properties and enum constants"() {
+    given:
+    def entity = new CProblematicName(_2name: "1", nameAndValue: "2", problematC: CProblematicNameProblematC.THREE)
+
+    when:
+    def json = reflectionFreeRequestExecutor.gson.toJson(entity)
+
+    then:
+    json == '{"2name":"1","name-and-value":"2","problemat%c":"three?"}'
+    reflectionFreeRequestExecutor.gson.fromJson(json, CProblematicName) == entity
+  }
+
+  def "Generated TypeAdapters skip unknown properties and read unknown enum constants as null"() {
+    when:
+    CProblematicName result = reflectionFreeRequestExecutor.gson.fromJson('{"unknown": {"a": [1, 2]}, "2name": "1", "problemat%c": "four"}', CProblematicName)
+
+    then:
+    result == new CProblematicName(_2name: "1")
+  }
+
+  /**
+   * JAX-RS resource implementation used in this test.
+   */
+  static class EmbeddedServerResource implements TimeApi {
+
+    @Override
+    UpdateTimeResponse updateTime(
+        LocalDate timeId,
+        LocalDate queryTimeA,
+        OffsetDateTime queryTimeB,
+        LocalDate headerTimeA,
+        OffsetDateTime headerTimeB,
+        SClock requestBody
+    ) {
+      return UpdateTimeResponse.with200ApplicationJson(new SClockResponse(time1: requestBody.time1, time2: requestBody.time2, pathTime: timeId))
+    }
+  }
+}
@@ -1,7 +1,13 @@
 package io.github.ruedigerk.contractfirst.generator.integrationtest
 
+import com.google.gson.JsonParseException
 import io.github.ruedigerk.contractfirst.generator.client.ApiClientIncompatibleResponseException
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor
+import io.github.ruedigerk.contractfirst.generator.client.ConcurrencyLimit
 import io.github.ruedigerk.contractfirst.generator.client.Header
+import io.github.ruedigerk.contractfirst.generator.client.HistogramMetricsListener
 import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.ApiClientErrorWithCFailureEntityException
 import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.ResponseVariantsApiClient
 import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CFailure
@@ -11,8 +17,16 @@ import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.ser
 import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.resources.ResponseVariantsApi
 import io.github.ruedigerk.contractfirst.generator.integrationtest.spec.EmbeddedJaxRsServerSpecification
 import jakarta.ws.rs.core.Response
+import okhttp3.Interceptor
 import spock.lang.Subject
 
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+import static io.github.ruedigerk.contractfirst.generator.client.ApiClientMetricsListener.Phase.*
+
 /**
  * Tests different variants of responses that a server can respond with.
  */
@@ -264,6 +278,226 @@ class ResponseVariantsTest extends EmbeddedJaxRsServerSpecification {
     e.response.body == "This is just plain text"
   }
 
+  def "Server responds with malformed JSON"() {
+    when:
+    apiClient.createItem("systemId", false, 999, "malformed", item)
+
+    then:
+    def e = thrown ApiClientIncompatibleResponseException
+    e.cause instanceof JsonParseException
+
+    e.response.statusCode == 200
+    e.response.contentType == "application/json"
+    e.response.body == '{"id": 42, "name": '
+  }
+
+  def "Server responds with an empty JSON body"() {
+    when:
+    def result = apiClient.returningResult().createItem("systemId", false, 999, "empty", item)
+
+    then:
+    result.isStatus200ReturningCItem()
+    result.entityAsCItem == null
+    result.response.contentType == "application/json"
+  }
+
+  def "Server responds with a large body not conforming to the contract"() {
+    when:
+    apiClient.createItem("systemId", false, 999, "undefinedLarge", item)
+
+    then:
+    def e = thrown ApiClientIncompatibleResponseException
+
+    e.response.statusCode == 500
+    e.response.contentType == "text/plain"
+    e.response.body == "x" * 65536
+  }
+
+  def "Request entity is streamed, when streaming request bodies are enabled"() {
+    given:
+    def streamingApiClient = new ResponseVariantsApiClient(new ApiRequestExecutor.Builder(okHttpClient, BASE_URL).streamingRequestBodies(true).build())
+
+    when:
+    def result = streamingApiClient.returningResult().createItem("systemId", true, 4711L, null, item)
+    def response = result.response
+
+    then:
+    result.isStatus200ReturningCItem()
+    result.entityAsCItem == item
+
+    and:
+    response.request.headers == [
+        new Header("partNumber", "4711"),
+        new Header("Accept", "application/json"),
+        new Header("Content-Type", "application/json; charset=utf-8"),
+        new Header("Transfer-Encoding", "chunked"),
+        new Header("Host", HOST),
+        new Header("Connection", "Keep-Alive"),
+        new Header("Accept-Encoding", "gzip"),
+        new Header("User-Agent", "okhttp/5.3.2"),
+    ]
+  }
+
+  def "Asynchronous execution of an operation"() {
+    when:
+    def result = apiClient.returningResult().createItemAsync("systemId", true, 4711L, null, item).get(5, TimeUnit.SECONDS)
+
+    then:
+    result.isStatus200ReturningCItem()
+    result.entityAsCItem == item
+    result.response.request.headers.contains(new Header("Content-Length", "35"))
+
+    when:
+    def entity = apiClient.createItemAsync("systemId", true, 4711L, null, item).get(5, TimeUnit.SECONDS)
+
+    then:
+    entity == item
+  }
+
+  def "Asynchronous execution of an operation completes exceptionally for error responses"() {
+    when:
+    apiClient.createItemAsync("systemId", false, 23, "400", item).get(5, TimeUnit.SECONDS)
+
+    then:
+    def e = thrown ExecutionException
+    e.cause instanceof ApiClientErrorWithCFailureEntityException
+    e.cause.statusCode == 400
+
+    when:
+    apiClient.createItemAsync("systemId", false, 999, "undefined", item).get(5, TimeUnit.SECONDS)
+
+    then:
+    e = thrown ExecutionException
+    e.cause instanceof ApiClientIncompatibleResponseException
+    e.cause.response.body == "This is just plain text"
+  }
+
+  def "Asynchronous execution of an operation completes exceptionally for validation errors"() {
+    when:
+    apiClient.createItemAsync(null, false, 23, null, item).get(5, TimeUnit.SECONDS)
+
+    then:
+    def e = thrown ExecutionException
+    e.cause instanceof ApiClientValidationException
+  }
+
+  def "Requests exceeding the concurrency limit wait for admission"() {
+    given:
+    def blocker = new BlockingInterceptor()
+    def limit = new ConcurrencyLimit(1)
+    def limitedApiClient = createLimitedApiClient(blocker, limit)
+
+    when:
+    def first = limitedApiClient.createItemAsync("systemId", true, 1L, null, item)
+    blocker.awaitBlockedRequest()
+    def second = limitedApiClient.createItemAsync("systemId", true, 2L, null, item)
+
+    then:
+    limit.inFlightRequests == 1
+    limit.queuedRequests == 1
+
+    when:
+    blocker.unblock()
+
+    then:
+    first.get(5, TimeUnit.SECONDS) == item
+    second.get(5, TimeUnit.SECONDS) == item
+    limit.inFlightRequests == 0
+    limit.queuedRequests == 0
+    limit.admittedRequests == 2
+    limit.maxQueueWaitTimeNanos > 0
+  }
+
+  def "Requests exceeding the concurrency limit are rejected, when the queue is full or the queue timeout elapses"() {
+    given:
+    def blocker = new BlockingInterceptor()
+    def limit = new ConcurrencyLimit(1, queueLength, Duration.ofMillis(50))
+    def limitedApiClient = createLimitedApiClient(blocker, limit)
+
+    when:
+    def first = limitedApiClient.createItemAsync("systemId", true, 1L, null, item)
+    blocker.awaitBlockedRequest()
+    limitedApiClient.createItem("systemId", true, 2L, null, item)
+
+    then:
+    def e = thrown ApiClientIoException
+    e.message.startsWith("Request rejected by concurrency limit")
+    limit.rejectedRequests == 1
+    limit.queuedRequests == 0
+
+    when:
+    blocker.unblock()
+
+    then:
+    first.get(5, TimeUnit.SECONDS) == item
+    limit.inFlightRequests == 0
+
+    where:
+    queueLength << [0, 1]
+  }
+
+  def "Timings and sizes of requests are reported to the metrics listener"() {
+    given:
+    def listener = new HistogramMetricsListener()
+    def executor = new ApiRequestExecutor.Builder(okHttpClient, BASE_URL).metricsListener(listener).build()
+    def measuredApiClient = new ResponseVariantsApiClient(executor)
+
+    when:
+    measuredApiClient.createItem("systemId", true, 4711L, null, item)
+    measuredApiClient.createItemAsync("systemId", true, 4711L, null, item).get(5, TimeUnit.SECONDS)
+    measuredApiClient.returningResult().createItem("systemId", false, 23, "400", item)
+    measuredApiClient.createItem(null, false, 23, null, item)
+
+    then:
+    thrown ApiClientValidationException
+
+    and:
+    def metrics = listener.operation("POST", "/{systemId}/components")
+    metrics.requestDuration.count == 4
+    metrics.statusCodes == [200: 2L, 400: 1L]
+    metrics.failures == 1
+    metrics.requestBodySize.max == 35
+    metrics.responseBodySize.count == 3
+    metrics.responseBodySize.max > 0
+
+    and:
+    [VALIDATION, REQUEST_BUILDING, SERIALIZATION, NETWORK, DESERIALIZATION].every { metrics.phaseDuration(it).count == 3 }
+    metrics.phaseDuration(QUEUE_WAIT).count == 0
+  }
+
+  private ResponseVariantsApiClient createLimitedApiClient(BlockingInterceptor blocker, ConcurrencyLimit limit) {
+    def httpClient = okHttpClient.newBuilder().addInterceptor(blocker).build()
+    def executor = new ApiRequestExecutor.Builder(httpClient, BASE_URL).concurrencyLimit(limit).build()
+    new ResponseVariantsApiClient(executor)
+  }
+
+  /**
+   * Blocks the first request passing through it, until it is unblocked.
+   */
+  static class BlockingInterceptor implements Interceptor {
+
+    private final CountDownLatch blocked = new CountDownLatch(1)
+    private final CountDownLatch unblocked = new CountDownLatch(1)
+
+    @Override
+    okhttp3.Response intercept(Interceptor.Chain chain) throws IOException {
+      if (blocked.count > 0) {
+        blocked.countDown()
+        unblocked.await(5, TimeUnit.SECONDS)
+      }
+
+      chain.proceed(chain.request())
+    }
+
+    void awaitBlockedRequest() {
+      blocked.await(5, TimeUnit.SECONDS)
+    }
+
+    void unblock() {
+      unblocked.countDown()
+    }
+  }
+
   /**
    * JAX-RS resource implementation used in this test.
    */
@@ -283,6 +517,12 @@ class ResponseVariantsTest extends EmbeddedJaxRsServerSpecification {
         return CreateItemResponse.withApplicationJson(500, new SFailure().code(500).message("Internal Server Error :("))
       } else if (testCaseSelector == "undefined") {
         return CreateItemResponse.withCustomResponse(Response.serverError().type("text/plain").entity("This is just plain text").build())
+      } else if (testCaseSelector == "undefinedLarge") {
+        return CreateItemResponse.withCustomResponse(Response.serverError().type("text/plain").entity("x" * 100_000).build())
+      } else if (testCaseSelector == "empty") {
+        return CreateItemResponse.withCustomResponse(Response.ok().type("application/json").entity("").build())
+      } else if (testCaseSelector == "malformed") {
+        return CreateItemResponse.withCustomResponse(Response.ok().type("application/json").entity('{"id": 42, "name": ').build())
       } else {
         return CreateItemResponse.with200ApplicationJson(requestBody)
       }
@@ -1,5 +1,6 @@
 package io.github.ruedigerk.contractfirst.generator.integrationtest.spec
 
+import com.google.gson.TypeAdapterFactory
 import io.github.ruedigerk.contractfirst.generator.server.DateFormatsParamConverterProvider
 import io.github.ruedigerk.contractfirst.generator.server.GsonMessageBodyHandler
 import org.glassfish.grizzly.http.server.HttpServer
@@ -25,6 +26,7 @@ class EmbeddedJaxRsServer {
 
   private final String baseUrl
   private final List<Class<?>> jaxRsResourceClasses
+  private final List<TypeAdapterFactory> typeAdapterFactories
   private HttpServer httpServer
 
   /**
@@ -34,7 +36,19 @@ class EmbeddedJaxRsServer {
    * @param jaxRsResourceClasses the JAX-RS resource classes whose API the server should expose.
    */
   EmbeddedJaxRsServer(String baseUrl, Class<?>... jaxRsResourceClasses) {
+    this(baseUrl, [], jaxRsResourceClasses)
+  }
+
+  /**
+   * Instantiates a new EmbeddedJaxRsServer with the supplied base URL and JAX-RS resource classes, whose Gson instance uses the supplied TypeAdapterFactories.
+   *
+   * @param baseUrl              the base URL the server should listen on for HTTP requests.
+   * @param typeAdapterFactories the TypeAdapterFactories to register with Gson, e.g., a generated ModelTypeAdapterFactory.
+   * @param jaxRsResourceClasses the JAX-RS resource classes whose API the server should expose.
+   */
+  EmbeddedJaxRsServer(String baseUrl, List<TypeAdapterFactory> typeAdapterFactories, Class<?>... jaxRsResourceClasses) {
     this.baseUrl = baseUrl
+    this.typeAdapterFactories = typeAdapterFactories
     this.jaxRsResourceClasses = Stream.of(jaxRsResourceClasses).collect(Collectors.toList())
   }
 
@@ -48,7 +62,11 @@ class EmbeddedJaxRsServer {
 
     // Register GSON for serializing and deserializing JSON
     ResourceConfig resourceConfig = new ResourceConfig()
-    resourceConfig.register(GsonMessageBodyHandler)
+    if (typeAdapterFactories.isEmpty()) {
+      resourceConfig.register(GsonMessageBodyHandler)
+    } else {
+      resourceConfig.register(GsonMessageBodyHandler.withTypeAdapterFactories(typeAdapterFactories as TypeAdapterFactory[]))
+    }
     resourceConfig.register(DateFormatsParamConverterProvider)
     resourceConfig.register(JaxRsExceptionMapper)
 
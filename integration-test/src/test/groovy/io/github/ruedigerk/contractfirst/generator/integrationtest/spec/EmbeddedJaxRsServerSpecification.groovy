@@ -1,5 +1,6 @@
 package io.github.ruedigerk.contractfirst.generator.integrationtest.spec
 
+import com.google.gson.TypeAdapterFactory
 import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor
 import okhttp3.OkHttpClient
 import okhttp3.logging.HttpLoggingInterceptor
@@ -32,6 +33,13 @@ abstract class EmbeddedJaxRsServerSpecification extends Specification {
 
   abstract Class<?> getTestResource()
 
+  /**
+   * The TypeAdapterFactories the Gson instance of the embedded server uses; none by default, i.e., the model is serialized using reflection.
+   */
+  List<TypeAdapterFactory> getServerTypeAdapterFactories() {
+    []
+  }
+
   static log(String msg) {
     if (VERBOSE) {
       println(msg)
@@ -39,7 +47,7 @@ abstract class EmbeddedJaxRsServerSpecification extends Specification {
   }
 
   def setupSpec() {
-    embeddedServer = new EmbeddedJaxRsServer(BASE_URL, getTestResource())
+    embeddedServer = new EmbeddedJaxRsServer(BASE_URL, getServerTypeAdapterFactories(), getTestResource())
     embeddedServer.startServer()
   }
 
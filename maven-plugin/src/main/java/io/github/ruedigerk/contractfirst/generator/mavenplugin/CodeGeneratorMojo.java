@@ -2,6 +2,8 @@ package io.github.ruedigerk.contractfirst.generator.mavenplugin;
 
 import com.google.common.base.Throwables;
 import io.github.ruedigerk.contractfirst.generator.ContractfirstGenerator;
+import io.github.ruedigerk.contractfirst.generator.GenerationFingerprint;
+import io.github.ruedigerk.contractfirst.generator.GenerationResult;
 import io.github.ruedigerk.contractfirst.generator.NotSupportedException;
 import io.github.ruedigerk.contractfirst.generator.ParserException;
 import io.github.ruedigerk.contractfirst.generator.configuration.Configuration;
@@ -12,6 +14,8 @@ import io.github.ruedigerk.contractfirst.generator.configuration.ModelVariant;
 import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -32,15 +36,15 @@ public class CodeGeneratorMojo extends AbstractMojo {
 
   /**
    * The path to the file containing the OpenAPI contract to use as input; in case of the model-only generator, this should point to a single JSON-Schema file
-   * in YAML or JSON format, or to a directory which is recursively searched for JSON-Schema files.
+   * in YAML or JSON format, or to a directory which is recursively searched for JSON-Schema files. Required, unless each of the contracts sets it.
    */
-  @Parameter(name = "inputContractFile", property = "openapi.generator.maven.plugin.inputContractFile", required = true)
+  @Parameter(name = "inputContractFile", property = "openapi.generator.maven.plugin.inputContractFile")
   private String inputContractFile;
 
   /**
-   * The type of generator to use for code generation; allowed values are: "server", "client", "model-only".
+   * The type of generator to use for code generation; allowed values are: "server", "client", "model-only". Required, unless each of the contracts sets it.
    */
-  @Parameter(name = "generator", property = "openapi.generator.maven.plugin.generator", required = true)
+  @Parameter(name = "generator", property = "openapi.generator.maven.plugin.generator")
   private String generator;
 
   /**
@@ -83,9 +87,9 @@ public class CodeGeneratorMojo extends AbstractMojo {
   private String outputContractFile;
 
   /**
-   * The Java package to put generated classes into.
+   * The Java package to put generated classes into. Required, unless each of the contracts sets it.
    */
-  @Parameter(name = "outputJavaBasePackage", property = "openapi.generator.maven.plugin.outputJavaBasePackage", required = true)
+  @Parameter(name = "outputJavaBasePackage", property = "openapi.generator.maven.plugin.outputJavaBasePackage")
   private String outputJavaBasePackage;
 
   /**
@@ -113,6 +117,42 @@ public class CodeGeneratorMojo extends AbstractMojo {
   @Parameter(name = "outputJavaModelUseJsr305NullabilityAnnotations", property = "openapi.generator.maven.plugin.outputJavaModelUseJsr305NullabilityAnnotations", defaultValue = "false")
   private boolean outputJavaModelUseJsr305NullabilityAnnotations = false;
 
+  /**
+   * Whether to generate code for serializing and deserializing the model without reflection: Gson TypeAdapters and a TypeAdapterFactory creating them for
+   * the Gson model variant, or Jackson serializers and deserializers and a Module registering them for the Jackson model variant.
+   */
+  @Parameter(name = "outputJavaModelReflectionFreeSerialization", property = "openapi.generator.maven.plugin.outputJavaModelReflectionFreeSerialization", defaultValue = "false")
+  private boolean outputJavaModelReflectionFreeSerialization = false;
+
+  /**
+   * Whether to generate immutable model classes, which are created with builders, have unmodifiable collections and cache their hash code. Requires
+   * outputJavaModelReflectionFreeSerialization, as immutable models are deserialized through their builders.
+   */
+  @Parameter(name = "outputJavaModelImmutable", property = "openapi.generator.maven.plugin.outputJavaModelImmutable", defaultValue = "false")
+  private boolean outputJavaModelImmutable = false;
+
+  /**
+   * The number of threads used for parsing schemas and for rendering and writing the generated source files; defaults to 1. With more than one thread,
+   * schemas are parsed and source files are generated concurrently, which speeds up the generation for contracts with many schemas and model classes.
+   */
+  @Parameter(name = "generatorThreads", property = "openapi.generator.maven.plugin.generatorThreads", defaultValue = "1")
+  private int generatorThreads = 1;
+
+  /**
+   * The contracts to generate code for in a batch, instead of the single inputContractFile. Each contract sets its inputContractFile and
+   * outputJavaBasePackage, and can set generator, generatorVariant, outputJavaPackageSchemaDirectoryPrefix and outputJavaModelNamePrefix; options that are
+   * not set are taken from the parameters of this execution. The contracts are generated concurrently, and contract and schema files shared by them are
+   * read and parsed only once.
+   */
+  @Parameter(name = "contracts")
+  private List<Contract> contracts;
+
+  /**
+   * The number of contracts that are generated concurrently, when generating a batch of contracts; defaults to the number of available processors.
+   */
+  @Parameter(name = "batchThreads", property = "openapi.generator.maven.plugin.batchThreads")
+  private Integer batchThreads;
+
   /**
    * Whether to add the generated sources directory to the Maven source roots; defaults to true.
    */
@@ -125,6 +165,21 @@ public class CodeGeneratorMojo extends AbstractMojo {
   @Parameter(name = "addAsTestSource", property = "openapi.generator.maven.plugin.add-as-test-source", defaultValue = "false")
   private boolean addAsTestSource = false;
 
+  /**
+   * Whether to skip code generation when nothing changed since the previous run; defaults to true. The previous run is recorded in a fingerprint file in the
+   * build directory, which covers the plugin configuration, the generator version and the contents of all contract files read, including referenced files.
+   */
+  @Parameter(name = "skipIfUpToDate", property = "openapi.generator.maven.plugin.skipIfUpToDate", defaultValue = "true")
+  private boolean skipIfUpToDate = true;
+
+  /**
+   * The directory of a persistent cache of parsed contract and schema files; by default, there is no cache. Files whose content did not change are read from
+   * the cache instead of being parsed again, e.g., by the builds of other modules using the same schema library. Files of at least 1 MiB are not cached,
+   * as they are read lazily instead. The directory can be shared, e.g., ${user.home}/.cache/contractfirst-generator.
+   */
+  @Parameter(name = "parseCacheDirectory", property = "openapi.generator.maven.plugin.parseCacheDirectory")
+  private File parseCacheDirectory;
+
   /**
    * Skip execution of this plugin; defaults to false.
    */
@@ -137,6 +192,18 @@ public class CodeGeneratorMojo extends AbstractMojo {
   @Parameter(defaultValue = "${project}", readonly = true)
   private MavenProject project;
 
+  /**
+   * The directory for storing the fingerprints of previous runs, used for skipping code generation when nothing changed.
+   */
+  @Parameter(defaultValue = "${project.build.directory}/contractfirst-generator", readonly = true)
+  private File fingerprintDirectory;
+
+  /**
+   * The id of the plugin execution, for keeping the fingerprints of multiple executions apart.
+   */
+  @Parameter(defaultValue = "${mojoExecution.executionId}", readonly = true)
+  private String executionId;
+
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
     if (skip) {
@@ -144,18 +211,116 @@ public class CodeGeneratorMojo extends AbstractMojo {
       return;
     }
 
+    List<Configuration> configs = determineConfigurations();
+
+    if (addAsSourceRoot) {
+      addGeneratedSourcesRoot();
+    } else {
+      getLog().info("Skipped adding generated sources directory as Maven source root");
+    }
+
+    List<Configuration> staleConfigs = new ArrayList<>();
+    List<GenerationFingerprint> staleFingerprints = new ArrayList<>();
+
+    for (Configuration config : configs) {
+      GenerationFingerprint fingerprint = new GenerationFingerprint(new File(fingerprintDirectory, fingerprintFileName(config)));
+
+      if (skipIfUpToDate && fingerprint.isUpToDate(config)) {
+        getLog().info("Skipped code generation for contract '" + config.getInputContractFile() + "', generated sources are up to date");
+      } else {
+        getLog().info("Running code generation for contract '" + config.getInputContractFile() + "'");
+        fingerprint.invalidate();
+        staleConfigs.add(config);
+        staleFingerprints.add(fingerprint);
+      }
+    }
+
+    if (staleConfigs.isEmpty()) {
+      return;
+    }
+
+    List<GenerationResult> results = runGenerator(staleConfigs);
+    for (int i = 0; i < results.size(); i++) {
+      recordFingerprint(staleFingerprints.get(i), staleConfigs.get(i), results.get(i));
+    }
+  }
+
+  /**
+   * Whether execution of this plugin is skipped.
+   */
+  boolean isSkip() {
+    return skip;
+  }
+
+  /**
+   * Determines the configurations of the generator, one for each contract.
+   */
+  List<Configuration> determineConfigurations() throws MojoExecutionException {
     getLog().debug(getConfigurationAsString());
 
-    Configuration config = determineConfiguration();
+    List<Configuration> configs = new ArrayList<>();
+    for (Contract contract : determineContracts()) {
+      configs.add(determineConfiguration(contract));
+    }
 
-    getLog().info("Running code generation for contract '" + config.getInputContractFile() + "'");
+    return configs;
+  }
 
-    if (addAsSourceRoot) {
-      addGeneratedSourcesRoot(config);
+  /**
+   * Creates the generator, logging to the Maven log.
+   */
+  ContractfirstGenerator createGenerator() {
+    LogAdapter logAdapter = new MavenLogAdapter(getLog());
+    return new ContractfirstGenerator(logAdapter, parseCacheDirectory);
+  }
+
+  /**
+   * The number of contracts that are generated concurrently.
+   */
+  int determineBatchThreads() {
+    return batchThreads != null ? batchThreads : Runtime.getRuntime().availableProcessors();
+  }
+
+  private List<Contract> determineContracts() throws MojoExecutionException {
+    Contract defaults = new Contract(
+        inputContractFile,
+        generator,
+        generatorVariant,
+        outputJavaBasePackage,
+        outputJavaPackageSchemaDirectoryPrefix,
+        outputJavaModelNamePrefix
+    );
+
+    List<Contract> effectiveContracts = new ArrayList<>();
+    if (contracts == null || contracts.isEmpty()) {
+      effectiveContracts.add(defaults);
     } else {
-      getLog().info("Skipped adding generated sources directory as Maven source root");
+      for (Contract contract : contracts) {
+        effectiveContracts.add(contract.withDefaults(defaults));
+      }
+    }
+
+    for (Contract contract : effectiveContracts) {
+      requireParameter("inputContractFile", contract.getInputContractFile());
+      requireParameter("generator", contract.getGenerator());
+      requireParameter("outputJavaBasePackage", contract.getOutputJavaBasePackage());
+    }
+
+    return effectiveContracts;
+  }
+
+  private void requireParameter(String name, String value) throws MojoExecutionException {
+    if (value == null) {
+      throw new MojoExecutionException("Configuration '" + name + "' is missing, it has to be set for the execution or for each of the contracts.");
+    }
+  }
+
+  private String fingerprintFileName(Configuration config) {
+    if (contracts == null || contracts.isEmpty()) {
+      return executionId + ".fingerprint";
+    } else {
+      return executionId + "-" + config.getOutputJavaBasePackage() + ".fingerprint";
     }
-    runGenerator(config);
   }
 
   private String getConfigurationAsString() {
@@ -172,16 +337,25 @@ public class CodeGeneratorMojo extends AbstractMojo {
         "\n\toutputJavaPackageSchemaDirectoryPrefix='" + outputJavaPackageSchemaDirectoryPrefix + '\'' +
         "\n\toutputJavaModelNamePrefix='" + outputJavaModelNamePrefix + '\'' +
         "\n\toutputJavaModelUseJsr305NullabilityAnnotations='" + outputJavaModelUseJsr305NullabilityAnnotations + '\'' +
+        "\n\toutputJavaModelReflectionFreeSerialization='" + outputJavaModelReflectionFreeSerialization + '\'' +
+        "\n\toutputJavaModelImmutable='" + outputJavaModelImmutable + '\'' +
+        "\n\tgeneratorThreads=" + generatorThreads +
+        "\n\tcontracts=" + contracts +
+        "\n\tbatchThreads=" + batchThreads +
+        "\n\tskipIfUpToDate=" + skipIfUpToDate +
         "\n\tskip=" + skip +
         "\n\tproject=" + project;
   }
 
-  private Configuration determineConfiguration() throws MojoExecutionException {
-    String effectiveInputContractFile = makeAbsolutePath(inputContractFile);
-    String effectiveOutputJavaPackageSchemaDirectoryPrefix = determineOutputJavaPackageSchemaDirectoryPrefix(effectiveInputContractFile);
+  private Configuration determineConfiguration(Contract contract) throws MojoExecutionException {
+    String effectiveInputContractFile = makeAbsolutePath(contract.getInputContractFile());
+    String effectiveOutputJavaPackageSchemaDirectoryPrefix = determineOutputJavaPackageSchemaDirectoryPrefix(
+        effectiveInputContractFile,
+        contract.getOutputJavaPackageSchemaDirectoryPrefix()
+    );
 
-    GeneratorType generatorType = determineGenerator();
-    GeneratorVariant generatorVariantType = determineGeneratorVariant(generatorType);
+    GeneratorType generatorType = determineGenerator(contract.getGenerator());
+    GeneratorVariant generatorVariantType = determineGeneratorVariant(generatorType, contract.getGeneratorVariant());
     ModelVariant modelVariantType = determineModelVariant();
 
     return new Configuration(
@@ -192,11 +366,14 @@ public class CodeGeneratorMojo extends AbstractMojo {
         outputDir,
         outputContract,
         outputContractFile,
-        outputJavaBasePackage,
+        contract.getOutputJavaBasePackage(),
         outputJavaPackageMirrorsSchemaDirectory,
         effectiveOutputJavaPackageSchemaDirectoryPrefix,
-        outputJavaModelNamePrefix,
-        outputJavaModelUseJsr305NullabilityAnnotations
+        contract.getOutputJavaModelNamePrefix(),
+        outputJavaModelUseJsr305NullabilityAnnotations,
+        outputJavaModelReflectionFreeSerialization,
+        outputJavaModelImmutable,
+        generatorThreads
     );
   }
 
@@ -213,7 +390,8 @@ public class CodeGeneratorMojo extends AbstractMojo {
     }
   }
 
-  private String determineOutputJavaPackageSchemaDirectoryPrefix(String effectiveInputContractFile) throws MojoExecutionException {
+  private String determineOutputJavaPackageSchemaDirectoryPrefix(String effectiveInputContractFile, String outputJavaPackageSchemaDirectoryPrefix)
+      throws MojoExecutionException {
     if (outputJavaPackageSchemaDirectoryPrefix == null) {
       File inputFile = new File(effectiveInputContractFile);
       if (inputFile.isDirectory()) {
@@ -226,7 +404,7 @@ public class CodeGeneratorMojo extends AbstractMojo {
     }
   }
 
-  private GeneratorType determineGenerator() throws MojoExecutionException {
+  private GeneratorType determineGenerator(String generator) throws MojoExecutionException {
     switch (generator) {
       case "client":
         return GeneratorType.CLIENT;
@@ -241,7 +419,7 @@ public class CodeGeneratorMojo extends AbstractMojo {
     }
   }
 
-  private GeneratorVariant determineGeneratorVariant(GeneratorType generatorType) throws MojoExecutionException {
+  private GeneratorVariant determineGeneratorVariant(GeneratorType generatorType, String generatorVariant) throws MojoExecutionException {
     if (generatorVariant == null) {
       return generatorType.getDefaultVariant();
     }
@@ -279,18 +457,17 @@ public class CodeGeneratorMojo extends AbstractMojo {
     }
   }
 
-  private void addGeneratedSourcesRoot(Configuration config) {
+  private void addGeneratedSourcesRoot() {
     if (addAsTestSource) {
-      project.addTestCompileSourceRoot(config.getOutputDir());
+      project.addTestCompileSourceRoot(outputDir);
     } else {
-      project.addCompileSourceRoot(config.getOutputDir());
+      project.addCompileSourceRoot(outputDir);
     }
   }
 
-  private void runGenerator(Configuration config) throws MojoFailureException {
+  private List<GenerationResult> runGenerator(List<Configuration> configs) throws MojoFailureException {
     try {
-      LogAdapter logAdapter = new MavenLogAdapter(getLog());
-      new ContractfirstGenerator(logAdapter).generate(config);
+      return createGenerator().generateAll(configs, determineBatchThreads());
     } catch (ParserException e) {
       throw new MojoFailureException("Could not parse contract: " + e.getMessage());
     } catch (NotSupportedException e) {
@@ -302,4 +479,12 @@ public class CodeGeneratorMojo extends AbstractMojo {
       throw new MojoFailureException("Generator failed with an unexpected exception: " + e);
     }
   }
+
+  private void recordFingerprint(GenerationFingerprint fingerprint, Configuration config, GenerationResult result) {
+    try {
+      fingerprint.record(config, result);
+    } catch (IOException e) {
+      getLog().warn("Could not record fingerprint of code generation, it will run again on the next build: " + e.getMessage());
+    }
+  }
 }
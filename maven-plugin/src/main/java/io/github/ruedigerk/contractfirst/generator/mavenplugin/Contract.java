@@ -0,0 +1,108 @@
+package io.github.ruedigerk.contractfirst.generator.mavenplugin;
+
+/**
+ * A contract to generate code for, as an element of the parameter "contracts" of {@link CodeGeneratorMojo}. Options that are not set are taken from the
+ * corresponding parameters of the plugin execution.
+ */
+@SuppressWarnings("FieldMayBeFinal")
+public class Contract {
+
+  /**
+   * The path to the file containing the OpenAPI contract to use as input, or the JSON-Schema file or directory in case of the model-only generator.
+   */
+  private String inputContractFile;
+
+  /**
+   * The type of generator to use for code generation; allowed values are: "server", "client", "model-only".
+   */
+  private String generator;
+
+  /**
+   * The variant of the generator to use for code generation.
+   */
+  private String generatorVariant;
+
+  /**
+   * The Java package to put generated classes into; has to be different for each contract.
+   */
+  private String outputJavaBasePackage;
+
+  /**
+   * The path prefix to cut from the schema file directories when determining Java packages for model files.
+   */
+  private String outputJavaPackageSchemaDirectoryPrefix;
+
+  /**
+   * The prefix for Java model class names.
+   */
+  private String outputJavaModelNamePrefix;
+
+  public Contract() {
+  }
+
+  Contract(
+      String inputContractFile,
+      String generator,
+      String generatorVariant,
+      String outputJavaBasePackage,
+      String outputJavaPackageSchemaDirectoryPrefix,
+      String outputJavaModelNamePrefix
+  ) {
+    this.inputContractFile = inputContractFile;
+    this.generator = generator;
+    this.generatorVariant = generatorVariant;
+    this.outputJavaBasePackage = outputJavaBasePackage;
+    this.outputJavaPackageSchemaDirectoryPrefix = outputJavaPackageSchemaDirectoryPrefix;
+    this.outputJavaModelNamePrefix = outputJavaModelNamePrefix;
+  }
+
+  /**
+   * Returns a copy of this contract, with the options that are not set taken from the supplied defaults.
+   */
+  Contract withDefaults(Contract defaults) {
+    return new Contract(
+        inputContractFile != null ? inputContractFile : defaults.inputContractFile,
+        generator != null ? generator : defaults.generator,
+        generatorVariant != null ? generatorVariant : defaults.generatorVariant,
+        outputJavaBasePackage != null ? outputJavaBasePackage : defaults.outputJavaBasePackage,
+        outputJavaPackageSchemaDirectoryPrefix != null ? outputJavaPackageSchemaDirectoryPrefix : defaults.outputJavaPackageSchemaDirectoryPrefix,
+        outputJavaModelNamePrefix != null ? outputJavaModelNamePrefix : defaults.outputJavaModelNamePrefix
+    );
+  }
+
+  String getInputContractFile() {
+    return inputContractFile;
+  }
+
+  String getGenerator() {
+    return generator;
+  }
+
+  String getGeneratorVariant() {
+    return generatorVariant;
+  }
+
+  String getOutputJavaBasePackage() {
+    return outputJavaBasePackage;
+  }
+
+  String getOutputJavaPackageSchemaDirectoryPrefix() {
+    return outputJavaPackageSchemaDirectoryPrefix;
+  }
+
+  String getOutputJavaModelNamePrefix() {
+    return outputJavaModelNamePrefix;
+  }
+
+  @Override
+  public String toString() {
+    return "Contract{" +
+        "inputContractFile='" + inputContractFile + '\'' +
+        ", generator='" + generator + '\'' +
+        ", generatorVariant='" + generatorVariant + '\'' +
+        ", outputJavaBasePackage='" + outputJavaBasePackage + '\'' +
+        ", outputJavaPackageSchemaDirectoryPrefix='" + outputJavaPackageSchemaDirectoryPrefix + '\'' +
+        ", outputJavaModelNamePrefix='" + outputJavaModelNamePrefix + '\'' +
+        '}';
+  }
+}
@@ -0,0 +1,36 @@
+package io.github.ruedigerk.contractfirst.generator.mavenplugin;
+
+import io.github.ruedigerk.contractfirst.generator.configuration.Configuration;
+import io.github.ruedigerk.contractfirst.generator.configuration.InvalidConfigurationException;
+import java.util.List;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+
+/**
+ * Goal for generating sources from an OpenAPI contract, and generating them again whenever one of the contract and schema files read changes, e.g., while
+ * editing a contract during development. It takes the same parameters as the goal 'generate', and keeps running until Maven is terminated. Only the generated
+ * files whose content changed are written, so that an IDE compiling the generated sources only recompiles what changed.
+ */
+@Mojo(name = "watch")
+public class WatchMojo extends CodeGeneratorMojo {
+
+  @Override
+  public void execute() throws MojoExecutionException, MojoFailureException {
+    if (isSkip()) {
+      getLog().info("Skipped execution");
+      return;
+    }
+
+    List<Configuration> configs = determineConfigurations();
+
+    try {
+      createGenerator().watch(configs, determineBatchThreads());
+    } catch (InvalidConfigurationException e) {
+      throw new MojoFailureException("Invalid configuration " + e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      getLog().info("Stopped watching");
+    }
+  }
+}
@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapterFactory;
 import io.github.ruedigerk.contractfirst.generator.support.gson.LocalDateGsonTypeAdapter;
 import io.github.ruedigerk.contractfirst.generator.support.gson.OffsetDateTimeGsonTypeAdapter;
 import jakarta.ws.rs.BadRequestException;
@@ -28,16 +29,43 @@ import java.time.OffsetDateTime;
 
 /**
  * JAX-RS MessageBodyWriter and -Reader for serializing and deserializing JSON messages with Gson.
+ * <p>
+ * When the model is generated with reflection-free serialization, register an instance created with {@link #withTypeAdapterFactories(TypeAdapterFactory...)}
+ * passing the generated ModelTypeAdapterFactory, instead of registering this class.
  */
 @Provider
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
 
-  private final Gson gson = new GsonBuilder()
-      .registerTypeAdapter(LocalDate.class, new LocalDateGsonTypeAdapter())
-      .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeGsonTypeAdapter())
-      .create();
+  private final Gson gson;
+
+  /**
+   * Creates a handler serializing the model using reflection.
+   */
+  public GsonMessageBodyHandler() {
+    this(new TypeAdapterFactory[0]);
+  }
+
+  private GsonMessageBodyHandler(TypeAdapterFactory[] typeAdapterFactories) {
+    GsonBuilder gsonBuilder = new GsonBuilder()
+        .registerTypeAdapter(LocalDate.class, new LocalDateGsonTypeAdapter())
+        .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeGsonTypeAdapter());
+
+    for (TypeAdapterFactory typeAdapterFactory : typeAdapterFactories) {
+      gsonBuilder.registerTypeAdapterFactory(typeAdapterFactory);
+    }
+
+    gson = gsonBuilder.create();
+  }
+
+  /**
+   * Creates a handler whose Gson instance has the specified TypeAdapterFactories registered, e.g., the ModelTypeAdapterFactory generated for reflection-free
+   * serialization of the model.
+   */
+  public static GsonMessageBodyHandler withTypeAdapterFactories(TypeAdapterFactory... typeAdapterFactories) {
+    return new GsonMessageBodyHandler(typeAdapterFactories.clone());
+  }
 
   @Override
   public Object readFrom(